@@ -0,0 +1,31 @@
+package org.example.server.controller;
+
+import org.example.server.dto.analytics.ProposalFunnelReportDTO;
+import org.example.server.service.ProposalFunnelService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/grota-financiamentos/analytics")
+public class AnalyticsController {
+
+    private final ProposalFunnelService proposalFunnelService;
+
+    public AnalyticsController(ProposalFunnelService proposalFunnelService) {
+        this.proposalFunnelService = proposalFunnelService;
+    }
+
+    @GetMapping("/proposals/funnel")
+    public ResponseEntity<ProposalFunnelReportDTO> proposalFunnel(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "groupBy", required = false) ProposalFunnelService.GroupBy groupBy,
+            @RequestParam(name = "dealerId", required = false) Long dealerId,
+            @RequestParam(name = "sellerId", required = false) Long sellerId
+    ) {
+        return ResponseEntity.ok(proposalFunnelService.report(from, to, groupBy, dealerId, sellerId));
+    }
+}
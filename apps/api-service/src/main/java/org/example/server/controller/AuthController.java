@@ -10,7 +10,6 @@ import org.example.server.dto.UserResponseDTO;
 import org.example.server.dto.auth.*;
 import org.example.server.dto.dealer.DealerRegistrationRequestDTO;
 import org.example.server.dto.dealer.DealerRegistrationResponseDTO;
-import org.example.server.model.RefreshToken;
 import org.example.server.model.User;
 import org.example.server.service.DealerService;
 import org.example.server.service.JwtService;
@@ -82,23 +81,27 @@ public class AuthController {
             @ApiResponse(responseCode = "401", description = "Não autorizado. Credencias inválidas"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor.")
     })
-    public ResponseEntity<AuthResponseDTO> login(@RequestBody @Valid AuthRequest request) {
+    public ResponseEntity<AuthResponseDTO> login(
+            @RequestBody @Valid AuthRequest request,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent
+    ) {
         String accessToken = userService.login(request);
         String loginIdentifier = userService.resolveLoginIdentifier(request);
         UserDetails userDetails = userService.loadUserByUsername(loginIdentifier);
 
-        RefreshToken refreshToken = refreshTokenService.createRefreshToken(
-                ((User) userDetails).getId()
+        IssuedRefreshToken refreshToken = refreshTokenService.createRefreshToken(
+                ((User) userDetails).getId(),
+                userAgent
         );
 
         ResponseCookie accessTokenCookie = createAuthCookie(accessToken, false);
-        ResponseCookie refreshTokenCookie = createRefreshCookie(refreshToken.getTokenHash(), false);
+        ResponseCookie refreshTokenCookie = createRefreshCookie(refreshToken.token(), false);
 
         Instant expiresAt = jwtService.getExpirationDateFromToken(accessToken);
 
         AuthResponseDTO response = new AuthResponseDTO(
                 accessToken,
-                refreshToken.getTokenHash(),
+                refreshToken.token(),
                 expiresAt
         );
 
@@ -111,7 +114,7 @@ public class AuthController {
     @PostMapping("/refresh")
     @Operation(
             summary = "Refresh Token",
-            description = "Gera um novo access token usando o refresh token"
+            description = "Gera um novo access token e substitui o refresh token apresentado por um novo"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Token atualizado com sucesso."),
@@ -119,21 +122,27 @@ public class AuthController {
             @ApiResponse(responseCode = "403", description = "Refresh token revogado."),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor.")
     })
-    public ResponseEntity<AuthResponseDTO> refreshToken(@CookieValue(name = "refresh_token") String refreshToken) {
+    public ResponseEntity<AuthResponseDTO> refreshToken(
+            @CookieValue(name = "refresh_token") String refreshToken,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent
+    ) {
 
-        String newAccessToken = refreshTokenService.refreshAccessToken(refreshToken, jwtService);
+        IssuedRefreshToken rotated = refreshTokenService.rotate(refreshToken, userAgent);
+        String newAccessToken = jwtService.generateToken(rotated.user());
         Instant expiresAt = jwtService.getExpirationDateFromToken(newAccessToken);
 
         ResponseCookie newAccessTokenCookie = createAuthCookie(newAccessToken, false);
+        ResponseCookie newRefreshTokenCookie = createRefreshCookie(rotated.token(), false);
 
         AuthResponseDTO response = new AuthResponseDTO(
                 newAccessToken,
-                refreshToken,
+                rotated.token(),
                 expiresAt
         );
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, newAccessTokenCookie.toString())
+                .header(HttpHeaders.SET_COOKIE, newRefreshTokenCookie.toString())
                 .body(response);
     }
 
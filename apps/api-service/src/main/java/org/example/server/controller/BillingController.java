@@ -3,6 +3,7 @@ package org.example.server.controller;
 import jakarta.validation.Valid;
 import org.example.server.dto.billing.*;
 import org.example.server.enums.BillingStatus;
+import org.example.server.service.BillingCampaignService;
 import org.example.server.service.BillingService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,9 +16,11 @@ import java.util.Optional;
 public class BillingController {
 
     private final BillingService billingService;
+    private final BillingCampaignService billingCampaignService;
 
-    public BillingController(BillingService billingService) {
+    public BillingController(BillingService billingService, BillingCampaignService billingCampaignService) {
         this.billingService = billingService;
+        this.billingCampaignService = billingCampaignService;
     }
 
     @PostMapping("/contracts")
@@ -110,4 +113,16 @@ public class BillingController {
     ) {
         return ResponseEntity.ok(billingService.addOccurrenceById(id, dto));
     }
+
+    @PostMapping("/campaigns/run")
+    public ResponseEntity<BillingCampaignReportDTO> runCampaign() {
+        return ResponseEntity.ok(billingCampaignService.run());
+    }
+
+    @GetMapping("/campaigns/last")
+    public ResponseEntity<BillingCampaignReportDTO> lastCampaign() {
+        return billingCampaignService.lastReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
 }
@@ -10,21 +10,26 @@ import org.example.server.dto.dealer.DealerDetailsResponseDTO;
 import org.example.server.dto.dealer.DealerLogoResponseDTO;
 import org.example.server.dto.dealer.DealerLogoUploadRequest;
 import org.example.server.dto.dealer.DealerProfileDTO;
+import org.example.server.dto.dealer.DealerPurgeStatusDTO;
 import org.example.server.dto.dealer.DealerRegistrationRequestDTO;
 import org.example.server.dto.dealer.DealerRegistrationResponseDTO;
 import org.example.server.dto.document.DocumentResponseDTO;
 import org.example.server.dto.vehicle.VehicleResponseDTO;
 import org.example.server.model.User;
+import org.example.server.service.DealerDirectoryService;
 import org.example.server.service.DealerService;
 import org.example.server.service.DealerLogoService;
 import org.example.server.service.VehicleService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -32,14 +37,18 @@ import java.util.List;
 @Tag(name = "Dealer", description = "Dealer management")
 public class DealerController {
 
+    private static final Duration DIRECTORY_MAX_AGE = Duration.ofSeconds(60);
+
     private final DealerService dealerService;
     private final VehicleService vehicleService;
     private final DealerLogoService dealerLogoService;
+    private final DealerDirectoryService dealerDirectoryService;
 
-    public DealerController(DealerService dealerService, VehicleService vehicleService, DealerLogoService dealerLogoService) {
+    public DealerController(DealerService dealerService, VehicleService vehicleService, DealerLogoService dealerLogoService, DealerDirectoryService dealerDirectoryService) {
         this.dealerService = dealerService;
         this.vehicleService = vehicleService;
         this.dealerLogoService = dealerLogoService;
+        this.dealerDirectoryService = dealerDirectoryService;
     }
 
     @PostMapping("/admin-register")
@@ -63,15 +72,28 @@ public class DealerController {
     @GetMapping
     @Operation(
             summary = "Listar Lojistas",
-            description = "Retorna uma lista de Lojistas, ordenada por nome (10 por página)"
+            description = "Retorna os Lojistas ordenados por nome. Com 'page' informado, devolve só a página pedida e o total em X-Total-Count; 'q' filtra pelo nome da empresa. Responde 304 quando o If-None-Match confere com o ETag atual."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de Lojistas retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Lista não mudou desde o ETag informado"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor. Tente novamente mais tarde.")
     })
-    public ResponseEntity<List<DealerRegistrationResponseDTO>> findAll(){
-        List<DealerRegistrationResponseDTO> dealerList = dealerService.findAll();
-        return ResponseEntity.ok().body(dealerList);
+    public ResponseEntity<List<DealerRegistrationResponseDTO>> findAll(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
+    ){
+        DealerDirectoryService.Page result = dealerDirectoryService.find(q, page, size);
+        if (webRequest.checkNotModified(result.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(result.etag())
+                .cacheControl(CacheControl.maxAge(DIRECTORY_MAX_AGE).cachePublic().mustRevalidate())
+                .header("X-Total-Count", String.valueOf(result.totalElements()))
+                .body(result.items());
     }
 
     @GetMapping("/{id}")
@@ -245,7 +267,7 @@ public class DealerController {
             description = "Operação de deleção de logistas por ID"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Logista deletado com sucesso"),
+            @ApiResponse(responseCode = "204", description = "Logista excluído; os dados são removidos em segundo plano"),
             @ApiResponse(responseCode = "404", description = "Lojista não encontrado para o ID fornecido"),
             @ApiResponse(responseCode = "401", description = "Não Autorizado"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
@@ -255,6 +277,21 @@ public class DealerController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{id}/purge")
+    @Operation(
+            summary = "Andamento da remoção do lojista",
+            description = "Retorna a etapa e o total de registros já removidos de um lojista excluído."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Andamento retornado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Nenhuma exclusão registrada para o ID fornecido"),
+            @ApiResponse(responseCode = "401", description = "Não Autorizado"),
+            @ApiResponse(responseCode = "403", description = "Acesso restrito a administradores")
+    })
+    public ResponseEntity<DealerPurgeStatusDTO> findPurgeStatus(@PathVariable Long id) {
+        return ResponseEntity.ok(dealerService.findPurgeStatus(id));
+    }
+
 
 
 }
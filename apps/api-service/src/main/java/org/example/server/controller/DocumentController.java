@@ -9,34 +9,55 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.example.server.dto.UserResponseDTO;
+import org.example.server.dto.document.DocumentBatchUploadResponseDTO;
 import org.example.server.dto.document.DocumentResponseDTO;
+import org.example.server.dto.document.DocumentReviewCountsDTO;
+import org.example.server.dto.document.DocumentReviewQueuePageDTO;
 import org.example.server.dto.document.DocumentReviewRequestDTO;
 import org.example.server.dto.document.DocumentUploadRequestDTO;
+import org.example.server.dto.document.DocumentUrlBatchRequestDTO;
+import org.example.server.dto.document.DocumentUrlDTO;
 import org.example.server.enums.DocumentType;
+import org.example.server.enums.ReviewStatus;
+import org.example.server.exception.DocumentUploadException;
 import org.example.server.model.User;
+import org.example.server.infra.storage.SignedUrl;
+import org.example.server.service.DocumentReviewQueueService;
 import org.example.server.service.DocumentService;
+import org.example.server.service.DocumentUrlService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Controller
 @Tag(name = "Documents", description = "Documents cloudinary")
 @RequestMapping("/api/v1/grota-financiamentos/documents")
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final DocumentUrlService documentUrlService;
+    private final DocumentReviewQueueService reviewQueueService;
 
-    public DocumentController(DocumentService documentService) {
+    public DocumentController(DocumentService documentService, DocumentUrlService documentUrlService, DocumentReviewQueueService reviewQueueService) {
        this.documentService = documentService;
+       this.documentUrlService = documentUrlService;
+       this.reviewQueueService = reviewQueueService;
     }
 
     @PostMapping("/upload")
     @Operation(summary = "Upload", description = "Realiza o upload de um documento associado ao logista autenticadp")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "", content = @Content(schema = @Schema(implementation = UserResponseDTO.class))),
+            @ApiResponse(responseCode = "202", description = "Documento recebido; o envio ao armazenamento segue em segundo plano (acompanhe via SSE em /notifications/stream?targetType=DOCUMENT_UPLOAD)", content = @Content(schema = @Schema(implementation = DocumentResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = ""),
             @ApiResponse(responseCode = "401", description = ""),
             @ApiResponse(responseCode = "500", description = "")
@@ -50,7 +71,32 @@ public class DocumentController {
     {
         DocumentUploadRequestDTO uploadRequest = new DocumentUploadRequestDTO(documentType, file);
         DocumentResponseDTO response = documentService.uploadDocument(uploadRequest, user, dealerId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/upload-batch")
+    @Operation(summary = "Upload em lote", description = "Envia até 10 documentos de uma vez; documentTypes[i] corresponde a files[i]. O resultado traz um item por arquivo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Arquivos recebidos; itens recusados trazem o motivo em 'error'", content = @Content(schema = @Schema(implementation = DocumentBatchUploadResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = ""),
+            @ApiResponse(responseCode = "401", description = ""),
+            @ApiResponse(responseCode = "500", description = "")
+    })
+    public ResponseEntity<DocumentBatchUploadResponseDTO> uploadDocuments(
+            @RequestParam List<DocumentType> documentTypes,
+            @RequestParam List<MultipartFile> files,
+            @RequestParam(required = false) Long dealerId,
+            @AuthenticationPrincipal User user)
+
+    {
+        if (documentTypes.size() != files.size()) {
+            throw new DocumentUploadException("Informe um tipo de documento para cada arquivo.");
+        }
+        List<DocumentUploadRequestDTO> uploads = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            uploads.add(new DocumentUploadRequestDTO(documentTypes.get(i), files.get(i)));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(documentService.uploadDocuments(uploads, user, dealerId));
     }
 
     @PutMapping("/{id}/review")
@@ -97,7 +143,64 @@ public class DocumentController {
     })
 
     public ResponseEntity<String> getDocumentPresignedUrl(@PathVariable Long id, @AuthenticationPrincipal User user){
-        URL url = documentService.getPresignedUrl(id, user);
-        return ResponseEntity.ok(url.toString());
+        SignedUrl url = documentUrlService.issue(id, user, false);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(secondsUntil(url.expiresAt()), TimeUnit.SECONDS).cachePrivate())
+                .body(url.url().toString());
+    }
+
+    @GetMapping("/{id}/thumbnail-url")
+    @Operation(summary = "Obter URL da miniatura", description = "Retorna a URL da miniatura gerada para documentos enviados como imagem")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "URL da miniatura gerada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Não autorizado"),
+            @ApiResponse(responseCode = "403", description = "Usuario não possui permissão para acessar este documento"),
+            @ApiResponse(responseCode = "404", description = "Documento nao encontrado ou sem miniatura"),
+            @ApiResponse(responseCode = "409", description = "Documento ainda não está disponível")
+    })
+    public ResponseEntity<String> getDocumentThumbnailUrl(@PathVariable Long id, @AuthenticationPrincipal User user){
+        SignedUrl url = documentUrlService.issue(id, user, true);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(secondsUntil(url.expiresAt()), TimeUnit.SECONDS).cachePrivate())
+                .body(url.url().toString());
+    }
+
+    @PostMapping("/urls")
+    @Operation(summary = "Obter URLs em lote", description = "Retorna as URLs de acesso (ou das miniaturas) de vários documentos em uma chamada; ids inexistentes ou sem permissão são omitidos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "URLs geradas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Lista de documentos vazia ou acima do limite"),
+            @ApiResponse(responseCode = "401", description = "Não autorizado")
+    })
+    public ResponseEntity<List<DocumentUrlDTO>> getDocumentUrls(@Valid @RequestBody DocumentUrlBatchRequestDTO request, @AuthenticationPrincipal User user){
+        return ResponseEntity.ok(documentUrlService.issueAll(request.ids(), user, request.thumbnail()));
+    }
+
+    @GetMapping("/review-queue")
+    @Operation(summary = "Fila de revisão", description = "Lista documentos para revisão, dos mais antigos para os mais novos, com paginação por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página da fila retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+            @ApiResponse(responseCode = "401", description = "Não autorizado"),
+            @ApiResponse(responseCode = "403", description = "Apenas administradores")
+    })
+    public ResponseEntity<DocumentReviewQueuePageDTO> getReviewQueue(
+            @RequestParam(required = false) ReviewStatus status,
+            @RequestParam(required = false) DocumentType documentType,
+            @RequestParam(required = false) Long dealerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ){
+        return ResponseEntity.ok(reviewQueueService.findPage(status, documentType, dealerId, cursor, size));
+    }
+
+    @GetMapping("/review-queue/counts")
+    @Operation(summary = "Contagem por status de revisão", description = "Total de documentos por status de revisão (atualizado a cada poucos segundos)")
+    public ResponseEntity<DocumentReviewCountsDTO> getReviewCounts(){
+        return ResponseEntity.ok(reviewQueueService.counts());
+    }
+
+    private static long secondsUntil(Instant instant) {
+        return Math.max(0, Duration.between(Instant.now(), instant).getSeconds());
     }
 }
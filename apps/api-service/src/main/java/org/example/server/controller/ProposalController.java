@@ -1,15 +1,31 @@
 package org.example.server.controller;
 
 import jakarta.validation.Valid;
+import org.example.server.dto.proposal.ProposalEventPartitioningDTO;
 import org.example.server.dto.proposal.ProposalEventResponseDTO;
+import org.example.server.dto.proposal.ProposalImportResultDTO;
 import org.example.server.dto.proposal.ProposalRequestDTO;
+import org.example.server.dto.proposal.ProposalSearchPageDTO;
 import org.example.server.dto.proposal.ProposalResponseDTO;
 import org.example.server.dto.proposal.ProposalStatusUpdateDTO;
+import org.example.server.dto.proposal.ProposalSummaryPageDTO;
+import org.example.server.dto.proposal.ProposalSummarySort;
 import org.example.server.enums.ProposalStatus;
+import org.example.server.exception.InvalidImportFileException;
+import org.example.server.service.ProposalImportService;
+import org.example.server.service.ProposalSearchService;
 import org.example.server.service.ProposalService;
+import org.example.server.service.job.ProposalEventPartitionJob;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +34,20 @@ import java.util.Optional;
 public class ProposalController {
 
     private final ProposalService proposalService;
+    private final ProposalSearchService proposalSearchService;
+    private final ProposalImportService proposalImportService;
+    private final ProposalEventPartitionJob proposalEventPartitionJob;
 
-    public ProposalController(ProposalService proposalService) {
+    public ProposalController(
+            ProposalService proposalService,
+            ProposalSearchService proposalSearchService,
+            ProposalImportService proposalImportService,
+            ProposalEventPartitionJob proposalEventPartitionJob
+    ) {
         this.proposalService = proposalService;
+        this.proposalSearchService = proposalSearchService;
+        this.proposalImportService = proposalImportService;
+        this.proposalEventPartitionJob = proposalEventPartitionJob;
     }
 
     @PostMapping
@@ -34,6 +61,28 @@ public class ProposalController {
         );
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProposalImportResultDTO> importCsv(
+            @RequestHeader(value = "X-Actor", required = false) String actor,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(name = "dealerId", required = false) Long dealerId,
+            jakarta.servlet.http.HttpServletRequest request
+    ) {
+        try (InputStream content = file.getInputStream()) {
+            return ResponseEntity.ok(proposalImportService.importCsv(content, dealerId, request.getRemoteAddr(), actor));
+        } catch (IOException e) {
+            throw new InvalidImportFileException("Falha ao receber o arquivo CSV.", e);
+        }
+    }
+
+    /**
+     * Passo manual de manutenção: bloqueia a linha do tempo enquanto copia os eventos.
+     */
+    @PostMapping("/events/partitioning")
+    public ResponseEntity<ProposalEventPartitioningDTO> partitionEvents() {
+        return ResponseEntity.ok(new ProposalEventPartitioningDTO(proposalEventPartitionJob.convertToPartitioned()));
+    }
+
     @GetMapping
     public ResponseEntity<List<ProposalResponseDTO>> list(
             @RequestParam(name = "dealerId", required = false) Long dealerId,
@@ -42,6 +91,32 @@ public class ProposalController {
         return ResponseEntity.ok(proposalService.listProposals(Optional.ofNullable(dealerId), Optional.ofNullable(status)));
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<ProposalSummaryPageDTO> summary(
+            @RequestParam(name = "dealerId", required = false) Long dealerId,
+            @RequestParam(name = "sellerId", required = false) Long sellerId,
+            @RequestParam(name = "status", required = false) ProposalStatus status,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "customerCpf", required = false) String customerCpf,
+            @RequestParam(name = "sort", required = false) ProposalSummarySort sort,
+            @RequestParam(name = "direction", required = false) Sort.Direction direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(proposalService.findSummaryPage(
+                dealerId, sellerId, status, from, to, customerCpf, sort, direction, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ProposalSearchPageDTO> search(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(proposalSearchService.search(query, page, size));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<ProposalResponseDTO> updateStatus(
             @PathVariable Long id,
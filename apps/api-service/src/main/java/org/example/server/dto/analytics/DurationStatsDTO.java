@@ -0,0 +1,13 @@
+package org.example.server.dto.analytics;
+
+import java.util.Map;
+
+/**
+ * @param histogram quantidade por faixa, da menor para a maior ("1h" = até uma hora, "+7d" = mais de sete dias)
+ */
+public record DurationStatsDTO(
+        long count,
+        long averageSeconds,
+        Map<String, Long> histogram
+) {
+}
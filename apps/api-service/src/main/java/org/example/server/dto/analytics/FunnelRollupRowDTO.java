@@ -0,0 +1,24 @@
+package org.example.server.dto.analytics;
+
+/**
+ * Soma dos rollups diários no período, por lojista, vendedor e par de status.
+ */
+public record FunnelRollupRowDTO(
+        long dealerId,
+        long sellerId,
+        String statusFrom,
+        String statusTo,
+        long transitions,
+        long totalSeconds,
+        long bucketLe1h,
+        long bucketLe6h,
+        long bucketLe1d,
+        long bucketLe3d,
+        long bucketLe7d,
+        long bucketGt7d
+) {
+
+    public long[] buckets() {
+        return new long[]{bucketLe1h, bucketLe6h, bucketLe1d, bucketLe3d, bucketLe7d, bucketGt7d};
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.server.dto.analytics;
+
+/**
+ * Funil de um lojista, de um vendedor ou do total, conforme o agrupamento pedido.
+ * As taxas são calculadas sobre as propostas criadas no período.
+ */
+public record ProposalFunnelGroupDTO(
+        Long dealerId,
+        Long sellerId,
+        long created,
+        long approved,
+        long rejected,
+        long paid,
+        double approvalRate,
+        double paymentRate,
+        DurationStatsDTO timeInSubmitted,
+        DurationStatsDTO timeInPending,
+        DurationStatsDTO approvalToPayment
+) {
+}
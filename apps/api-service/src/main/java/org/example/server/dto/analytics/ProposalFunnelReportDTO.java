@@ -0,0 +1,17 @@
+package org.example.server.dto.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @param projectedUntil eventos criados até este instante já estão refletidos nos rollups
+ */
+public record ProposalFunnelReportDTO(
+        LocalDate from,
+        LocalDate to,
+        String groupBy,
+        List<ProposalFunnelGroupDTO> groups,
+        LocalDateTime projectedUntil
+) {
+}
@@ -0,0 +1,20 @@
+package org.example.server.dto.analytics;
+
+import org.example.server.enums.ProposalStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de proposta lido pelo projetor do funil, já com lojista e vendedor da proposta.
+ */
+public record ProposalTransitionDTO(
+        Long eventId,
+        Long proposalId,
+        Long dealerId,
+        Long sellerId,
+        String type,
+        ProposalStatus statusFrom,
+        ProposalStatus statusTo,
+        LocalDateTime createdAt
+) {
+}
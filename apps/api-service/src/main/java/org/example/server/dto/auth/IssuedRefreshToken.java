@@ -0,0 +1,16 @@
+package org.example.server.dto.auth;
+
+import org.example.server.model.User;
+
+import java.time.Instant;
+
+/**
+ * Refresh token recém-emitido. {@code token} é o valor em claro enviado ao cliente;
+ * apenas o hash dele fica salvo no banco.
+ */
+public record IssuedRefreshToken(
+        String token,
+        Instant expiresAt,
+        User user
+) {
+}
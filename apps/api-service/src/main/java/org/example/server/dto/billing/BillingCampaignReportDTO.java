@@ -0,0 +1,14 @@
+package org.example.server.dto.billing;
+
+import java.time.LocalDateTime;
+
+public record BillingCampaignReportDTO(
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        long selected,
+        long enqueued,
+        long skipped,
+        long durationMs,
+        double throughputPerSecond
+) {
+}
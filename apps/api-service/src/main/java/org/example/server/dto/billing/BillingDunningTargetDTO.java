@@ -0,0 +1,16 @@
+package org.example.server.dto.billing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BillingDunningTargetDTO(
+        Long installmentId,
+        Long contractId,
+        String contractNumber,
+        Integer installmentNumber,
+        LocalDate dueDate,
+        BigDecimal amount,
+        String customerName,
+        String customerEmail
+) {
+}
@@ -21,4 +21,21 @@ public record DealerDetailsResponseDTO(
         AddressDTO address,
         LocalDateTime createdAt
 ) {
+
+    /**
+     * Usado pela projeção JPQL de {@code DealerRepository.findDetailsById}, que traz o endereço em colunas.
+     */
+    public DealerDetailsResponseDTO(
+            Long id, String fullName, String email, String phone, String enterprise, String referenceCode,
+            String logoUrl, UserStatus status, String fullNameEnterprise, LocalDate birthData, String cnpj,
+            String street, String number, String complement, String neighborhood, String city, String state,
+            String zipCode, LocalDateTime createdAt
+    ) {
+        this(id, fullName, email, phone, enterprise, referenceCode, logoUrl, status, fullNameEnterprise, birthData, cnpj,
+                street == null && number == null && complement == null && neighborhood == null
+                        && city == null && state == null && zipCode == null
+                        ? null
+                        : new AddressDTO(street, number, complement, neighborhood, city, state, zipCode),
+                createdAt);
+    }
 }
@@ -0,0 +1,27 @@
+package org.example.server.dto.dealer;
+
+import org.example.server.enums.DealerPurgeStage;
+import org.example.server.model.DealerPurge;
+
+import java.time.Instant;
+
+public record DealerPurgeStatusDTO(
+        Long dealerId,
+        DealerPurgeStage stage,
+        long deletedRows,
+        Instant requestedAt,
+        Instant updatedAt,
+        Instant completedAt
+) {
+
+    public static DealerPurgeStatusDTO from(DealerPurge purge) {
+        return new DealerPurgeStatusDTO(
+                purge.getDealerId(),
+                purge.getStage(),
+                purge.getDeletedRows(),
+                purge.getRequestedAt(),
+                purge.getUpdatedAt(),
+                purge.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.server.dto.document;
+
+import org.example.server.enums.DocumentStorageStatus;
+
+/**
+ * Projeção com o necessário para autorizar e gerar a URL de um documento, sem carregar lojista e usuário.
+ */
+public record DocumentAccessDTO(
+        Long documentId,
+        Long ownerUserId,
+        String s3Key,
+        String thumbnailKey,
+        DocumentStorageStatus storageStatus
+) {
+
+    public boolean isAvailable() {
+        // linhas anteriores ao envio assíncrono têm status nulo e já estão no armazenamento
+        return storageStatus == null || storageStatus == DocumentStorageStatus.AVAILABLE;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.server.dto.document;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.example.server.enums.DocumentType;
+
+/**
+ * Resultado de um arquivo do upload em lote: {@code document} quando aceito, {@code error} quando recusado.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DocumentBatchUploadItemDTO(
+        int index,
+        DocumentType documentType,
+        String fileName,
+        DocumentResponseDTO document,
+        String error
+) {
+}
@@ -0,0 +1,10 @@
+package org.example.server.dto.document;
+
+import java.util.List;
+
+public record DocumentBatchUploadResponseDTO(
+        List<DocumentBatchUploadItemDTO> items,
+        int accepted,
+        int rejected
+) {
+}
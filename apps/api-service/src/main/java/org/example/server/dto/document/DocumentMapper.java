@@ -19,8 +19,11 @@ public class DocumentMapper {
                 document.getDocumentType(),
                 document.getContentType(),
                 document.getSizeBytes(),
+                document.getOriginalSizeBytes(),
+                document.getThumbnailKey() != null,
                 document.getReviewStatus(),
                 document.getReviewComment(),
+                document.getStorageStatus(),
                 document.getCreatedAt(),
                 document.getUpdatedAt()
         );
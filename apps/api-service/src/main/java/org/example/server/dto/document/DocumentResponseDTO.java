@@ -1,6 +1,7 @@
 package org.example.server.dto.document;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import org.example.server.enums.DocumentStorageStatus;
 import org.example.server.enums.DocumentType;
 import org.example.server.enums.ReviewStatus;
 
@@ -12,8 +13,11 @@ public record DocumentResponseDTO(
         DocumentType documentType,
         String contentType,
         Long sizeBytes,
+        Long originalSizeBytes,
+        Boolean thumbnailAvailable,
         ReviewStatus reviewStatus,
         String reviewComment,
+        DocumentStorageStatus storageStatus,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ){}
\ No newline at end of file
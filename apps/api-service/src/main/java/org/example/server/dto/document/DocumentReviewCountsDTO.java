@@ -0,0 +1,12 @@
+package org.example.server.dto.document;
+
+import org.example.server.enums.ReviewStatus;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record DocumentReviewCountsDTO(
+        Map<ReviewStatus, Long> counts,
+        Instant computedAt
+) {
+}
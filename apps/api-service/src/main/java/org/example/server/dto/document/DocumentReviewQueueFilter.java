@@ -0,0 +1,18 @@
+package org.example.server.dto.document;
+
+import org.example.server.enums.DocumentType;
+import org.example.server.enums.ReviewStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros da fila de revisão. {@code afterCreatedAt}/{@code afterId} vêm do cursor e são nulos na primeira página.
+ */
+public record DocumentReviewQueueFilter(
+        ReviewStatus reviewStatus,
+        DocumentType documentType,
+        Long dealerId,
+        LocalDateTime afterCreatedAt,
+        Long afterId
+) {
+}
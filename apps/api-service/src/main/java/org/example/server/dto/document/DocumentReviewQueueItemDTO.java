@@ -0,0 +1,22 @@
+package org.example.server.dto.document;
+
+import org.example.server.enums.DocumentStorageStatus;
+import org.example.server.enums.DocumentType;
+import org.example.server.enums.ReviewStatus;
+
+import java.time.LocalDateTime;
+
+public record DocumentReviewQueueItemDTO(
+        Long id,
+        DocumentType documentType,
+        String documentName,
+        String contentType,
+        Long sizeBytes,
+        ReviewStatus reviewStatus,
+        DocumentStorageStatus storageStatus,
+        boolean thumbnailAvailable,
+        Long dealerId,
+        String dealerName,
+        LocalDateTime createdAt
+) {
+}
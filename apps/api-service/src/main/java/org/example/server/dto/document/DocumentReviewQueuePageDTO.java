@@ -0,0 +1,12 @@
+package org.example.server.dto.document;
+
+import java.util.List;
+
+/**
+ * @param nextCursor nulo na última página
+ */
+public record DocumentReviewQueuePageDTO(
+        List<DocumentReviewQueueItemDTO> items,
+        String nextCursor
+) {
+}
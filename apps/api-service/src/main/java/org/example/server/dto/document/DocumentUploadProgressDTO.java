@@ -0,0 +1,12 @@
+package org.example.server.dto.document;
+
+import org.example.server.enums.DocumentStorageStatus;
+
+public record DocumentUploadProgressDTO(
+        Long documentId,
+        DocumentStorageStatus status,
+        int percent,
+        int attempt,
+        String error
+) {
+}
@@ -0,0 +1,15 @@
+package org.example.server.dto.document;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record DocumentUrlBatchRequestDTO(
+        @NotEmpty(message = "Informe ao menos um documento.")
+        @Size(max = 200, message = "Informe no máximo 200 documentos por requisição.")
+        List<@NotNull Long> ids,
+        boolean thumbnail
+) {
+}
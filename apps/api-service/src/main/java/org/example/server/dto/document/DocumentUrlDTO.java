@@ -0,0 +1,15 @@
+package org.example.server.dto.document;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.example.server.enums.DocumentStorageStatus;
+
+import java.time.Instant;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DocumentUrlDTO(
+        Long documentId,
+        String url,
+        Instant expiresAt,
+        DocumentStorageStatus storageStatus
+) {
+}
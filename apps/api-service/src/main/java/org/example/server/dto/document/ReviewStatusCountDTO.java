@@ -0,0 +1,6 @@
+package org.example.server.dto.document;
+
+import org.example.server.enums.ReviewStatus;
+
+public record ReviewStatusCountDTO(ReviewStatus reviewStatus, Long total) {
+}
@@ -0,0 +1,18 @@
+package org.example.server.dto.proposal;
+
+import org.example.server.enums.ProposalStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Campos de uma proposta usados pelo detector de duplicidade, lidos em streaming na reconstrução do índice.
+ */
+public record ProposalDuplicateKeyDTO(
+        Long id,
+        Long dealerId,
+        String customerCpf,
+        String vehiclePlate,
+        ProposalStatus status,
+        LocalDateTime createdAt
+) {
+}
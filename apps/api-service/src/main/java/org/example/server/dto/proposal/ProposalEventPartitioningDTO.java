@@ -0,0 +1,7 @@
+package org.example.server.dto.proposal;
+
+/**
+ * @param converted {@code false} quando a tabela já estava particionada
+ */
+public record ProposalEventPartitioningDTO(boolean converted) {
+}
@@ -0,0 +1,12 @@
+package org.example.server.dto.proposal;
+
+import java.util.List;
+
+/**
+ * Linha do CSV que não foi importada e os motivos.
+ */
+public record ProposalImportErrorDTO(
+        int line,
+        List<String> messages
+) {
+}
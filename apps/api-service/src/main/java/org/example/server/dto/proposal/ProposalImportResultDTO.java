@@ -0,0 +1,13 @@
+package org.example.server.dto.proposal;
+
+import java.util.List;
+
+public record ProposalImportResultDTO(
+        int totalRows,
+        int imported,
+        int failed,
+        List<Long> proposalIds,
+        List<ProposalImportErrorDTO> errors,
+        boolean errorsTruncated
+) {
+}
@@ -1,35 +1,57 @@
 package org.example.server.dto.proposal;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public record ProposalRequestDTO(
         Long dealerId,
         Long sellerId,
+        @NotBlank(message = "O nome do cliente é obrigatório")
+        @Size(max = 120, message = "O nome do cliente deve ter no máximo 120 caracteres")
         String customerName,
+        @NotBlank(message = "O CPF do cliente é obrigatório")
+        @Size(max = 20, message = "O CPF deve ter no máximo 20 caracteres")
         String customerCpf,
         LocalDate customerBirthDate,
+        @Size(max = 140, message = "O e-mail deve ter no máximo 140 caracteres")
         String customerEmail,
+        @Size(max = 30, message = "O telefone deve ter no máximo 30 caracteres")
         String customerPhone,
+        @Size(max = 5, message = "A categoria da CNH deve ter no máximo 5 caracteres")
         String cnhCategory,
         boolean hasCnh,
+        @Size(max = 10, message = "A placa deve ter no máximo 10 caracteres")
         String vehiclePlate,
+        @Size(max = 40, message = "O código FIPE deve ter no máximo 40 caracteres")
         String fipeCode,
         BigDecimal fipeValue,
+        @Size(max = 80, message = "A marca do veículo deve ter no máximo 80 caracteres")
         String vehicleBrand,
+        @Size(max = 80, message = "O modelo do veículo deve ter no máximo 80 caracteres")
         String vehicleModel,
         Integer vehicleYear,
         BigDecimal downPaymentValue,
         BigDecimal financedValue,
         Integer termMonths,
         Boolean vehicle0km,
+        @Size(max = 40, message = "O estado civil deve ter no máximo 40 caracteres")
         String maritalStatus,
+        @Size(max = 12, message = "O CEP deve ter no máximo 12 caracteres")
         String cep,
+        @Size(max = 160, message = "O endereço deve ter no máximo 160 caracteres")
         String address,
+        @Size(max = 20, message = "O número do endereço deve ter no máximo 20 caracteres")
         String addressNumber,
+        @Size(max = 120, message = "O complemento deve ter no máximo 120 caracteres")
         String addressComplement,
+        @Size(max = 120, message = "O bairro deve ter no máximo 120 caracteres")
         String neighborhood,
+        @Size(max = 4, message = "A UF deve ter no máximo 4 caracteres")
         String uf,
+        @Size(max = 120, message = "A cidade deve ter no máximo 120 caracteres")
         String city,
         BigDecimal income,
         BigDecimal otherIncomes,
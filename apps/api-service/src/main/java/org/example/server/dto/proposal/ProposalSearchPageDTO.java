@@ -0,0 +1,14 @@
+package org.example.server.dto.proposal;
+
+import java.util.List;
+
+/**
+ * Resultado da busca, em ordem de relevância.
+ */
+public record ProposalSearchPageDTO(
+        List<ProposalSummaryDTO> items,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,29 @@
+package org.example.server.dto.proposal;
+
+import org.example.server.enums.ProposalStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Item da listagem de propostas. Não traz {@code notes} nem {@code metadata} (TEXT);
+ * o detalhe completo continua em {@link ProposalResponseDTO}.
+ */
+public record ProposalSummaryDTO(
+        Long id,
+        Long dealerId,
+        Long sellerId,
+        String customerName,
+        String customerCpf,
+        String customerPhone,
+        String vehicleBrand,
+        String vehicleModel,
+        Integer vehicleYear,
+        String vehiclePlate,
+        BigDecimal financedValue,
+        Integer termMonths,
+        ProposalStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,24 @@
+package org.example.server.dto.proposal;
+
+import org.example.server.enums.ProposalStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Filtros da listagem de propostas. {@code createdTo} é exclusivo. {@code afterValue}/{@code afterId}
+ * vêm do cursor (já convertidos para o tipo da coluna de ordenação) e são nulos na primeira página.
+ */
+public record ProposalSummaryFilter(
+        Long dealerId,
+        Long sellerId,
+        ProposalStatus status,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Set<String> customerCpfs,
+        ProposalSummarySort sort,
+        boolean descending,
+        Object afterValue,
+        Long afterId
+) {
+}
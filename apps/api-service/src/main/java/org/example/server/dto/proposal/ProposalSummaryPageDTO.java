@@ -0,0 +1,12 @@
+package org.example.server.dto.proposal;
+
+import java.util.List;
+
+/**
+ * @param nextCursor nulo na última página
+ */
+public record ProposalSummaryPageDTO(
+        List<ProposalSummaryDTO> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,19 @@
+package org.example.server.dto.proposal;
+
+/**
+ * Colunas aceitas na ordenação da listagem. Só colunas não nulas, para o cursor (valor, id) ser sempre válido.
+ */
+public enum ProposalSummarySort {
+    CREATED_AT("p.createdAt"),
+    CUSTOMER_NAME("p.customerName");
+
+    private final String path;
+
+    ProposalSummarySort(String path) {
+        this.path = path;
+    }
+
+    public String path() {
+        return path;
+    }
+}
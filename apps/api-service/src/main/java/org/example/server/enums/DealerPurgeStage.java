@@ -0,0 +1,21 @@
+package org.example.server.enums;
+
+/**
+ * Etapas da remoção definitiva de um lojista, na ordem em que as chaves estrangeiras permitem apagar.
+ */
+public enum DealerPurgeStage {
+    PROPOSAL_EVENTS,
+    PROPOSALS,
+    VEHICLES,
+    DOCUMENTS,
+    PARTNERS,
+    SELLERS,
+    MANAGERS,
+    OPERATORS,
+    DEALER,
+    COMPLETED;
+
+    public DealerPurgeStage next() {
+        return this == COMPLETED ? COMPLETED : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.server.enums;
+
+public enum DocumentStorageStatus {
+    PENDING_UPLOAD,
+    AVAILABLE,
+    FAILED
+}
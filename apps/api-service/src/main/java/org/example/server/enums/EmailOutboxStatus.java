@@ -0,0 +1,8 @@
+package org.example.server.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package org.example.server.exception;
+
+public class DocumentNotAvailableException extends RuntimeException {
+    public DocumentNotAvailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.server.exception;
+
+public class InvalidPageCursorException extends RuntimeException {
+    public InvalidPageCursorException() {
+        super("Cursor de paginação inválido.");
+    }
+}
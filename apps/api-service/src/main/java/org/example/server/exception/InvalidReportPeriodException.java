@@ -0,0 +1,7 @@
+package org.example.server.exception;
+
+public class InvalidReportPeriodException extends RuntimeException {
+    public InvalidReportPeriodException() {
+        super("Período do relatório inválido: a data inicial deve ser anterior ou igual à final.");
+    }
+}
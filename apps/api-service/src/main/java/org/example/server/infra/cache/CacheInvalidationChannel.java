@@ -0,0 +1,286 @@
+package org.example.server.infra.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantém o cache de segundo nível coerente entre réplicas. Cada INSERT, UPDATE ou DELETE de uma entidade
+ * em cache emite {@code pg_notify} na própria transação, então o aviso só sai se ela for confirmada. Uma
+ * thread por réplica escuta o canal numa conexão dedicada e remove a entidade, as coleções que a contêm e
+ * as consultas em cache. Ao (re)conectar o cache inteiro é descartado, já que avisos podem ter se perdido.
+ * <p>
+ * Escritas por JDBC direto (fora do Hibernate) em tabelas com cache chamam {@link #broadcastEvictAll()} sozinhas,
+ * pelo {@code JdbcTemplate} da aplicação ({@link CacheNotifyingDataSource}). UPDATE/DELETE em lote por JPQL ou
+ * SQL nativo nessas tabelas não passam por ele; o teste {@code CachedTableBulkWriteTests} os recusa.
+ * <p>
+ * Outros componentes com estado em memória por réplica usam o mesmo canal por {@link #publish} e
+ * {@link #subscribe}, num tópico próprio.
+ */
+@Component
+public class CacheInvalidationChannel implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationChannel.class);
+
+    static final String CHANNEL = "grota_cache_invalidation";
+    static final String ALL = "*";
+    // nomes de entidade nunca começam com "@"
+    static final String TOPIC_PREFIX = "@";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, List<String>> collectionRolesByElement = new HashMap<>();
+    private final Set<String> cachedTables = new HashSet<>();
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public CacheInvalidationChannel(
+            EntityManagerFactory entityManagerFactory,
+            JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties,
+            @Value("${app.cache.invalidation.enabled:true}") boolean enabled
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        if (!enabled) {
+            return;
+        }
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+            if (!collection.hasCache()) {
+                return;
+            }
+            Arrays.stream(collection.getCollectionSpaces()).map(CacheInvalidationChannel::tableName).forEach(cachedTables::add);
+            if (collection.getAttributeMapping().getElementDescriptor() instanceof EntityValuedModelPart element) {
+                collectionRolesByElement.computeIfAbsent(element.getEntityMappingType().getEntityName(), name -> new ArrayList<>())
+                        .add(collection.getRole());
+            }
+        });
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(entity -> {
+            if (entity.canWriteToCache()) {
+                Arrays.stream(entity.getPropertySpaces()).map(CacheInvalidationChannel::tableName).forEach(cachedTables::add);
+            }
+        });
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, (PostInsertEventListener) this);
+        registry.appendListeners(EventType.POST_UPDATE, (PostUpdateEventListener) this);
+        registry.appendListeners(EventType.POST_DELETE, (PostDeleteEventListener) this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Se a tabela (com ou sem schema e aspas) guarda entidades ou coleções com cache de segundo nível.
+     */
+    public boolean isCachedTable(String table) {
+        return enabled && cachedTables.contains(tableName(table));
+    }
+
+    static String tableName(String table) {
+        String name = table.replace("\"", "");
+        return name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Descarta o cache em todas as réplicas, inclusive nesta, depois que a transação atual for confirmada.
+     */
+    public void broadcastEvictAll() {
+        if (enabled) {
+            jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, instanceId + " " + ALL);
+        }
+    }
+
+    /**
+     * Envia {@code message} (sem quebras de linha) às outras réplicas inscritas em {@code topic}. Como o
+     * aviso de entidade, só sai quando a transação atual for confirmada.
+     */
+    public void publish(String topic, String message) {
+        if (enabled) {
+            jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, instanceId + " " + TOPIC_PREFIX + topic + " " + message);
+        }
+    }
+
+    public void subscribe(String topic, Subscriber subscriber) {
+        subscribers.put(topic, subscriber);
+    }
+
+    private void publish(EventSource session, EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        String payload = instanceId + " " + persister.getEntityName() + " " + id;
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL)) {
+                statement.setString(1, CHANNEL);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        });
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                cache().evictAll();
+                subscribers.values().forEach(Subscriber::onReconnect);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            apply(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Canal de invalidação do cache desconectado; nova tentativa em {} ms: {}", RECONNECT_DELAY_MS, ex.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    void apply(String payload) {
+        String[] parts = payload.split(" ", 3);
+        if (parts.length == 2 && ALL.equals(parts[1])) {
+            cache().evictAll();
+            return;
+        }
+        if (parts.length == 3 && parts[1].startsWith(TOPIC_PREFIX)) {
+            Subscriber subscriber = subscribers.get(parts[1].substring(TOPIC_PREFIX.length()));
+            if (subscriber != null && !parts[0].equals(instanceId)) {
+                subscriber.onMessage(parts[2]);
+            }
+            return;
+        }
+        // o Hibernate já invalidou o cache local na réplica que fez a alteração
+        if (parts.length != 3 || parts[0].equals(instanceId)) {
+            return;
+        }
+        String entityName = parts[1];
+        Cache cache = cache();
+        cache.evictEntityData(entityName, Long.valueOf(parts[2]));
+        collectionRolesByElement.getOrDefault(entityName, List.of()).forEach(cache::evictCollectionData);
+        cache.evictQueryRegions();
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+    }
+
+    public interface Subscriber {
+
+        /**
+         * Mensagem publicada por outra réplica; chamada na thread do canal.
+         */
+        void onMessage(String message);
+
+        /**
+         * O canal (re)conectou e mensagens podem ter se perdido.
+         */
+        void onReconnect();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+}
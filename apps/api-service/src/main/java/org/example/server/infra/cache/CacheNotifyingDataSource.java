@@ -0,0 +1,89 @@
+package org.example.server.infra.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fonte de dados do {@code JdbcTemplate} da aplicação. Participa da transação corrente como a fonte original
+ * e, antes de cada INSERT, UPDATE ou DELETE numa tabela de entidade com cache de segundo nível, pede ao
+ * {@link CacheInvalidationChannel} que descarte o cache em todas as réplicas no commit. Assim uma escrita por
+ * JDBC direto não depende de quem a escreveu lembrar do aviso.
+ */
+class CacheNotifyingDataSource extends TransactionAwareDataSourceProxy {
+
+    private static final Pattern DML_TARGET = Pattern.compile(
+            "\\b(?:INSERT\\s+INTO|UPDATE|DELETE\\s+FROM)\\s+([A-Za-z_][A-Za-z0-9_.\"]*)", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> SQL_METHODS = Set.of(
+            "prepareStatement", "prepareCall", "execute", "executeUpdate", "executeLargeUpdate", "executeQuery", "addBatch");
+
+    private final ObjectProvider<CacheInvalidationChannel> channel;
+
+    CacheNotifyingDataSource(DataSource target, ObjectProvider<CacheInvalidationChannel> channel) {
+        super(target);
+        this.channel = channel;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new Inspecting(connection));
+    }
+
+    void inspect(String sql) {
+        CacheInvalidationChannel invalidation = channel.getIfAvailable();
+        if (invalidation == null) {
+            return;
+        }
+        Matcher matcher = DML_TARGET.matcher(sql);
+        while (matcher.find()) {
+            if (invalidation.isCachedTable(matcher.group(1))) {
+                invalidation.broadcastEvictAll();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Repassa tudo ao alvo, examinando o SQL de prepareStatement/prepareCall na conexão e de
+     * execute/addBatch nos Statements criados por ela.
+     */
+    private final class Inspecting implements InvocationHandler {
+
+        private final Object target;
+
+        private Inspecting(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (args != null && args.length > 0 && args[0] instanceof String sql && SQL_METHODS.contains(method.getName())) {
+                inspect(sql);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            if (method.getName().equals("createStatement") && result instanceof Statement statement) {
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class}, new Inspecting(statement));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.server.infra.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Substitui o {@code JdbcTemplate} do Spring Boot por um sobre a {@link CacheNotifyingDataSource}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CacheNotifyingJdbcConfig {
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, ObjectProvider<CacheInvalidationChannel> cacheInvalidationChannel) {
+        return new JdbcTemplate(new CacheNotifyingDataSource(dataSource, cacheInvalidationChannel));
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.server.infra.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fábrica de regiões do cache de segundo nível, em memória, com os limites de {@link CacheRegions}. É
+ * entregue ao Hibernate como instância (e não como nome de classe) para que as métricas e o canal de
+ * invalidação enxerguem as mesmas regiões.
+ */
+@Component
+public class CacheRegionFactory extends RegionFactoryTemplate implements HibernatePropertiesCustomizer {
+
+    private final Environment environment;
+    private final Map<String, BoundedStorageAccess> storages = new ConcurrentHashMap<>();
+
+    public CacheRegionFactory(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, this);
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // as regiões são criadas sob demanda, quando o Hibernate as pede
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        storages.values().forEach(BoundedStorageAccess::release);
+        storages.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext
+    ) {
+        return storage(regionConfig.getRegionName());
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return storage(regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return storages.computeIfAbsent(regionName, name -> new BoundedStorageAccess(CacheRegions.UNBOUNDED));
+    }
+
+    Optional<BoundedStorageAccess> findStorage(String regionName) {
+        return Optional.ofNullable(storages.get(regionName));
+    }
+
+    private BoundedStorageAccess storage(String regionName) {
+        return storages.computeIfAbsent(regionName, name -> new BoundedStorageAccess(settings(name)));
+    }
+
+    CacheRegions.Settings settings(String regionName) {
+        CacheRegions.Settings defaults = CacheRegions.defaults(regionName);
+        String prefix = "app.cache.regions." + regionName;
+        return new CacheRegions.Settings(
+                environment.getProperty(prefix + ".max-entries", Integer.class, defaults.maxEntries()),
+                environment.getProperty(prefix + ".ttl", Duration.class, defaults.ttl())
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.server.infra.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Estatísticas das regiões do cache de segundo nível no actuator ({@code /actuator/metrics}), com os
+ * mesmos nomes do binder de Hibernate do Micrometer. Lê os contadores das próprias regiões, sem ligar
+ * {@code hibernate.generate_statistics}.
+ */
+@Component
+public class CacheRegionMetrics implements MeterBinder {
+
+    private final CacheRegionFactory regionFactory;
+
+    public CacheRegionMetrics(CacheRegionFactory regionFactory) {
+        this.regionFactory = regionFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : CacheRegions.NAMES) {
+            counter("hibernate.second.level.cache.requests", region, BoundedStorageAccess::hits)
+                    .tag("result", "hit").register(registry);
+            counter("hibernate.second.level.cache.requests", region, BoundedStorageAccess::misses)
+                    .tag("result", "miss").register(registry);
+            counter("hibernate.second.level.cache.puts", region, BoundedStorageAccess::puts).register(registry);
+            counter("hibernate.second.level.cache.evictions", region, BoundedStorageAccess::evictions).register(registry);
+            Gauge.builder("hibernate.second.level.cache.size", regionFactory, factory -> read(factory, region, BoundedStorageAccess::size))
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private FunctionCounter.Builder<CacheRegionFactory> counter(
+            String name,
+            String region,
+            ToLongFunction<BoundedStorageAccess> value
+    ) {
+        // a região só existe depois que o Hibernate sobe; até lá o valor é zero
+        return FunctionCounter.builder(name, regionFactory, factory -> read(factory, region, value))
+                .tag("region", region);
+    }
+
+    private static double read(CacheRegionFactory factory, String region, ToLongFunction<BoundedStorageAccess> value) {
+        return factory.findStorage(region).map(value::applyAsLong).orElse(0L);
+    }
+}
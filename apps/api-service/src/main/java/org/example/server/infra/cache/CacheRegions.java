@@ -0,0 +1,62 @@
+package org.example.server.infra.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regiões do cache de segundo nível do Hibernate e seus limites padrão. Cada região pode ser ajustada por
+ * {@code app.cache.regions.<região>.max-entries} e {@code app.cache.regions.<região>.ttl}. O TTL é só uma
+ * rede de segurança: as alterações feitas por outras réplicas chegam pelo {@link CacheInvalidationChannel}.
+ */
+public final class CacheRegions {
+
+    public static final String DEALER = "dealer";
+    public static final String DEALER_COLLECTIONS = "dealer-collections";
+    public static final String USER = "user";
+    public static final String SELLER = "seller";
+    public static final String MANAGER = "manager";
+    public static final String OPERATOR = "operator";
+    public static final String PARTNER = "partner";
+    public static final String STAFF_QUERIES = "staff-queries";
+
+    // nomes fixos do Hibernate
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    static final Settings FALLBACK = new Settings(1_000, Duration.ofMinutes(10));
+    // perder um timestamp faria o cache de consultas devolver resultado velho, então a região não tem limite
+    static final Settings UNBOUNDED = new Settings(0, Duration.ZERO);
+
+    private static final Map<String, Settings> DEFAULTS = Map.of(
+            DEALER, new Settings(2_000, Duration.ofMinutes(30)),
+            DEALER_COLLECTIONS, new Settings(2_000, Duration.ofMinutes(30)),
+            USER, new Settings(10_000, Duration.ofMinutes(30)),
+            SELLER, new Settings(10_000, Duration.ofMinutes(30)),
+            MANAGER, new Settings(5_000, Duration.ofMinutes(30)),
+            OPERATOR, new Settings(5_000, Duration.ofMinutes(30)),
+            PARTNER, new Settings(5_000, Duration.ofMinutes(30)),
+            STAFF_QUERIES, new Settings(10_000, Duration.ofMinutes(10)),
+            DEFAULT_QUERY_RESULTS, new Settings(1_000, Duration.ofMinutes(5)),
+            UPDATE_TIMESTAMPS, UNBOUNDED
+    );
+
+    static final List<String> NAMES = List.of(
+            DEALER, DEALER_COLLECTIONS, USER, SELLER, MANAGER, OPERATOR, PARTNER,
+            STAFF_QUERIES, DEFAULT_QUERY_RESULTS, UPDATE_TIMESTAMPS
+    );
+
+    private CacheRegions() {
+    }
+
+    static Settings defaults(String regionName) {
+        return DEFAULTS.getOrDefault(regionName, FALLBACK);
+    }
+
+    /**
+     * @param maxEntries zero para sem limite
+     * @param ttl zero para sem expiração
+     */
+    record Settings(int maxEntries, Duration ttl) {
+    }
+}
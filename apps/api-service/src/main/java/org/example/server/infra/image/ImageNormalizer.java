@@ -0,0 +1,271 @@
+package org.example.server.infra.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reduz fotos enviadas pelo celular antes de irem para o armazenamento: decodifica, limita a maior dimensão,
+ * aplica a orientação EXIF, descarta os metadados e recodifica (JPEG com a qualidade configurada, ou PNG
+ * quando há transparência). A decodificação roda num pool limitado ao número de CPUs; com a fila cheia,
+ * quem chamou executa o trabalho, o que segura a entrada em vez de acumular imagens na memória.
+ * Formatos não suportados (PDF, WEBP), imagens que não decodificam e arquivos acima de
+ * {@code app.images.max-source-bytes} seguem sem alteração. O decodificador lê a origem sob demanda por um
+ * {@link ImageInputStream}: o arquivo nunca é carregado inteiro na memória, e um conteúdo que não é imagem
+ * para já na leitura do cabeçalho.
+ */
+@Component
+public class ImageNormalizer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageNormalizer.class);
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/jpg", "image/png");
+    private static final long MAX_SOURCE_PIXELS = 80_000_000L;
+
+    public enum Profile {
+        DOCUMENT,
+        LOGO
+    }
+
+    private final ThreadPoolExecutor pool;
+    private final Map<Profile, Integer> maxDimensions = new EnumMap<>(Profile.class);
+    private final int thumbnailDimension;
+    private final float jpegQuality;
+    private final float thumbnailQuality;
+    private final long maxSourceBytes;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter skippedCounter;
+
+    public ImageNormalizer(
+            MeterRegistry meterRegistry,
+            @Value("${app.images.workers:0}") int workers,
+            @Value("${app.images.queue-capacity:32}") int queueCapacity,
+            @Value("${app.images.document-max-dimension:2048}") int documentMaxDimension,
+            @Value("${app.images.logo-max-dimension:512}") int logoMaxDimension,
+            @Value("${app.images.thumbnail-dimension:320}") int thumbnailDimension,
+            @Value("${app.images.jpeg-quality:0.82}") float jpegQuality,
+            @Value("${app.images.thumbnail-quality:0.7}") float thumbnailQuality,
+            @Value("${app.images.max-source-bytes:26214400}") long maxSourceBytes
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxDimensions.put(Profile.DOCUMENT, documentMaxDimension);
+        this.maxDimensions.put(Profile.LOGO, logoMaxDimension);
+        this.thumbnailDimension = thumbnailDimension;
+        this.jpegQuality = jpegQuality;
+        this.thumbnailQuality = thumbnailQuality;
+        this.maxSourceBytes = maxSourceBytes;
+
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-normalizer-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.skippedCounter = meterRegistry.counter("images.normalization.skipped");
+        meterRegistry.gauge("images.normalization.queue", pool, executor -> executor.getQueue().size());
+    }
+
+    public boolean supports(String contentType) {
+        return contentType != null && SUPPORTED_TYPES.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Normaliza o arquivo no pool de CPU. Devolve vazio quando o conteúdo deve seguir como veio.
+     */
+    public Optional<NormalizedImage> normalize(Path source, String contentType, Profile profile) throws IOException {
+        return normalize(() -> ImageIO.createImageInputStream(source.toFile()), Files.size(source), contentType, profile);
+    }
+
+    /**
+     * Mesmo que {@link #normalize(Path, String, Profile)} para um conteúdo de {@code sizeBytes} bytes.
+     */
+    public Optional<NormalizedImage> normalize(InputStream content, long sizeBytes, String contentType, Profile profile) throws IOException {
+        return normalize(() -> ImageIO.createImageInputStream(content), sizeBytes, contentType, profile);
+    }
+
+    private Optional<NormalizedImage> normalize(ImageSource source, long sizeBytes, String contentType, Profile profile) throws IOException {
+        if (!supports(contentType)) {
+            return Optional.empty();
+        }
+        if (sizeBytes > maxSourceBytes) {
+            LOGGER.warn("Imagem de {} bytes acima do limite de normalização; segue sem alteração.", sizeBytes);
+            skippedCounter.increment();
+            return Optional.empty();
+        }
+        Future<Optional<NormalizedImage>> result = pool.submit(() -> process(source, sizeBytes, profile));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Normalização de imagem interrompida.", e);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Falha ao normalizar imagem; o arquivo segue sem alteração: {}", e.getCause().getMessage());
+            skippedCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    private Optional<NormalizedImage> process(ImageSource source, long sourceBytes, Profile profile) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        BufferedImage image = decode(source, maxDimensions.get(profile));
+        if (image == null) {
+            skippedCounter.increment();
+            return Optional.empty();
+        }
+
+        boolean alpha = image.getColorModel().hasAlpha();
+        byte[] content = encode(image, alpha, jpegQuality);
+        byte[] thumbnail = null;
+        if (profile == Profile.DOCUMENT && thumbnailDimension > 0) {
+            thumbnail = encode(scale(image, ExifOrientation.NORMAL, thumbnailDimension), alpha, thumbnailQuality);
+        }
+        String outputType = alpha ? "image/png" : "image/jpeg";
+
+        String profileTag = profile.name().toLowerCase(Locale.ROOT);
+        sample.stop(meterRegistry.timer("images.normalization", "profile", profileTag));
+        summary("images.normalization.original.bytes", profileTag).record(sourceBytes);
+        summary("images.normalization.normalized.bytes", profileTag).record(content.length);
+
+        return Optional.of(new NormalizedImage(content, outputType, thumbnail, thumbnail != null ? outputType : null, sourceBytes));
+    }
+
+    /**
+     * Decodifica já subamostrando quando a imagem é muito maior que o alvo, para não alocar
+     * a resolução cheia da câmera só para descartá-la em seguida.
+     */
+    private BufferedImage decode(ImageSource source, int maxDimension) throws IOException {
+        try (ImageInputStream input = source.open()) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    LOGGER.warn("Imagem de {}x{} acima do limite de normalização; segue sem alteração.", width, height);
+                    return null;
+                }
+                int orientation = ExifOrientation.read(reader.getImageMetadata(0));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return scale(reader.read(0, param), orientation, maxDimension);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static BufferedImage scale(BufferedImage source, int orientation, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = ExifOrientation.swapsDimensions(orientation);
+        int orientedWidth = swap ? height : width;
+        int orientedHeight = swap ? width : height;
+
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(orientedWidth, orientedHeight));
+        int targetWidth = Math.max(1, (int) Math.round(orientedWidth * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(orientedHeight * ratio));
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            AffineTransform transform = AffineTransform.getScaleInstance(
+                    (double) targetWidth / orientedWidth, (double) targetHeight / orientedHeight);
+            transform.concatenate(ExifOrientation.transform(orientation, width, height));
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean alpha, float quality) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", buffer);
+            return buffer.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            // sem metadados: EXIF (GPS, modelo do aparelho) não é copiado
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+
+    private DistributionSummary summary(String name, String profile) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("profile", profile)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ImageSource {
+        ImageInputStream open() throws IOException;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.server.infra.image;
+
+/**
+ * Resultado da normalização: imagem reduzida e recodificada, sem metadados, e a miniatura opcional.
+ *
+ * @param thumbnail nulo quando o perfil não pede miniatura
+ */
+public record NormalizedImage(
+        byte[] content,
+        String contentType,
+        byte[] thumbnail,
+        String thumbnailContentType,
+        long originalBytes
+) {
+
+    public long normalizedBytes() {
+        return content.length;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.server.infra.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidação de caches em memória dentro de uma transação.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Executa {@code invalidation} agora e, com transação ativa, de novo após o commit: uma leitura concorrente
+     * feita antes do commit ainda veria os dados antigos e os recolocaria no cache.
+     */
+    public static void invalidateNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
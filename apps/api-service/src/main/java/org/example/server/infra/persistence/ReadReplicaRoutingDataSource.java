@@ -0,0 +1,144 @@
+package org.example.server.infra.persistence;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Envia as transações {@code readOnly} para a réplica e todo o resto para o primário. Volta para o primário
+ * quando o {@link ReplicaLagMonitor} acusa atraso acima do limite, e para o usuário que escreveu há pouco
+ * (dentro de {@code readYourWritesWindow}), para que ele leia o que acabou de gravar.
+ * <p>
+ * A chave é decidida ao abrir a conexão, então a fonte deve ficar atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: sem ele a conexão é obtida no
+ * início da transação, antes de o Spring marcá-la como somente leitura.
+ * <p>
+ * Sessões Hibernate servidas pela réplica leem o cache de segundo nível mas não gravam nele (nem no cache
+ * de consultas): um dado atrasado da réplica ficaria no cache depois de a réplica alcançar o primário.
+ * <p>
+ * A janela de leitura das próprias escritas vale por nó: o registro da última escrita fica em memória, então
+ * uma requisição atendida por outra instância logo após a escrita ainda pode ir para a réplica.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final int PURGE_THRESHOLD = 1_000;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Supplier<String> currentUser;
+    private final long readYourWritesNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            Supplier<String> currentUser,
+            Duration readYourWritesWindow
+    ) {
+        this.lagMonitor = lagMonitor;
+        this.currentUser = currentUser;
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    Target route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        String user = currentUser.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(user);
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable() || wroteRecently(user)) {
+            return Target.PRIMARY;
+        }
+        disableCachePuts();
+        return Target.REPLICA;
+    }
+
+    /**
+     * Troca o modo de cache das sessões da transação para só leitura até ela terminar; com open-in-view a
+     * sessão sobrevive à transação e volta ao modo anterior para as próximas.
+     */
+    private void disableCachePuts() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (!(resource instanceof EntityManagerHolder holder)) {
+                continue;
+            }
+            Session session = holder.getEntityManager().unwrap(Session.class);
+            CacheMode previous = session.getCacheMode();
+            if (!previous.isPutEnabled()) {
+                continue;
+            }
+            session.setCacheMode(previous.isGetEnabled() ? CacheMode.GET : CacheMode.IGNORE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (session.isOpen()) {
+                        session.setCacheMode(previous);
+                    }
+                }
+            });
+        }
+    }
+
+    private void recordWriteOnCommit(String user) {
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(user, System.nanoTime());
+                if (lastWrites.size() > PURGE_THRESHOLD) {
+                    purgeExpiredWrites();
+                }
+            }
+        });
+    }
+
+    private boolean wroteRecently(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < readYourWritesNanos) {
+            return true;
+        }
+        lastWrites.remove(user, writtenAt);
+        return false;
+    }
+
+    private void purgeExpiredWrites() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesNanos);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.server.infra.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Mede periodicamente o atraso de replicação da réplica. Com o WAL recebido todo aplicado o atraso é zero,
+ * mesmo que o primário esteja parado há tempo (aí {@code pg_last_xact_replay_timestamp} fica antigo sem a
+ * réplica estar atrasada). Réplica inacessível conta como inutilizável até a próxima verificação.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final double maxLagSeconds;
+
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.datasource.replica.lag-check.initial-delay-ms:0}",
+            fixedDelayString = "${app.datasource.replica.lag-check.interval-ms:2000}"
+    )
+    public void check() {
+        boolean wasUsable = replicaUsable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            replicaUsable = lagSeconds <= maxLagSeconds;
+        } catch (Exception ex) {
+            lagSeconds = Double.NaN;
+            replicaUsable = false;
+            if (wasUsable) {
+                LOGGER.warn("Réplica inacessível; leituras voltam para o primário: {}", ex.getMessage());
+            }
+            return;
+        }
+        if (wasUsable && !replicaUsable) {
+            LOGGER.warn("Réplica {} s atrasada (limite {} s); leituras voltam para o primário", lagSeconds, maxLagSeconds);
+        } else if (!wasUsable && replicaUsable) {
+            LOGGER.info("Réplica em dia ({} s de atraso); leituras somente leitura voltam para ela", lagSeconds);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,293 @@
+package org.example.server.infra.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Aplica as migrações versionadas de {@code db/migration} ({@code V<versão>__<descrição>.sql}) antes de o
+ * Hibernate subir, registrando versão e checksum em {@code tb_schema_migration}. As pendentes rodam numa
+ * única transação sob advisory lock, então instâncias subindo juntas não aplicam a mesma migração duas
+ * vezes e uma falha não deixa o esquema pela metade. Migração já aplicada não pode ser alterada: crie uma
+ * nova versão.
+ * <p>
+ * Migrações que começam com {@value #CONCURRENT_MARKER} só criam ou removem índices com {@code CONCURRENTLY},
+ * que não roda dentro de transação nem trava escritas. Elas ficam fora da transação de inicialização: depois
+ * que a aplicação sobe, uma thread as aplica comando a comando, numa única instância por vez. Índice deixado
+ * inválido por uma tentativa interrompida é removido e recriado na próxima; se um comando falha, a migração
+ * fica pendente até a próxima subida. Por rodarem depois das demais, não podem ser pré-requisito de outra
+ * migração nem do código.
+ */
+@Component
+public class SchemaMigrator implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    static final String LOCATION = "classpath*:db/migration/V*__*.sql";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final long LOCK_KEY = 4_801_220_531L;
+    private static final long CONCURRENT_LOCK_KEY = LOCK_KEY + 1;
+    static final String CONCURRENT_MARKER = "-- @concurrent";
+    private static final Pattern CREATE_INDEX_CONCURRENTLY = Pattern.compile(
+            "(?is)CREATE\\s+(UNIQUE\\s+)?INDEX\\s+CONCURRENTLY\\s+IF\\s+NOT\\s+EXISTS\\s+(\\w+)\\s+ON\\s+(\\w+)\\s+(.*)");
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+    private static final String INDEX_VALID_SQL =
+            "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)";
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT c.relkind = 'p' FROM pg_class c WHERE c.oid = to_regclass(?)";
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?) ORDER BY c.relname
+            """;
+    private static final String ATTACHED_SQL = """
+            SELECT COUNT(*) FROM pg_inherits i JOIN pg_index x ON x.indexrelid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?) AND x.indrelid = to_regclass(?)
+            """;
+
+    private static final String CREATE_HISTORY_SQL = """
+            CREATE TABLE IF NOT EXISTS tb_schema_migration (
+                version integer NOT NULL PRIMARY KEY,
+                description varchar(200) NOT NULL,
+                checksum varchar(32) NOT NULL,
+                execution_ms bigint NOT NULL,
+                installed_at timestamp(6) with time zone NOT NULL DEFAULT now()
+            )
+            """;
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO tb_schema_migration (version, description, checksum, execution_ms) VALUES (?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private List<Migration> migrations = List.of();
+
+    public SchemaMigrator(
+            DataSource dataSource,
+            @Value("${app.persistence.migrations.enabled:true}") boolean enabled
+    ) {
+        // transação JDBC própria: o gerenciador JPA só existe depois do EntityManagerFactory
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        migrations = load(new PathMatchingResourcePatternResolver().getResources(LOCATION));
+        transactionTemplate.executeWithoutResult(status -> migrate());
+    }
+
+    private void migrate() {
+        jdbcTemplate.execute(CREATE_HISTORY_SQL);
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", LOCK_KEY);
+
+        Map<Integer, String> applied = appliedChecksums(jdbcTemplate);
+        for (Migration migration : migrations) {
+            if (isApplied(migration, applied) || migration.concurrent()) {
+                continue;
+            }
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute(migration.script());
+            record(jdbcTemplate, migration, System.currentTimeMillis() - start);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrations.stream().noneMatch(Migration::concurrent)) {
+            return;
+        }
+        Thread runner = new Thread(this::migrateConcurrently, "schema-migration-concurrent");
+        runner.setDaemon(true);
+        runner.start();
+    }
+
+    void migrateConcurrently() {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            // lock de sessão: a instância que não consegue deixa as migrações para quem está aplicando
+            if (!Boolean.TRUE.equals(session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, CONCURRENT_LOCK_KEY))) {
+                return;
+            }
+            try {
+                Map<Integer, String> applied = appliedChecksums(session);
+                for (Migration migration : migrations) {
+                    if (!migration.concurrent() || isApplied(migration, applied)) {
+                        continue;
+                    }
+                    long start = System.currentTimeMillis();
+                    for (String statement : statements(migration.script())) {
+                        executeConcurrently(session, statement);
+                    }
+                    record(session, migration, System.currentTimeMillis() - start);
+                }
+            } finally {
+                session.queryForList("SELECT pg_advisory_unlock(?)", CONCURRENT_LOCK_KEY);
+            }
+        } catch (SQLException | RuntimeException ex) {
+            LOGGER.warn("Migração concorrente interrompida; será retomada na próxima inicialização: {}", ex.getMessage());
+        }
+    }
+
+    static void executeConcurrently(JdbcTemplate session, String statement) {
+        Matcher createIndex = CREATE_INDEX_CONCURRENTLY.matcher(statement);
+        if (createIndex.matches()) {
+            String index = createIndex.group(2);
+            List<Boolean> valid = session.queryForList(INDEX_VALID_SQL, Boolean.class, index);
+            if (!valid.isEmpty() && Boolean.TRUE.equals(valid.get(0))) {
+                return;
+            }
+            if (isPartitioned(session, createIndex.group(3))) {
+                createPartitionedIndex(session, createIndex);
+                return;
+            }
+            if (!valid.isEmpty()) {
+                session.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+            }
+        }
+        session.execute(statement);
+    }
+
+    /**
+     * Tabela particionada não aceita CONCURRENTLY: o índice é criado só na tabela mãe (inválido até ter
+     * todas as partições), cada partição ganha o seu com CONCURRENTLY e é anexada.
+     */
+    private static void createPartitionedIndex(JdbcTemplate session, Matcher createIndex) {
+        String unique = createIndex.group(1) != null ? "UNIQUE " : "";
+        String index = createIndex.group(2);
+        String table = createIndex.group(3);
+        String definition = createIndex.group(4);
+        session.execute("CREATE " + unique + "INDEX IF NOT EXISTS " + index + " ON ONLY " + table + " " + definition);
+        for (String partition : session.queryForList(PARTITIONS_SQL, String.class, table)) {
+            Integer attached = session.queryForObject(ATTACHED_SQL, Integer.class, index, partition);
+            if (attached != null && attached > 0) {
+                continue;
+            }
+            String child = partition + "_" + index;
+            if (child.length() > MAX_IDENTIFIER_LENGTH) {
+                child = child.substring(0, MAX_IDENTIFIER_LENGTH);
+            }
+            executeConcurrently(session, "CREATE " + unique + "INDEX CONCURRENTLY IF NOT EXISTS " + child
+                    + " ON " + partition + " " + definition);
+            session.execute("ALTER INDEX " + index + " ATTACH PARTITION " + child);
+        }
+    }
+
+    private static boolean isPartitioned(JdbcTemplate session, String table) {
+        List<Boolean> partitioned = session.queryForList(IS_PARTITIONED_SQL, Boolean.class, table);
+        return !partitioned.isEmpty() && Boolean.TRUE.equals(partitioned.get(0));
+    }
+
+    private static Map<Integer, String> appliedChecksums(JdbcTemplate template) {
+        Map<Integer, String> applied = new HashMap<>();
+        template.query("SELECT version, checksum FROM tb_schema_migration",
+                rs -> { applied.put(rs.getInt("version"), rs.getString("checksum")); });
+        return applied;
+    }
+
+    private static boolean isApplied(Migration migration, Map<Integer, String> applied) {
+        String checksum = applied.get(migration.version());
+        if (checksum == null) {
+            return false;
+        }
+        if (!checksum.equals(migration.checksum())) {
+            throw new IllegalStateException("Migração V" + migration.version()
+                    + " foi alterada depois de aplicada; crie uma nova versão em vez de editá-la");
+        }
+        return true;
+    }
+
+    private static void record(JdbcTemplate template, Migration migration, long elapsed) {
+        template.update(INSERT_HISTORY_SQL, migration.version(), migration.description(), migration.checksum(), elapsed);
+        LOGGER.info("Migração V{} ({}) aplicada em {} ms", migration.version(), migration.description(), elapsed);
+    }
+
+    /**
+     * Comandos de uma migração concorrente: separados por {@code ;} no fim da linha, sem as linhas de
+     * comentário. Blocos {@code DO} não são suportados aqui.
+     */
+    static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(current.isEmpty() ? "" : " ").append(trimmed);
+            if (trimmed.endsWith(";")) {
+                statements.add(current.substring(0, current.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            statements.add(current.toString());
+        }
+        return statements;
+    }
+
+    static List<Migration> load(Resource[] resources) throws IOException {
+        List<Migration> migrations = new ArrayList<>();
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            Matcher matcher = fileName != null ? FILE_NAME.matcher(fileName) : null;
+            if (matcher == null || !matcher.matches()) {
+                throw new IllegalStateException("Nome de migração inválido: " + fileName);
+            }
+            byte[] content;
+            try (InputStream in = resource.getInputStream()) {
+                content = in.readAllBytes();
+            }
+            String script = new String(content, StandardCharsets.UTF_8);
+            migrations.add(new Migration(
+                    Integer.parseInt(matcher.group(1)),
+                    matcher.group(2).replace('_', ' '),
+                    script,
+                    DigestUtils.md5DigestAsHex(content),
+                    script.startsWith(CONCURRENT_MARKER)
+            ));
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new IllegalStateException("Versão de migração duplicada: V" + migrations.get(i).version());
+            }
+        }
+        return migrations;
+    }
+
+    record Migration(int version, String description, String script, String checksum, boolean concurrent) {
+    }
+}
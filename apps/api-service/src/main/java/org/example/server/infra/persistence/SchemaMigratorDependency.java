@@ -0,0 +1,16 @@
+package org.example.server.infra.persistence;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Faz o EntityManagerFactory esperar o {@link SchemaMigrator}: o Hibernate não gera mais o esquema e
+ * precisa encontrá-lo migrado.
+ */
+@Component
+class SchemaMigratorDependency extends EntityManagerFactoryDependsOnPostProcessor {
+
+    SchemaMigratorDependency() {
+        super(SchemaMigrator.class);
+    }
+}
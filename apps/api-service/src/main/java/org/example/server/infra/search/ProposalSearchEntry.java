@@ -0,0 +1,12 @@
+package org.example.server.infra.search;
+
+/**
+ * Campos pesquisáveis de uma proposta, ainda na forma gravada.
+ */
+public record ProposalSearchEntry(
+        Long id,
+        String customerName,
+        String customerCpf,
+        String vehiclePlate
+) {
+}
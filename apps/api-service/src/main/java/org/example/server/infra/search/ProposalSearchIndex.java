@@ -0,0 +1,21 @@
+package org.example.server.infra.search;
+
+import java.util.List;
+
+/**
+ * Busca de propostas por nome do cliente, CPF ou placa. Devolve ids em ordem de relevância;
+ * quem chama monta os resumos a partir deles.
+ */
+public interface ProposalSearchIndex {
+
+    List<Long> search(ProposalSearchQuery query, int offset, int limit);
+
+    /**
+     * Avisa que a proposta foi criada ou alterada. Índices que vivem no banco não precisam fazer nada.
+     */
+    default void index(ProposalSearchEntry entry) {
+    }
+
+    default void remove(Long proposalId) {
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.server.infra.search;
+
+import org.example.server.util.SearchNormalizer;
+
+import java.util.regex.Pattern;
+
+/**
+ * Texto digitado na busca, interpretado em até três termos normalizados. Cada termo nulo fica de fora
+ * da consulta: "123.456" só procura CPF, "abc1d23" procura placa e nome, "joão da silva" só nome.
+ */
+public record ProposalSearchQuery(String cpf, String plate, String name) {
+
+    private static final int MIN_LENGTH = 2;
+    private static final int MIN_CPF_DIGITS = 3;
+    private static final int MAX_PLATE_LENGTH = 7;
+    private static final Pattern CPF_INPUT = Pattern.compile("[0-9.\\-\\s]+");
+    private static final Pattern PLATE_INPUT = Pattern.compile("[A-Za-z0-9\\-\\s]+");
+    private static final Pattern HAS_LETTER = Pattern.compile(".*\\p{L}.*");
+
+    public static ProposalSearchQuery parse(String text) {
+        if (text == null || text.trim().length() < MIN_LENGTH) {
+            return new ProposalSearchQuery(null, null, null);
+        }
+        String trimmed = text.trim();
+
+        String cpf = null;
+        if (CPF_INPUT.matcher(trimmed).matches()) {
+            String digits = SearchNormalizer.digits(trimmed);
+            cpf = digits != null && digits.length() >= MIN_CPF_DIGITS ? digits : null;
+        }
+
+        String plate = null;
+        if (PLATE_INPUT.matcher(trimmed).matches()) {
+            String normalized = SearchNormalizer.plate(trimmed);
+            plate = normalized != null && normalized.length() >= MIN_LENGTH && normalized.length() <= MAX_PLATE_LENGTH
+                    ? normalized : null;
+        }
+
+        String name = null;
+        if (HAS_LETTER.matcher(trimmed).matches()) {
+            String normalized = SearchNormalizer.name(trimmed);
+            name = normalized != null && normalized.length() >= MIN_LENGTH ? normalized : null;
+        }
+        return new ProposalSearchQuery(cpf, plate, name);
+    }
+
+    public boolean isEmpty() {
+        return cpf == null && plate == null && name == null;
+    }
+}
@@ -0,0 +1,252 @@
+package org.example.server.infra.search.memory;
+
+import org.example.server.infra.search.ProposalSearchEntry;
+import org.example.server.infra.search.ProposalSearchIndex;
+import org.example.server.infra.search.ProposalSearchQuery;
+import org.example.server.repository.ProposalRepository;
+import org.example.server.util.SearchNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória para bancos sem pg_trgm (H2 nos testes, ambiente local).
+ * CPF e placa ficam em mapas ordenados para busca por prefixo; o nome é quebrado em trigramas
+ * no mesmo formato do pg_trgm, e a relevância segue as mesmas faixas da busca no Postgres.
+ * Carrega tudo na subida e é atualizado após o commit de cada criação ou exclusão.
+ */
+@Component
+@ConditionalOnProperty(name = "app.proposals.search.engine", havingValue = "memory")
+public class InMemoryProposalSearchIndex implements ProposalSearchIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryProposalSearchIndex.class);
+    private static final double SIMILARITY_THRESHOLD = 0.3;
+
+    private final ProposalRepository proposalRepository;
+    private final int loadBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedProposal> proposals = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> byCpf = new TreeMap<>();
+    private final NavigableMap<String, Set<Long>> byPlate = new TreeMap<>();
+    private final Map<String, Set<Long>> byNameTrigram = new HashMap<>();
+
+    public InMemoryProposalSearchIndex(
+            ProposalRepository proposalRepository,
+            @Value("${app.proposals.search.load-batch-size:1000}") int loadBatchSize
+    ) {
+        this.proposalRepository = proposalRepository;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            List<ProposalSearchEntry> batch = proposalRepository.findSearchEntries(lastId, PageRequest.of(0, loadBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(this::put);
+            total += batch.size();
+            lastId = batch.get(batch.size() - 1).id();
+        }
+        LOGGER.info("Índice de busca de propostas em memória carregado com {} propostas", total);
+    }
+
+    @Override
+    public void index(ProposalSearchEntry entry) {
+        afterCommit(() -> put(entry));
+    }
+
+    @Override
+    public void remove(Long proposalId) {
+        afterCommit(() -> delete(proposalId));
+    }
+
+    @Override
+    public List<Long> search(ProposalSearchQuery query, int offset, int limit) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (query.cpf() != null) {
+                scorePrefix(byCpf, query.cpf(), scores);
+            }
+            if (query.plate() != null) {
+                scorePrefix(byPlate, query.plate(), scores);
+            }
+            if (query.name() != null) {
+                scoreName(query.name(), scores);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    void put(ProposalSearchEntry entry) {
+        IndexedProposal indexed = new IndexedProposal(
+                SearchNormalizer.name(entry.customerName()),
+                SearchNormalizer.digits(entry.customerCpf()),
+                SearchNormalizer.plate(entry.vehiclePlate()));
+        lock.writeLock().lock();
+        try {
+            unlink(entry.id());
+            proposals.put(entry.id(), indexed);
+            link(byCpf, indexed.cpf(), entry.id());
+            link(byPlate, indexed.plate(), entry.id());
+            for (String trigram : trigrams(indexed.name())) {
+                link(byNameTrigram, trigram, entry.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void delete(Long proposalId) {
+        lock.writeLock().lock();
+        try {
+            unlink(proposalId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void scorePrefix(NavigableMap<String, Set<Long>> index, String prefix, Map<Long, Double> scores) {
+        for (Map.Entry<String, Set<Long>> match : index.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            double score = match.getKey().equals(prefix) ? 1.0 : 0.8;
+            match.getValue().forEach(id -> scores.merge(id, score, Math::max));
+        }
+    }
+
+    private void scoreName(String name, Map<Long, Double> scores) {
+        Set<String> queryTrigrams = trigrams(name);
+        Set<Long> candidates = new HashSet<>();
+        for (String trigram : queryTrigrams) {
+            candidates.addAll(byNameTrigram.getOrDefault(trigram, Set.of()));
+        }
+        for (Long id : candidates) {
+            String indexedName = proposals.get(id).name();
+            double similarity = similarity(queryTrigrams, trigrams(indexedName));
+            double score;
+            if (indexedName.startsWith(name)) {
+                score = Math.max(similarity, 0.7);
+            } else if (indexedName.contains(name)) {
+                score = Math.max(similarity, 0.5);
+            } else if (similarity >= SIMILARITY_THRESHOLD) {
+                score = similarity;
+            } else {
+                continue;
+            }
+            scores.merge(id, score, Math::max);
+        }
+    }
+
+    private void unlink(Long id) {
+        IndexedProposal previous = proposals.remove(id);
+        if (previous == null) {
+            return;
+        }
+        unlink(byCpf, previous.cpf(), id);
+        unlink(byPlate, previous.plate(), id);
+        for (String trigram : trigrams(previous.name())) {
+            unlink(byNameTrigram, trigram, id);
+        }
+    }
+
+    private static void link(Map<String, Set<Long>> index, String key, Long id) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static void unlink(Map<String, Set<Long>> index, String key, Long id) {
+        if (key == null) {
+            return;
+        }
+        Set<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Trigramas no formato do pg_trgm: cada palavra recebe dois espaços antes e um depois.
+     */
+    static Set<String> trigrams(String normalizedName) {
+        Set<String> trigrams = new HashSet<>();
+        if (normalizedName == null) {
+            return trigrams;
+        }
+        for (String word : normalizedName.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int shared = 0;
+        for (String trigram : a) {
+            if (b.contains(trigram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record IndexedProposal(String name, String cpf, String plate) {
+    }
+}
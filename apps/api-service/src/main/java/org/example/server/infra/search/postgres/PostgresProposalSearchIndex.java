@@ -0,0 +1,95 @@
+package org.example.server.infra.search.postgres;
+
+import org.example.server.infra.search.ProposalSearchIndex;
+import org.example.server.infra.search.ProposalSearchQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Busca nas colunas {@code search_*} de {@code tb_proposal}. CPF e placa usam índices de prefixo
+ * ({@code text_pattern_ops}); o nome usa um índice GIN de trigramas (pg_trgm), que atende tanto
+ * {@code LIKE '%trecho%'} quanto a similaridade usada no ranking. Os índices são criados pela
+ * migração {@code V4__query_indexes.sql}, depois da subida.
+ * <p>
+ * A migração V3 exige pg_trgm, mas com as migrações desligadas a extensão pode faltar: nesse caso o nome
+ * é buscado só por {@code LIKE}, sem {@code similarity} nem {@code %}, que não existiriam no banco.
+ */
+@Component
+@ConditionalOnProperty(name = "app.proposals.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresProposalSearchIndex implements ProposalSearchIndex {
+
+    private static final String TRIGRAM_AVAILABLE_SQL =
+            "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean trigramAvailable;
+
+    public PostgresProposalSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> search(ProposalSearchQuery query, int offset, int limit) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        List<String> scores = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        List<Object> scoreArgs = new ArrayList<>();
+        List<Object> conditionArgs = new ArrayList<>();
+
+        if (query.cpf() != null) {
+            scores.add("CASE WHEN p.search_cpf = ? THEN 1.0 WHEN p.search_cpf LIKE ? THEN 0.8 ELSE 0 END");
+            scoreArgs.add(query.cpf());
+            scoreArgs.add(query.cpf() + "%");
+            conditions.add("p.search_cpf LIKE ?");
+            conditionArgs.add(query.cpf() + "%");
+        }
+        if (query.plate() != null) {
+            scores.add("CASE WHEN p.search_plate = ? THEN 1.0 WHEN p.search_plate LIKE ? THEN 0.8 ELSE 0 END");
+            scoreArgs.add(query.plate());
+            scoreArgs.add(query.plate() + "%");
+            conditions.add("p.search_plate LIKE ?");
+            conditionArgs.add(query.plate() + "%");
+        }
+        if (query.name() != null && isTrigramAvailable()) {
+            scores.add("GREATEST(similarity(p.search_name, ?),"
+                    + " CASE WHEN p.search_name LIKE ? THEN 0.7 WHEN p.search_name LIKE ? THEN 0.5 ELSE 0 END)");
+            scoreArgs.add(query.name());
+            scoreArgs.add(query.name() + "%");
+            scoreArgs.add("%" + query.name() + "%");
+            conditions.add("(p.search_name LIKE ? OR p.search_name % ?)");
+            conditionArgs.add("%" + query.name() + "%");
+            conditionArgs.add(query.name());
+        } else if (query.name() != null) {
+            scores.add("CASE WHEN p.search_name LIKE ? THEN 0.7 WHEN p.search_name LIKE ? THEN 0.5 ELSE 0 END");
+            scoreArgs.add(query.name() + "%");
+            scoreArgs.add("%" + query.name() + "%");
+            conditions.add("p.search_name LIKE ?");
+            conditionArgs.add("%" + query.name() + "%");
+        }
+
+        String sql = "SELECT p.id FROM tb_proposal p WHERE " + String.join(" OR ", conditions)
+                + " ORDER BY " + (scores.size() == 1 ? scores.get(0) : "GREATEST(" + String.join(", ", scores) + ")")
+                + " DESC, p.id DESC LIMIT ? OFFSET ?";
+
+        List<Object> args = new ArrayList<>(conditionArgs);
+        args.addAll(scoreArgs);
+        args.add(limit);
+        args.add(offset);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    private boolean isTrigramAvailable() {
+        Boolean available = trigramAvailable;
+        if (available == null) {
+            available = Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRIGRAM_AVAILABLE_SQL, Boolean.class));
+            trigramAvailable = available;
+        }
+        return available;
+    }
+}
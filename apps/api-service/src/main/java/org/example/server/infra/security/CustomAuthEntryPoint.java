@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.example.server.exception.ErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -47,6 +48,10 @@ public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
             return "Credenciais inválidas";
         }
 
+        if (ex instanceof DisabledException) {
+            return "Conta desativada";
+        }
+
         if (ex instanceof UsernameNotFoundException) {
             return "Usuário não encontrado";
         }
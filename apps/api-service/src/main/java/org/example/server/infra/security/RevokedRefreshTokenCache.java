@@ -0,0 +1,50 @@
+package org.example.server.infra.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache negativo, em memória e limitado, de hashes de refresh tokens revogados. Um token reapresentado
+ * depois de rotacionado ou de logout é recusado sem ir ao banco. Tokens desconhecidos não entram: qualquer
+ * um poderia encher o cache com hashes aleatórios e expulsar os revogados.
+ */
+@Component
+public class RevokedRefreshTokenCache {
+
+    private final int maxEntries;
+    private final Map<String, Instant> entries;
+
+    public RevokedRefreshTokenCache(@Value("${app.security.refresh-token.revoked-cache-size:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+                return size() > RevokedRefreshTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized void put(String tokenHash, Instant until) {
+        entries.put(tokenHash, until);
+    }
+
+    public synchronized boolean contains(String tokenHash) {
+        Instant until = entries.get(tokenHash);
+        if (until == null) {
+            return false;
+        }
+        if (until.isBefore(Instant.now())) {
+            entries.remove(tokenHash);
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
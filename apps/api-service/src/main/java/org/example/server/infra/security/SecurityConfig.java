@@ -78,15 +78,25 @@ public class SecurityConfig {
                         // Documentos
                         .requestMatchers(HttpMethod.GET, "/api/v1/grota-financiamentos/documents").hasAnyRole("ADMIN", "LOJISTA")
                         .requestMatchers(HttpMethod.GET, "/api/v1/grota-financiamentos/documents/*/url").hasAnyRole("ADMIN", "LOJISTA")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/grota-financiamentos/documents/*/thumbnail-url").hasAnyRole("ADMIN", "LOJISTA")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/grota-financiamentos/documents/urls").hasAnyRole("ADMIN", "LOJISTA")
                         .requestMatchers(HttpMethod.POST, "/api/v1/grota-financiamentos/documents/*/review").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/grota-financiamentos/documents/review-queue/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/v1/grota-financiamentos/dealers/logo").hasRole("LOJISTA")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/grota-financiamentos/dealers/*/purge").hasRole("ADMIN")
                         // Propostas - criação permitida para ADMIN, OPERADOR e VENDEDOR
+                        .requestMatchers(HttpMethod.POST, "/api/v1/grota-financiamentos/proposals/events/partitioning").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/grota-financiamentos/proposals/import").hasAnyRole("ADMIN", "OPERADOR", "LOJISTA")
                         .requestMatchers(HttpMethod.POST, "/api/v1/grota-financiamentos/proposals").hasAnyRole("ADMIN", "OPERADOR", "VENDEDOR", "LOJISTA")
                         .requestMatchers(HttpMethod.PATCH, "/api/v1/grota-financiamentos/proposals/*/status").hasAnyRole("ADMIN", "OPERADOR", "VENDEDOR", "LOJISTA")
                         .requestMatchers(HttpMethod.GET, "/api/v1/grota-financiamentos/proposals/**").hasAnyRole("ADMIN", "OPERADOR", "VENDEDOR", "LOJISTA")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/grota-financiamentos/proposals/*").hasRole("ADMIN")
+                        // Relatórios analíticos
+                        .requestMatchers("/api/v1/grota-financiamentos/analytics/**").hasRole("ADMIN")
                         // Cobrança: liberar para os mesmos perfis das demais operações
+                        .requestMatchers("/api/v1/grota-financiamentos/billing/campaigns/**").hasRole("ADMIN")
                         .requestMatchers("/api/v1/grota-financiamentos/billing/**").authenticated()
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
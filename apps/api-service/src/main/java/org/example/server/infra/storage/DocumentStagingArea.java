@@ -0,0 +1,132 @@
+package org.example.server.infra.storage;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.server.util.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Área local onde os uploads ficam até o worker enviá-los ao {@link DocumentStorage}.
+ * Mantém o total de bytes e arquivos em disco exposto como métrica.
+ */
+@Component
+public class DocumentStagingArea {
+
+    private static final long CHUNK_BYTES = 64 * 1024;
+
+    private final Path root;
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong files = new AtomicLong();
+
+    public DocumentStagingArea(
+            @Value("${app.storage.staging.root:${java.io.tmpdir}/grota-staging}") String root,
+            MeterRegistry meterRegistry
+    ) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        Files.createDirectories(this.root);
+        recount();
+
+        Gauge.builder("documents.staging.bytes", usedBytes, AtomicLong::get)
+                .description("Bytes aguardando envio na área de staging")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("documents.staging.files", files, AtomicLong::get)
+                .description("Arquivos aguardando envio na área de staging")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Copia o conteúdo para a área de staging calculando o SHA-256 no mesmo passo.
+     */
+    public StagedFile stage(String name, InputStream content) throws IOException {
+        Path target = resolve(name);
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        MessageDigest digest = Hashing.sha256();
+        long written = 0;
+        try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest));
+             FileChannel destination = FileChannel.open(partial,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long transferred;
+            while ((transferred = destination.transferFrom(source, written, CHUNK_BYTES)) > 0) {
+                written += transferred;
+            }
+            destination.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        usedBytes.addAndGet(written);
+        files.incrementAndGet();
+        return new StagedFile(name, written, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    public boolean exists(String name) {
+        return name != null && Files.exists(resolve(name));
+    }
+
+    public InputStream open(String name) throws IOException {
+        return Files.newInputStream(resolve(name));
+    }
+
+    public Path path(String name) {
+        return resolve(name);
+    }
+
+    public void discard(String name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            Path path = resolve(name);
+            long size = Files.exists(path) ? Files.size(path) : 0;
+            if (Files.deleteIfExists(path)) {
+                usedBytes.addAndGet(-size);
+                files.decrementAndGet();
+            }
+        } catch (IOException ignored) {
+            // o arquivo órfão é contado de novo no próximo recount
+        }
+    }
+
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    private void recount() throws IOException {
+        long bytes = 0;
+        long count = 0;
+        try (Stream<Path> paths = Files.list(root)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                bytes += Files.size(path);
+                count++;
+            }
+        }
+        usedBytes.set(bytes);
+        files.set(count);
+    }
+
+    private Path resolve(String name) {
+        Path path = root.resolve(name).normalize();
+        if (!path.getParent().equals(root)) {
+            throw new IllegalArgumentException("Nome de arquivo de staging inválido: " + name);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.server.infra.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Armazenamento de arquivos enviados (documentos e logomarcas).
+ * As implementações leem o conteúdo em blocos de tamanho fixo, sem carregar o arquivo inteiro na memória.
+ */
+public interface DocumentStorage {
+
+    /**
+     * Grava o conteúdo e devolve a chave definitiva do arquivo no backend.
+     *
+     * @param folder      pasta lógica (ex.: {@code documents}, {@code dealer-logos})
+     * @param key         nome do arquivo dentro da pasta, sem extensão
+     * @param content     conteúdo; não é fechado pela implementação
+     * @param size        tamanho em bytes, quando conhecido
+     * @param contentType tipo MIME do arquivo
+     */
+    default String store(String folder, String key, InputStream content, long size, String contentType) throws IOException {
+        return store(folder, key, content, size, contentType, ProgressListener.NONE);
+    }
+
+    /**
+     * Igual a {@link #store(String, String, InputStream, long, String)}, notificando o progresso a cada bloco enviado.
+     */
+    String store(String folder, String key, InputStream content, long size, String contentType, ProgressListener listener) throws IOException;
+
+    URL resolveUrl(String storedKey);
+
+    /**
+     * URL de acesso por tempo limitado. O padrão devolve a URL de entrega e usa o {@code ttl} só como validade
+     * informada ao cliente; backends com entrega privada sobrescrevem para gerar uma assinatura que expira.
+     */
+    default SignedUrl sign(String storedKey, Duration ttl) {
+        return new SignedUrl(resolveUrl(storedKey), Instant.now().plus(ttl));
+    }
+
+    void delete(String storedKey) throws IOException;
+
+    @FunctionalInterface
+    interface ProgressListener {
+
+        ProgressListener NONE = (transferred, total) -> { };
+
+        void onProgress(long bytesTransferred, long totalBytes);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.server.infra.storage;
+
+import java.net.URL;
+import java.time.Instant;
+
+/**
+ * URL de acesso a um arquivo armazenado, válida até {@code expiresAt}.
+ */
+public record SignedUrl(URL url, Instant expiresAt) {
+}
@@ -0,0 +1,77 @@
+package org.example.server.infra.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache em memória, limitado (LRU), de URLs de documentos já geradas. A chave inclui o escopo de quem pediu,
+ * então um acerto dispensa também a checagem de propriedade: quem altera ou apaga documentos precisa chamar
+ * {@code DocumentUrlService.evict}, que também avisa as outras réplicas. Uma entrada deixa de valer {@code refresh-margin}
+ * antes de a URL expirar, para o cliente nunca receber uma URL prestes a vencer.
+ */
+@Component
+public class SignedUrlCache {
+
+    private final int maxEntries;
+    private final Duration refreshMargin;
+    private final Map<Key, SignedUrl> entries;
+
+    public SignedUrlCache(
+            @Value("${app.documents.url.cache-size:5000}") int maxEntries,
+            @Value("${app.documents.url.refresh-margin-seconds:60}") long refreshMarginSeconds
+    ) {
+        this.maxEntries = maxEntries;
+        this.refreshMargin = Duration.ofSeconds(refreshMarginSeconds);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SignedUrl> eldest) {
+                return size() > SignedUrlCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized SignedUrl get(Key key) {
+        SignedUrl url = entries.get(key);
+        if (url == null) {
+            return null;
+        }
+        if (!Instant.now().plus(refreshMargin).isBefore(url.expiresAt())) {
+            entries.remove(key);
+            return null;
+        }
+        return url;
+    }
+
+    public synchronized void put(Key key, SignedUrl url) {
+        entries.put(key, url);
+    }
+
+    public synchronized void evictDocuments(Collection<Long> documentIds) {
+        if (documentIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = Set.copyOf(documentIds);
+        entries.keySet().removeIf(key -> ids.contains(key.documentId()));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param scope {@code "ADMIN"} ou {@code "USER:<id>"}
+     */
+    public record Key(Long documentId, String scope, boolean thumbnail) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.server.infra.storage;
+
+/**
+ * Arquivo gravado na área de staging, com tamanho e SHA-256 (hex) calculados durante a cópia.
+ */
+public record StagedFile(
+        String name,
+        long sizeBytes,
+        String sha256
+) {
+}
@@ -0,0 +1,76 @@
+package org.example.server.infra.storage.cloudinary;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import org.example.server.infra.storage.DocumentStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryDocumentStorage implements DocumentStorage {
+
+    // O upload em partes do Cloudinary exige blocos de pelo menos 5MB (exceto o último)
+    private static final int MIN_CHUNK_BYTES = 5 * 1024 * 1024;
+
+    private final Cloudinary cloudinary;
+    private final int chunkSize;
+
+    public CloudinaryDocumentStorage(
+            Cloudinary cloudinary,
+            @Value("${app.storage.cloudinary.chunk-size-bytes:5242880}") int chunkSize
+    ) {
+        this.cloudinary = cloudinary;
+        this.chunkSize = Math.max(chunkSize, MIN_CHUNK_BYTES);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String store(String folder, String key, InputStream content, long size, String contentType, ProgressListener listener) throws IOException {
+        Map<String, Object> uploadResult = cloudinary.uploader().uploadLarge(
+                content,
+                ObjectUtils.asMap(
+                        "folder", folder,
+                        "public_id", key,
+                        "overwrite", true,
+                        "invalidate", true,
+                        "resource_type", "image"
+                ),
+                chunkSize,
+                (transferred, total) -> listener.onProgress(transferred, size > 0 ? size : total)
+        );
+
+        String uploadedPublicId = (String) uploadResult.get("public_id");
+        if (uploadedPublicId == null || uploadedPublicId.isBlank()) {
+            throw new IllegalStateException("Resposta inválida do Cloudinary ao enviar o arquivo.");
+        }
+
+        return uploadedPublicId;
+    }
+
+    @Override
+    public URL resolveUrl(String storedKey) {
+        String url = cloudinary.url()
+                .secure(true)
+                .resourceType("image")
+                .generate(storedKey);
+
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Falha ao gerar URL do documento no Cloudinary.", e);
+        }
+    }
+
+    @Override
+    public void delete(String storedKey) throws IOException {
+        cloudinary.uploader().destroy(storedKey, ObjectUtils.emptyMap());
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.server.infra.storage.local;
+
+import org.example.server.infra.storage.DocumentStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Armazenamento em disco para desenvolvimento e testes ({@code app.storage.type=local}).
+ * O conteúdo é copiado com {@link FileChannel#transferFrom} em blocos de {@code chunk-size-bytes}
+ * para um arquivo temporário e movido para o destino ao final, então leitores nunca veem arquivo parcial.
+ */
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalDocumentStorage implements DocumentStorage {
+
+    private final Path root;
+    private final long chunkSize;
+
+    public LocalDocumentStorage(
+            @Value("${app.storage.local.root:${java.io.tmpdir}/grota-storage}") String root,
+            @Value("${app.storage.local.chunk-size-bytes:65536}") long chunkSize
+    ) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        Files.createDirectories(this.root);
+    }
+
+    @Override
+    public String store(String folder, String key, InputStream content, long size, String contentType, ProgressListener listener) throws IOException {
+        String storedKey = folder + "/" + key;
+        Path target = resolve(storedKey);
+        Files.createDirectories(target.getParent());
+
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try (ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel destination = FileChannel.open(partial,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = destination.transferFrom(source, position, chunkSize)) > 0) {
+                position += transferred;
+                listener.onProgress(position, size);
+            }
+            destination.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return storedKey;
+    }
+
+    @Override
+    public URL resolveUrl(String storedKey) {
+        try {
+            return resolve(storedKey).toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Falha ao gerar URL do arquivo local.", e);
+        }
+    }
+
+    @Override
+    public void delete(String storedKey) throws IOException {
+        Files.deleteIfExists(resolve(storedKey));
+    }
+
+    public Path resolve(String storedKey) {
+        Path path = root.resolve(storedKey).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Chave de arquivo inválida: " + storedKey);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.server.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Último evento já consumido por um projetor, na ordem {@code (created_at, id)}. Atualizado na mesma
+ * transação dos rollups.
+ */
+@Entity
+@Table(name = "tb_analytics_watermark")
+public class AnalyticsWatermark {
+
+    @Id
+    @Column(length = 60)
+    private String name;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(name = "last_created_at")
+    private LocalDateTime lastCreatedAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public AnalyticsWatermark() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public LocalDateTime getLastCreatedAt() {
+        return lastCreatedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
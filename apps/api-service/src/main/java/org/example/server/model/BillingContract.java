@@ -17,7 +17,8 @@ import java.util.Objects;
 public class BillingContract {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_billing_contract_seq")
+    @SequenceGenerator(name = "tb_billing_contract_seq", sequenceName = "tb_billing_contract_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -10,11 +10,18 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tb_billing_installment")
+@Table(
+        name = "tb_billing_installment",
+        indexes = {
+                @Index(name = "idx_billing_installment_paid_due_date", columnList = "paid, due_date"),
+                @Index(name = "idx_billing_installment_contract_number", columnList = "contract_id, number")
+        }
+)
 public class BillingInstallment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_billing_installment_seq")
+    @SequenceGenerator(name = "tb_billing_installment_seq", sequenceName = "tb_billing_installment_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,6 +30,7 @@ public class BillingInstallment {
 
     private Integer number;
 
+    @Column(name = "due_date")
     private LocalDate dueDate;
 
     private BigDecimal amount;
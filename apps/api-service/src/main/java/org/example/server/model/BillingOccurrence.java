@@ -8,11 +8,12 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tb_billing_occurrence")
+@Table(name = "tb_billing_occurrence", indexes = @Index(name = "idx_billing_occurrence_contract_date", columnList = "contract_id, date DESC"))
 public class BillingOccurrence {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_billing_occurrence_seq")
+    @SequenceGenerator(name = "tb_billing_occurrence_seq", sequenceName = "tb_billing_occurrence_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,16 +1,28 @@
 package org.example.server.model;
 
 import jakarta.persistence.*;
+import org.example.server.infra.cache.CacheRegions;
+import org.example.server.util.LoginKeyNormalizer;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "tb_dealer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEALER)
+@Table(
+        name = "tb_dealer",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dealer_login_key", columnNames = "login_key")
+)
 public class Dealer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_dealer_seq")
+    @SequenceGenerator(name = "tb_dealer_seq", sequenceName = "tb_dealer_seq", allocationSize = 50)
     private Long id;
 
     private LocalDate birthData;
@@ -21,6 +33,9 @@ public class Dealer {
     @Column(length = 150, nullable = false, unique = true)
     private String enterprise;
 
+    @Column(name = "login_key", length = 150)
+    private String loginKey;
+
     private String fullNameEnterprise;
 
     private String cnpj;
@@ -39,6 +54,10 @@ public class Dealer {
 
     private String observation;
 
+    // Preenchido na exclusão; as linhas são apagadas depois pelo DealerPurgeJob
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
     @OneToOne(cascade = CascadeType.ALL, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -50,15 +69,19 @@ public class Dealer {
     private List<Document> documents;
 
     @OneToMany(mappedBy = "dealer", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEALER_COLLECTIONS)
     private List<Partner> partners;
 
     @OneToMany(mappedBy = "dealer", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEALER_COLLECTIONS)
     private List<Seller> sellers;
 
     @OneToMany(mappedBy = "dealer", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEALER_COLLECTIONS)
     private List<Manager> managers;
 
     @OneToMany(mappedBy = "dealer", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEALER_COLLECTIONS)
     private List<Operator> operators;
 
     public Dealer() {
@@ -67,7 +90,7 @@ public class Dealer {
     public Dealer(LocalDate birthData, String phone, String enterprise, String fullNameEnterprise, String cnpj, Address address, User user) {
         this.birthData = birthData;
         this.phone = phone;
-        this.enterprise = enterprise;
+        setEnterprise(enterprise);
         this.fullNameEnterprise = fullNameEnterprise;
         this.cnpj = cnpj;
         this.address = address;
@@ -103,7 +126,27 @@ public class Dealer {
     }
 
     public void setEnterprise(String enterprise) {
-        this.enterprise = enterprise;
+        if (!Objects.equals(this.enterprise, enterprise)) {
+            this.enterprise = enterprise;
+            assignLoginKey();
+        }
+    }
+
+    public String getLoginKey() {
+        return loginKey;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        assignLoginKey();
+    }
+
+    /**
+     * Recalcula {@code login_key} a partir da empresa; como em {@link User#assignLoginKey()}, um cadastro sem
+     * chave por colisão continua sem ela até trocar a empresa.
+     */
+    public void assignLoginKey() {
+        this.loginKey = LoginKeyNormalizer.normalize(enterprise);
     }
 
     public String getFullNameEnterprise() {
@@ -162,6 +205,14 @@ public class Dealer {
         this.observation = observation;
     }
 
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void markDeleted() {
+        this.deletedAt = Instant.now();
+    }
+
     public User getUser() {
         return user;
     }
@@ -0,0 +1,82 @@
+package org.example.server.model;
+
+import jakarta.persistence.*;
+import org.example.server.enums.DealerPurgeStage;
+
+import java.time.Instant;
+
+/**
+ * Andamento da remoção definitiva de um lojista excluído. A etapa e o total apagado são gravados na mesma
+ * transação de cada lote, então o job retoma do ponto em que parou. O registro fica após a conclusão
+ * (sem chave estrangeira para o lojista) para consulta do status.
+ */
+@Entity
+@Table(name = "tb_dealer_purge", indexes = @Index(name = "idx_dealer_purge_pending", columnList = "completed_at, requested_at"))
+public class DealerPurge {
+
+    @Id
+    @Column(name = "dealer_id")
+    private Long dealerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DealerPurgeStage stage;
+
+    @Column(nullable = false)
+    private long deletedRows;
+
+    @Column(name = "requested_at", nullable = false, updatable = false)
+    private Instant requestedAt;
+
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public DealerPurge() {
+    }
+
+    public DealerPurge(Long dealerId) {
+        this.dealerId = dealerId;
+        this.stage = DealerPurgeStage.values()[0];
+        this.requestedAt = Instant.now();
+        this.updatedAt = this.requestedAt;
+    }
+
+    public void recordProgress(int deleted, DealerPurgeStage nextStage) {
+        this.deletedRows += deleted;
+        this.stage = nextStage;
+        this.updatedAt = Instant.now();
+        if (nextStage == DealerPurgeStage.COMPLETED) {
+            this.completedAt = this.updatedAt;
+        }
+    }
+
+    public boolean isCompleted() {
+        return stage == DealerPurgeStage.COMPLETED;
+    }
+
+    public Long getDealerId() {
+        return dealerId;
+    }
+
+    public DealerPurgeStage getStage() {
+        return stage;
+    }
+
+    public long getDeletedRows() {
+        return deletedRows;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+}
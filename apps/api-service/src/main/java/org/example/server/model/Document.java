@@ -2,22 +2,31 @@ package org.example.server.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.example.server.enums.DocumentStorageStatus;
 import org.example.server.enums.DocumentType;
 import org.example.server.enums.ReviewStatus;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity(name = "tb_document")
+@Table(indexes = {
+        @Index(name = "idx_document_storage_status_next_upload", columnList = "storage_status, next_upload_at"),
+        @Index(name = "idx_document_content_hash", columnList = "content_hash"),
+        @Index(name = "idx_document_review_queue", columnList = "review_status, created_at, id"),
+        @Index(name = "idx_document_dealer_review_queue", columnList = "dealer_id, review_status, created_at")
+})
 public class Document {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_document_seq")
+    @SequenceGenerator(name = "tb_document_seq", sequenceName = "tb_document_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "document_type", nullable = false)
     private DocumentType documentType;
 
     @Column(nullable = false, length = 1024)
@@ -30,7 +39,7 @@ public class Document {
     private Long sizeBytes;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "review_status", nullable = false)
     private ReviewStatus reviewStatus;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -39,7 +48,36 @@ public class Document {
 
     private String reviewComment;
 
+    // Linhas anteriores ao envio assíncrono ficam com null, tratado como AVAILABLE
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_status", length = 20)
+    private DocumentStorageStatus storageStatus;
+
+    @Column(name = "staged_file", length = 120)
+    private String stagedFile;
+
+    @Column(name = "upload_attempts")
+    private Integer uploadAttempts;
+
+    @Column(name = "next_upload_at")
+    private Instant nextUploadAt;
+
+    @Column(name = "upload_error", length = 500)
+    private String uploadError;
+
+    // SHA-256 do conteúdo; liga o documento ao StoredObject compartilhado
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Tamanho recebido antes da normalização de imagem; sizeBytes passa a ser o tamanho armazenado
+    @Column(name = "original_size_bytes")
+    private Long originalSizeBytes;
+
+    @Column(name = "thumbnail_key", length = 1024)
+    private String thumbnailKey;
+
     @CreationTimestamp
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
@@ -140,6 +178,70 @@ public class Document {
         this.reviewComment = reviewComment;
     }
 
+    public DocumentStorageStatus getStorageStatus() {
+        return storageStatus != null ? storageStatus : DocumentStorageStatus.AVAILABLE;
+    }
+
+    public void setStorageStatus(DocumentStorageStatus storageStatus) {
+        this.storageStatus = storageStatus;
+    }
+
+    public String getStagedFile() {
+        return stagedFile;
+    }
+
+    public void setStagedFile(String stagedFile) {
+        this.stagedFile = stagedFile;
+    }
+
+    public int getUploadAttempts() {
+        return uploadAttempts != null ? uploadAttempts : 0;
+    }
+
+    public void setUploadAttempts(Integer uploadAttempts) {
+        this.uploadAttempts = uploadAttempts;
+    }
+
+    public Instant getNextUploadAt() {
+        return nextUploadAt;
+    }
+
+    public void setNextUploadAt(Instant nextUploadAt) {
+        this.nextUploadAt = nextUploadAt;
+    }
+
+    public String getUploadError() {
+        return uploadError;
+    }
+
+    public void setUploadError(String uploadError) {
+        this.uploadError = uploadError;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Long getOriginalSizeBytes() {
+        return originalSizeBytes;
+    }
+
+    public void setOriginalSizeBytes(Long originalSizeBytes) {
+        this.originalSizeBytes = originalSizeBytes;
+    }
+
+    public String getThumbnailKey() {
+        return thumbnailKey;
+    }
+
+    public void setThumbnailKey(String thumbnailKey) {
+        this.thumbnailKey = thumbnailKey;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
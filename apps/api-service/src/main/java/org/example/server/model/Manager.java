@@ -1,6 +1,9 @@
 package org.example.server.model;
 
 import jakarta.persistence.*;
+import org.example.server.infra.cache.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
@@ -9,11 +12,14 @@ import java.util.Objects;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MANAGER)
 @Table(name = "tb_manager")
 public class Manager {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_manager_seq")
+    @SequenceGenerator(name = "tb_manager_seq", sequenceName = "tb_manager_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -11,7 +11,8 @@ import java.util.Objects;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_notification_seq")
+    @SequenceGenerator(name = "tb_notification_seq", sequenceName = "tb_notification_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 120)
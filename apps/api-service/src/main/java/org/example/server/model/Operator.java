@@ -1,6 +1,9 @@
 package org.example.server.model;
 
 import jakarta.persistence.*;
+import org.example.server.infra.cache.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
@@ -9,11 +12,14 @@ import java.util.Objects;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.OPERATOR)
 @Table(name = "tb_operator")
 public class Operator {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_operator_seq")
+    @SequenceGenerator(name = "tb_operator_seq", sequenceName = "tb_operator_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
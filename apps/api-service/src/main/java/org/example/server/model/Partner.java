@@ -2,13 +2,19 @@ package org.example.server.model;
 
 import jakarta.persistence.*;
 import org.example.server.enums.PartnerType;
+import org.example.server.infra.cache.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PARTNER)
 @Table(name = "tb_partner")
 public class Partner {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_partner_seq")
+    @SequenceGenerator(name = "tb_partner_seq", sequenceName = "tb_partner_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 11)
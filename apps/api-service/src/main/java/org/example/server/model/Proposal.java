@@ -2,6 +2,7 @@ package org.example.server.model;
 
 import jakarta.persistence.*;
 import org.example.server.enums.ProposalStatus;
+import org.example.server.util.SearchNormalizer;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,11 +12,18 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tb_proposal")
+@Table(name = "tb_proposal", indexes = {
+        @Index(name = "idx_proposal_dealer_status_created", columnList = "dealer_id, status, created_at"),
+        @Index(name = "idx_proposal_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_proposal_customer_cpf", columnList = "customer_cpf"),
+        @Index(name = "idx_proposal_search_cpf", columnList = "search_cpf"),
+        @Index(name = "idx_proposal_search_plate", columnList = "search_plate")
+})
 public class Proposal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_proposal_seq")
+    @SequenceGenerator(name = "tb_proposal_seq", sequenceName = "tb_proposal_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,7 +37,7 @@ public class Proposal {
     @Column(nullable = false, length = 120)
     private String customerName;
 
-    @Column(nullable = false, length = 20)
+    @Column(name = "customer_cpf", nullable = false, length = 20)
     private String customerCpf;
 
     private LocalDate customerBirthDate;
@@ -70,6 +78,7 @@ public class Proposal {
     private Boolean vehicle0km = false;
 
     @Enumerated(EnumType.STRING)
+    @Column(name = "status")
     private ProposalStatus status = ProposalStatus.SUBMITTED;
 
     @Column(columnDefinition = "TEXT")
@@ -106,7 +115,18 @@ public class Proposal {
     @Column(columnDefinition = "TEXT")
     private String metadata;
 
+    // Formas normalizadas para a busca (ver SearchNormalizer), mantidas pelos setters
+    @Column(name = "search_name", length = 120)
+    private String searchName;
+
+    @Column(name = "search_cpf", length = 20)
+    private String searchCpf;
+
+    @Column(name = "search_plate", length = 10)
+    private String searchPlate;
+
     @CreationTimestamp
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
@@ -119,6 +139,10 @@ public class Proposal {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Dealer getDealer() {
         return dealer;
     }
@@ -141,6 +165,7 @@ public class Proposal {
 
     public void setCustomerName(String customerName) {
         this.customerName = customerName;
+        this.searchName = SearchNormalizer.name(customerName);
     }
 
     public String getCustomerCpf() {
@@ -149,6 +174,7 @@ public class Proposal {
 
     public void setCustomerCpf(String customerCpf) {
         this.customerCpf = customerCpf;
+        this.searchCpf = SearchNormalizer.digits(customerCpf);
     }
 
     public LocalDate getCustomerBirthDate() {
@@ -197,6 +223,16 @@ public class Proposal {
 
     public void setVehiclePlate(String vehiclePlate) {
         this.vehiclePlate = vehiclePlate;
+        this.searchPlate = SearchNormalizer.plate(vehiclePlate);
+    }
+
+    /**
+     * Recalcula as colunas de busca; usado no preenchimento de propostas gravadas antes delas existirem.
+     */
+    public void refreshSearchColumns() {
+        this.searchName = SearchNormalizer.name(customerName);
+        this.searchCpf = SearchNormalizer.digits(customerCpf);
+        this.searchPlate = SearchNormalizer.plate(vehiclePlate);
     }
 
     public String getFipeCode() {
@@ -375,14 +411,34 @@ public class Proposal {
         this.metadata = metadata;
     }
 
+    public String getSearchName() {
+        return searchName;
+    }
+
+    public String getSearchCpf() {
+        return searchCpf;
+    }
+
+    public String getSearchPlate() {
+        return searchPlate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
 
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
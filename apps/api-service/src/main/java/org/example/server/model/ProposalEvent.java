@@ -7,12 +7,17 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+/**
+ * Evento da linha do tempo da proposta. A tabela é particionada por mês em {@code created_at}
+ * (ver {@code ProposalEventPartitionJob}); por isso a chave primária no banco é {@code (id, created_at)}.
+ */
 @Entity
 @Table(name = "tb_proposal_event")
 public class ProposalEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_proposal_event_seq")
+    @SequenceGenerator(name = "tb_proposal_event_seq", sequenceName = "tb_proposal_event_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -37,7 +42,12 @@ public class ProposalEvent {
     @Column(columnDefinition = "TEXT")
     private String payload;
 
+    // Referência ao metadata em tb_proposal_event_metadata, no lugar de uma cópia dentro do payload
+    @Column(name = "metadata_hash", length = 64)
+    private String metadataHash;
+
     @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     public ProposalEvent() {
@@ -103,10 +113,22 @@ public class ProposalEvent {
         this.payload = payload;
     }
 
+    public String getMetadataHash() {
+        return metadataHash;
+    }
+
+    public void setMetadataHash(String metadataHash) {
+        this.metadataHash = metadataHash;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,39 @@
+package org.example.server.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Metadata enviado na criação da proposta, guardado uma única vez por conteúdo (SHA-256).
+ * Os eventos apontam para cá por {@code metadata_hash} em vez de copiar o texto no payload.
+ */
+@Entity
+@Table(name = "tb_proposal_event_metadata")
+public class ProposalEventMetadata {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public ProposalEventMetadata() {
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.server.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Rollup diário das transições de status de propostas, por lojista, vendedor e par de status.
+ * {@code statusFrom = "NEW"} marca a criação; lojista e vendedor ausentes são gravados como 0 para
+ * caberem na chave única usada pelo upsert. A duração é o tempo que a proposta passou em {@code statusFrom}.
+ * Preenchido só pelo ProposalFunnelProjectorJob.
+ */
+@Entity
+@Table(
+        name = "tb_proposal_funnel_daily",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_proposal_funnel_daily_key",
+                columnNames = {"day", "dealer_id", "seller_id", "status_from", "status_to"}
+        ),
+        indexes = @Index(name = "idx_proposal_funnel_daily_day", columnList = "day")
+)
+public class ProposalFunnelDaily {
+
+    public static final String CREATION = "NEW";
+    public static final long NONE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "dealer_id", nullable = false)
+    private long dealerId;
+
+    @Column(name = "seller_id", nullable = false)
+    private long sellerId;
+
+    @Column(name = "status_from", nullable = false, length = 20)
+    private String statusFrom;
+
+    @Column(name = "status_to", nullable = false, length = 20)
+    private String statusTo;
+
+    @Column(nullable = false)
+    private long transitions;
+
+    @Column(name = "total_seconds", nullable = false)
+    private long totalSeconds;
+
+    @Column(name = "bucket_le_1h", nullable = false)
+    private long bucketLe1h;
+
+    @Column(name = "bucket_le_6h", nullable = false)
+    private long bucketLe6h;
+
+    @Column(name = "bucket_le_1d", nullable = false)
+    private long bucketLe1d;
+
+    @Column(name = "bucket_le_3d", nullable = false)
+    private long bucketLe3d;
+
+    @Column(name = "bucket_le_7d", nullable = false)
+    private long bucketLe7d;
+
+    @Column(name = "bucket_gt_7d", nullable = false)
+    private long bucketGt7d;
+
+    public ProposalFunnelDaily() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public long getDealerId() {
+        return dealerId;
+    }
+
+    public long getSellerId() {
+        return sellerId;
+    }
+
+    public String getStatusFrom() {
+        return statusFrom;
+    }
+
+    public String getStatusTo() {
+        return statusTo;
+    }
+
+    public long getTransitions() {
+        return transitions;
+    }
+
+    public long getTotalSeconds() {
+        return totalSeconds;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.server.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status atual de cada proposta e desde quando, do ponto de vista do projetor do funil.
+ * Permite medir o tempo em cada status sem reler {@code tb_proposal_event}.
+ */
+@Entity
+@Table(name = "tb_proposal_funnel_state")
+public class ProposalFunnelState {
+
+    @Id
+    @Column(name = "proposal_id")
+    private Long proposalId;
+
+    @Column(name = "dealer_id", nullable = false)
+    private long dealerId;
+
+    @Column(name = "seller_id", nullable = false)
+    private long sellerId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "entered_at", nullable = false)
+    private LocalDateTime enteredAt;
+
+    public ProposalFunnelState() {
+    }
+
+    public Long getProposalId() {
+        return proposalId;
+    }
+
+    public long getDealerId() {
+        return dealerId;
+    }
+
+    public long getSellerId() {
+        return sellerId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getEnteredAt() {
+        return enteredAt;
+    }
+}
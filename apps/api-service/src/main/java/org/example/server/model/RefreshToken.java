@@ -5,19 +5,29 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
+@Table(
+        name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_token_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_token_expiry", columnList = "expiry_date")
+        }
+)
 public class RefreshToken {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(name = "token_hash", nullable = false, length = 64)
     private String tokenHash;
 
-    @OneToOne
-    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    @ManyToOne
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false)
+    @Column(name = "expiry_date", nullable = false)
     private Instant expiryDate;
 
     @Column(nullable = false)
@@ -25,6 +35,9 @@ public class RefreshToken {
 
     private Instant createdAt;
 
+    @Column(length = 255)
+    private String device;
+
     public RefreshToken() {
         this.createdAt = Instant.now();
     }
@@ -68,6 +81,14 @@ public class RefreshToken {
         return createdAt;
     }
 
+    public String getDevice() {
+        return device;
+    }
+
+    public void setDevice(String device) {
+        this.device = device;
+    }
+
     public boolean isRevoked() {
         return revoked;
     }
@@ -1,6 +1,9 @@
 package org.example.server.model;
 
 import jakarta.persistence.*;
+import org.example.server.infra.cache.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
@@ -9,10 +12,14 @@ import java.util.Objects;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SELLER)
 @Table(name = "tb_seller")
 public class Seller {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_seller_seq")
+    @SequenceGenerator(name = "tb_seller_seq", sequenceName = "tb_seller_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
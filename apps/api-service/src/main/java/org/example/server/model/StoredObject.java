@@ -0,0 +1,117 @@
+package org.example.server.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Objeto físico no armazenamento, identificado pelo SHA-256 do conteúdo.
+ * Vários documentos podem apontar para o mesmo objeto; {@code refCount} conta quantos.
+ */
+@Entity
+@Table(
+        name = "tb_stored_object",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_object_content_hash", columnNames = "content_hash")
+)
+public class StoredObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_stored_object_seq")
+    @SequenceGenerator(name = "tb_stored_object_seq", sequenceName = "tb_stored_object_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // Nulo enquanto o primeiro upload deste conteúdo não termina
+    @Column(name = "storage_key", length = 1024)
+    private String storageKey;
+
+    private Long sizeBytes;
+
+    // O que de fato foi gravado: pode diferir do original quando a imagem foi normalizada
+    @Column(name = "stored_size_bytes")
+    private Long storedSizeBytes;
+
+    @Column(name = "stored_content_type", length = 100)
+    private String storedContentType;
+
+    @Column(name = "thumbnail_key", length = 1024)
+    private String thumbnailKey;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public StoredObject() {
+    }
+
+    public StoredObject(String contentHash, Long sizeBytes) {
+        this.contentHash = contentHash;
+        this.sizeBytes = sizeBytes;
+        this.refCount = 1;
+        this.createdAt = Instant.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+
+    public void setStorageKey(String storageKey) {
+        this.storageKey = storageKey;
+    }
+
+    public boolean isStored() {
+        return storageKey != null;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public Long getStoredSizeBytes() {
+        return storedSizeBytes;
+    }
+
+    public void setStoredSizeBytes(Long storedSizeBytes) {
+        this.storedSizeBytes = storedSizeBytes;
+    }
+
+    public String getStoredContentType() {
+        return storedContentType;
+    }
+
+    public void setStoredContentType(String storedContentType) {
+        this.storedContentType = storedContentType;
+    }
+
+    public String getThumbnailKey() {
+        return thumbnailKey;
+    }
+
+    public void setThumbnailKey(String thumbnailKey) {
+        this.thumbnailKey = thumbnailKey;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(int refCount) {
+        this.refCount = refCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
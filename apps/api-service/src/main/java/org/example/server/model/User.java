@@ -4,6 +4,10 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import org.example.server.enums.UserRole;
 import org.example.server.enums.UserStatus;
+import org.example.server.infra.cache.CacheRegions;
+import org.example.server.util.LoginKeyNormalizer;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -14,11 +18,17 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tb_user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
+@Table(
+        name = "tb_user",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_login_key", columnNames = "login_key")
+)
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_user_seq")
+    @SequenceGenerator(name = "tb_user_seq", sequenceName = "tb_user_seq", allocationSize = 50)
     private Long id;
 
     private String fullName;
@@ -26,6 +36,9 @@ public class User implements UserDetails {
     @Column(nullable = true, unique = true, length = 150)
     private String email;
 
+    @Column(name = "login_key", length = 150)
+    private String loginKey;
+
     @Column(nullable = false)
     private String password;
 
@@ -62,13 +75,22 @@ public class User implements UserDetails {
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        assignLoginKey();
+    }
+
+    /**
+     * Recalcula {@code login_key} a partir do e-mail. Cadastros antigos sem chave só a recebem por aqui (pelo
+     * {@code LoginKeyBackfillJob}, quando ela está livre) ou trocando o e-mail, nunca numa atualização qualquer.
+     */
+    public void assignLoginKey() {
+        this.loginKey = LoginKeyNormalizer.normalize(email);
     }
 
     public User() {
     }
 
     public User(String email, String password) {
-        this.email = email;
+        setEmail(email);
         this.password = password;
     }
 
@@ -77,6 +99,23 @@ public class User implements UserDetails {
         clearVerificationCode();
     }
 
+    /**
+     * Bloqueia o login e os tokens já emitidos; usado quando o lojista ao qual o usuário pertence é excluído.
+     */
+    public void disable() {
+        this.status = UserStatus.INATIVO;
+    }
+
+    /**
+     * Mesma regra da busca antiga de login: e-mail exato ou empresa do lojista sem diferenciar maiúsculas.
+     */
+    public boolean matchesLoginIdentifier(String identifier) {
+        if (identifier.equals(this.email)) {
+            return true;
+        }
+        return this.dealer != null && identifier.equalsIgnoreCase(this.dealer.getEnterprise());
+    }
+
     public void generateVerificationCode(String code, Duration validity) {
         this.verificationCode = code;
         this.codeExpiration = LocalDateTime.now().plus(validity);
@@ -131,7 +170,14 @@ public class User implements UserDetails {
     }
 
     public void setEmail(String email) {
-        this.email = email;
+        if (!Objects.equals(this.email, email)) {
+            this.email = email;
+            assignLoginKey();
+        }
+    }
+
+    public String getLoginKey() {
+        return loginKey;
     }
 
     public String getPassword() {
@@ -231,7 +277,7 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return UserDetails.super.isEnabled();
+        return this.status != UserStatus.INATIVO;
     }
 
     @Override
@@ -15,7 +15,8 @@ import java.util.Objects;
 public class Vehicle {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_vehicle_seq")
+    @SequenceGenerator(name = "tb_vehicle_seq", sequenceName = "tb_vehicle_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
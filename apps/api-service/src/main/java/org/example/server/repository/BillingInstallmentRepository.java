@@ -1,9 +1,14 @@
 package org.example.server.repository;
 
+import org.example.server.dto.billing.BillingDunningTargetDTO;
 import org.example.server.model.BillingContract;
 import org.example.server.model.BillingInstallment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +16,25 @@ public interface BillingInstallmentRepository extends JpaRepository<BillingInsta
     List<BillingInstallment> findByContractOrderByNumberAsc(BillingContract contract);
 
     Optional<BillingInstallment> findByContractAndNumber(BillingContract contract, Integer number);
+
+    /**
+     * Parcelas em aberto com vencimento no intervalo, paginadas por id (keyset).
+     * Usa o índice (paid, due_date) em vez de percorrer os contratos.
+     */
+    @Query("""
+            SELECT new org.example.server.dto.billing.BillingDunningTargetDTO(
+                i.id, c.id, c.contractNumber, i.number, i.dueDate, i.amount, c.customerName, c.customerEmail)
+            FROM BillingInstallment i JOIN i.contract c
+            WHERE i.paid = false
+              AND i.dueDate BETWEEN :from AND :to
+              AND i.id > :afterId
+              AND c.customerEmail IS NOT NULL
+            ORDER BY i.id
+            """)
+    List<BillingDunningTargetDTO> findDunningTargets(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,13 @@
+package org.example.server.repository;
+
+import org.example.server.model.BillingOccurrence;
+
+import java.util.List;
+
+public interface BillingOccurrenceBatchRepository {
+
+    /**
+     * Insere as ocorrências em batch JDBC. Cada ocorrência precisa ter o contrato preenchido (ao menos o id).
+     */
+    void insertAll(List<BillingOccurrence> occurrences);
+}
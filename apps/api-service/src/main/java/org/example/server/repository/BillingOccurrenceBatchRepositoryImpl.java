@@ -0,0 +1,38 @@
+package org.example.server.repository;
+
+import org.example.server.model.BillingOccurrence;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class BillingOccurrenceBatchRepositoryImpl implements BillingOccurrenceBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_billing_occurrence (contract_id, date, contact, note, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    BillingOccurrenceBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<BillingOccurrence> occurrences) {
+        if (occurrences.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, occurrences, occurrences.size(), (ps, occurrence) -> {
+            ps.setLong(1, occurrence.getContract().getId());
+            ps.setDate(2, Date.valueOf(occurrence.getDate()));
+            ps.setString(3, occurrence.getContact());
+            ps.setString(4, occurrence.getNote());
+            ps.setTimestamp(5, now);
+        });
+    }
+}
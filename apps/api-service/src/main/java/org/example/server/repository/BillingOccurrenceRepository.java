@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
-public interface BillingOccurrenceRepository extends JpaRepository<BillingOccurrence, Long> {
+public interface BillingOccurrenceRepository extends JpaRepository<BillingOccurrence, Long>, BillingOccurrenceBatchRepository {
     List<BillingOccurrence> findByContractOrderByDateDesc(BillingContract contract);
 }
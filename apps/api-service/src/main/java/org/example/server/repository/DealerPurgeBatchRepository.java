@@ -0,0 +1,24 @@
+package org.example.server.repository;
+
+import org.example.server.enums.DealerPurgeStage;
+
+import java.util.List;
+
+public interface DealerPurgeBatchRepository {
+
+    /**
+     * Apaga até {@code limit} linhas do lojista na tabela da etapa com um único DELETE por tabela.
+     * Nas etapas de vendedores, gerentes, operadores e do próprio lojista, apaga também os usuários
+     * vinculados e seus refresh tokens. Devolve quantas linhas da tabela da etapa foram removidas.
+     */
+    int deleteChunk(DealerPurgeStage stage, long dealerId, int limit);
+
+    /**
+     * Apaga até {@code limit} documentos do lojista e devolve o id e o hash de conteúdo de cada um
+     * (hash nulo quando o documento não chegou a ter conteúdo).
+     */
+    List<DeletedDocument> deleteDocumentChunk(long dealerId, int limit);
+
+    record DeletedDocument(Long id, String contentHash) {
+    }
+}
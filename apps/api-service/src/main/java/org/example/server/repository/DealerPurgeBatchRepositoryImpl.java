@@ -0,0 +1,79 @@
+package org.example.server.repository;
+
+import org.example.server.enums.DealerPurgeStage;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+class DealerPurgeBatchRepositoryImpl implements DealerPurgeBatchRepository {
+
+    private static final String DELETE_PROPOSAL_EVENTS_SQL = """
+            DELETE FROM tb_proposal_event WHERE id IN (
+                SELECT e.id FROM tb_proposal_event e JOIN tb_proposal p ON p.id = e.proposal_id
+                WHERE p.dealer_id = ? LIMIT ?)
+            """;
+
+    private static final String DELETE_DOCUMENTS_SQL = """
+            DELETE FROM tb_document WHERE id IN (SELECT id FROM tb_document WHERE dealer_id = ? LIMIT ?)
+            RETURNING id, content_hash
+            """;
+
+    private static final String DELETE_DEALER_SQL = "DELETE FROM tb_dealer WHERE id = ? RETURNING user_id";
+
+    private static final String DELETE_REFRESH_TOKENS_SQL = "DELETE FROM refresh_token WHERE user_id = ANY (?)";
+
+    private static final String DELETE_USERS_SQL = "DELETE FROM tb_user WHERE id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    DealerPurgeBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int deleteChunk(DealerPurgeStage stage, long dealerId, int limit) {
+        return switch (stage) {
+            case PROPOSAL_EVENTS -> jdbcTemplate.update(DELETE_PROPOSAL_EVENTS_SQL, dealerId, limit);
+            case PROPOSALS -> deleteByDealer("tb_proposal", dealerId, limit);
+            case VEHICLES -> deleteByDealer("tb_vehicle", dealerId, limit);
+            case PARTNERS -> deleteByDealer("tb_partner", dealerId, limit);
+            case SELLERS -> deleteStaffByDealer("tb_seller", dealerId, limit);
+            case MANAGERS -> deleteStaffByDealer("tb_manager", dealerId, limit);
+            case OPERATORS -> deleteStaffByDealer("tb_operator", dealerId, limit);
+            case DEALER -> deleteUsers(jdbcTemplate.queryForList(DELETE_DEALER_SQL, Long.class, dealerId));
+            case DOCUMENTS -> throw new IllegalArgumentException(
+                    "Documentos são apagados por deleteDocumentChunk, que devolve os hashes a liberar.");
+            case COMPLETED -> 0;
+        };
+    }
+
+    @Override
+    public List<DeletedDocument> deleteDocumentChunk(long dealerId, int limit) {
+        return jdbcTemplate.query(DELETE_DOCUMENTS_SQL,
+                (rs, rowNum) -> new DeletedDocument(rs.getLong("id"), rs.getString("content_hash")), dealerId, limit);
+    }
+
+    private int deleteByDealer(String table, long dealerId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table + " WHERE dealer_id = ? LIMIT ?)",
+                dealerId, limit);
+    }
+
+    private int deleteStaffByDealer(String table, long dealerId, int limit) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table + " WHERE dealer_id = ? LIMIT ?)"
+                        + " RETURNING user_id",
+                Long.class, dealerId, limit);
+        return deleteUsers(userIds);
+    }
+
+    private int deleteUsers(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = userIds.toArray(Long[]::new);
+        jdbcTemplate.update(DELETE_REFRESH_TOKENS_SQL, (Object) ids);
+        jdbcTemplate.update(DELETE_USERS_SQL, (Object) ids);
+        return userIds.size();
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.server.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.server.model.DealerPurge;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DealerPurgeRepository extends JpaRepository<DealerPurge, Long>, DealerPurgeBatchRepository {
+
+    @Query("SELECT p.dealerId FROM DealerPurge p WHERE p.completedAt IS NULL ORDER BY p.requestedAt")
+    List<Long> findPendingDealerIds(Pageable pageable);
+
+    // Trava a linha de andamento: duas instâncias não processam o mesmo lote
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM DealerPurge p WHERE p.dealerId = :dealerId")
+    Optional<DealerPurge> findForUpdate(@Param("dealerId") Long dealerId);
+}
@@ -1,13 +1,85 @@
 package org.example.server.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.server.dto.dealer.DealerDetailsResponseDTO;
+import org.example.server.dto.dealer.DealerRegistrationResponseDTO;
+import org.example.server.infra.cache.CacheRegions;
 import org.example.server.model.Dealer;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface DealerRepository extends JpaRepository<Dealer, Long> {
     boolean existsByPhone(String phone);
-    Optional<Dealer> findByUserId(Long id);
-    boolean existsByEnterpriseIgnoreCase(String enterprise);
-    Optional<Dealer> findByEnterpriseIgnoreCase(String enterprise);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.STAFF_QUERIES)
+    })
+    @Query("SELECT d FROM Dealer d WHERE d.user.id = :id AND d.deletedAt IS NULL")
+    Optional<Dealer> findByUserId(@Param("id") Long id);
+
+    @Query("SELECT d FROM Dealer d WHERE d.id = :id AND d.deletedAt IS NULL")
+    Optional<Dealer> findActiveById(@Param("id") Long id);
+
+    @Query("SELECT d FROM Dealer d WHERE d.id IN :ids AND d.deletedAt IS NULL")
+    List<Dealer> findActiveByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COUNT(d) > 0 FROM Dealer d WHERE d.id = :id AND d.deletedAt IS NULL")
+    boolean existsActiveById(@Param("id") Long id);
+    boolean existsByLoginKey(String loginKey);
+    Optional<Dealer> findByLoginKey(String loginKey);
+    List<Dealer> findByLoginKeyIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT d.loginKey FROM Dealer d WHERE d.loginKey IN :loginKeys")
+    Set<String> findExistingLoginKeys(@Param("loginKeys") Collection<String> loginKeys);
+
+    @Query("""
+            SELECT new org.example.server.dto.dealer.DealerRegistrationResponseDTO(
+                d.id, u.fullName, d.fullNameEnterprise, d.cnpj, d.referenceCode, d.phone, d.enterprise, d.logoUrl,
+                u.status, u.createdAt)
+            FROM Dealer d JOIN d.user u
+            WHERE d.deletedAt IS NULL
+            ORDER BY d.enterprise, d.id
+            """)
+    List<DealerRegistrationResponseDTO> findDirectoryEntries();
+
+    /**
+     * Lojista do usuário, na ordem: dono do lojista, vendedor, gerente, operador.
+     */
+    @Query(value = """
+            SELECT candidate.dealer_id FROM (
+                SELECT d.id AS dealer_id, 0 AS priority FROM tb_dealer d WHERE d.user_id = :userId
+                UNION ALL
+                SELECT s.dealer_id, 1 FROM tb_seller s WHERE s.user_id = :userId AND s.dealer_id IS NOT NULL
+                UNION ALL
+                SELECT m.dealer_id, 2 FROM tb_manager m WHERE m.user_id = :userId AND m.dealer_id IS NOT NULL
+                UNION ALL
+                SELECT o.dealer_id, 3 FROM tb_operator o WHERE o.user_id = :userId AND o.dealer_id IS NOT NULL
+            ) candidate
+            JOIN tb_dealer active ON active.id = candidate.dealer_id AND active.deleted_at IS NULL
+            ORDER BY candidate.priority
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<Long> findDealerIdForUser(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new org.example.server.dto.dealer.DealerDetailsResponseDTO(
+                d.id, u.fullName, u.email, d.phone, d.enterprise, d.referenceCode, d.logoUrl, u.status,
+                d.fullNameEnterprise, d.birthData, d.cnpj,
+                d.address.street, d.address.number, d.address.complement, d.address.neighborhood,
+                d.address.city, d.address.state, d.address.zipCode,
+                u.createdAt)
+            FROM Dealer d JOIN d.user u
+            WHERE d.id = :id AND d.deletedAt IS NULL
+            """)
+    Optional<DealerDetailsResponseDTO> findDetailsById(@Param("id") Long id);
 }
@@ -0,0 +1,83 @@
+package org.example.server.repository;
+
+import org.example.server.model.Document;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class DocumentBatchRepositoryImpl implements DocumentBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_document
+                (document_type, s3key, document_name, content_type, size_bytes, review_status, dealer_id, review_comment,
+                 storage_status, staged_file, upload_attempts, next_upload_at, content_hash, original_size_bytes,
+                 thumbnail_key, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    DocumentBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Document document = documents.get(i);
+                        if (document.getCreatedAt() == null) {
+                            document.setCreatedAt(now);
+                        }
+                        document.setUpdatedAt(now);
+
+                        ps.setString(1, document.getDocumentType().name());
+                        ps.setString(2, document.getS3Key());
+                        ps.setString(3, document.getDocumentName());
+                        ps.setString(4, document.getContentType());
+                        ps.setObject(5, document.getSizeBytes(), Types.BIGINT);
+                        ps.setString(6, document.getReviewStatus().name());
+                        ps.setLong(7, document.getDealer().getId());
+                        ps.setString(8, document.getReviewComment());
+                        ps.setString(9, document.getStorageStatus() != null ? document.getStorageStatus().name() : null);
+                        ps.setString(10, document.getStagedFile());
+                        ps.setObject(11, document.getUploadAttempts(), Types.INTEGER);
+                        ps.setTimestamp(12, document.getNextUploadAt() != null ? Timestamp.from(document.getNextUploadAt()) : null);
+                        ps.setString(13, document.getContentHash());
+                        ps.setObject(14, document.getOriginalSizeBytes(), Types.BIGINT);
+                        ps.setString(15, document.getThumbnailKey());
+                        ps.setTimestamp(16, Timestamp.valueOf(document.getCreatedAt()));
+                        ps.setTimestamp(17, Timestamp.valueOf(document.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return documents.size();
+                    }
+                },
+                keys
+        );
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < documents.size(); i++) {
+            documents.get(i).setId(((Number) generated.get(i).get("id")).longValue());
+        }
+    }
+}
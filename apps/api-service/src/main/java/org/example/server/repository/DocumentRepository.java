@@ -1,15 +1,69 @@
 package org.example.server.repository;
 
+import org.example.server.dto.document.DocumentAccessDTO;
 import org.example.server.dto.document.DocumentResponseDTO;
+import org.example.server.dto.document.ReviewStatusCountDTO;
+import org.example.server.enums.DocumentStorageStatus;
 import org.example.server.enums.DocumentType;
 import org.example.server.model.Document;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, DocumentReviewQueueRepository, DocumentBatchRepository {
     List<Document>findByDealer_UserId(Long id);
     boolean existsByDealerIdAndDocumentType(Long dealerId, DocumentType documentType);
     List<DocumentResponseDTO> findDocumentsByDealerId(Long id);
     void deleteByDealerId(Long dealerId);
+
+    @Query("SELECT DISTINCT d.documentType FROM tb_document d WHERE d.dealer.id = :dealerId")
+    Set<DocumentType> findDocumentTypesByDealerId(@Param("dealerId") Long dealerId);
+
+    @Query("""
+            SELECT new org.example.server.dto.document.ReviewStatusCountDTO(d.reviewStatus, COUNT(d))
+            FROM tb_document d JOIN d.dealer dl
+            WHERE dl.deletedAt IS NULL
+            GROUP BY d.reviewStatus
+            """)
+    List<ReviewStatusCountDTO> countByReviewStatus();
+
+    List<Document> findByContentHashAndStorageStatus(String contentHash, DocumentStorageStatus storageStatus);
+
+    @Query("SELECT d.id FROM tb_document d WHERE d.dealer.id = :dealerId")
+    List<Long> findIdsByDealerId(@Param("dealerId") Long dealerId);
+
+    @Query("SELECT d.contentHash FROM tb_document d WHERE d.dealer.id = :dealerId AND d.contentHash IS NOT NULL")
+    List<String> findContentHashesByDealerId(@Param("dealerId") Long dealerId);
+
+    @Query("""
+            SELECT new org.example.server.dto.document.DocumentAccessDTO(d.id, dl.user.id, d.s3Key, d.thumbnailKey, d.storageStatus)
+            FROM tb_document d JOIN d.dealer dl
+            WHERE d.id = :id
+            """)
+    Optional<DocumentAccessDTO> findAccessById(@Param("id") Long id);
+
+    @Query("""
+            SELECT new org.example.server.dto.document.DocumentAccessDTO(d.id, dl.user.id, d.s3Key, d.thumbnailKey, d.storageStatus)
+            FROM tb_document d JOIN d.dealer dl
+            WHERE d.id IN :ids
+            """)
+    List<DocumentAccessDTO> findAccessByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT d.id FROM tb_document d
+            WHERE d.storageStatus = :status AND d.nextUploadAt <= :now
+            ORDER BY d.nextUploadAt
+            """)
+    List<Long> findIdsReadyForUpload(
+            @Param("status") DocumentStorageStatus status,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
 }
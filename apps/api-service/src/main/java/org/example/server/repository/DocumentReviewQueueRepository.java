@@ -0,0 +1,14 @@
+package org.example.server.repository;
+
+import org.example.server.dto.document.DocumentReviewQueueFilter;
+import org.example.server.dto.document.DocumentReviewQueueItemDTO;
+
+import java.util.List;
+
+public interface DocumentReviewQueueRepository {
+
+    /**
+     * Próxima página da fila de revisão, dos documentos mais antigos para os mais novos.
+     */
+    List<DocumentReviewQueueItemDTO> findReviewQueue(DocumentReviewQueueFilter filter, int limit);
+}
@@ -0,0 +1,59 @@
+package org.example.server.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.example.server.dto.document.DocumentReviewQueueFilter;
+import org.example.server.dto.document.DocumentReviewQueueItemDTO;
+
+import java.util.List;
+
+/**
+ * Monta a consulta só com os filtros informados, para o planner usar o índice
+ * (review_status, created_at, id) ou (dealer_id, review_status, created_at) em vez de um plano genérico
+ * com {@code :param IS NULL OR ...}.
+ */
+class DocumentReviewQueueRepositoryImpl implements DocumentReviewQueueRepository {
+
+    private final EntityManager entityManager;
+
+    DocumentReviewQueueRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<DocumentReviewQueueItemDTO> findReviewQueue(DocumentReviewQueueFilter filter, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                SELECT new org.example.server.dto.document.DocumentReviewQueueItemDTO(
+                    d.id, d.documentType, d.documentName, d.contentType, d.sizeBytes, d.reviewStatus, d.storageStatus,
+                    CASE WHEN d.thumbnailKey IS NOT NULL THEN true ELSE false END,
+                    dl.id, dl.enterprise, d.createdAt)
+                FROM tb_document d JOIN d.dealer dl
+                WHERE d.reviewStatus = :reviewStatus AND dl.deletedAt IS NULL
+                """);
+        if (filter.documentType() != null) {
+            jpql.append(" AND d.documentType = :documentType");
+        }
+        if (filter.dealerId() != null) {
+            jpql.append(" AND dl.id = :dealerId");
+        }
+        if (filter.afterCreatedAt() != null) {
+            jpql.append(" AND (d.createdAt > :afterCreatedAt OR (d.createdAt = :afterCreatedAt AND d.id > :afterId))");
+        }
+        jpql.append(" ORDER BY d.createdAt, d.id");
+
+        TypedQuery<DocumentReviewQueueItemDTO> query = entityManager.createQuery(jpql.toString(), DocumentReviewQueueItemDTO.class)
+                .setParameter("reviewStatus", filter.reviewStatus())
+                .setMaxResults(limit);
+        if (filter.documentType() != null) {
+            query.setParameter("documentType", filter.documentType());
+        }
+        if (filter.dealerId() != null) {
+            query.setParameter("dealerId", filter.dealerId());
+        }
+        if (filter.afterCreatedAt() != null) {
+            query.setParameter("afterCreatedAt", filter.afterCreatedAt());
+            query.setParameter("afterId", filter.afterId());
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.server.repository;
+
+import org.example.server.model.EmailOutbox;
+
+import java.util.List;
+
+public interface EmailOutboxBatchRepository {
+
+    /**
+     * Insere a mensagem se ainda não houver outra com a mesma chave de deduplicação.
+     * Devolve {@code false} quando a chave já existia.
+     */
+    boolean insertIfAbsent(EmailOutbox email);
+
+    /**
+     * Insere as mensagens em batch JDBC, ignorando chaves de deduplicação já gravadas, e devolve as que
+     * entraram de fato. Os ids gerados não são devolvidos às entidades.
+     */
+    List<EmailOutbox> insertAll(List<EmailOutbox> emails);
+}
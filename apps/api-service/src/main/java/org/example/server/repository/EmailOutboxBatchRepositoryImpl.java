@@ -0,0 +1,58 @@
+package org.example.server.repository;
+
+import org.example.server.model.EmailOutbox;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+class EmailOutboxBatchRepositoryImpl implements EmailOutboxBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_email_outbox
+                (dedup_key, recipient, subject, template_name, variables, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)
+            ON CONFLICT (dedup_key) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    EmailOutboxBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean insertIfAbsent(EmailOutbox email) {
+        return jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, email)) == 1;
+    }
+
+    @Override
+    public List<EmailOutbox> insertAll(List<EmailOutbox> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        // contagem por linha: 0 quando a chave já existia (exige reWriteBatchedInserts desligado, o padrão do driver)
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, emails, emails.size(), EmailOutboxBatchRepositoryImpl::bind);
+        List<EmailOutbox> inserted = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (counts[0][i] != 0) {
+                inserted.add(emails.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    private static void bind(PreparedStatement ps, EmailOutbox email) throws SQLException {
+        ps.setString(1, email.getDedupKey());
+        ps.setString(2, email.getRecipient());
+        ps.setString(3, email.getSubject());
+        ps.setString(4, email.getTemplateName());
+        ps.setString(5, email.getVariables());
+        ps.setString(6, email.getStatus().name());
+        ps.setTimestamp(7, Timestamp.from(email.getNextAttemptAt()));
+        ps.setTimestamp(8, Timestamp.from(email.getCreatedAt()));
+    }
+}
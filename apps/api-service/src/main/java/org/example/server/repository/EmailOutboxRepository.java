@@ -0,0 +1,41 @@
+package org.example.server.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.server.enums.EmailOutboxStatus;
+import org.example.server.model.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long>, EmailOutboxBatchRepository {
+
+    long countByStatus(EmailOutboxStatus status);
+
+    /**
+     * Seleciona mensagens prontas para envio ignorando linhas já travadas por outra réplica
+     * (lock timeout -2 = SKIP LOCKED no Hibernate).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<EmailOutbox> findReadyForUpdate(
+            @Param("status") EmailOutboxStatus status,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE EmailOutbox e SET e.status = org.example.server.enums.EmailOutboxStatus.PENDING, e.claimedAt = null
+            WHERE e.status = org.example.server.enums.EmailOutboxStatus.SENDING AND e.claimedAt < :before
+            """)
+    int releaseStaleClaims(@Param("before") Instant before);
+}
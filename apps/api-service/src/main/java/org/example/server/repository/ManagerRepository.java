@@ -1,12 +1,26 @@
 package org.example.server.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.server.infra.cache.CacheRegions;
 import org.example.server.model.Manager;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     boolean existsByPhone(String phone);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.STAFF_QUERIES)
+    })
     List<Manager> findByDealerId(Long dealerId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.STAFF_QUERIES)
+    })
     java.util.Optional<Manager> findByUserId(Long userId);
 }
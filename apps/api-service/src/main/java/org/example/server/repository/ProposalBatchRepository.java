@@ -0,0 +1,14 @@
+package org.example.server.repository;
+
+import org.example.server.model.Proposal;
+
+import java.util.List;
+
+public interface ProposalBatchRepository {
+
+    /**
+     * Insere as propostas em um único batch JDBC e preenche o id gerado em cada entidade.
+     * As entidades não ficam gerenciadas pelo EntityManager.
+     */
+    void insertAll(List<Proposal> proposals);
+}
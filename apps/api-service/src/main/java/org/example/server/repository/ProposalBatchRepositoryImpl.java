@@ -0,0 +1,106 @@
+package org.example.server.repository;
+
+import org.example.server.model.Proposal;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class ProposalBatchRepositoryImpl implements ProposalBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_proposal
+                (dealer_id, seller_id, customer_name, customer_cpf, customer_birth_date, customer_email, customer_phone,
+                 cnh_category, has_cnh, vehicle_plate, fipe_code, fipe_value, vehicle_brand, vehicle_model, vehicle_year,
+                 down_payment_value, financed_value, term_months, vehicle0km, status, notes, marital_status, cep, address,
+                 address_number, address_complement, neighborhood, uf, city, income, other_incomes, metadata,
+                 search_name, search_cpf, search_plate, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProposalBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<Proposal> proposals) {
+        if (proposals.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Proposal proposal = proposals.get(i);
+                        if (proposal.getCreatedAt() == null) {
+                            proposal.setCreatedAt(now);
+                        }
+                        proposal.setUpdatedAt(now);
+
+                        ps.setObject(1, proposal.getDealer() != null ? proposal.getDealer().getId() : null, Types.BIGINT);
+                        ps.setObject(2, proposal.getSeller() != null ? proposal.getSeller().getId() : null, Types.BIGINT);
+                        ps.setString(3, proposal.getCustomerName());
+                        ps.setString(4, proposal.getCustomerCpf());
+                        ps.setDate(5, proposal.getCustomerBirthDate() != null ? Date.valueOf(proposal.getCustomerBirthDate()) : null);
+                        ps.setString(6, proposal.getCustomerEmail());
+                        ps.setString(7, proposal.getCustomerPhone());
+                        ps.setString(8, proposal.getCnhCategory());
+                        ps.setBoolean(9, proposal.isHasCnh());
+                        ps.setString(10, proposal.getVehiclePlate());
+                        ps.setString(11, proposal.getFipeCode());
+                        ps.setBigDecimal(12, proposal.getFipeValue());
+                        ps.setString(13, proposal.getVehicleBrand());
+                        ps.setString(14, proposal.getVehicleModel());
+                        ps.setObject(15, proposal.getVehicleYear(), Types.INTEGER);
+                        ps.setBigDecimal(16, proposal.getDownPaymentValue());
+                        ps.setBigDecimal(17, proposal.getFinancedValue());
+                        ps.setObject(18, proposal.getTermMonths(), Types.INTEGER);
+                        ps.setObject(19, proposal.getVehicle0km(), Types.BOOLEAN);
+                        ps.setString(20, proposal.getStatus().name());
+                        ps.setString(21, proposal.getNotes());
+                        ps.setString(22, proposal.getMaritalStatus());
+                        ps.setString(23, proposal.getCep());
+                        ps.setString(24, proposal.getAddress());
+                        ps.setString(25, proposal.getAddressNumber());
+                        ps.setString(26, proposal.getAddressComplement());
+                        ps.setString(27, proposal.getNeighborhood());
+                        ps.setString(28, proposal.getUf());
+                        ps.setString(29, proposal.getCity());
+                        ps.setBigDecimal(30, proposal.getIncome());
+                        ps.setBigDecimal(31, proposal.getOtherIncomes());
+                        ps.setString(32, proposal.getMetadata());
+                        ps.setString(33, proposal.getSearchName());
+                        ps.setString(34, proposal.getSearchCpf());
+                        ps.setString(35, proposal.getSearchPlate());
+                        ps.setTimestamp(36, Timestamp.valueOf(proposal.getCreatedAt()));
+                        ps.setTimestamp(37, Timestamp.valueOf(proposal.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return proposals.size();
+                    }
+                },
+                keys
+        );
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < proposals.size(); i++) {
+            proposals.get(i).setId(((Number) generated.get(i).get("id")).longValue());
+        }
+    }
+}
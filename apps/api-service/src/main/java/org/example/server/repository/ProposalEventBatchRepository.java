@@ -0,0 +1,13 @@
+package org.example.server.repository;
+
+import org.example.server.model.ProposalEvent;
+
+import java.util.List;
+
+public interface ProposalEventBatchRepository {
+
+    /**
+     * Insere os eventos em um único batch JDBC. Os ids gerados não são lidos de volta.
+     */
+    void insertAll(List<ProposalEvent> events);
+}
@@ -0,0 +1,45 @@
+package org.example.server.repository;
+
+import org.example.server.model.ProposalEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ProposalEventBatchRepositoryImpl implements ProposalEventBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_proposal_event
+                (proposal_id, type, status_from, status_to, actor, note, payload, metadata_hash, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProposalEventBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<ProposalEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            if (event.getCreatedAt() == null) {
+                event.setCreatedAt(now);
+            }
+            ps.setLong(1, event.getProposal().getId());
+            ps.setString(2, event.getType());
+            ps.setString(3, event.getStatusFrom() != null ? event.getStatusFrom().name() : null);
+            ps.setString(4, event.getStatusTo() != null ? event.getStatusTo().name() : null);
+            ps.setString(5, event.getActor());
+            ps.setString(6, event.getNote());
+            ps.setString(7, event.getPayload());
+            ps.setString(8, event.getMetadataHash());
+            ps.setTimestamp(9, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.server.repository;
+
+import org.example.server.model.ProposalEventMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProposalEventMetadataRepository extends JpaRepository<ProposalEventMetadata, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_proposal_event_metadata (hash, content, created_at)
+            VALUES (:hash, :content, now())
+            ON CONFLICT (hash) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("hash") String hash, @Param("content") String content);
+}
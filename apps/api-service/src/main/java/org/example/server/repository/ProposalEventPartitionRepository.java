@@ -0,0 +1,31 @@
+package org.example.server.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface ProposalEventPartitionRepository {
+
+    /**
+     * Indica se {@code tb_proposal_event} já é uma tabela particionada.
+     */
+    boolean isPartitioned();
+
+    /**
+     * Recria {@code tb_proposal_event} particionada por mês, copia as linhas da tabela atual e a remove.
+     * Trava a tabela durante a cópia; não faz nada se outra instância já converteu.
+     * Deve rodar dentro de uma transação.
+     */
+    boolean convertToPartitioned(YearMonth createUntil);
+
+    /**
+     * Meses que têm partição anexada, em ordem.
+     */
+    List<YearMonth> findPartitionMonths();
+
+    void createPartition(YearMonth month);
+
+    /**
+     * Desanexa a partição do mês, remove as chaves estrangeiras herdadas e move a tabela para {@code schema}.
+     */
+    void archivePartition(YearMonth month, String schema);
+}
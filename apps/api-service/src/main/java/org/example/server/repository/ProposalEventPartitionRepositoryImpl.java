@@ -0,0 +1,134 @@
+package org.example.server.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class ProposalEventPartitionRepositoryImpl implements ProposalEventPartitionRepository {
+
+    private static final String TABLE = "tb_proposal_event";
+    private static final Pattern PARTITION_NAME = Pattern.compile("tb_proposal_event_y(\\d{4})m(\\d{2})");
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT c.relkind = 'p' FROM pg_class c WHERE c.oid = to_regclass('tb_proposal_event')";
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass('tb_proposal_event')
+            """;
+
+    private static final String CREATE_PARTITIONED_SQL = """
+            CREATE TABLE tb_proposal_event (
+                id bigint NOT NULL DEFAULT nextval('tb_proposal_event_seq'),
+                proposal_id bigint NOT NULL REFERENCES tb_proposal (id),
+                type varchar(60) NOT NULL,
+                status_from varchar(255),
+                status_to varchar(255),
+                actor varchar(180),
+                note text,
+                payload text,
+                metadata_hash varchar(64),
+                created_at timestamp(6) NOT NULL,
+                CONSTRAINT pk_proposal_event PRIMARY KEY (id, created_at)
+            ) PARTITION BY RANGE (created_at)
+            """;
+
+    private static final String COPY_ROWS_SQL = """
+            INSERT INTO tb_proposal_event
+                (id, proposal_id, type, status_from, status_to, actor, note, payload, metadata_hash, created_at)
+            SELECT id, proposal_id, type, status_from, status_to, actor, note, payload, metadata_hash,
+                   COALESCE(created_at, now())
+            FROM tb_proposal_event_legacy
+            """;
+
+    private static final String FOREIGN_KEYS_SQL =
+            "SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'f'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProposalEventPartitionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        List<Boolean> result = jdbcTemplate.queryForList(IS_PARTITIONED_SQL, Boolean.class);
+        return !result.isEmpty() && Boolean.TRUE.equals(result.get(0));
+    }
+
+    @Override
+    public boolean convertToPartitioned(YearMonth createUntil) {
+        // sem esperar atrás de transações longas: enquanto aguarda o lock, a fila bloqueia todo acesso à tabela
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+        jdbcTemplate.execute("LOCK TABLE tb_proposal_event IN ACCESS EXCLUSIVE MODE");
+        if (isPartitioned()) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER TABLE tb_proposal_event RENAME TO tb_proposal_event_legacy");
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS tb_proposal_event_pkey RENAME TO tb_proposal_event_legacy_pkey");
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS idx_proposal_event_proposal_created RENAME TO idx_proposal_event_legacy_proposal_created");
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS idx_proposal_event_created RENAME TO idx_proposal_event_legacy_created");
+        // a mesma sequência pooled-lo usada pelo Hibernate; a tabela antiga já a tinha como default
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS tb_proposal_event_seq INCREMENT BY 50");
+        jdbcTemplate.execute(CREATE_PARTITIONED_SQL);
+        jdbcTemplate.execute("CREATE INDEX idx_proposal_event_proposal_created ON tb_proposal_event (proposal_id, created_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_proposal_event_created ON tb_proposal_event (created_at, id)");
+
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT CAST(MIN(created_at) AS date) FROM tb_proposal_event_legacy", LocalDate.class);
+        YearMonth month = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+        for (; !month.isAfter(createUntil); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+        // só recebe linhas fora das partições mensais (relógio adiantado, job de manutenção parado)
+        jdbcTemplate.execute("CREATE TABLE tb_proposal_event_default PARTITION OF tb_proposal_event DEFAULT");
+
+        jdbcTemplate.update(COPY_ROWS_SQL);
+        jdbcTemplate.execute("DROP TABLE tb_proposal_event_legacy");
+        return true;
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    @Override
+    public void archivePartition(YearMonth month, String schema) {
+        if (!SCHEMA_NAME.matcher(schema).matches()) {
+            throw new IllegalArgumentException("Schema de arquivo inválido: " + schema);
+        }
+        String partition = partitionName(month);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+        // a partição solta não pode impedir a exclusão de propostas
+        for (String constraint : jdbcTemplate.queryForList(FOREIGN_KEYS_SQL, String.class, partition)) {
+            jdbcTemplate.execute("ALTER TABLE " + partition + " DROP CONSTRAINT \"" + constraint.replace("\"", "\"\"") + "\"");
+        }
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + schema);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("tb_proposal_event_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -1,13 +1,49 @@
 package org.example.server.repository;
 
+import org.example.server.dto.analytics.ProposalTransitionDTO;
 import org.example.server.model.Proposal;
 import org.example.server.model.ProposalEvent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface ProposalEventRepository extends JpaRepository<ProposalEvent, Long> {
-    List<ProposalEvent> findByProposalOrderByCreatedAtAsc(Proposal proposal);
+public interface ProposalEventRepository extends JpaRepository<ProposalEvent, Long>, ProposalEventPartitionRepository,
+        ProposalEventBatchRepository {
+
+    /**
+     * Linha do tempo da proposta. O limite inferior em {@code createdAt} permite ao Postgres
+     * descartar as partições anteriores à criação da proposta.
+     */
+    @Query("""
+            SELECT e FROM ProposalEvent e
+            WHERE e.proposal = :proposal AND e.createdAt >= :since
+            ORDER BY e.createdAt, e.id
+            """)
+    List<ProposalEvent> findTimeline(@Param("proposal") Proposal proposal, @Param("since") LocalDateTime since);
+
     void deleteAllByProposal(Proposal proposal);
     void deleteAllByProposalIn(List<Proposal> proposals);
+
+    /**
+     * Eventos depois da posição {@code (afterCreatedAt, afterId)} e criados até {@code until}, na ordem
+     * {@code (createdAt, id)}.
+     */
+    @Query("""
+            SELECT new org.example.server.dto.analytics.ProposalTransitionDTO(
+                e.id, p.id, p.dealer.id, p.seller.id, e.type, e.statusFrom, e.statusTo, e.createdAt)
+            FROM ProposalEvent e JOIN e.proposal p
+            WHERE (e.createdAt > :afterCreatedAt OR (e.createdAt = :afterCreatedAt AND e.id > :afterId))
+              AND e.createdAt <= :until
+            ORDER BY e.createdAt, e.id
+            """)
+    List<ProposalTransitionDTO> findTransitionsAfter(
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") long afterId,
+            @Param("until") LocalDateTime until,
+            Pageable pageable
+    );
 }
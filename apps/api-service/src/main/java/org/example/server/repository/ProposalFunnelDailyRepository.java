@@ -0,0 +1,30 @@
+package org.example.server.repository;
+
+import org.example.server.dto.analytics.FunnelRollupRowDTO;
+import org.example.server.model.ProposalFunnelDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProposalFunnelDailyRepository extends JpaRepository<ProposalFunnelDaily, Long>, ProposalFunnelRollupRepository {
+
+    @Query("""
+            SELECT new org.example.server.dto.analytics.FunnelRollupRowDTO(
+                f.dealerId, f.sellerId, f.statusFrom, f.statusTo,
+                SUM(f.transitions), SUM(f.totalSeconds),
+                SUM(f.bucketLe1h), SUM(f.bucketLe6h), SUM(f.bucketLe1d),
+                SUM(f.bucketLe3d), SUM(f.bucketLe7d), SUM(f.bucketGt7d))
+            FROM ProposalFunnelDaily f
+            WHERE f.day BETWEEN :from AND :to
+            GROUP BY f.dealerId, f.sellerId, f.statusFrom, f.statusTo
+            """)
+    List<FunnelRollupRowDTO> sumBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT w.lastCreatedAt FROM AnalyticsWatermark w WHERE w.name = :name")
+    Optional<LocalDateTime> findProjectedUntil(@Param("name") String name);
+}
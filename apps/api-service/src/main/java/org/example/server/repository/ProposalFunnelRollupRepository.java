@@ -0,0 +1,40 @@
+package org.example.server.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProposalFunnelRollupRepository {
+
+    /**
+     * Lê o watermark do projetor travando a linha até o fim da transação (cria no início na primeira vez).
+     */
+    Watermark lockWatermark(String name);
+
+    void saveWatermark(String name, Watermark watermark);
+
+    Map<Long, State> findStates(Collection<Long> proposalIds);
+
+    void saveStates(Collection<State> states);
+
+    /**
+     * Soma os deltas aos rollups existentes com um único batch de {@code INSERT ... ON CONFLICT DO UPDATE}.
+     */
+    void addRollups(Collection<Delta> deltas);
+
+    /**
+     * Posição do último evento consumido na ordem {@code (created_at, id)}.
+     */
+    record Watermark(LocalDateTime createdAt, long eventId) {
+
+        public static final Watermark START = new Watermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    }
+
+    record State(long proposalId, long dealerId, long sellerId, String status, LocalDateTime enteredAt) {
+    }
+
+    record Delta(LocalDate day, long dealerId, long sellerId, String statusFrom, String statusTo,
+                 long transitions, long totalSeconds, long[] buckets) {
+    }
+}
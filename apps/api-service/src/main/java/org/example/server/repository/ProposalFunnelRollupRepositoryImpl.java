@@ -0,0 +1,131 @@
+package org.example.server.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ProposalFunnelRollupRepositoryImpl implements ProposalFunnelRollupRepository {
+
+    private static final String INSERT_WATERMARK_SQL = """
+            INSERT INTO tb_analytics_watermark (name, last_event_id, last_created_at, updated_at) VALUES (?, 0, ?, ?)
+            ON CONFLICT (name) DO NOTHING
+            """;
+
+    private static final String LOCK_WATERMARK_SQL =
+            "SELECT last_created_at, last_event_id FROM tb_analytics_watermark WHERE name = ? FOR UPDATE";
+
+    private static final String UPDATE_WATERMARK_SQL =
+            "UPDATE tb_analytics_watermark SET last_created_at = ?, last_event_id = ?, updated_at = ? WHERE name = ?";
+
+    private static final String SELECT_STATES_SQL = """
+            SELECT proposal_id, dealer_id, seller_id, status, entered_at
+            FROM tb_proposal_funnel_state WHERE proposal_id = ANY (?)
+            """;
+
+    private static final String UPSERT_STATE_SQL = """
+            INSERT INTO tb_proposal_funnel_state (proposal_id, dealer_id, seller_id, status, entered_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (proposal_id) DO UPDATE SET
+                dealer_id = EXCLUDED.dealer_id, seller_id = EXCLUDED.seller_id,
+                status = EXCLUDED.status, entered_at = EXCLUDED.entered_at
+            """;
+
+    private static final String UPSERT_ROLLUP_SQL = """
+            INSERT INTO tb_proposal_funnel_daily
+                (day, dealer_id, seller_id, status_from, status_to, transitions, total_seconds,
+                 bucket_le_1h, bucket_le_6h, bucket_le_1d, bucket_le_3d, bucket_le_7d, bucket_gt_7d)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (day, dealer_id, seller_id, status_from, status_to) DO UPDATE SET
+                transitions = tb_proposal_funnel_daily.transitions + EXCLUDED.transitions,
+                total_seconds = tb_proposal_funnel_daily.total_seconds + EXCLUDED.total_seconds,
+                bucket_le_1h = tb_proposal_funnel_daily.bucket_le_1h + EXCLUDED.bucket_le_1h,
+                bucket_le_6h = tb_proposal_funnel_daily.bucket_le_6h + EXCLUDED.bucket_le_6h,
+                bucket_le_1d = tb_proposal_funnel_daily.bucket_le_1d + EXCLUDED.bucket_le_1d,
+                bucket_le_3d = tb_proposal_funnel_daily.bucket_le_3d + EXCLUDED.bucket_le_3d,
+                bucket_le_7d = tb_proposal_funnel_daily.bucket_le_7d + EXCLUDED.bucket_le_7d,
+                bucket_gt_7d = tb_proposal_funnel_daily.bucket_gt_7d + EXCLUDED.bucket_gt_7d
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProposalFunnelRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Watermark lockWatermark(String name) {
+        jdbcTemplate.update(INSERT_WATERMARK_SQL, name, Timestamp.valueOf(Watermark.START.createdAt()), Timestamp.from(Instant.now()));
+        return jdbcTemplate.queryForObject(LOCK_WATERMARK_SQL, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("last_created_at");
+            return createdAt != null
+                    ? new Watermark(createdAt.toLocalDateTime(), rs.getLong("last_event_id"))
+                    : Watermark.START;
+        }, name);
+    }
+
+    @Override
+    public void saveWatermark(String name, Watermark watermark) {
+        jdbcTemplate.update(UPDATE_WATERMARK_SQL, Timestamp.valueOf(watermark.createdAt()), watermark.eventId(),
+                Timestamp.from(Instant.now()), name);
+    }
+
+    @Override
+    public Map<Long, State> findStates(Collection<Long> proposalIds) {
+        Map<Long, State> states = new HashMap<>();
+        if (proposalIds.isEmpty()) {
+            return states;
+        }
+        jdbcTemplate.query(SELECT_STATES_SQL, rs -> {
+            State state = new State(
+                    rs.getLong("proposal_id"),
+                    rs.getLong("dealer_id"),
+                    rs.getLong("seller_id"),
+                    rs.getString("status"),
+                    rs.getTimestamp("entered_at").toLocalDateTime());
+            states.put(state.proposalId(), state);
+        }, (Object) proposalIds.toArray(Long[]::new));
+        return states;
+    }
+
+    @Override
+    public void saveStates(Collection<State> states) {
+        if (states.isEmpty()) {
+            return;
+        }
+        List<State> rows = new ArrayList<>(states);
+        jdbcTemplate.batchUpdate(UPSERT_STATE_SQL, rows, rows.size(), (ps, state) -> {
+            ps.setLong(1, state.proposalId());
+            ps.setLong(2, state.dealerId());
+            ps.setLong(3, state.sellerId());
+            ps.setString(4, state.status());
+            ps.setTimestamp(5, Timestamp.valueOf(state.enteredAt()));
+        });
+    }
+
+    @Override
+    public void addRollups(Collection<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Delta> rows = new ArrayList<>(deltas);
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, rows, rows.size(), (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.day()));
+            ps.setLong(2, delta.dealerId());
+            ps.setLong(3, delta.sellerId());
+            ps.setString(4, delta.statusFrom());
+            ps.setString(5, delta.statusTo());
+            ps.setLong(6, delta.transitions());
+            ps.setLong(7, delta.totalSeconds());
+            for (int i = 0; i < delta.buckets().length; i++) {
+                ps.setLong(8 + i, delta.buckets()[i]);
+            }
+        });
+    }
+}
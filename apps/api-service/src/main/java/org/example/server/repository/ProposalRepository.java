@@ -1,21 +1,69 @@
 package org.example.server.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.server.dto.proposal.ProposalDuplicateKeyDTO;
+import org.example.server.dto.proposal.ProposalSummaryDTO;
 import org.example.server.enums.ProposalStatus;
+import org.example.server.infra.search.ProposalSearchEntry;
 import org.example.server.model.Dealer;
 import org.example.server.model.Proposal;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface ProposalRepository extends JpaRepository<Proposal, Long> {
+public interface ProposalRepository extends JpaRepository<Proposal, Long>, ProposalSummaryRepository, ProposalBatchRepository {
     List<Proposal> findByDealer(Dealer dealer);
     List<Proposal> findByStatus(ProposalStatus status);
     List<Proposal> findByDealerAndStatus(Dealer dealer, ProposalStatus status);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new org.example.server.dto.proposal.ProposalDuplicateKeyDTO(
+                p.id, p.dealer.id, p.customerCpf, p.vehiclePlate, p.status, p.createdAt)
+            FROM Proposal p
+            WHERE p.createdAt >= :since AND p.status IN :statuses
+            """)
+    Stream<ProposalDuplicateKeyDTO> streamDuplicateKeys(
+            @Param("since") LocalDateTime since,
+            @Param("statuses") Collection<ProposalStatus> statuses
+    );
+
+    @Query("SELECT p.id FROM Proposal p WHERE p.id IN :ids AND p.status IN :statuses ORDER BY p.id")
+    List<Long> findIdsByIdInAndStatusIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("statuses") Collection<ProposalStatus> statuses
+    );
+
+    List<Proposal> findBySearchNameIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("""
+            SELECT new org.example.server.infra.search.ProposalSearchEntry(p.id, p.customerName, p.customerCpf, p.vehiclePlate)
+            FROM Proposal p
+            WHERE p.id > :afterId
+            ORDER BY p.id
+            """)
+    List<ProposalSearchEntry> findSearchEntries(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            SELECT new org.example.server.dto.proposal.ProposalSummaryDTO(
+                p.id, p.dealer.id, p.seller.id, p.customerName, p.customerCpf, p.customerPhone,
+                p.vehicleBrand, p.vehicleModel, p.vehicleYear, p.vehiclePlate, p.financedValue, p.termMonths,
+                p.status, p.createdAt, p.updatedAt)
+            FROM Proposal p
+            WHERE p.id IN :ids
+            """)
+    List<ProposalSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying
     @Transactional
     @Query("UPDATE Proposal p SET p.seller = null WHERE p.seller.id = :sellerId")
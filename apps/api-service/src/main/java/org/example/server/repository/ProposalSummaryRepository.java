@@ -0,0 +1,11 @@
+package org.example.server.repository;
+
+import org.example.server.dto.proposal.ProposalSummaryDTO;
+import org.example.server.dto.proposal.ProposalSummaryFilter;
+
+import java.util.List;
+
+public interface ProposalSummaryRepository {
+
+    List<ProposalSummaryDTO> findSummaries(ProposalSummaryFilter filter, int limit);
+}
@@ -0,0 +1,86 @@
+package org.example.server.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.example.server.dto.proposal.ProposalSummaryDTO;
+import org.example.server.dto.proposal.ProposalSummaryFilter;
+
+import java.util.List;
+
+/**
+ * Monta a consulta só com os filtros informados, para o planner usar (dealer_id, status, created_at)
+ * ou (status, created_at) e parar no limite da página em vez de ordenar a tabela inteira.
+ */
+class ProposalSummaryRepositoryImpl implements ProposalSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    ProposalSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ProposalSummaryDTO> findSummaries(ProposalSummaryFilter filter, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                SELECT new org.example.server.dto.proposal.ProposalSummaryDTO(
+                    p.id, p.dealer.id, p.seller.id, p.customerName, p.customerCpf, p.customerPhone,
+                    p.vehicleBrand, p.vehicleModel, p.vehicleYear, p.vehiclePlate, p.financedValue, p.termMonths,
+                    p.status, p.createdAt, p.updatedAt)
+                FROM Proposal p
+                WHERE 1 = 1
+                """);
+        if (filter.dealerId() != null) {
+            jpql.append(" AND p.dealer.id = :dealerId");
+        }
+        if (filter.sellerId() != null) {
+            jpql.append(" AND p.seller.id = :sellerId");
+        }
+        if (filter.status() != null) {
+            jpql.append(" AND p.status = :status");
+        }
+        if (filter.createdFrom() != null) {
+            jpql.append(" AND p.createdAt >= :createdFrom");
+        }
+        if (filter.createdTo() != null) {
+            jpql.append(" AND p.createdAt < :createdTo");
+        }
+        if (filter.customerCpfs() != null && !filter.customerCpfs().isEmpty()) {
+            jpql.append(" AND p.customerCpf IN :customerCpfs");
+        }
+
+        String column = filter.sort().path();
+        String direction = filter.descending() ? "DESC" : "ASC";
+        if (filter.afterValue() != null) {
+            String comparison = filter.descending() ? "<" : ">";
+            jpql.append(" AND (").append(column).append(' ').append(comparison).append(" :afterValue OR (")
+                    .append(column).append(" = :afterValue AND p.id ").append(comparison).append(" :afterId))");
+        }
+        jpql.append(" ORDER BY ").append(column).append(' ').append(direction).append(", p.id ").append(direction);
+
+        TypedQuery<ProposalSummaryDTO> query = entityManager.createQuery(jpql.toString(), ProposalSummaryDTO.class)
+                .setMaxResults(limit);
+        if (filter.dealerId() != null) {
+            query.setParameter("dealerId", filter.dealerId());
+        }
+        if (filter.sellerId() != null) {
+            query.setParameter("sellerId", filter.sellerId());
+        }
+        if (filter.status() != null) {
+            query.setParameter("status", filter.status());
+        }
+        if (filter.createdFrom() != null) {
+            query.setParameter("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            query.setParameter("createdTo", filter.createdTo());
+        }
+        if (filter.customerCpfs() != null && !filter.customerCpfs().isEmpty()) {
+            query.setParameter("customerCpfs", filter.customerCpfs());
+        }
+        if (filter.afterValue() != null) {
+            query.setParameter("afterValue", filter.afterValue());
+            query.setParameter("afterId", filter.afterId());
+        }
+        return query.getResultList();
+    }
+}
@@ -2,20 +2,29 @@ package org.example.server.repository;
 
 import org.example.server.model.RefreshToken;
 import org.example.server.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByTokenHash(String tokenHash);
-    Optional<RefreshToken> findByUser(User user);
+
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.id = :id AND rt.revoked = false")
+    int revokeIfActive(@Param("id") Long id);
 
     @Modifying
     @Transactional
     @Query("DELETE FROM RefreshToken rt WHERE rt.user = :user")
     void deleteByUser(@Param("user") User user);
+
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.revoked = true OR rt.expiryDate < :now ORDER BY rt.id")
+    List<Long> findSweepableIds(@Param("now") Instant now, Pageable pageable);
 }
@@ -0,0 +1,17 @@
+package org.example.server.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.server.model.StoredObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM StoredObject o WHERE o.contentHash = :contentHash")
+    Optional<StoredObject> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+}
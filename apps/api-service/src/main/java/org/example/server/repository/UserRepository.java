@@ -2,18 +2,84 @@ package org.example.server.repository;
 
 import org.example.server.enums.UserRole;
 import org.example.server.model.User;
+import org.example.server.util.LoginKeyNormalizer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    boolean existsByEmail(String email);
+    boolean existsByEmailOrLoginKey(String email, String loginKey);
+
+    /**
+     * E-mail em uso, pela grafia exata (cadastros antigos sem {@code login_key}) ou pela chave normalizada,
+     * que {@code uk_user_login_key} exige única.
+     */
+    default boolean isEmailTaken(String email) {
+        return existsByEmailOrLoginKey(email, LoginKeyNormalizer.normalize(email));
+    }
 
     Optional<User> findByEmail(String email);
 
     User findByEmailAndVerificationCode(String email, String code);
 
     List<User> findByRole(UserRole role);
+
+    /**
+     * Resolve o identificador de login (e-mail ou empresa do lojista) em uma única consulta
+     * pelos índices únicos de {@code login_key}; o e-mail tem prioridade sobre a empresa.
+     */
+    @Query("""
+            SELECT u FROM User u
+            WHERE u.loginKey = :loginKey
+               OR u.id = (SELECT d.user.id FROM Dealer d WHERE d.loginKey = :loginKey)
+            ORDER BY CASE WHEN u.loginKey = :loginKey THEN 0 ELSE 1 END
+            """)
+    List<User> findAllByLoginIdentifier(@Param("loginKey") String loginKey);
+
+    default Optional<User> findByLoginIdentifier(String loginKey) {
+        return findAllByLoginIdentifier(loginKey).stream().findFirst();
+    }
+
+    /**
+     * Busca antiga, por e-mail exato ou empresa sem diferenciar maiúsculas, restrita a quem ainda não
+     * tem {@code login_key}: usuários que o {@code LoginKeyBackfillJob} não alcançou ou cuja chave colide
+     * com a de outro cadastro.
+     */
+    @Query("""
+            SELECT u FROM User u
+            WHERE (u.loginKey IS NULL AND u.email = :identifier)
+               OR u.id IN (SELECT d.user.id FROM Dealer d WHERE d.loginKey IS NULL AND LOWER(d.enterprise) = LOWER(:identifier))
+            ORDER BY CASE WHEN u.email = :identifier THEN 0 ELSE 1 END, u.id
+            """)
+    List<User> findAllByLegacyLoginIdentifier(@Param("identifier") String identifier);
+
+    /**
+     * Identificador digitado no login, pela chave normalizada. Se o cadastro achado não tem exatamente o
+     * identificador digitado, a busca antiga tem prioridade: ela acha o cadastro sem chave cuja grafia
+     * colidiu com a desse (por exemplo "Bia@grota.com" ao lado de "bia@grota.com").
+     */
+    default Optional<User> findForLogin(String identifier) {
+        String loginKey = LoginKeyNormalizer.normalize(identifier);
+        if (loginKey == null) {
+            return Optional.empty();
+        }
+        String typed = identifier.trim();
+        Optional<User> byKey = findByLoginIdentifier(loginKey);
+        if (byKey.isPresent() && byKey.get().matchesLoginIdentifier(typed)) {
+            return byKey;
+        }
+        return findAllByLegacyLoginIdentifier(typed).stream().findFirst().or(() -> byKey);
+    }
+
+    List<User> findByLoginKeyIsNullAndEmailIsNotNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT u.loginKey FROM User u WHERE u.loginKey IN :loginKeys")
+    Set<String> findExistingLoginKeys(@Param("loginKeys") Collection<String> loginKeys);
 }
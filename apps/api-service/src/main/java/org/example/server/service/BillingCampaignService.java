@@ -0,0 +1,197 @@
+package org.example.server.service;
+
+import org.example.server.dto.billing.BillingCampaignReportDTO;
+import org.example.server.dto.billing.BillingDunningTargetDTO;
+import org.example.server.model.BillingOccurrence;
+import org.example.server.model.EmailOutbox;
+import org.example.server.repository.BillingContractRepository;
+import org.example.server.repository.BillingInstallmentRepository;
+import org.example.server.repository.BillingOccurrenceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Campanha de cobrança: lembra parcelas que vencem em N dias e cobra as vencidas há M dias.
+ * As parcelas são lidas em páginas por faixa de vencimento; cada página vira um lote de e-mails
+ * na tabela de saída e um lote de ocorrências no contrato, na mesma transação. A etapa e o número de
+ * dias entram na chave de deduplicação: cada parcela recebe um aviso por etapa, e rodar a mesma etapa
+ * de novo não repete o envio.
+ * O envio e o limite de envios por minuto ficam com o {@code EmailOutboxDispatcher}.
+ */
+@Service
+public class BillingCampaignService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BillingCampaignService.class);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+    private static final String CONTACT = "E-mail automático";
+
+    private final BillingInstallmentRepository installmentRepository;
+    private final BillingContractRepository contractRepository;
+    private final BillingOccurrenceRepository occurrenceRepository;
+    private final EmailOutboxService emailOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final int[] reminderDays;
+    private final int[] overdueDays;
+    private final int pageSize;
+    private final AtomicReference<BillingCampaignReportDTO> lastReport = new AtomicReference<>();
+
+    public BillingCampaignService(
+            BillingInstallmentRepository installmentRepository,
+            BillingContractRepository contractRepository,
+            BillingOccurrenceRepository occurrenceRepository,
+            EmailOutboxService emailOutboxService,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.billing.campaign.reminder-days:3}") int[] reminderDays,
+            @Value("${app.billing.campaign.overdue-days:1,7,15}") int[] overdueDays,
+            @Value("${app.billing.campaign.page-size:1000}") int pageSize
+    ) {
+        this.installmentRepository = installmentRepository;
+        this.contractRepository = contractRepository;
+        this.occurrenceRepository = occurrenceRepository;
+        this.emailOutboxService = emailOutboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.reminderDays = reminderDays;
+        this.overdueDays = overdueDays;
+        this.pageSize = pageSize;
+    }
+
+    public BillingCampaignReportDTO run() {
+        return run(LocalDate.now());
+    }
+
+    public BillingCampaignReportDTO run(LocalDate today) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        long[] totals = new long[2];
+
+        for (int days : reminderDays) {
+            runStage(today.plusDays(days), Stage.REMINDER, days, totals);
+        }
+        for (int days : overdueDays) {
+            runStage(today.minusDays(days), Stage.OVERDUE, days, totals);
+        }
+
+        long durationMs = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+        long selected = totals[0];
+        long enqueued = totals[1];
+        double throughput = durationMs > 0 ? selected * 1000.0 / durationMs : selected;
+        BillingCampaignReportDTO report = new BillingCampaignReportDTO(
+                startedAt,
+                LocalDateTime.now(),
+                selected,
+                enqueued,
+                selected - enqueued,
+                durationMs,
+                Math.round(throughput * 100.0) / 100.0
+        );
+        lastReport.set(report);
+        LOGGER.info("Campanha de cobrança: {} parcelas selecionadas, {} e-mails enfileirados em {} ms ({} parcelas/s)",
+                selected, enqueued, durationMs, report.throughputPerSecond());
+        return report;
+    }
+
+    public Optional<BillingCampaignReportDTO> lastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    private void runStage(LocalDate dueDate, Stage stage, int days, long[] totals) {
+        long afterId = 0L;
+        while (true) {
+            List<BillingDunningTargetDTO> page = installmentRepository.findDunningTargets(
+                    dueDate, dueDate, afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                return;
+            }
+            afterId = page.get(page.size() - 1).installmentId();
+            totals[0] += page.size();
+            totals[1] += enqueuePage(page, stage, days);
+            if (page.size() < pageSize) {
+                return;
+            }
+        }
+    }
+
+    private int enqueuePage(List<BillingDunningTargetDTO> page, Stage stage, int days) {
+        // Serialização e hash das variáveis em paralelo; o render do HTML acontece nos workers do envio
+        Map<String, BillingDunningTargetDTO> byDedupKey = new HashMap<>();
+        String scope = stage.name() + ':' + days;
+        List<EmailOutbox> emails = page.parallelStream()
+                .map(target -> emailOutboxService.prepare(
+                        scope, target.customerEmail(), stage.subject, stage.template, variables(target)))
+                .toList();
+        for (int i = 0; i < emails.size(); i++) {
+            byDedupKey.put(emails.get(i).getDedupKey(), page.get(i));
+        }
+
+        Integer inserted = transactionTemplate.execute(status -> {
+            List<EmailOutbox> fresh = emailOutboxService.enqueueAll(emails);
+            List<BillingOccurrence> occurrences = fresh.stream()
+                    .map(email -> occurrence(byDedupKey.get(email.getDedupKey()), stage))
+                    .toList();
+            occurrenceRepository.insertAll(occurrences);
+            return fresh.size();
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private Map<String, String> variables(BillingDunningTargetDTO target) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("customerName", target.customerName());
+        variables.put("contractNumber", target.contractNumber());
+        variables.put("installmentNumber", String.valueOf(target.installmentNumber()));
+        variables.put("dueDate", target.dueDate().format(DATE_FORMAT));
+        variables.put("amount", formatAmount(target.amount()));
+        return variables;
+    }
+
+    private BillingOccurrence occurrence(BillingDunningTargetDTO target, Stage stage) {
+        BillingOccurrence occurrence = new BillingOccurrence();
+        // referência sem consulta: o insert em batch só precisa do id do contrato
+        occurrence.setContract(contractRepository.getReferenceById(target.contractId()));
+        occurrence.setDate(LocalDate.now());
+        occurrence.setContact(CONTACT);
+        occurrence.setNote(stage.note + " - parcela " + target.installmentNumber()
+                + " com vencimento em " + target.dueDate().format(DATE_FORMAT));
+        return occurrence;
+    }
+
+    private String formatAmount(BigDecimal amount) {
+        if (amount == null) {
+            return "-";
+        }
+        return NumberFormat.getCurrencyInstance(PT_BR).format(amount);
+    }
+
+    private enum Stage {
+        REMINDER("billing-reminder", "Lembrete de vencimento da sua parcela", "Lembrete de vencimento enviado"),
+        OVERDUE("billing-overdue", "Parcela em atraso", "Aviso de parcela em atraso enviado");
+
+        private final String template;
+        private final String subject;
+        private final String note;
+
+        Stage(String template, String subject, String note) {
+            this.template = template;
+            this.subject = subject;
+            this.note = note;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.server.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.server.dto.dealer.DealerRegistrationResponseDTO;
+import org.example.server.infra.persistence.AfterCommit;
+import org.example.server.repository.DealerRepository;
+import org.example.server.util.Hashing;
+import org.example.server.util.LoginKeyNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Diretório público de lojistas servido de um snapshot em memória. O snapshot é montado com uma única consulta
+ * (lojista + usuário em DTO) e descartado depois do commit de qualquer escrita em lojista; a próxima leitura
+ * o reconstrói. {@code max-age} é só uma rede de segurança para escritas que não passam por aqui.
+ * O ETag é o hash do conteúdo, então réplicas com os mesmos dados devolvem o mesmo valor.
+ */
+@Service
+public class DealerDirectoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final DealerRepository dealerRepository;
+    private final Duration maxAge;
+    private final Timer buildTimer;
+
+    private volatile Snapshot snapshot;
+
+    public DealerDirectoryService(
+            DealerRepository dealerRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.dealers.directory.max-age-seconds:300}") long maxAgeSeconds
+    ) {
+        this.dealerRepository = dealerRepository;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.buildTimer = Timer.builder("dealers.directory.build")
+                .description("Duração da montagem do snapshot do diretório de lojistas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param query filtro opcional pelo nome da empresa (sem diferenciar maiúsculas e acentos)
+     * @param page  página a partir de 0; nula devolve todos os resultados
+     */
+    public Page find(String query, Integer page, int size) {
+        Snapshot current = current();
+        String folded = LoginKeyNormalizer.normalize(query);
+
+        List<DealerRegistrationResponseDTO> matches;
+        if (folded == null) {
+            matches = current.dealers();
+        } else {
+            matches = new ArrayList<>();
+            for (int i = 0; i < current.dealers().size(); i++) {
+                if (current.searchKeys().get(i).contains(folded)) {
+                    matches.add(current.dealers().get(i));
+                }
+            }
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<DealerRegistrationResponseDTO> items = matches;
+        if (page != null) {
+            int from = (int) Math.min((long) Math.max(page, 0) * pageSize, matches.size());
+            int to = Math.min(from + pageSize, matches.size());
+            items = matches.subList(from, to);
+        }
+
+        String etag = "\"" + current.version() + "-" + Integer.toHexString((folded + "|" + page + "|" + pageSize).hashCode()) + "\"";
+        return new Page(List.copyOf(items), matches.size(), etag);
+    }
+
+    /**
+     * Descarta o snapshot; com transação ativa, descarta de novo após o commit para não guardar dados antigos
+     * lidos por uma requisição concorrente.
+     */
+    public void invalidate() {
+        AfterCommit.invalidateNowAndAfterCommit(() -> snapshot = null);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.builtAt().plus(maxAge).isAfter(Instant.now())) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || !current.builtAt().plus(maxAge).isAfter(Instant.now())) {
+                current = buildTimer.record(this::build);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build() {
+        List<DealerRegistrationResponseDTO> dealers = dealerRepository.findDirectoryEntries();
+        List<String> searchKeys = new ArrayList<>(dealers.size());
+        MessageDigest digest = Hashing.sha256();
+        for (DealerRegistrationResponseDTO dealer : dealers) {
+            String key = LoginKeyNormalizer.normalize(dealer.enterprise());
+            searchKeys.add(key != null ? key : "");
+            digest.update(dealer.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        String version = HexFormat.of().formatHex(digest.digest(), 0, 8);
+        return new Snapshot(List.copyOf(dealers), List.copyOf(searchKeys), version, Instant.now());
+    }
+
+    public record Page(List<DealerRegistrationResponseDTO> items, int totalElements, String etag) {
+    }
+
+    private record Snapshot(List<DealerRegistrationResponseDTO> dealers, List<String> searchKeys, String version, Instant builtAt) {
+    }
+}
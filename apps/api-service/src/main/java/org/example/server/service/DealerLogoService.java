@@ -1,13 +1,14 @@
 package org.example.server.service;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
 import org.example.server.dto.dealer.DealerLogoResponseDTO;
 import org.example.server.enums.UserRole;
 import org.example.server.exception.InvalidLogoException;
 import org.example.server.exception.LogoUploadException;
 import org.example.server.exception.auth.AccessDeniedException;
 import org.example.server.exception.generic.RecordNotFoundException;
+import org.example.server.infra.image.ImageNormalizer;
+import org.example.server.infra.image.NormalizedImage;
+import org.example.server.infra.storage.DocumentStorage;
 import org.example.server.model.Dealer;
 import org.example.server.model.User;
 import org.example.server.repository.DealerRepository;
@@ -16,8 +17,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Map;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Service
@@ -27,17 +29,20 @@ public class DealerLogoService {
     private static final String[] ALLOWED_CONTENT_TYPES = {"image/png", "image/jpeg", "image/jpg", "image/webp"};
 
     private final DealerRepository dealerRepository;
-    private final Cloudinary cloudinary;
+    private final DocumentStorage documentStorage;
+    private final ImageNormalizer imageNormalizer;
+    private final DealerDirectoryService dealerDirectoryService;
 
     @Value("${cloudinary.dealer-logo-folder:dealer-logos}")
     private String dealerLogoFolder;
 
-    public DealerLogoService(DealerRepository dealerRepository, Cloudinary cloudinary) {
+    public DealerLogoService(DealerRepository dealerRepository, DocumentStorage documentStorage, ImageNormalizer imageNormalizer, DealerDirectoryService dealerDirectoryService) {
         this.dealerRepository = dealerRepository;
-        this.cloudinary = cloudinary;
+        this.documentStorage = documentStorage;
+        this.imageNormalizer = imageNormalizer;
+        this.dealerDirectoryService = dealerDirectoryService;
     }
 
-    @SuppressWarnings("unchecked")
     @Transactional
     public DealerLogoResponseDTO uploadLogo(User user, MultipartFile file) {
         if (user == null || user.getRole() != UserRole.LOJISTA) {
@@ -50,39 +55,40 @@ public class DealerLogoService {
         validateFile(file);
 
         String publicId = buildPublicId(dealer.getId());
-        Map<String, Object> uploadResult;
+        String uploadedPublicId;
 
         try {
-            uploadResult = cloudinary.uploader().upload(
-                    file.getBytes(),
-                    ObjectUtils.asMap(
-                            "folder", dealerLogoFolder,
-                            "public_id", publicId,
-                            "overwrite", true,
-                            "invalidate", true,
-                            "resource_type", "image"
-                    )
-            );
-        } catch (IOException e) {
-            throw new LogoUploadException("Falha ao enviar a logomarca para o Cloudinary.", e);
+            uploadedPublicId = storeLogo(publicId, file);
+        } catch (IOException | IllegalStateException e) {
+            throw new LogoUploadException("Falha ao enviar a logomarca para o armazenamento.", e);
         }
 
-        String secureUrl = (String) uploadResult.get("secure_url");
-        String uploadedPublicId = (String) uploadResult.get("public_id");
-
-        if (secureUrl == null || uploadedPublicId == null) {
-            throw new LogoUploadException("Resposta inválida do Cloudinary ao enviar a logomarca.");
-        }
+        String secureUrl = documentStorage.resolveUrl(uploadedPublicId).toString();
 
         removePreviousLogo(dealer.getLogoPublicId());
 
         dealer.setLogoUrl(secureUrl);
         dealer.setLogoPublicId(uploadedPublicId);
         dealerRepository.save(dealer);
+        dealerDirectoryService.invalidate();
 
         return new DealerLogoResponseDTO(secureUrl);
     }
 
+    private String storeLogo(String publicId, MultipartFile file) throws IOException {
+        NormalizedImage image;
+        try (InputStream content = file.getInputStream()) {
+            image = imageNormalizer.normalize(content, file.getSize(), file.getContentType(), ImageNormalizer.Profile.LOGO).orElse(null);
+        }
+        if (image != null) {
+            return documentStorage.store(dealerLogoFolder, publicId, new ByteArrayInputStream(image.content()),
+                    image.normalizedBytes(), image.contentType());
+        }
+        try (InputStream content = file.getInputStream()) {
+            return documentStorage.store(dealerLogoFolder, publicId, content, file.getSize(), file.getContentType());
+        }
+    }
+
     private void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new InvalidLogoException("Selecione um arquivo de imagem para enviar.");
@@ -113,7 +119,7 @@ public class DealerLogoService {
         }
 
         try {
-            cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
+            documentStorage.delete(publicId);
         } catch (Exception ignored) {
             // Se falhar na remoção antiga, seguimos com a nova logo salva no dealer.
         }
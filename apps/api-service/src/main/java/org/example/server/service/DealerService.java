@@ -8,17 +8,16 @@ import org.example.server.enums.UserRole;
 import org.example.server.exception.generic.DataAlreadyExistsException;
 import org.example.server.exception.generic.RecordNotFoundException;
 import org.example.server.model.Dealer;
-import org.example.server.model.Manager;
-import org.example.server.model.Operator;
+import org.example.server.model.DealerPurge;
 import org.example.server.model.Partner;
-import org.example.server.model.Proposal;
-import org.example.server.model.Seller;
 import org.example.server.model.User;
 import org.example.server.repository.*;
 import org.example.server.service.factory.DealerUserFactory;
+import org.example.server.util.LoginKeyNormalizer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,12 +33,11 @@ public class DealerService {
     private final AddressMapper addressMapper;
     private final DealerDetailsMapper dealerDetailsMapper;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final SellerRepository sellerRepository;
-    private final ManagerRepository managerRepository;
-    private final OperatorRepository operatorRepository;
-    private final ProposalRepository proposalRepository;
-    private final VehicleRepository vehicleRepository;
-    private final ProposalEventRepository proposalEventRepository;
+    private final DealerDirectoryService dealerDirectoryService;
+    private final UserDealerResolver userDealerResolver;
+    private final DealerPurgeRepository dealerPurgeRepository;
+    private final DocumentUrlService documentUrlService;
+    private final DocumentReviewQueueService reviewQueueService;
 
     public DealerService(
             DealerRepository dealerRepository,
@@ -51,12 +49,11 @@ public class DealerService {
             AddressMapper addressMapper,
             DealerDetailsMapper dealerDetailsMapper,
             RefreshTokenRepository refreshTokenRepository,
-            SellerRepository sellerRepository,
-            ManagerRepository managerRepository,
-            OperatorRepository operatorRepository,
-            ProposalRepository proposalRepository,
-            VehicleRepository vehicleRepository,
-            ProposalEventRepository proposalEventRepository
+            DealerDirectoryService dealerDirectoryService,
+            UserDealerResolver userDealerResolver,
+            DealerPurgeRepository dealerPurgeRepository,
+            DocumentUrlService documentUrlService,
+            DocumentReviewQueueService reviewQueueService
     ) {
         this.dealerRepository = dealerRepository;
         this.userRepository = userRepository;
@@ -67,12 +64,11 @@ public class DealerService {
         this.addressMapper = addressMapper;
         this.dealerDetailsMapper = dealerDetailsMapper;
         this.refreshTokenRepository = refreshTokenRepository;
-        this.sellerRepository = sellerRepository;
-        this.managerRepository = managerRepository;
-        this.operatorRepository = operatorRepository;
-        this.proposalRepository = proposalRepository;
-        this.vehicleRepository = vehicleRepository;
-        this.proposalEventRepository = proposalEventRepository;
+        this.dealerDirectoryService = dealerDirectoryService;
+        this.userDealerResolver = userDealerResolver;
+        this.dealerPurgeRepository = dealerPurgeRepository;
+        this.documentUrlService = documentUrlService;
+        this.reviewQueueService = reviewQueueService;
     }
 
     @Transactional
@@ -82,7 +78,7 @@ public class DealerService {
         if (dealerRepository.existsByPhone(dealerRegistrationRequestDTO.phone())) {
             throw new DataAlreadyExistsException("Telefone já cadastrado");
         }
-        if (dealerRepository.existsByEnterpriseIgnoreCase(normalizedEnterprise)) {
+        if (dealerRepository.existsByLoginKey(LoginKeyNormalizer.normalize(normalizedEnterprise))) {
             throw new DataAlreadyExistsException("Empresa já cadastrada");
         }
 
@@ -103,6 +99,8 @@ public class DealerService {
 
         dealerRepository.save(dealer);
 
+        dealerDirectoryService.invalidate();
+
         return dealerRegistrationMapper.toDTO(dealer);
     }
 
@@ -114,7 +112,7 @@ public class DealerService {
         if (dealerRepository.existsByPhone(normalizedPhone)) {
             throw new DataAlreadyExistsException("Telefone já cadastrado");
         }
-        if (dealerRepository.existsByEnterpriseIgnoreCase(normalizedEnterprise)) {
+        if (dealerRepository.existsByLoginKey(LoginKeyNormalizer.normalize(normalizedEnterprise))) {
             throw new DataAlreadyExistsException("Empresa já cadastrada");
         }
 
@@ -155,26 +153,20 @@ public class DealerService {
 
         user.setDealer(dealer);
         dealerRepository.save(dealer);
+        dealerDirectoryService.invalidate();
 
         return dealerRegistrationMapper.toDTO(dealer);
     }
 
-    public List<DealerRegistrationResponseDTO> findAll() {
-        List<Dealer> dealerList = dealerRepository.findAll();
-        return dealerList.stream()
-                .map(dealerRegistrationMapper::toDTO)
-                .toList();
-    }
-
     @SuppressWarnings("null")
     public DealerRegistrationResponseDTO findById(Long id) {
-        return dealerRegistrationMapper.toDTO(dealerRepository.findById(id)
+        return dealerRegistrationMapper.toDTO(dealerRepository.findActiveById(id)
                 .orElseThrow(() -> new RecordNotFoundException(id)));
     }
 
     @SuppressWarnings("null")
     public List<DocumentResponseDTO> getDealerDocuments(Long id) {
-        if (!dealerRepository.existsById(id)) {
+        if (!dealerRepository.existsActiveById(id)) {
             throw new RecordNotFoundException(id);
         }
         return documentRepository.findDocumentsByDealerId(id);
@@ -182,7 +174,7 @@ public class DealerService {
 
     public DealerDetailsResponseDTO findDetailDealer(Long id) {
         @SuppressWarnings("null")
-        Dealer dealer = dealerRepository.findById(id)
+        Dealer dealer = dealerRepository.findActiveById(id)
                 .orElseThrow(() -> new RecordNotFoundException(id));
 
         return dealerDetailsMapper.toDTO(dealer);
@@ -190,31 +182,9 @@ public class DealerService {
 
     @Transactional(readOnly = true)
     public DealerDetailsResponseDTO findDetailDealerByUserId(Long userId) {
-        Dealer dealer = dealerRepository.findByUserId(userId).orElse(null);
-
-        if (dealer == null) {
-            dealer = sellerRepository.findByUserId(userId)
-                    .map(Seller::getDealer)
-                    .orElse(null);
-        }
-
-        if (dealer == null) {
-            dealer = managerRepository.findByUserId(userId)
-                    .map(Manager::getDealer)
-                    .orElse(null);
-        }
-
-        if (dealer == null) {
-            dealer = operatorRepository.findByUserId(userId)
-                    .map(Operator::getDealer)
-                    .orElse(null);
-        }
-
-        if (dealer == null) {
-            throw new RecordNotFoundException("Lojista não encontrado para o usuário informado.");
-        }
-
-        return dealerDetailsMapper.toDTO(dealer);
+        return userDealerResolver.resolveDealerId(userId)
+                .flatMap(dealerRepository::findDetailsById)
+                .orElseThrow(() -> new RecordNotFoundException("Lojista não encontrado para o usuário informado."));
     }
 
     @Transactional
@@ -227,13 +197,17 @@ public class DealerService {
         dealer.setCnpj(dealerProfileDTO.cnpj());
         dealer.setAddress(addressMapper.toEntity(dealerProfileDTO.address()));
 
-        return dealerProfileMapper.toDTO(dealerRepository.save(dealer));
+        Dealer saved = dealerRepository.save(dealer);
+
+        dealerDirectoryService.invalidate();
+
+        return dealerProfileMapper.toDTO(saved);
     }
 
     @Transactional
     public DealerRegistrationResponseDTO update(Long id, DealerRegistrationRequestDTO dealerRegistrationRequestDTO) {
         @SuppressWarnings("null")
-        Dealer dealer = dealerRepository.findById(id)
+        Dealer dealer = dealerRepository.findActiveById(id)
                 .orElseThrow(() -> new RecordNotFoundException(id));
 
         User user = dealer.getUser();
@@ -243,8 +217,10 @@ public class DealerService {
 
         String normalizedEnterprise = normalize(dealerRegistrationRequestDTO.enterprise());
 
-        if (normalizedEnterprise != null && !normalizedEnterprise.equalsIgnoreCase(dealer.getEnterprise())
-                && dealerRepository.existsByEnterpriseIgnoreCase(normalizedEnterprise)) {
+        if (normalizedEnterprise != null
+                && !normalizedEnterprise.equals(dealer.getEnterprise())
+                && !LoginKeyNormalizer.normalize(normalizedEnterprise).equals(dealer.getLoginKey())
+                && dealerRepository.existsByLoginKey(LoginKeyNormalizer.normalize(normalizedEnterprise))) {
             throw new DataAlreadyExistsException("Empresa já cadastrada");
         }
 
@@ -258,6 +234,7 @@ public class DealerService {
 
         userRepository.save(user);
         dealerRepository.save(dealer);
+        dealerDirectoryService.invalidate();
 
         return dealerRegistrationMapper.toDTO(dealer);
     }
@@ -273,32 +250,49 @@ public class DealerService {
         if (dto.cnpj() != null) dealer.setCnpj(dto.cnpj());
         if (dto.address() != null) dealer.setAddress(addressMapper.toEntity(dto.address()));
 
-        return dealerProfileMapper.toDTO(dealerRepository.save(dealer));
+        Dealer saved = dealerRepository.save(dealer);
+
+        dealerDirectoryService.invalidate();
+
+        return dealerProfileMapper.toDTO(saved);
     }
 
-    @SuppressWarnings("null")
+    /**
+     * Exclusão lógica: o lojista some das consultas na hora e as linhas ligadas a ele são apagadas
+     * em lotes pelo {@link org.example.server.service.job.DealerPurgeJob}. O usuário do lojista e os da
+     * equipe (vendedores, gerentes e operadores) são desativados já aqui, para não entrarem até o expurgo.
+     */
     @Transactional
     public void delete(Long id) {
-        Dealer dealer = dealerRepository.findById(id)
+        Dealer dealer = dealerRepository.findActiveById(id)
                 .orElseThrow(() -> new RecordNotFoundException(id));
 
-        List<Proposal> proposals = proposalRepository.findByDealer(dealer);
-        if (!proposals.isEmpty()) {
-            proposalEventRepository.deleteAllByProposalIn(proposals);
+        dealer.markDeleted();
+        List<User> users = new ArrayList<>();
+        users.add(dealer.getUser());
+        dealer.getSellers().forEach(seller -> users.add(seller.getUser()));
+        dealer.getManagers().forEach(manager -> users.add(manager.getUser()));
+        dealer.getOperators().forEach(operator -> users.add(operator.getUser()));
+        for (User user : users) {
+            if (user != null) {
+                user.disable();
+                refreshTokenRepository.deleteByUser(user);
+            }
         }
-        proposalRepository.deleteAll(proposals);
-        vehicleRepository.deleteAll(vehicleRepository.findByDealerId(id));
-        documentRepository.deleteByDealerId(id);
-        sellerRepository.deleteAll(sellerRepository.findByDealerId(id));
-        managerRepository.deleteAll(managerRepository.findByDealerId(id));
-        operatorRepository.deleteAll(operatorRepository.findByDealerId(id));
+        dealerPurgeRepository.save(new DealerPurge(id));
+        userDealerResolver.evictDealer(id);
+        documentUrlService.evict(documentRepository.findIdsByDealerId(id));
+        // os documentos do lojista saem da fila de revisão e das contagens
+        reviewQueueService.invalidateCounts();
 
-        User user = dealer.getUser();
-        if (user != null) {
-            refreshTokenRepository.deleteByUser(user);
-        }
+        dealerDirectoryService.invalidate();
+    }
 
-        dealerRepository.delete(dealer);
+    @Transactional(readOnly = true)
+    public DealerPurgeStatusDTO findPurgeStatus(Long id) {
+        return dealerPurgeRepository.findById(id)
+                .map(DealerPurgeStatusDTO::from)
+                .orElseThrow(() -> new RecordNotFoundException(id));
     }
 
     private String normalize(String value) {
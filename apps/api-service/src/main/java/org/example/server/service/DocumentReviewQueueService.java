@@ -0,0 +1,108 @@
+package org.example.server.service;
+
+import org.example.server.dto.document.DocumentReviewCountsDTO;
+import org.example.server.dto.document.DocumentReviewQueueFilter;
+import org.example.server.dto.document.DocumentReviewQueueItemDTO;
+import org.example.server.dto.document.DocumentReviewQueuePageDTO;
+import org.example.server.dto.document.ReviewStatusCountDTO;
+import org.example.server.enums.DocumentType;
+import org.example.server.enums.ReviewStatus;
+import org.example.server.exception.InvalidPageCursorException;
+import org.example.server.infra.persistence.AfterCommit;
+import org.example.server.repository.DocumentRepository;
+import org.example.server.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fila de revisão de documentos para o admin: páginas por cursor (mais antigos primeiro) montadas
+ * direto em DTO, e contagem por status guardada em memória por alguns segundos.
+ */
+@Service
+public class DocumentReviewQueueService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final DocumentRepository documentRepository;
+    private final Duration countsTtl;
+
+    private volatile DocumentReviewCountsDTO cachedCounts;
+
+    public DocumentReviewQueueService(
+            DocumentRepository documentRepository,
+            @Value("${app.documents.review.counts-ttl-seconds:30}") long countsTtlSeconds
+    ) {
+        this.documentRepository = documentRepository;
+        this.countsTtl = Duration.ofSeconds(countsTtlSeconds);
+    }
+
+    @Transactional(readOnly = true)
+    public DocumentReviewQueuePageDTO findPage(ReviewStatus reviewStatus, DocumentType documentType, Long dealerId, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor decoded = KeysetCursor.decode(cursor);
+            afterCreatedAt = parseCreatedAt(decoded.value());
+            afterId = decoded.id();
+        }
+
+        DocumentReviewQueueFilter filter = new DocumentReviewQueueFilter(
+                reviewStatus != null ? reviewStatus : ReviewStatus.PENDENTE, documentType, dealerId, afterCreatedAt, afterId);
+
+        // um item a mais só para saber se existe próxima página
+        List<DocumentReviewQueueItemDTO> rows = documentRepository.findReviewQueue(filter, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new DocumentReviewQueuePageDTO(rows, null);
+        }
+        List<DocumentReviewQueueItemDTO> page = rows.subList(0, pageSize);
+        DocumentReviewQueueItemDTO last = page.get(page.size() - 1);
+        String nextCursor = new KeysetCursor(last.createdAt().toString(), last.id()).encode();
+        return new DocumentReviewQueuePageDTO(List.copyOf(page), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public DocumentReviewCountsDTO counts() {
+        DocumentReviewCountsDTO current = cachedCounts;
+        if (current != null && current.computedAt().plus(countsTtl).isAfter(Instant.now())) {
+            return current;
+        }
+        Map<ReviewStatus, Long> counts = new EnumMap<>(ReviewStatus.class);
+        for (ReviewStatus status : ReviewStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (ReviewStatusCountDTO row : documentRepository.countByReviewStatus()) {
+            counts.put(row.reviewStatus(), row.total());
+        }
+        DocumentReviewCountsDTO refreshed = new DocumentReviewCountsDTO(Collections.unmodifiableMap(counts), Instant.now());
+        cachedCounts = refreshed;
+        return refreshed;
+    }
+
+    /**
+     * Chamado quando um documento entra na fila ou muda de status, para a próxima leitura recalcular.
+     */
+    public void invalidateCounts() {
+        AfterCommit.invalidateNowAndAfterCommit(() -> cachedCounts = null);
+    }
+
+    private static LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidPageCursorException();
+        }
+    }
+}
@@ -1,69 +1,119 @@
 package org.example.server.service;
 
+import jakarta.annotation.PreDestroy;
+import org.example.server.dto.document.DocumentBatchUploadItemDTO;
+import org.example.server.dto.document.DocumentBatchUploadResponseDTO;
 import org.example.server.dto.document.DocumentMapper;
 import org.example.server.dto.document.DocumentResponseDTO;
 import org.example.server.dto.document.DocumentReviewRequestDTO;
 import org.example.server.dto.document.DocumentUploadRequestDTO;
 import org.example.server.service.factory.DocumentFactory;
+import org.example.server.enums.DocumentType;
 import org.example.server.enums.UserRole;
+import org.example.server.enums.DocumentStorageStatus;
 import org.example.server.exception.DocumentUploadException;
 import org.example.server.exception.auth.AccessDeniedException;
 import org.example.server.exception.generic.DataAlreadyExistsException;
 import org.example.server.exception.generic.RecordNotFoundException;
-import org.example.server.infra.storage.cloudinary.CloudinaryDocumentService;
+import org.example.server.infra.storage.DocumentStagingArea;
+import org.example.server.infra.storage.StagedFile;
+import org.example.server.model.Dealer;
 import org.example.server.model.Document;
+import org.example.server.model.StoredObject;
 import org.example.server.model.User;
 import org.example.server.repository.DealerRepository;
 import org.example.server.repository.DocumentRepository;
+import org.example.server.service.job.DocumentIngestionWorker;
+import org.example.server.util.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class DocumentService {
 
-    private final CloudinaryDocumentService cloudinaryDocumentService;
     private final DocumentRepository documentRepository;
     private final DealerRepository dealerRepository;
     private final EmailService emailService;
     private final DocumentFactory documentFactory;
     private final DocumentMapper mapper;
+    private final DocumentStagingArea stagingArea;
+    private final DocumentIngestionWorker documentIngestionWorker;
+    private final StoredObjectService storedObjectService;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentReviewQueueService reviewQueueService;
+    private final DocumentUrlService documentUrlService;
 
     private static final long MAX_FILE_BYTES = 10 * 1024 * 1024; // 10MB
     private static final String[] ALLOWED_CONTENT_TYPES = {"image/jpeg", "image/png"};
+    private static final int MAX_BATCH_FILES = 10;
 
-    public DocumentService(CloudinaryDocumentService cloudinaryDocumentService, DocumentRepository documentRepository, DealerRepository dealerRepository, EmailService emailService, DocumentFactory documentFactory, DocumentMapper mapper) {
-        this.cloudinaryDocumentService = cloudinaryDocumentService;
+    private final ExecutorService stagingExecutor;
+
+    @Value("${cloudinary.documents-folder:documents}")
+    private String documentsFolder;
+
+    public DocumentService(DocumentRepository documentRepository, DealerRepository dealerRepository, EmailService emailService, DocumentFactory documentFactory, DocumentMapper mapper, DocumentStagingArea stagingArea, DocumentIngestionWorker documentIngestionWorker, StoredObjectService storedObjectService, TransactionTemplate transactionTemplate, DocumentReviewQueueService reviewQueueService, DocumentUrlService documentUrlService, @Value("${app.documents.batch.staging-threads:4}") int stagingThreads) {
         this.documentRepository = documentRepository;
         this.dealerRepository = dealerRepository;
         this.emailService = emailService;
         this.documentFactory = documentFactory;
         this.mapper = mapper;
+        this.stagingArea = stagingArea;
+        this.documentIngestionWorker = documentIngestionWorker;
+        this.storedObjectService = storedObjectService;
+        this.transactionTemplate = transactionTemplate;
+        this.reviewQueueService = reviewQueueService;
+        this.documentUrlService = documentUrlService;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        // fila limitada: com ela cheia a própria requisição copia o arquivo, em vez de acumular tarefas
+        this.stagingExecutor = new ThreadPoolExecutor(stagingThreads, stagingThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(stagingThreads * MAX_BATCH_FILES),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "document-staging-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
-    @Transactional
+    /**
+     * Grava o arquivo na área de staging e o documento como {@code PENDING_UPLOAD}, sem transação aberta
+     * durante a cópia. O envio ao armazenamento fica com o {@link DocumentIngestionWorker}.
+     */
     public DocumentResponseDTO uploadDocument(DocumentUploadRequestDTO dto, User user, Long dealerId) {
 
-        if (user.getRole().equals(UserRole.ADMIN)) {
-            if (dealerId == null) {
-                throw new RecordNotFoundException("ADMIN precisa informar o id do lojista.");
-            }
-            dealerRepository.findById(dealerId)
-                    .orElseThrow(() -> new RecordNotFoundException("Lojista não encontrado."));
-        } else if (user.getRole().equals(UserRole.LOJISTA)) {
-            var dealer = user.getDealer();
-            if (dealer == null) {
-                throw new AccessDeniedException("Usuário LOJISTA não possui dealer associado.");
-            }
-        } else {
-            throw new AccessDeniedException("Este usuário não tem permissão para enviar documentos.");
-        }
+        Dealer dealer = resolveUploadDealer(user, dealerId);
 
-        if (documentRepository.existsByDealerIdAndDocumentType(dealerId, dto.documentType())) {
+        if (documentRepository.existsByDealerIdAndDocumentType(dealer.getId(), dto.documentType())) {
             throw new DataAlreadyExistsException("O documento " + dto.documentType() + " já foi enviado para este dealer.");
         }
 
@@ -72,32 +122,201 @@ public class DocumentService {
 
         String publicId = buildCloudinaryPublicId(user.getId());
 
-        try {
-            publicId = cloudinaryDocumentService.uploadFile(publicId, file);
+        StagedFile staged;
+        try (InputStream content = file.getInputStream()) {
+            staged = stagingArea.stage(publicId, content);
         } catch (IOException e) {
-            throw new DocumentUploadException("Falha ao enviar documento para o Cloudinary.", e);
+            throw new DocumentUploadException("Falha ao receber o documento.", e);
         }
 
-        Document document = documentFactory.create(dto, user, publicId);
+        Document saved;
+        try {
+            saved = registerStagedDocument(dto, user, dealer, staged);
+        } catch (RuntimeException e) {
+            stagingArea.discard(staged.name());
+            throw e;
+        }
+
+        reviewQueueService.invalidateCounts();
+
+        if (saved.getStagedFile() != null) {
+            documentIngestionWorker.submit(saved.getId());
+        } else {
+            // conteúdo já armazenado (ou sendo enviado por outro upload): a cópia local não é mais necessária
+            stagingArea.discard(staged.name());
+        }
 
-        return mapper.toDTO(documentRepository.save(document));
+        return mapper.toDTO(saved);
     }
 
-    @Transactional
-    public java.net.URL getPresignedUrl(Long documentId, User user) {
+    /**
+     * Upload de vários documentos de uma vez (onboarding do lojista). Valida todos os arquivos antes de começar,
+     * checa os tipos já enviados com uma única consulta, copia os arquivos para o staging em paralelo
+     * e grava todos os documentos em um único batch. Tipos já enviados voltam como erro no item correspondente.
+     */
+    public DocumentBatchUploadResponseDTO uploadDocuments(List<DocumentUploadRequestDTO> requests, User user, Long dealerId) {
+
+        Dealer dealer = resolveUploadDealer(user, dealerId);
+        validateBatch(requests);
+
+        Set<DocumentType> existingTypes = documentRepository.findDocumentTypesByDealerId(dealer.getId());
+        DocumentBatchUploadItemDTO[] results = new DocumentBatchUploadItemDTO[requests.size()];
+        Map<Integer, Future<StagedFile>> staging = new LinkedHashMap<>();
+        // arquivos copiados, para descartar se a requisição desistir antes de recolhê-los
+        Set<String> stagedNames = new HashSet<>();
+        AtomicBoolean abandoned = new AtomicBoolean();
+
+        for (int i = 0; i < requests.size(); i++) {
+            DocumentUploadRequestDTO request = requests.get(i);
+            if (existingTypes.contains(request.documentType())) {
+                results[i] = rejected(i, request, "O documento " + request.documentType() + " já foi enviado para este dealer.");
+                continue;
+            }
+            String publicId = buildCloudinaryPublicId(user.getId());
+            staging.put(i, stagingExecutor.submit(() -> {
+                StagedFile file;
+                try (InputStream content = request.file().getInputStream()) {
+                    file = stagingArea.stage(publicId, content);
+                }
+                synchronized (stagedNames) {
+                    if (!abandoned.get()) {
+                        stagedNames.add(file.name());
+                        return file;
+                    }
+                }
+                stagingArea.discard(file.name());
+                return file;
+            }));
+        }
 
-        @SuppressWarnings("null")
-        Document doc = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RecordNotFoundException("Documento não encontrado"));
+        Map<Integer, StagedFile> staged = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Future<StagedFile>> entry : staging.entrySet()) {
+            int index = entry.getKey();
+            try {
+                staged.put(index, entry.getValue().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                staging.values().forEach(future -> future.cancel(true));
+                List<String> orphaned;
+                synchronized (stagedNames) {
+                    abandoned.set(true);
+                    orphaned = List.copyOf(stagedNames);
+                }
+                orphaned.forEach(stagingArea::discard);
+                throw new DocumentUploadException("Upload interrompido.", e);
+            } catch (ExecutionException e) {
+                results[index] = rejected(index, requests.get(index), "Falha ao receber o documento.");
+            }
+        }
+
+        List<Document> saved = List.of();
+        if (!staged.isEmpty()) {
+            try {
+                saved = registerStagedBatch(requests, user, dealer, staged);
+            } catch (RuntimeException e) {
+                staged.values().forEach(file -> stagingArea.discard(file.name()));
+                throw e;
+            }
+            reviewQueueService.invalidateCounts();
+        }
+
+        int position = 0;
+        for (Map.Entry<Integer, StagedFile> entry : staged.entrySet()) {
+            Document document = saved.get(position++);
+            if (document.getStagedFile() != null) {
+                documentIngestionWorker.submit(document.getId());
+            } else {
+                stagingArea.discard(entry.getValue().name());
+            }
+            DocumentUploadRequestDTO request = requests.get(entry.getKey());
+            results[entry.getKey()] = new DocumentBatchUploadItemDTO(entry.getKey(), request.documentType(),
+                    request.file().getOriginalFilename(), mapper.toDTO(document), null);
+        }
+
+        List<DocumentBatchUploadItemDTO> items = Arrays.asList(results);
+        return new DocumentBatchUploadResponseDTO(items, saved.size(), items.size() - saved.size());
+    }
+
+    private List<Document> registerStagedBatch(List<DocumentUploadRequestDTO> requests, User user, Dealer dealer, Map<Integer, StagedFile> staged) {
+        try {
+            return transactionTemplate.execute(status -> persistStagedBatch(requests, user, dealer, staged));
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(status -> persistStagedBatch(requests, user, dealer, staged));
+        }
+    }
+
+    /**
+     * Os StoredObjects são travados em ordem de hash, para dois lotes com conteúdos em comum não se bloquearem
+     * em ordem inversa. A lista devolvida segue a ordem de {@code staged}.
+     */
+    private List<Document> persistStagedBatch(List<DocumentUploadRequestDTO> requests, User user, Dealer dealer, Map<Integer, StagedFile> staged) {
+        Map<Integer, Document> documents = new HashMap<>();
+        staged.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparing(file -> contentKey(dealer.getId(), file.sha256()))))
+                .forEach(entry -> documents.put(entry.getKey(), prepareStaged(requests.get(entry.getKey()), user, dealer, entry.getValue())));
+
+        List<Document> ordered = new ArrayList<>(staged.size());
+        staged.keySet().forEach(index -> ordered.add(documents.get(index)));
+        documentRepository.insertAll(ordered);
+        return ordered;
+    }
+
+    private Document registerStagedDocument(DocumentUploadRequestDTO dto, User user, Dealer dealer, StagedFile staged) {
+        try {
+            return transactionTemplate.execute(status -> persistStaged(dto, user, dealer, staged));
+        } catch (DataIntegrityViolationException e) {
+            // outro upload do mesmo conteúdo criou o StoredObject ao mesmo tempo; agora ele já existe
+            return transactionTemplate.execute(status -> persistStaged(dto, user, dealer, staged));
+        }
+    }
 
-        boolean isAdmin = user.getRole() == UserRole.ADMIN;
-        boolean isOwnerDealer = doc.getDealer().getUser().getId().equals(user.getId());
+    private Document persistStaged(DocumentUploadRequestDTO dto, User user, Dealer dealer, StagedFile staged) {
+        return documentRepository.save(prepareStaged(dto, user, dealer, staged));
+    }
 
-        if (!isAdmin && !isOwnerDealer) {
-            throw new AccessDeniedException("Acesso negado: você não tem permissão para visualizar este documento.");
+    private Document prepareStaged(DocumentUploadRequestDTO dto, User user, Dealer dealer, StagedFile staged) {
+        String contentKey = contentKey(dealer.getId(), staged.sha256());
+        StoredObjectService.Acquisition acquisition = storedObjectService.acquire(contentKey, staged.sizeBytes());
+        StoredObject storedObject = acquisition.object();
+
+        String s3Key = storedObject.isStored() ? storedObject.getStorageKey() : documentsFolder + "/" + staged.name();
+        Document document = documentFactory.create(dto, user, s3Key);
+        document.setDealer(dealer);
+        document.setContentHash(contentKey);
+        document.setUploadAttempts(0);
+
+        if (storedObject.isStored()) {
+            document.setStorageStatus(DocumentStorageStatus.AVAILABLE);
+            applyStoredContent(document, storedObject);
+        } else if (acquisition.created()) {
+            document.setStorageStatus(DocumentStorageStatus.PENDING_UPLOAD);
+            document.setStagedFile(staged.name());
+            document.setNextUploadAt(Instant.now());
+        } else {
+            // fica aguardando o upload em andamento; o worker atualiza todos os documentos com o mesmo hash
+            document.setStorageStatus(DocumentStorageStatus.PENDING_UPLOAD);
         }
 
-        return cloudinaryDocumentService.generateFileUrl(doc.getS3Key());
+        return document;
+    }
+
+    /**
+     * Chave de deduplicação do conteúdo, restrita ao lojista: com o SHA-256 puro, um lojista que enviasse um
+     * arquivo igual ao de outro o veria disponível na hora e saberia que o outro tem aquele documento.
+     */
+    static String contentKey(Long dealerId, String sha256) {
+        return Hashing.sha256Hex(dealerId + ":" + sha256);
+    }
+
+    private static void applyStoredContent(Document document, StoredObject storedObject) {
+        document.setThumbnailKey(storedObject.getThumbnailKey());
+        if (storedObject.getStoredSizeBytes() != null) {
+            document.setOriginalSizeBytes(document.getSizeBytes());
+            document.setSizeBytes(storedObject.getStoredSizeBytes());
+        }
+        if (storedObject.getStoredContentType() != null) {
+            document.setContentType(storedObject.getStoredContentType());
+        }
     }
 
     @Transactional
@@ -109,6 +328,7 @@ public class DocumentService {
 
         @SuppressWarnings("null")
         Document document = documentRepository.findById(id)
+                .filter(found -> found.getDealer().getDeletedAt() == null)
                 .orElseThrow(() -> new RecordNotFoundException(id));
 
         document.setReviewStatus(reviewDTO.reviewStatus());
@@ -116,6 +336,8 @@ public class DocumentService {
         document.setUpdatedAt(LocalDateTime.now());
 
         Document saved = documentRepository.save(document);
+        reviewQueueService.invalidateCounts();
+        documentUrlService.evict(saved.getId());
 
         emailService.sendReviewDocument(document.getDealer().getUser().getEmail(), document);
 
@@ -136,6 +358,52 @@ public class DocumentService {
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    private Dealer resolveUploadDealer(User user, Long dealerId) {
+        if (user.getRole().equals(UserRole.ADMIN)) {
+            if (dealerId == null) {
+                throw new RecordNotFoundException("ADMIN precisa informar o id do lojista.");
+            }
+            return dealerRepository.findActiveById(dealerId)
+                    .orElseThrow(() -> new RecordNotFoundException("Lojista não encontrado."));
+        }
+        if (user.getRole().equals(UserRole.LOJISTA)) {
+            Dealer dealer = user.getDealer();
+            if (dealer == null) {
+                throw new AccessDeniedException("Usuário LOJISTA não possui dealer associado.");
+            }
+            return dealer;
+        }
+        throw new AccessDeniedException("Este usuário não tem permissão para enviar documentos.");
+    }
+
+    private void validateBatch(List<DocumentUploadRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new DocumentUploadException("Envie ao menos um documento.");
+        }
+        if (requests.size() > MAX_BATCH_FILES) {
+            throw new DocumentUploadException("Envie no máximo " + MAX_BATCH_FILES + " documentos por vez.");
+        }
+        Set<DocumentType> types = EnumSet.noneOf(DocumentType.class);
+        for (DocumentUploadRequestDTO request : requests) {
+            if (request.documentType() == null) {
+                throw new DocumentUploadException("O tipo de documento é obrigatório.");
+            }
+            if (!types.add(request.documentType())) {
+                throw new DocumentUploadException("O documento " + request.documentType() + " foi enviado mais de uma vez.");
+            }
+            validateFile(request.file());
+        }
+    }
+
+    private static DocumentBatchUploadItemDTO rejected(int index, DocumentUploadRequestDTO request, String error) {
+        return new DocumentBatchUploadItemDTO(index, request.documentType(), request.file().getOriginalFilename(), null, error);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stagingExecutor.shutdown();
+    }
+
     private String buildCloudinaryPublicId(Long userId) {
         return "user-" + userId + "-document-" + UUID.randomUUID();
     }
@@ -0,0 +1,198 @@
+package org.example.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.server.dto.document.DocumentAccessDTO;
+import org.example.server.dto.document.DocumentUrlDTO;
+import org.example.server.enums.DocumentStorageStatus;
+import org.example.server.enums.UserRole;
+import org.example.server.exception.DocumentNotAvailableException;
+import org.example.server.exception.auth.AccessDeniedException;
+import org.example.server.exception.generic.RecordNotFoundException;
+import org.example.server.infra.cache.CacheInvalidationChannel;
+import org.example.server.infra.persistence.AfterCommit;
+import org.example.server.infra.storage.DocumentStorage;
+import org.example.server.infra.storage.SignedUrl;
+import org.example.server.infra.storage.SignedUrlCache;
+import org.example.server.model.User;
+import org.example.server.repository.DocumentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Emite URLs de acesso a documentos. A autorização usa uma única consulta de projeção
+ * ({@link DocumentAccessDTO}) e as URLs geradas ficam no {@link SignedUrlCache} até pouco antes de expirar.
+ */
+@Service
+public class DocumentUrlService {
+
+    private static final String ADMIN_SCOPE = "ADMIN";
+    static final String TOPIC = "document-url";
+    // o payload do NOTIFY é limitado a 8000 bytes
+    private static final int IDS_PER_MESSAGE = 200;
+
+    private final DocumentRepository documentRepository;
+    private final DocumentStorage documentStorage;
+    private final SignedUrlCache cache;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final Duration ttl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public DocumentUrlService(
+            DocumentRepository documentRepository,
+            DocumentStorage documentStorage,
+            SignedUrlCache cache,
+            CacheInvalidationChannel invalidationChannel,
+            MeterRegistry meterRegistry,
+            @Value("${app.documents.url.ttl-seconds:900}") long ttlSeconds
+    ) {
+        this.documentRepository = documentRepository;
+        this.documentStorage = documentStorage;
+        this.cache = cache;
+        this.invalidationChannel = invalidationChannel;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.hitCounter = meterRegistry.counter("documents.url.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("documents.url.cache", "result", "miss");
+        meterRegistry.gauge("documents.url.cache.size", cache, SignedUrlCache::size);
+
+        invalidationChannel.subscribe(TOPIC, new CacheInvalidationChannel.Subscriber() {
+            @Override
+            public void onMessage(String message) {
+                applyRemote(message);
+            }
+
+            @Override
+            public void onReconnect() {
+                cache.clear();
+            }
+        });
+    }
+
+    public SignedUrl issue(Long documentId, User user, boolean thumbnail) {
+        SignedUrlCache.Key key = new SignedUrlCache.Key(documentId, scopeOf(user), thumbnail);
+        SignedUrl cached = cache.get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        DocumentAccessDTO access = documentRepository.findAccessById(documentId)
+                .orElseThrow(() -> new RecordNotFoundException("Documento não encontrado"));
+        if (!canRead(access, user)) {
+            throw new AccessDeniedException("Acesso negado: você não tem permissão para visualizar este documento.");
+        }
+        if (!access.isAvailable()) {
+            throw new DocumentNotAvailableException("Documento ainda não está disponível (" + access.storageStatus() + ").");
+        }
+        String storedKey = thumbnail ? access.thumbnailKey() : access.s3Key();
+        if (storedKey == null) {
+            throw new RecordNotFoundException("Documento não possui miniatura.");
+        }
+
+        SignedUrl url = documentStorage.sign(storedKey, ttl);
+        cache.put(key, url);
+        return url;
+    }
+
+    /**
+     * Versão em lote para grades de revisão: uma consulta para os ids fora do cache.
+     * Ids inexistentes ou de outro lojista são omitidos; documentos ainda não disponíveis voltam sem URL.
+     */
+    public List<DocumentUrlDTO> issueAll(Collection<Long> documentIds, User user, boolean thumbnail) {
+        String scope = scopeOf(user);
+        Set<Long> ids = new LinkedHashSet<>(documentIds);
+        Map<Long, DocumentUrlDTO> result = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        for (Long id : ids) {
+            SignedUrl cached = cache.get(new SignedUrlCache.Key(id, scope, thumbnail));
+            if (cached != null) {
+                hitCounter.increment();
+                result.put(id, toDTO(id, cached));
+            } else {
+                missCounter.increment();
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (DocumentAccessDTO access : documentRepository.findAccessByIdIn(misses)) {
+                if (!canRead(access, user)) {
+                    continue;
+                }
+                String storedKey = thumbnail ? access.thumbnailKey() : access.s3Key();
+                if (!access.isAvailable() || storedKey == null) {
+                    result.put(access.documentId(), new DocumentUrlDTO(access.documentId(), null, null,
+                            access.storageStatus() != null ? access.storageStatus() : DocumentStorageStatus.AVAILABLE));
+                    continue;
+                }
+                SignedUrl url = documentStorage.sign(storedKey, ttl);
+                cache.put(new SignedUrlCache.Key(access.documentId(), scope, thumbnail), url);
+                result.put(access.documentId(), toDTO(access.documentId(), url));
+            }
+        }
+
+        List<DocumentUrlDTO> ordered = new ArrayList<>(result.size());
+        for (Long id : ids) {
+            DocumentUrlDTO dto = result.get(id);
+            if (dto != null) {
+                ordered.add(dto);
+            }
+        }
+        return ordered;
+    }
+
+    public void evict(Long documentId) {
+        evict(List.of(documentId));
+    }
+
+    /**
+     * Descarta as URLs dos documentos agora e de novo após o commit, para uma emissão concorrente
+     * não recolocar no cache a URL de um documento já alterado ou apagado, e avisa as outras réplicas.
+     */
+    public void evict(Collection<Long> documentIds) {
+        List<Long> ids = List.copyOf(documentIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        AfterCommit.invalidateNowAndAfterCommit(() -> cache.evictDocuments(ids));
+        for (int from = 0; from < ids.size(); from += IDS_PER_MESSAGE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IDS_PER_MESSAGE, ids.size()));
+            invalidationChannel.publish(TOPIC, chunk.stream().map(String::valueOf).collect(Collectors.joining(" ")));
+        }
+    }
+
+    void applyRemote(String message) {
+        List<Long> ids = new ArrayList<>();
+        for (String id : message.split(" ")) {
+            if (!id.isEmpty()) {
+                ids.add(Long.valueOf(id));
+            }
+        }
+        cache.evictDocuments(ids);
+    }
+
+    private static boolean canRead(DocumentAccessDTO access, User user) {
+        return user.getRole() == UserRole.ADMIN || user.getId().equals(access.ownerUserId());
+    }
+
+    private static String scopeOf(User user) {
+        return user.getRole() == UserRole.ADMIN ? ADMIN_SCOPE : "USER:" + user.getId();
+    }
+
+    private static DocumentUrlDTO toDTO(Long documentId, SignedUrl url) {
+        return new DocumentUrlDTO(documentId, url.url().toString(), url.expiresAt(), DocumentStorageStatus.AVAILABLE);
+    }
+}
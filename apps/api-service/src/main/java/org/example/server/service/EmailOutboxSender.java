@@ -0,0 +1,102 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.mail.internet.MimeMessage;
+import org.example.server.model.EmailOutbox;
+import org.example.server.service.factory.EmailMessageFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renderiza e envia um lote de mensagens da tabela de saída.
+ * {@link JavaMailSender#send(MimeMessage...)} abre uma única conexão SMTP para o lote inteiro.
+ */
+@Component
+public class EmailOutboxSender {
+
+    private static final TypeReference<Map<String, String>> VARIABLES_TYPE = new TypeReference<>() {};
+
+    private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final EmailMessageFactory emailMessageFactory;
+    private final ObjectMapper objectMapper;
+    private final String fromEmail;
+
+    public EmailOutboxSender(
+            JavaMailSender mailSender,
+            EmailTemplateRenderer emailTemplateRenderer,
+            EmailMessageFactory emailMessageFactory,
+            ObjectMapper objectMapper,
+            @Value("${app.mail.from}") String fromEmail
+    ) {
+        this.mailSender = mailSender;
+        this.emailTemplateRenderer = emailTemplateRenderer;
+        this.emailMessageFactory = emailMessageFactory;
+        this.objectMapper = objectMapper;
+        this.fromEmail = fromEmail;
+    }
+
+    /**
+     * Envia as mensagens e devolve o erro de cada uma que falhou, indexado pelo id da linha.
+     */
+    public Map<Long, String> send(List<EmailOutbox> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+
+        for (EmailOutbox entry : batch) {
+            try {
+                messages.put(render(entry), entry);
+            } catch (Exception e) {
+                failures.put(entry.getId(), describe(e));
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                messages.values().forEach(entry -> failures.put(entry.getId(), describe(e)));
+            } else {
+                failedMessages.forEach((message, cause) -> {
+                    EmailOutbox entry = messages.get(message);
+                    if (entry != null) {
+                        failures.put(entry.getId(), describe(cause));
+                    }
+                });
+            }
+        } catch (MailException e) {
+            messages.values().forEach(entry -> failures.put(entry.getId(), describe(e)));
+        }
+        return failures;
+    }
+
+    private MimeMessage render(EmailOutbox entry) throws Exception {
+        Map<String, String> variables = entry.getVariables() != null
+                ? objectMapper.readValue(entry.getVariables(), VARIABLES_TYPE)
+                : Map.of();
+        String html = emailTemplateRenderer.render(entry.getTemplateName(), variables);
+
+        MimeMessageHelper helper = emailMessageFactory.create(entry.getRecipient(), entry.getSubject(), fromEmail);
+        helper.setText(html, true);
+        return helper.getMimeMessage();
+    }
+
+    private String describe(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.exception.EmailException;
+import org.example.server.model.EmailOutbox;
+import org.example.server.repository.EmailOutboxRepository;
+import org.example.server.util.Hashing;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Grava e-mails na tabela de saída. O envio é feito pelo {@code EmailOutboxDispatcher};
+ * quando chamado dentro de uma transação, o e-mail só é enfileirado se ela for confirmada.
+ * <p>
+ * A deduplicação só descarta repetições do mesmo evento: a chave inclui um escopo (o evento de origem ou,
+ * sem ele, a janela de {@link #DEDUP_WINDOW} corrente), de modo que o mesmo e-mail pode voltar a ser
+ * enviado mais tarde. A gravação usa {@code ON CONFLICT DO NOTHING}, sem corrida entre chamadas simultâneas.
+ */
+@Service
+public class EmailOutboxService {
+
+    static final Duration DEDUP_WINDOW = Duration.ofMinutes(10);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository, ObjectMapper objectMapper) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Enfileira descartando repetições dentro da janela de {@link #DEDUP_WINDOW} corrente (clique duplo,
+     * reenvio da mesma requisição).
+     */
+    @Transactional
+    public void enqueue(String to, String subject, String templateName, Map<String, String> variables) {
+        long window = Instant.now().getEpochSecond() / DEDUP_WINDOW.getSeconds();
+        enqueue("janela:" + window, to, subject, templateName, variables);
+    }
+
+    /**
+     * Enfileira descartando repetições do mesmo {@code scope}, que identifica o evento de origem.
+     */
+    @Transactional
+    public void enqueue(String scope, String to, String subject, String templateName, Map<String, String> variables) {
+        emailOutboxRepository.insertIfAbsent(prepare(scope, to, subject, templateName, variables));
+    }
+
+    /**
+     * Monta a linha da tabela de saída sem gravá-la, já com a chave de deduplicação calculada. O escopo
+     * entra na chave e separa envios legítimos com as mesmas variáveis (etapas diferentes de uma campanha).
+     */
+    public EmailOutbox prepare(String scope, String to, String subject, String templateName, Map<String, String> variables) {
+        String payload = serialize(variables);
+        String dedupKey = Hashing.sha256Hex(scope + '\n' + to + '\n' + templateName + '\n' + payload);
+        return new EmailOutbox(dedupKey, to, subject, templateName, payload);
+    }
+
+    /**
+     * Enfileira um lote com um insert em batch.
+     * Devolve apenas as mensagens que ainda não estavam na fila.
+     */
+    @Transactional
+    public List<EmailOutbox> enqueueAll(List<EmailOutbox> emails) {
+        return emailOutboxRepository.insertAll(emails);
+    }
+
+    private String serialize(Map<String, String> variables) {
+        try {
+            // TreeMap garante a mesma ordem de chaves e, portanto, a mesma chave de deduplicação
+            return objectMapper.writeValueAsString(new TreeMap<>(variables));
+        } catch (JsonProcessingException e) {
+            throw new EmailException("Não foi possível serializar as variáveis do e-mail", e);
+        }
+    }
+}
@@ -1,80 +1,41 @@
 package org.example.server.service;
 
-import org.example.server.exception.EmailException;
 import org.example.server.model.Document;
-import org.example.server.service.factory.EmailMessageFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-    private final SpringTemplateEngine springTemplateEngine;
-    private final EmailMessageFactory emailMessageFactory;
-
-    @Value("${app.mail.from}")
-    private String fromEmail;
+    private final EmailOutboxService emailOutboxService;
 
-    public EmailService(JavaMailSender mailSender, SpringTemplateEngine springTemplateEngine, EmailMessageFactory emailMessageFactory) {
-        this.mailSender = mailSender;
-        this.springTemplateEngine = springTemplateEngine;
-        this.emailMessageFactory = emailMessageFactory;
+    public EmailService(EmailOutboxService emailOutboxService) {
+        this.emailOutboxService = emailOutboxService;
     }
 
-    @Async
     public void sendVerificationEmail(String to, String code){
-        sendEmailWithTemplate(to, "Verificação de E-mail", "verification-email", code);
+        emailOutboxService.enqueue(to, "Verificação de E-mail", "verification-email", Map.of("code", code));
     }
 
-    @Async
     public void sendPasswordResetEmail(String to, String code) {
-        sendEmailWithTemplate(to, "Redefinição de Senha", "password-reset-email", code);
+        emailOutboxService.enqueue(to, "Redefinição de Senha", "password-reset-email", Map.of("code", code));
     }
 
-    @Async
     public void sendPasswordToEmail(String to, String password){
-        sendEmailWithTemplate(to, "Senha para login", "password-seller", password);
+        emailOutboxService.enqueue(to, "Senha para login", "password-seller", Map.of("password", password));
     }
 
-    @Async
     public void sendReviewDocument(String to, Document document){
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("documentType", document.getDocumentType());
-            ctx.setVariable("reviewStatus", document.getReviewStatus());
-            ctx.setVariable("reviewComment", document.getReviewComment());
-
-            String html = springTemplateEngine.process("document-review", ctx);
-
-            MimeMessageHelper helper = emailMessageFactory.create(to, "Atualização no status do seu documento", fromEmail);
-            helper.setText(html, true);
-            mailSender.send(helper.getMimeMessage());
-
-        } catch (Exception e) {
-            throw new EmailException("Não foi possível enviar e-mail de revisão de documento", e);
-        }
-    }
-
-    @Async
-    protected void sendEmailWithTemplate(String to, String subject, String templateName, String code){
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("code", code);
-
-            String html = springTemplateEngine.process(templateName, ctx);
-
-            MimeMessageHelper helper = emailMessageFactory.create(to, subject, fromEmail);
-            helper.setText(html, true);
-            mailSender.send(helper.getMimeMessage());
-
-        } catch (Exception e) {
-            throw new EmailException("Não foi possível enviar e-mail", e);
+        Map<String, String> variables = new HashMap<>();
+        variables.put("documentType", String.valueOf(document.getDocumentType()));
+        variables.put("reviewStatus", String.valueOf(document.getReviewStatus()));
+        if (document.getReviewComment() != null) {
+            variables.put("reviewComment", document.getReviewComment());
         }
+        // cada revisão é um evento próprio: revisar de novo com o mesmo status também avisa o lojista
+        String scope = "documento:" + document.getId() + ':' + document.getUpdatedAt();
+        emailOutboxService.enqueue(scope, to, "Atualização no status do seu documento", "document-review", variables);
     }
 }
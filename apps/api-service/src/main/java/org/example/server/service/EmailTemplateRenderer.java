@@ -0,0 +1,93 @@
+package org.example.server.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renderiza os templates de e-mail a partir de uma versão pré-processada.
+ * <p>
+ * Na primeira chamada para um template, locale e conjunto de variáveis presentes, o Thymeleaf
+ * processa o template com marcadores no lugar dos valores. A saída é quebrada em trechos
+ * estáticos e lacunas; nas chamadas seguintes basta concatenar os trechos com os valores escapados.
+ * Vale para templates que usam as variáveis apenas em {@code th:text} e testes de nulo,
+ * que é o caso dos templates de e-mail atuais.
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    private final SpringTemplateEngine springTemplateEngine;
+    private final String slotNonce = UUID.randomUUID().toString().replace("-", "");
+    private final Pattern slotPattern = Pattern.compile("@@" + slotNonce + ":([A-Za-z0-9_]+)@@");
+    private final Map<TemplateKey, PrerenderedTemplate> cache = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(SpringTemplateEngine springTemplateEngine) {
+        this.springTemplateEngine = springTemplateEngine;
+    }
+
+    public String render(String templateName, Map<String, String> variables) {
+        return render(templateName, Locale.getDefault(), variables);
+    }
+
+    public String render(String templateName, Locale locale, Map<String, String> variables) {
+        Set<String> present = new TreeSet<>();
+        variables.forEach((name, value) -> {
+            if (value != null) {
+                present.add(name);
+            }
+        });
+        TemplateKey key = new TemplateKey(templateName, locale, Set.copyOf(present));
+        return cache.computeIfAbsent(key, this::prerender).fill(variables);
+    }
+
+    public int cachedTemplates() {
+        return cache.size();
+    }
+
+    private PrerenderedTemplate prerender(TemplateKey key) {
+        Context ctx = new Context(key.locale());
+        key.variables().forEach(name -> ctx.setVariable(name, "@@" + slotNonce + ":" + name + "@@"));
+        String html = springTemplateEngine.process(key.templateName(), ctx);
+
+        List<String> fragments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        Matcher matcher = slotPattern.matcher(html);
+        int last = 0;
+        while (matcher.find()) {
+            fragments.add(html.substring(last, matcher.start()));
+            slots.add(matcher.group(1));
+            last = matcher.end();
+        }
+        fragments.add(html.substring(last));
+        return new PrerenderedTemplate(fragments.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    private record TemplateKey(String templateName, Locale locale, Set<String> variables) {
+    }
+
+    private record PrerenderedTemplate(String[] fragments, String[] slots) {
+
+        String fill(Map<String, String> variables) {
+            StringBuilder out = new StringBuilder(fragments[0].length() * (slots.length + 1) + 64);
+            out.append(fragments[0]);
+            for (int i = 0; i < slots.length; i++) {
+                out.append(HtmlUtils.htmlEscape(Objects.toString(variables.get(slots[i]), ""), "UTF-8"));
+                out.append(fragments[i + 1]);
+            }
+            return out.toString();
+        }
+    }
+}
@@ -33,6 +33,7 @@ public class ManagerService {
     private final DealerRepository dealerRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final ManagerUserFactory managerUserFactory;
+    private final UserDealerResolver userDealerResolver;
 
     public ManagerService(
             ManagerRepository managerRepository,
@@ -42,7 +43,8 @@ public class ManagerService {
             EmailService emailService,
             DealerRepository dealerRepository,
             RefreshTokenRepository refreshTokenRepository,
-            ManagerUserFactory managerUserFactory
+            ManagerUserFactory managerUserFactory,
+            UserDealerResolver userDealerResolver
     ) {
         this.managerRepository = managerRepository;
         this.userRepository = userRepository;
@@ -52,6 +54,7 @@ public class ManagerService {
         this.dealerRepository = dealerRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.managerUserFactory = managerUserFactory;
+        this.userDealerResolver = userDealerResolver;
     }
 
     @Transactional
@@ -61,7 +64,7 @@ public class ManagerService {
             throw new AccessDeniedException("Apenas ADMIN pode cadastrar gestor.");
         }
 
-        if (userRepository.existsByEmail(managerRequestDTO.email())) {
+        if (userRepository.isEmailTaken(managerRequestDTO.email())) {
             throw new DataAlreadyExistsException("Email ja existe.");
         }
 
@@ -71,7 +74,7 @@ public class ManagerService {
 
         Dealer dealer = null;
         if (managerRequestDTO.dealerId() != null) {
-            dealer = dealerRepository.findById(managerRequestDTO.dealerId())
+            dealer = dealerRepository.findActiveById(managerRequestDTO.dealerId())
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
         }
 
@@ -124,13 +127,14 @@ public class ManagerService {
         Manager manager = managerRepository.findById(managerId)
                 .orElseThrow(() -> new RecordNotFoundException(managerId));
         if (dealerId != null) {
-            Dealer dealer = dealerRepository.findById(dealerId)
+            Dealer dealer = dealerRepository.findActiveById(dealerId)
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
             manager.setDealer(dealer);
         } else {
             manager.setDealer(null);
         }
         managerRepository.save(manager);
+        userDealerResolver.evict(manager.getUser().getId());
         return managerMapper.toDTO(manager);
     }
 
@@ -141,7 +145,7 @@ public class ManagerService {
         User managerUser = manager.getUser();
         Dealer dealer = manager.getDealer();
         if (managerRequestDTO.dealerId() != null) {
-            dealer = dealerRepository.findById(managerRequestDTO.dealerId())
+            dealer = dealerRepository.findActiveById(managerRequestDTO.dealerId())
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
         }
 
@@ -160,6 +164,7 @@ public class ManagerService {
 
         userRepository.save(managerUser);
         managerRepository.save(manager);
+        userDealerResolver.evict(manager.getUser().getId());
 
         return managerMapper.toDTO(manager);
     }
@@ -174,6 +179,7 @@ public class ManagerService {
         if (managerUser != null) {
             refreshTokenRepository.deleteByUser(managerUser);
         }
+        userDealerResolver.evict(manager.getUser().getId());
         managerRepository.delete(manager);
     }
 }
@@ -48,13 +48,25 @@ public class NotificationStreamService {
         dispatch(buildKey(notification.targetType(), null), notification);
     }
 
+    /**
+     * Envia um evento nomeado (ex.: progresso de upload) para os ouvintes do alvo, sem gravar notificação.
+     */
+    public void publish(String targetType, Long targetId, String eventName, Object payload) {
+        dispatch(buildKey(targetType, targetId), eventName, payload);
+        dispatch(buildKey(targetType, null), eventName, payload);
+    }
+
     private void dispatch(String key, NotificationResponseDTO notification) {
+        dispatch(key, "notification", notification);
+    }
+
+    private void dispatch(String key, String eventName, Object payload) {
         List<SseEmitter> list = emitters.get(key);
         if (list == null || list.isEmpty()) return;
 
         List<SseEmitter> alive = list.stream().filter(emitter -> {
             try {
-                emitter.send(SseEmitter.event().name("notification").data(notification));
+                emitter.send(SseEmitter.event().name(eventName).data(payload));
                 return true;
             } catch (IOException e) {
                 return false;
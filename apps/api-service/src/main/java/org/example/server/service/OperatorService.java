@@ -32,6 +32,7 @@ public class OperatorService {
     private final DealerRepository dealerRepository;
     private final OperatorUserFactory operatorUserFactory;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDealerResolver userDealerResolver;
 
     public OperatorService(
             OperatorRepository operatorRepository,
@@ -41,7 +42,8 @@ public class OperatorService {
             EmailService emailService,
             DealerRepository dealerRepository,
             OperatorUserFactory operatorUserFactory,
-            RefreshTokenRepository refreshTokenRepository
+            RefreshTokenRepository refreshTokenRepository,
+            UserDealerResolver userDealerResolver
     ) {
         this.operatorRepository = operatorRepository;
         this.userRepository = userRepository;
@@ -51,6 +53,7 @@ public class OperatorService {
         this.dealerRepository = dealerRepository;
         this.operatorUserFactory = operatorUserFactory;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.userDealerResolver = userDealerResolver;
     }
 
     @Transactional
@@ -60,7 +63,7 @@ public class OperatorService {
             throw new AccessDeniedException("Apenas ADMIN pode cadastrar operador.");
         }
 
-        if (userRepository.existsByEmail(operatorRequestDTO.email())) {
+        if (userRepository.isEmailTaken(operatorRequestDTO.email())) {
             throw new DataAlreadyExistsException("Email ja existe.");
         }
 
@@ -70,7 +73,7 @@ public class OperatorService {
 
         Dealer dealer = null;
         if (operatorRequestDTO.dealerId() != null) {
-            dealer = dealerRepository.findById(operatorRequestDTO.dealerId())
+            dealer = dealerRepository.findActiveById(operatorRequestDTO.dealerId())
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
         }
 
@@ -122,7 +125,7 @@ public class OperatorService {
         User operatorUser = operator.getUser();
         Dealer dealer = operator.getDealer();
         if (operatorRequestDTO.dealerId() != null) {
-            dealer = dealerRepository.findById(operatorRequestDTO.dealerId())
+            dealer = dealerRepository.findActiveById(operatorRequestDTO.dealerId())
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
         }
 
@@ -141,6 +144,7 @@ public class OperatorService {
 
         userRepository.save(operatorUser);
         operatorRepository.save(operator);
+        userDealerResolver.evict(operator.getUser().getId());
 
         return operatorMapper.toDTO(operator);
     }
@@ -153,13 +157,14 @@ public class OperatorService {
         Operator operator = operatorRepository.findById(operatorId)
                 .orElseThrow(() -> new RecordNotFoundException(operatorId));
         if (dealerId != null) {
-            Dealer dealer = dealerRepository.findById(dealerId)
+            Dealer dealer = dealerRepository.findActiveById(dealerId)
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
             operator.setDealer(dealer);
         } else {
             operator.setDealer(null);
         }
         operatorRepository.save(operator);
+        userDealerResolver.evict(operator.getUser().getId());
         return operatorMapper.toDTO(operator);
     }
 
@@ -174,6 +179,7 @@ public class OperatorService {
         if (operatorUser != null) {
             refreshTokenRepository.deleteByUser(operatorUser);
         }
+        userDealerResolver.evict(operator.getUser().getId());
         operatorRepository.delete(operator);
     }
 }
@@ -0,0 +1,334 @@
+package org.example.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.server.dto.proposal.ProposalDuplicateKeyDTO;
+import org.example.server.enums.ProposalStatus;
+import org.example.server.infra.cache.CacheInvalidationChannel;
+import org.example.server.model.Proposal;
+import org.example.server.repository.ProposalRepository;
+import org.example.server.util.BloomFilter;
+import org.example.server.util.SearchNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Detecta propostas abertas repetidas para o mesmo cliente (CPF) e veículo (placa) dentro da janela
+ * configurada, sem consultar o banco na criação. O primeiro estágio é um filtro de Bloom: a maioria das
+ * chaves novas para ali. Só os "talvez" consultam o mapa exato de propostas abertas recentes.
+ * <p>
+ * O índice é reconstruído na subida e periodicamente a partir de uma consulta em streaming, o que também
+ * descarta o que saiu da janela. Alterações feitas durante a reconstrução são reaplicadas no índice novo.
+ * <p>
+ * Cada réplica tem o seu índice: as alterações são repassadas às outras pelo {@link CacheInvalidationChannel}
+ * (com reconstrução quando o canal reconecta, já que avisos podem ter se perdido), e os ids encontrados são
+ * confirmados no banco antes de voltar, para um aviso perdido não acusar uma proposta já fechada.
+ */
+@Component
+public class ProposalDuplicateDetector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProposalDuplicateDetector.class);
+    static final String TOPIC = "proposal-duplicates";
+    static final Set<ProposalStatus> OPEN_STATUSES = EnumSet.of(ProposalStatus.SUBMITTED, ProposalStatus.PENDING, ProposalStatus.APPROVED);
+
+    public enum Mode {
+        FLAG,
+        REJECT
+    }
+
+    private final ProposalRepository proposalRepository;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Mode mode;
+    private final Duration window;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    private final Timer checkTimer;
+    private final Counter bloomNegatives;
+    private final Counter duplicatesFound;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean warm;
+    // Operações recebidas enquanto uma reconstrução lê o banco; guardado por "this"
+    private List<Consumer<Snapshot>> pendingDuringRebuild;
+
+    public ProposalDuplicateDetector(
+            ProposalRepository proposalRepository,
+            CacheInvalidationChannel invalidationChannel,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.proposals.duplicates.enabled:true}") boolean enabled,
+            @Value("${app.proposals.duplicates.mode:FLAG}") Mode mode,
+            @Value("${app.proposals.duplicates.window-days:30}") long windowDays,
+            @Value("${app.proposals.duplicates.expected-entries:200000}") long expectedEntries,
+            @Value("${app.proposals.duplicates.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.proposalRepository = proposalRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.mode = mode;
+        this.window = Duration.ofDays(windowDays);
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(expectedEntries, falsePositiveRate));
+
+        this.checkTimer = meterRegistry.timer("proposals.duplicates.check");
+        this.bloomNegatives = meterRegistry.counter("proposals.duplicates.bloom.negative");
+        this.duplicatesFound = meterRegistry.counter("proposals.duplicates.found");
+        meterRegistry.gauge("proposals.duplicates.entries", this, detector -> detector.snapshot.size());
+
+        if (enabled) {
+            invalidationChannel.subscribe(TOPIC, new CacheInvalidationChannel.Subscriber() {
+                @Override
+                public void onMessage(String message) {
+                    applyRemote(message);
+                }
+
+                @Override
+                public void onReconnect() {
+                    // na primeira conexão a carga da subida ainda está em andamento
+                    if (warm) {
+                        CompletableFuture.runAsync(ProposalDuplicateDetector.this::rebuildSafely);
+                    }
+                }
+            });
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Ids das propostas abertas, dentro da janela, com o mesmo CPF e placa. Vazio quando o índice
+     * ainda não terminou de carregar.
+     */
+    public List<Long> findDuplicates(String customerCpf, String vehiclePlate) {
+        String key = key(customerCpf, vehiclePlate);
+        if (!enabled || !warm || key == null) {
+            return List.of();
+        }
+        return checkTimer.record(() -> {
+            Snapshot current = snapshot;
+            if (!current.bloom.mightContain(key)) {
+                bloomNegatives.increment();
+                return List.of();
+            }
+            LocalDateTime cutoff = LocalDateTime.now().minus(window);
+            List<Long> candidates = current.find(key, cutoff);
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+            List<Long> ids = proposalRepository.findIdsByIdInAndStatusIn(candidates, OPEN_STATUSES);
+            candidates.stream()
+                    .filter(id -> !ids.contains(id))
+                    .forEach(stale -> apply(target -> target.remove(key, stale)));
+            if (!ids.isEmpty()) {
+                duplicatesFound.increment();
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * Sincroniza o índice com a proposta depois do commit: entra se está aberta, sai se foi fechada.
+     */
+    public void track(Proposal proposal) {
+        String key = key(proposal.getCustomerCpf(), proposal.getVehiclePlate());
+        if (!enabled || key == null || proposal.getId() == null) {
+            return;
+        }
+        Long id = proposal.getId();
+        if (OPEN_STATUSES.contains(proposal.getStatus())) {
+            Entry entry = new Entry(id, proposal.getDealer() != null ? proposal.getDealer().getId() : null,
+                    proposal.getCreatedAt() != null ? proposal.getCreatedAt() : LocalDateTime.now());
+            afterCommit(target -> target.put(key, entry));
+            invalidationChannel.publish(TOPIC, "put " + key + " " + id + " " + entry.dealerId() + " " + entry.createdAt());
+        } else {
+            afterCommit(target -> target.remove(key, id));
+            invalidationChannel.publish(TOPIC, "remove " + key + " " + id);
+        }
+    }
+
+    public void forget(Proposal proposal) {
+        String key = key(proposal.getCustomerCpf(), proposal.getVehiclePlate());
+        if (!enabled || key == null) {
+            return;
+        }
+        Long id = proposal.getId();
+        afterCommit(target -> target.remove(key, id));
+        invalidationChannel.publish(TOPIC, "remove " + key + " " + id);
+    }
+
+    /**
+     * {@code put <chave> <id> <lojista|null> <criação>} ou {@code remove <chave> <id>}, vindo de outra réplica.
+     */
+    void applyRemote(String message) {
+        String[] parts = message.split(" ");
+        try {
+            if (parts.length == 5 && parts[0].equals("put")) {
+                Entry entry = new Entry(Long.valueOf(parts[2]), parts[3].equals("null") ? null : Long.valueOf(parts[3]),
+                        LocalDateTime.parse(parts[4]));
+                apply(target -> target.put(parts[1], entry));
+            } else if (parts.length == 3 && parts[0].equals("remove")) {
+                Long id = Long.valueOf(parts[2]);
+                apply(target -> target.remove(parts[1], id));
+            } else {
+                LOGGER.warn("Aviso de propostas duplicadas ignorado: {}", message);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Aviso de propostas duplicadas inválido ({}): {}", message, ex.getMessage());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildSafely();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.proposals.duplicates.rebuild-interval-ms:21600000}",
+            fixedDelayString = "${app.proposals.duplicates.rebuild-interval-ms:21600000}"
+    )
+    public void scheduledRebuild() {
+        rebuildSafely();
+    }
+
+    private void rebuildSafely() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception ex) {
+            LOGGER.warn("Falha ao reconstruir o índice de propostas duplicadas: {}", ex.getMessage());
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    public void rebuild() {
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(window);
+        Snapshot rebuilt = new Snapshot(new BloomFilter(expectedEntries, falsePositiveRate));
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ProposalDuplicateKeyDTO> rows = proposalRepository.streamDuplicateKeys(cutoff, OPEN_STATUSES)) {
+                rows.forEach(row -> {
+                    String key = key(row.customerCpf(), row.vehiclePlate());
+                    if (key != null) {
+                        rebuilt.put(key, new Entry(row.id(), row.dealerId(), row.createdAt()));
+                    }
+                });
+            }
+        });
+        synchronized (this) {
+            pendingDuringRebuild.forEach(operation -> operation.accept(rebuilt));
+            pendingDuringRebuild = null;
+            snapshot = rebuilt;
+            warm = true;
+        }
+        LOGGER.info("Índice de propostas duplicadas reconstruído com {} propostas em {} ms",
+                rebuilt.size(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    static String key(String customerCpf, String vehiclePlate) {
+        String cpf = SearchNormalizer.digits(customerCpf);
+        if (cpf == null) {
+            return null;
+        }
+        String plate = SearchNormalizer.plate(vehiclePlate);
+        return plate == null ? cpf : cpf + ':' + plate;
+    }
+
+    private void afterCommit(Consumer<Snapshot> operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(operation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(operation);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<Snapshot> operation) {
+        operation.accept(snapshot);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(operation);
+        }
+    }
+
+    private record Entry(Long proposalId, Long dealerId, LocalDateTime createdAt) {
+    }
+
+    private static final class Snapshot {
+
+        private final BloomFilter bloom;
+        private final Map<String, Map<Long, Entry>> open = new ConcurrentHashMap<>();
+
+        private Snapshot(BloomFilter bloom) {
+            this.bloom = bloom;
+        }
+
+        void put(String key, Entry entry) {
+            bloom.add(key);
+            open.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(entry.proposalId(), entry);
+        }
+
+        void remove(String key, Long proposalId) {
+            open.computeIfPresent(key, (k, entries) -> {
+                entries.remove(proposalId);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+
+        List<Long> find(String key, LocalDateTime cutoff) {
+            Map<Long, Entry> entries = open.get(key);
+            if (entries == null) {
+                return List.of();
+            }
+            return entries.values().stream()
+                    .filter(entry -> !entry.createdAt().isBefore(cutoff))
+                    .map(Entry::proposalId)
+                    .sorted()
+                    .toList();
+        }
+
+        int size() {
+            return open.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+}
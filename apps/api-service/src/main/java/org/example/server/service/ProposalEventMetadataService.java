@@ -0,0 +1,79 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.model.ProposalEvent;
+import org.example.server.model.ProposalEventMetadata;
+import org.example.server.repository.ProposalEventMetadataRepository;
+import org.example.server.util.Hashing;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Guarda o metadata dos eventos de proposta por conteúdo e o devolve no payload ao montar a linha do tempo,
+ * mantendo o formato de resposta de antes da deduplicação.
+ */
+@Service
+public class ProposalEventMetadataService {
+
+    private final ProposalEventMetadataRepository metadataRepository;
+    private final ObjectMapper objectMapper;
+
+    public ProposalEventMetadataService(ProposalEventMetadataRepository metadataRepository, ObjectMapper objectMapper) {
+        this.metadataRepository = metadataRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Registra o metadata (se ainda não existir) e devolve o hash a gravar no evento; nulo para metadata vazio.
+     */
+    public String store(String metadata) {
+        if (metadata == null || metadata.isBlank()) {
+            return null;
+        }
+        String hash = Hashing.sha256Hex(metadata);
+        metadataRepository.insertIfAbsent(hash, metadata);
+        return hash;
+    }
+
+    /**
+     * Carrega de uma vez o metadata referenciado pelos eventos.
+     */
+    public Map<String, String> resolve(Collection<ProposalEvent> events) {
+        Set<String> hashes = events.stream()
+                .map(ProposalEvent::getMetadataHash)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (hashes.isEmpty()) {
+            return Map.of();
+        }
+        return metadataRepository.findAllById(hashes).stream()
+                .collect(Collectors.toMap(ProposalEventMetadata::getHash, ProposalEventMetadata::getContent));
+    }
+
+    /**
+     * Recoloca o metadata no payload do evento, como era gravado antes da deduplicação.
+     */
+    public String inflate(String payload, String metadata) {
+        if (metadata == null) {
+            return payload;
+        }
+        try {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("metadata", metadata);
+            if (payload != null && !payload.isBlank()) {
+                map.putAll(objectMapper.readValue(payload,
+                        objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class)));
+            }
+            return objectMapper.writeValueAsString(map);
+        } catch (JsonProcessingException e) {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.server.service;
+
+import org.example.server.dto.analytics.DurationStatsDTO;
+import org.example.server.dto.analytics.FunnelRollupRowDTO;
+import org.example.server.dto.analytics.ProposalFunnelGroupDTO;
+import org.example.server.dto.analytics.ProposalFunnelReportDTO;
+import org.example.server.enums.ProposalStatus;
+import org.example.server.exception.InvalidReportPeriodException;
+import org.example.server.model.ProposalFunnelDaily;
+import org.example.server.repository.ProposalFunnelDailyRepository;
+import org.example.server.service.job.ProposalFunnelProjectorJob;
+import org.example.server.util.DurationHistogram;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Relatórios do funil de propostas servidos só a partir dos rollups diários; nunca lê {@code tb_proposal_event}.
+ */
+@Service
+public class ProposalFunnelService {
+
+    private static final int MAX_DAYS = 366;
+
+    public enum GroupBy {
+        NONE,
+        DEALER,
+        SELLER
+    }
+
+    private final ProposalFunnelDailyRepository funnelRepository;
+
+    public ProposalFunnelService(ProposalFunnelDailyRepository funnelRepository) {
+        this.funnelRepository = funnelRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ProposalFunnelReportDTO report(LocalDate from, LocalDate to, GroupBy groupBy, Long dealerId, Long sellerId) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            throw new InvalidReportPeriodException();
+        }
+        if (start.plusDays(MAX_DAYS).isBefore(end)) {
+            start = end.minusDays(MAX_DAYS);
+        }
+        GroupBy grouping = groupBy != null ? groupBy : GroupBy.NONE;
+
+        Map<List<Long>, GroupAccumulator> groups = new LinkedHashMap<>();
+        for (FunnelRollupRowDTO row : funnelRepository.sumBetween(start, end)) {
+            if ((dealerId != null && row.dealerId() != dealerId) || (sellerId != null && row.sellerId() != sellerId)) {
+                continue;
+            }
+            Long groupDealer = grouping == GroupBy.DEALER ? row.dealerId() : null;
+            Long groupSeller = grouping == GroupBy.SELLER ? row.sellerId() : null;
+            groups.computeIfAbsent(Arrays.asList(groupDealer, groupSeller), key -> new GroupAccumulator(groupDealer, groupSeller))
+                    .add(row);
+        }
+
+        List<ProposalFunnelGroupDTO> result = new ArrayList<>();
+        groups.values().forEach(group -> result.add(group.toDTO()));
+        LocalDateTime projectedUntil = funnelRepository.findProjectedUntil(ProposalFunnelProjectorJob.WATERMARK).orElse(null);
+        return new ProposalFunnelReportDTO(start, end, grouping.name().toLowerCase(Locale.ROOT), result, projectedUntil);
+    }
+
+    private static final class GroupAccumulator {
+
+        private final Long dealerId;
+        private final Long sellerId;
+        private long created;
+        private long approved;
+        private long rejected;
+        private long paid;
+        private final DurationAccumulator submitted = new DurationAccumulator();
+        private final DurationAccumulator pending = new DurationAccumulator();
+        private final DurationAccumulator approvalToPayment = new DurationAccumulator();
+
+        private GroupAccumulator(Long dealerId, Long sellerId) {
+            this.dealerId = dealerId;
+            this.sellerId = sellerId;
+        }
+
+        void add(FunnelRollupRowDTO row) {
+            if (ProposalFunnelDaily.CREATION.equals(row.statusFrom())) {
+                created += row.transitions();
+            }
+            if (ProposalStatus.APPROVED.name().equals(row.statusTo())) {
+                approved += row.transitions();
+            } else if (ProposalStatus.REJECTED.name().equals(row.statusTo())) {
+                rejected += row.transitions();
+            } else if (ProposalStatus.PAID.name().equals(row.statusTo())) {
+                paid += row.transitions();
+            }
+            if (ProposalStatus.SUBMITTED.name().equals(row.statusFrom())) {
+                submitted.add(row);
+            } else if (ProposalStatus.PENDING.name().equals(row.statusFrom())) {
+                pending.add(row);
+            } else if (ProposalStatus.APPROVED.name().equals(row.statusFrom())
+                    && ProposalStatus.PAID.name().equals(row.statusTo())) {
+                approvalToPayment.add(row);
+            }
+        }
+
+        ProposalFunnelGroupDTO toDTO() {
+            return new ProposalFunnelGroupDTO(
+                    dealerId,
+                    sellerId,
+                    created,
+                    approved,
+                    rejected,
+                    paid,
+                    rate(approved, created),
+                    rate(paid, created),
+                    submitted.toDTO(),
+                    pending.toDTO(),
+                    approvalToPayment.toDTO()
+            );
+        }
+
+        private static double rate(long part, long total) {
+            return total == 0 ? 0.0 : (double) part / total;
+        }
+    }
+
+    private static final class DurationAccumulator {
+
+        private long totalSeconds;
+        private final long[] buckets = new long[DurationHistogram.LABELS.size()];
+
+        void add(FunnelRollupRowDTO row) {
+            totalSeconds += row.totalSeconds();
+            long[] rowBuckets = row.buckets();
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] += rowBuckets[i];
+            }
+        }
+
+        DurationStatsDTO toDTO() {
+            long count = 0;
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+            return new DurationStatsDTO(count, count == 0 ? 0 : totalSeconds / count, DurationHistogram.toMap(buckets));
+        }
+    }
+}
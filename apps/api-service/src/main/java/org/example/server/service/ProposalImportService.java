@@ -0,0 +1,501 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.server.dto.proposal.ProposalImportErrorDTO;
+import org.example.server.dto.proposal.ProposalImportResultDTO;
+import org.example.server.dto.proposal.ProposalRequestDTO;
+import org.example.server.exception.InvalidImportFileException;
+import org.example.server.model.Dealer;
+import org.example.server.model.Proposal;
+import org.example.server.model.ProposalEvent;
+import org.example.server.model.Seller;
+import org.example.server.repository.DealerRepository;
+import org.example.server.repository.ProposalEventRepository;
+import org.example.server.repository.ProposalRepository;
+import org.example.server.repository.SellerRepository;
+import org.example.server.service.factory.ProposalEventFactory;
+import org.example.server.service.factory.ProposalFactory;
+import org.example.server.util.CsvReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Importação de propostas em lote a partir de CSV. O arquivo é lido registro a registro; cada linha vira um
+ * {@link ProposalRequestDTO} validado com as mesmas regras do cadastro individual. As linhas válidas são
+ * gravadas em lotes (propostas e eventos CREATED em batch JDBC, um commit por lote), com lojistas e vendedores
+ * carregados uma vez por lote. Ao fim sai uma única notificação em tempo real para toda a importação.
+ */
+@Service
+public class ProposalImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProposalImportService.class);
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    // 45.000 / 1.234.567,89 / 45000,5: ponto só como separador de milhar
+    private static final Pattern BRAZILIAN_DECIMAL = Pattern.compile("-?(?:\\d{1,3}(?:\\.\\d{3})+|\\d+)(?:,\\d+)?");
+    // 45000.50 exportado sem formatação: ponto decimal com até duas casas
+    private static final Pattern PLAIN_DECIMAL = Pattern.compile("-?\\d+(?:\\.\\d{1,2})?");
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    private final ProposalRepository proposalRepository;
+    private final ProposalEventRepository proposalEventRepository;
+    private final DealerRepository dealerRepository;
+    private final SellerRepository sellerRepository;
+    private final ProposalFactory proposalFactory;
+    private final ProposalEventFactory proposalEventFactory;
+    private final ProposalEventMetadataService eventMetadataService;
+    private final ProposalSearchService proposalSearchService;
+    private final ProposalDuplicateDetector duplicateDetector;
+    private final RealtimeBridgeClient realtimeBridgeClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxRows;
+
+    public ProposalImportService(
+            ProposalRepository proposalRepository,
+            ProposalEventRepository proposalEventRepository,
+            DealerRepository dealerRepository,
+            SellerRepository sellerRepository,
+            ProposalFactory proposalFactory,
+            ProposalEventFactory proposalEventFactory,
+            ProposalEventMetadataService eventMetadataService,
+            ProposalSearchService proposalSearchService,
+            ProposalDuplicateDetector duplicateDetector,
+            RealtimeBridgeClient realtimeBridgeClient,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${app.proposals.import.batch-size:500}") int batchSize,
+            @Value("${app.proposals.import.max-rows:10000}") int maxRows
+    ) {
+        this.proposalRepository = proposalRepository;
+        this.proposalEventRepository = proposalEventRepository;
+        this.dealerRepository = dealerRepository;
+        this.sellerRepository = sellerRepository;
+        this.proposalFactory = proposalFactory;
+        this.proposalEventFactory = proposalEventFactory;
+        this.eventMetadataService = eventMetadataService;
+        this.proposalSearchService = proposalSearchService;
+        this.duplicateDetector = duplicateDetector;
+        this.realtimeBridgeClient = realtimeBridgeClient;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    public ProposalImportResultDTO importCsv(InputStream content, Long defaultDealerId, String originIp, String actor) {
+        ImportRun run = new ImportRun(defaultDealerId, buildPayload(originIp), normalizeActor(actor));
+        try (CsvReader csv = CsvReader.open(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new InvalidImportFileException("Arquivo CSV vazio.");
+            }
+            Map<String, Integer> columns = resolveColumns(header);
+
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (run.totalRows == maxRows) {
+                    run.reject(csv.recordLine(), List.of("Limite de " + maxRows + " linhas por arquivo atingido; as linhas seguintes foram ignoradas."));
+                    break;
+                }
+                run.totalRows++;
+                run.accept(csv.recordLine(), parseRow(columns, record));
+                if (run.pending.size() >= batchSize) {
+                    flush(run);
+                }
+            }
+            flush(run);
+        } catch (IOException e) {
+            throw new InvalidImportFileException("Falha ao ler o arquivo CSV.", e);
+        }
+
+        if (!run.importedIds.isEmpty()) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("count", run.importedIds.size());
+            payload.put("proposalIds", run.importedIds);
+            payload.put("dealerIds", run.importedDealerIds);
+            realtimeBridgeClient.publish("PROPOSALS_IMPORTED", payload,
+                    ProposalService.REALTIME_CHANNEL, ProposalService.REALTIME_SENDER);
+        }
+        LOGGER.info("Importação de propostas: {} linhas, {} importadas, {} com erro",
+                run.totalRows, run.importedIds.size(), run.failed);
+        return new ProposalImportResultDTO(run.totalRows, run.importedIds.size(), run.failed,
+                run.importedIds, run.errors, run.failed > run.errors.size());
+    }
+
+    private void flush(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        List<PendingRow> rows = new ArrayList<>(run.pending);
+        run.pending.clear();
+        loadReferences(run, rows);
+
+        List<Proposal> proposals = new ArrayList<>();
+        List<PendingRow> accepted = new ArrayList<>();
+        List<List<Long>> suspected = new ArrayList<>();
+        for (PendingRow row : rows) {
+            ProposalRequestDTO dto = row.dto();
+            Proposal proposal = new Proposal();
+            if (dto.dealerId() != null) {
+                Dealer dealer = run.dealers.get(dto.dealerId());
+                if (dealer == null) {
+                    run.reject(row.line(), List.of("Lojista " + dto.dealerId() + " não encontrado."));
+                    continue;
+                }
+                proposal.setDealer(dealer);
+            }
+            // vendedor inexistente é ignorado, como no cadastro individual
+            if (dto.sellerId() != null) {
+                proposal.setSeller(run.sellers.get(dto.sellerId()));
+            }
+            proposalFactory.copyRequestData(proposal, dto);
+
+            List<Long> duplicates = duplicateDetector.findDuplicates(proposal.getCustomerCpf(), proposal.getVehiclePlate());
+            if (!duplicates.isEmpty() && duplicateDetector.mode() == ProposalDuplicateDetector.Mode.REJECT) {
+                run.reject(row.line(), List.of("Já existe proposta em aberto para este CPF e placa: " + duplicates));
+                continue;
+            }
+            proposals.add(proposal);
+            accepted.add(row);
+            suspected.add(duplicates);
+        }
+        if (proposals.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                proposalRepository.insertAll(proposals);
+                List<ProposalEvent> events = new ArrayList<>();
+                for (int i = 0; i < proposals.size(); i++) {
+                    Proposal proposal = proposals.get(i);
+                    ProposalRequestDTO dto = accepted.get(i).dto();
+                    ProposalEvent created = proposalEventFactory.create(
+                            proposal, "CREATED", null, proposal.getStatus(), run.actor, dto.notes(), run.payload);
+                    created.setMetadataHash(eventMetadataService.store(dto.metadata()));
+                    events.add(created);
+
+                    List<Long> duplicates = suspected.get(i);
+                    if (!duplicates.isEmpty()) {
+                        events.add(proposalEventFactory.create(
+                                proposal, "DUPLICATE_SUSPECTED", null, proposal.getStatus(), run.actor,
+                                "Possível duplicidade com as propostas " + duplicates, toJson(Map.of("duplicateOf", duplicates))));
+                    }
+                }
+                proposalEventRepository.insertAll(events);
+                for (Proposal proposal : proposals) {
+                    proposalSearchService.index(proposal);
+                    duplicateDetector.track(proposal);
+                }
+            });
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao gravar lote da importação de propostas: {}", e.getMessage());
+            for (PendingRow row : accepted) {
+                run.reject(row.line(), List.of("Falha ao gravar o lote desta linha; reenvie a linha."));
+            }
+            return;
+        }
+
+        for (Proposal proposal : proposals) {
+            run.importedIds.add(proposal.getId());
+            if (proposal.getDealer() != null) {
+                run.importedDealerIds.add(proposal.getDealer().getId());
+            }
+        }
+    }
+
+    /**
+     * Carrega de uma vez os lojistas e vendedores citados no lote que ainda não estão no mapa da importação.
+     */
+    private void loadReferences(ImportRun run, List<PendingRow> rows) {
+        Set<Long> dealerIds = new HashSet<>();
+        Set<Long> sellerIds = new HashSet<>();
+        for (PendingRow row : rows) {
+            if (row.dto().dealerId() != null && !run.dealers.containsKey(row.dto().dealerId())) {
+                dealerIds.add(row.dto().dealerId());
+            }
+            if (row.dto().sellerId() != null && !run.sellers.containsKey(row.dto().sellerId())) {
+                sellerIds.add(row.dto().sellerId());
+            }
+        }
+        if (!dealerIds.isEmpty()) {
+            dealerIds.forEach(id -> run.dealers.put(id, null));
+            dealerRepository.findActiveByIdIn(dealerIds).forEach(dealer -> run.dealers.put(dealer.getId(), dealer));
+        }
+        if (!sellerIds.isEmpty()) {
+            sellerIds.forEach(id -> run.sellers.put(id, null));
+            sellerRepository.findAllById(sellerIds).forEach(seller -> run.sellers.put(seller.getId(), seller));
+        }
+    }
+
+    static Map<String, Integer> resolveColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = columnKey(header.get(i));
+            if (!name.isEmpty()) {
+                columns.putIfAbsent(name, i);
+            }
+        }
+        if (!columns.containsKey(columnKey("customerName")) || !columns.containsKey(columnKey("customerCpf"))) {
+            throw new InvalidImportFileException("O cabeçalho do CSV deve ter as colunas customerName e customerCpf.");
+        }
+        return columns;
+    }
+
+    private static String columnKey(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    ParsedRow parseRow(Map<String, Integer> columns, List<String> record) {
+        RowReader row = new RowReader(columns, record);
+        ProposalRequestDTO dto = new ProposalRequestDTO(
+                row.longValue("dealerId"),
+                row.longValue("sellerId"),
+                row.text("customerName"),
+                row.text("customerCpf"),
+                row.date("customerBirthDate"),
+                row.text("customerEmail"),
+                row.text("customerPhone"),
+                row.text("cnhCategory"),
+                Boolean.TRUE.equals(row.bool("hasCnh")),
+                row.text("vehiclePlate"),
+                row.text("fipeCode"),
+                row.decimal("fipeValue"),
+                row.text("vehicleBrand"),
+                row.text("vehicleModel"),
+                row.integer("vehicleYear"),
+                row.decimal("downPaymentValue"),
+                row.decimal("financedValue"),
+                row.integer("termMonths"),
+                row.bool("vehicle0km"),
+                row.text("maritalStatus"),
+                row.text("cep"),
+                row.text("address"),
+                row.text("addressNumber"),
+                row.text("addressComplement"),
+                row.text("neighborhood"),
+                row.text("uf"),
+                row.text("city"),
+                row.decimal("income"),
+                row.decimal("otherIncomes"),
+                row.text("metadata"),
+                row.text("notes")
+        );
+        for (ConstraintViolation<ProposalRequestDTO> violation : validator.validate(dto)) {
+            row.errors.add(violation.getMessage());
+        }
+        return new ParsedRow(dto, row.errors);
+    }
+
+    private String buildPayload(String originIp) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("source", "csv-import");
+        if (originIp != null && !originIp.isBlank()) {
+            map.put("ip", originIp);
+        }
+        return toJson(map);
+    }
+
+    private String toJson(Map<String, Object> map) {
+        try {
+            return objectMapper.writeValueAsString(map);
+        } catch (JsonProcessingException e) {
+            return map.toString();
+        }
+    }
+
+    private static String normalizeActor(String actor) {
+        if (actor == null || actor.isBlank()) {
+            return null;
+        }
+        return actor.trim();
+    }
+
+    record ParsedRow(ProposalRequestDTO dto, List<String> errors) {
+    }
+
+    private record PendingRow(int line, ProposalRequestDTO dto) {
+    }
+
+    private static final class ImportRun {
+
+        private final Long defaultDealerId;
+        private final String payload;
+        private final String actor;
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final Map<Long, Dealer> dealers = new HashMap<>();
+        private final Map<Long, Seller> sellers = new HashMap<>();
+        private final Map<String, Integer> keysInFile = new HashMap<>();
+        private final List<Long> importedIds = new ArrayList<>();
+        private final Set<Long> importedDealerIds = new LinkedHashSet<>();
+        private final List<ProposalImportErrorDTO> errors = new ArrayList<>();
+        private int totalRows;
+        private int failed;
+
+        private ImportRun(Long defaultDealerId, String payload, String actor) {
+            this.defaultDealerId = defaultDealerId;
+            this.payload = payload;
+            this.actor = actor;
+        }
+
+        void accept(int line, ParsedRow parsed) {
+            if (!parsed.errors().isEmpty()) {
+                reject(line, parsed.errors());
+                return;
+            }
+            ProposalRequestDTO dto = parsed.dto();
+            if (dto.dealerId() == null && defaultDealerId != null) {
+                dto = withDealer(dto, defaultDealerId);
+            }
+            // a mesma proposta repetida na planilha é quase sempre erro de digitação; fica só a primeira
+            String key = ProposalDuplicateDetector.key(dto.customerCpf(), dto.vehiclePlate());
+            if (key != null) {
+                Integer firstLine = keysInFile.putIfAbsent(key, line);
+                if (firstLine != null) {
+                    reject(line, List.of("CPF e placa repetidos na linha " + firstLine + " do arquivo."));
+                    return;
+                }
+            }
+            pending.add(new PendingRow(line, dto));
+        }
+
+        void reject(int line, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProposalImportErrorDTO(line, List.copyOf(messages)));
+            }
+        }
+    }
+
+    private static ProposalRequestDTO withDealer(ProposalRequestDTO dto, Long dealerId) {
+        return new ProposalRequestDTO(dealerId, dto.sellerId(), dto.customerName(), dto.customerCpf(),
+                dto.customerBirthDate(), dto.customerEmail(), dto.customerPhone(), dto.cnhCategory(), dto.hasCnh(),
+                dto.vehiclePlate(), dto.fipeCode(), dto.fipeValue(), dto.vehicleBrand(), dto.vehicleModel(),
+                dto.vehicleYear(), dto.downPaymentValue(), dto.financedValue(), dto.termMonths(), dto.vehicle0km(),
+                dto.maritalStatus(), dto.cep(), dto.address(), dto.addressNumber(), dto.addressComplement(),
+                dto.neighborhood(), dto.uf(), dto.city(), dto.income(), dto.otherIncomes(), dto.metadata(), dto.notes());
+    }
+
+    /**
+     * Lê as células de uma linha pelo nome da coluna, convertendo os formatos usuais de planilha brasileira
+     * (datas dd/MM/aaaa, valores 1.234,56, sim/não). Erros de conversão ficam em {@code errors}.
+     */
+    private static final class RowReader {
+
+        private final Map<String, Integer> columns;
+        private final List<String> record;
+        private final List<String> errors = new ArrayList<>();
+
+        private RowReader(Map<String, Integer> columns, List<String> record) {
+            this.columns = columns;
+            this.record = record;
+        }
+
+        String text(String column) {
+            Integer index = columns.get(columnKey(column));
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        Long longValue(String column) {
+            String value = text(column);
+            try {
+                return value != null ? Long.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                errors.add(column + ": número inválido '" + value + "'");
+                return null;
+            }
+        }
+
+        Integer integer(String column) {
+            String value = text(column);
+            try {
+                return value != null ? Integer.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                errors.add(column + ": número inválido '" + value + "'");
+                return null;
+            }
+        }
+
+        BigDecimal decimal(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            String normalized = value.replace("R$", "").replace(" ", "");
+            if (BRAZILIAN_DECIMAL.matcher(normalized).matches()) {
+                return new BigDecimal(normalized.replace(".", "").replace(',', '.'));
+            }
+            if (PLAIN_DECIMAL.matcher(normalized).matches()) {
+                return new BigDecimal(normalized);
+            }
+            // 1.2345, 1.23,45...: sem como saber se o ponto é decimal ou de milhar
+            errors.add(column + ": valor inválido '" + value + "'");
+            return null;
+        }
+
+        LocalDate date(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return value.contains("/") ? LocalDate.parse(value, BRAZILIAN_DATE) : LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                errors.add(column + ": data inválida '" + value + "'");
+                return null;
+            }
+        }
+
+        Boolean bool(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "sim", "s", "1", "x", "yes" -> {
+                    return true;
+                }
+                case "false", "nao", "não", "n", "0", "no" -> {
+                    return false;
+                }
+                default -> {
+                    errors.add(column + ": valor inválido '" + value + "' (use sim ou não)");
+                    return null;
+                }
+            }
+        }
+    }
+}
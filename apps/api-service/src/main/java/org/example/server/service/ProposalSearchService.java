@@ -0,0 +1,75 @@
+package org.example.server.service;
+
+import org.example.server.dto.proposal.ProposalSearchPageDTO;
+import org.example.server.dto.proposal.ProposalSummaryDTO;
+import org.example.server.infra.search.ProposalSearchEntry;
+import org.example.server.infra.search.ProposalSearchIndex;
+import org.example.server.infra.search.ProposalSearchQuery;
+import org.example.server.model.Proposal;
+import org.example.server.repository.ProposalRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Busca de propostas por nome do cliente, CPF ou placa. O índice devolve os ids já ranqueados e os
+ * resumos são carregados numa única consulta por id, preservando a ordem de relevância.
+ */
+@Service
+public class ProposalSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    // Busca ranqueada não pagina por cursor; o limite evita OFFSET caro em termos muito genéricos
+    private static final int MAX_RESULTS = 1000;
+
+    private final ProposalSearchIndex proposalSearchIndex;
+    private final ProposalRepository proposalRepository;
+
+    public ProposalSearchService(ProposalSearchIndex proposalSearchIndex, ProposalRepository proposalRepository) {
+        this.proposalSearchIndex = proposalSearchIndex;
+        this.proposalRepository = proposalRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ProposalSearchPageDTO search(String text, Integer page, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int offset = pageNumber * pageSize;
+
+        ProposalSearchQuery query = ProposalSearchQuery.parse(text);
+        if (query.isEmpty() || offset >= MAX_RESULTS) {
+            return new ProposalSearchPageDTO(List.of(), pageNumber, pageSize, false);
+        }
+
+        // um id a mais só para saber se existe próxima página
+        List<Long> ids = proposalSearchIndex.search(query, offset, Math.min(pageSize + 1, MAX_RESULTS - offset));
+        boolean hasNext = ids.size() > pageSize && offset + pageSize < MAX_RESULTS;
+        List<Long> pageIds = ids.size() > pageSize ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return new ProposalSearchPageDTO(List.of(), pageNumber, pageSize, false);
+        }
+
+        Map<Long, ProposalSummaryDTO> byId = proposalRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(ProposalSummaryDTO::id, Function.identity()));
+        List<ProposalSummaryDTO> items = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new ProposalSearchPageDTO(items, pageNumber, pageSize, hasNext);
+    }
+
+    public void index(Proposal proposal) {
+        proposalSearchIndex.index(new ProposalSearchEntry(
+                proposal.getId(), proposal.getCustomerName(), proposal.getCustomerCpf(), proposal.getVehiclePlate()));
+    }
+
+    public void remove(Long proposalId) {
+        proposalSearchIndex.remove(proposalId);
+    }
+}
@@ -6,7 +6,13 @@ import org.example.server.dto.proposal.ProposalEventResponseDTO;
 import org.example.server.dto.proposal.ProposalRequestDTO;
 import org.example.server.dto.proposal.ProposalResponseDTO;
 import org.example.server.dto.proposal.ProposalStatusUpdateDTO;
+import org.example.server.dto.proposal.ProposalSummaryDTO;
+import org.example.server.dto.proposal.ProposalSummaryFilter;
+import org.example.server.dto.proposal.ProposalSummaryPageDTO;
+import org.example.server.dto.proposal.ProposalSummarySort;
 import org.example.server.enums.ProposalStatus;
+import org.example.server.exception.InvalidPageCursorException;
+import org.example.server.exception.generic.DataAlreadyExistsException;
 import org.example.server.exception.generic.RecordNotFoundException;
 import org.example.server.model.Dealer;
 import org.example.server.model.Proposal;
@@ -17,17 +23,28 @@ import org.example.server.repository.ProposalEventRepository;
 import org.example.server.repository.ProposalRepository;
 import org.example.server.repository.SellerRepository;
 import org.example.server.service.factory.ProposalEventFactory;
+import org.example.server.service.factory.ProposalFactory;
+import org.example.server.util.KeysetCursor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class ProposalService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProposalRepository proposalRepository;
     private final DealerRepository dealerRepository;
     private final SellerRepository sellerRepository;
@@ -35,10 +52,14 @@ public class ProposalService {
     private final RealtimeBridgeClient realtimeBridgeClient;
     private final ObjectMapper objectMapper;
     private final ProposalEventFactory proposalEventFactory;
+    private final ProposalFactory proposalFactory;
     private final BillingService billingService;
+    private final ProposalSearchService proposalSearchService;
+    private final ProposalDuplicateDetector duplicateDetector;
+    private final ProposalEventMetadataService eventMetadataService;
 
-    private static final String REALTIME_CHANNEL = "proposals-bridge";
-    private static final String REALTIME_SENDER = "api-service";
+    static final String REALTIME_CHANNEL = "proposals-bridge";
+    static final String REALTIME_SENDER = "api-service";
 
     public ProposalService(
             ProposalRepository proposalRepository,
@@ -48,7 +69,11 @@ public class ProposalService {
             RealtimeBridgeClient realtimeBridgeClient,
             ObjectMapper objectMapper,
             ProposalEventFactory proposalEventFactory,
-            BillingService billingService
+            ProposalFactory proposalFactory,
+            BillingService billingService,
+            ProposalSearchService proposalSearchService,
+            ProposalDuplicateDetector duplicateDetector,
+            ProposalEventMetadataService eventMetadataService
     ) {
         this.proposalRepository = proposalRepository;
         this.dealerRepository = dealerRepository;
@@ -57,15 +82,25 @@ public class ProposalService {
         this.realtimeBridgeClient = realtimeBridgeClient;
         this.objectMapper = objectMapper;
         this.proposalEventFactory = proposalEventFactory;
+        this.proposalFactory = proposalFactory;
         this.billingService = billingService;
+        this.proposalSearchService = proposalSearchService;
+        this.duplicateDetector = duplicateDetector;
+        this.eventMetadataService = eventMetadataService;
     }
 
     @Transactional
     public ProposalResponseDTO createProposal(ProposalRequestDTO dto, String originIp, String actor) {
         Proposal proposal = new Proposal();
         applyRequestData(proposal, dto);
+        List<Long> duplicates = duplicateDetector.findDuplicates(proposal.getCustomerCpf(), proposal.getVehiclePlate());
+        if (!duplicates.isEmpty() && duplicateDetector.mode() == ProposalDuplicateDetector.Mode.REJECT) {
+            throw new DataAlreadyExistsException("Já existe proposta em aberto para este CPF e placa: " + duplicates);
+        }
         Proposal saved = proposalRepository.save(proposal);
-        String payload = buildPayload(dto.metadata(), originIp, null);
+        proposalSearchService.index(saved);
+        duplicateDetector.track(saved);
+        String payload = buildPayload(originIp, null);
         appendEvent(
                 saved,
                 "CREATED",
@@ -73,8 +108,21 @@ public class ProposalService {
                 saved.getStatus(),
                 normalizeActor(actor),
                 dto.notes(),
-                payload
+                payload,
+                eventMetadataService.store(dto.metadata())
         );
+        if (!duplicates.isEmpty()) {
+            appendEvent(
+                    saved,
+                    "DUPLICATE_SUSPECTED",
+                    null,
+                    saved.getStatus(),
+                    normalizeActor(actor),
+                    "Possível duplicidade com as propostas " + duplicates,
+                    toJson(Map.of("duplicateOf", duplicates)),
+                    null
+            );
+        }
         publishRealtime("PROPOSAL_CREATED", Map.of("proposal", toResponse(saved)));
         publishRealtime("PROPOSAL_EVENT_APPENDED", Map.of("proposalId", saved.getId()));
         return toResponse(saved);
@@ -85,12 +133,12 @@ public class ProposalService {
         List<Proposal> proposals;
         if (dealerId.isPresent() && status.isPresent()) {
             @SuppressWarnings("null")
-            Dealer dealer = dealerRepository.findById(dealerId.get())
+            Dealer dealer = dealerRepository.findActiveById(dealerId.get())
                     .orElseThrow(() -> new RecordNotFoundException("Dealer não encontrado"));
             proposals = proposalRepository.findByDealerAndStatus(dealer, status.get());
         } else if (dealerId.isPresent()) {
             @SuppressWarnings("null")
-            Dealer dealer = dealerRepository.findById(dealerId.get())
+            Dealer dealer = dealerRepository.findActiveById(dealerId.get())
                     .orElseThrow(() -> new RecordNotFoundException("Dealer não encontrado"));
             proposals = proposalRepository.findByDealer(dealer);
         } else if (status.isPresent()) {
@@ -101,6 +149,59 @@ public class ProposalService {
         return proposals.stream().map(this::toResponse).toList();
     }
 
+    /**
+     * Listagem paginada por cursor, montada direto em {@link ProposalSummaryDTO} sem os campos TEXT.
+     * A ordenação padrão é pelas mais recentes.
+     */
+    @Transactional(readOnly = true)
+    public ProposalSummaryPageDTO findSummaryPage(
+            Long dealerId,
+            Long sellerId,
+            ProposalStatus status,
+            LocalDate createdFrom,
+            LocalDate createdTo,
+            String customerCpf,
+            ProposalSummarySort sort,
+            Sort.Direction direction,
+            String cursor,
+            Integer size
+    ) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        ProposalSummarySort sortBy = sort != null ? sort : ProposalSummarySort.CREATED_AT;
+        boolean descending = direction == null || direction.isDescending();
+
+        Object afterValue = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor decoded = KeysetCursor.decode(cursor);
+            afterValue = parseCursorValue(sortBy, decoded.value());
+            afterId = decoded.id();
+        }
+
+        ProposalSummaryFilter filter = new ProposalSummaryFilter(
+                dealerId,
+                sellerId,
+                status,
+                createdFrom != null ? createdFrom.atStartOfDay() : null,
+                createdTo != null ? createdTo.plusDays(1).atStartOfDay() : null,
+                cpfVariants(customerCpf),
+                sortBy,
+                descending,
+                afterValue,
+                afterId
+        );
+
+        // um item a mais só para saber se existe próxima página
+        List<ProposalSummaryDTO> rows = proposalRepository.findSummaries(filter, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new ProposalSummaryPageDTO(rows, null);
+        }
+        List<ProposalSummaryDTO> page = rows.subList(0, pageSize);
+        ProposalSummaryDTO last = page.get(page.size() - 1);
+        String value = sortBy == ProposalSummarySort.CUSTOMER_NAME ? last.customerName() : last.createdAt().toString();
+        return new ProposalSummaryPageDTO(List.copyOf(page), new KeysetCursor(value, last.id()).encode());
+    }
+
     /**
      * Atualiza o status da proposta.
      * Permite mudanças livres entre qualquer status sem validações ou bloqueios.
@@ -147,8 +248,11 @@ public class ProposalService {
         }
         
         Proposal saved = proposalRepository.save(proposal);
-        String payload = buildPayload(null, originIp, dto.actor());
-        appendEvent(saved, "STATUS_UPDATED", previousStatus, saved.getStatus(), dto.actor(), dto.notes(), payload);
+        String payload = buildPayload(originIp, dto.actor());
+        appendEvent(saved, "STATUS_UPDATED", previousStatus, saved.getStatus(), dto.actor(), dto.notes(), payload, null);
+        if (previousStatus != saved.getStatus()) {
+            duplicateDetector.track(saved);
+        }
         publishRealtime("PROPOSAL_STATUS_UPDATED", Map.of("proposal", toResponse(saved), "source", dto.actor()));
         publishRealtime("PROPOSAL_EVENT_APPENDED", Map.of("proposalId", saved.getId(), "statusFrom", previousStatus, "statusTo", saved.getStatus(), "actor", dto.actor()));
 
@@ -167,6 +271,8 @@ public class ProposalService {
                 .orElseThrow(() -> new RecordNotFoundException("Proposta nao encontrada"));
         proposalEventRepository.deleteAllByProposal(proposal);
         proposalRepository.delete(proposal);
+        proposalSearchService.remove(id);
+        duplicateDetector.forget(proposal);
     }
 
     @Transactional(readOnly = true)
@@ -174,16 +280,21 @@ public class ProposalService {
         @SuppressWarnings("null")
         Proposal proposal = proposalRepository.findById(proposalId)
                 .orElseThrow(() -> new RecordNotFoundException("Proposta não encontrada"));
-        return proposalEventRepository.findByProposalOrderByCreatedAtAsc(proposal)
-                .stream()
-                .map(this::toEventResponse)
+        // eventos nunca são anteriores à proposta; a folga cobre relógios de instâncias diferentes
+        LocalDateTime since = proposal.getCreatedAt() != null
+                ? proposal.getCreatedAt().minusDays(1)
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+        List<ProposalEvent> events = proposalEventRepository.findTimeline(proposal, since);
+        Map<String, String> metadata = eventMetadataService.resolve(events);
+        return events.stream()
+                .map(event -> toEventResponse(event, metadata))
                 .toList();
     }
 
     private void applyRequestData(Proposal proposal, ProposalRequestDTO dto) {
         if (dto.dealerId() != null) {
             @SuppressWarnings("null")
-            Dealer dealer = dealerRepository.findById(dto.dealerId())
+            Dealer dealer = dealerRepository.findActiveById(dto.dealerId())
                     .orElseThrow(() -> new RecordNotFoundException("Dealer não encontrado"));
             proposal.setDealer(dealer);
         }
@@ -193,36 +304,38 @@ public class ProposalService {
             Optional<Seller> sellerOpt = sellerRepository.findById(dto.sellerId());
             sellerOpt.ifPresent(proposal::setSeller);
         }
-        proposal.setCustomerName(dto.customerName());
-        proposal.setCustomerCpf(dto.customerCpf());
-        proposal.setCustomerBirthDate(dto.customerBirthDate());
+        proposalFactory.copyRequestData(proposal, dto);
+    }
+
+    private static Object parseCursorValue(ProposalSummarySort sort, String value) {
+        if (sort == ProposalSummarySort.CUSTOMER_NAME) {
+            return value;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidPageCursorException();
+        }
+    }
 
-        proposal.setCustomerEmail(dto.customerEmail());
-        proposal.setCustomerPhone(dto.customerPhone());
-        proposal.setCnhCategory(dto.cnhCategory());
-        proposal.setHasCnh(dto.hasCnh());
-        proposal.setVehiclePlate(dto.vehiclePlate());
-        proposal.setFipeCode(dto.fipeCode());
-        proposal.setFipeValue(dto.fipeValue());
-        proposal.setVehicleBrand(dto.vehicleBrand());
-        proposal.setVehicleModel(dto.vehicleModel());
-        proposal.setVehicleYear(dto.vehicleYear());
-        proposal.setDownPaymentValue(dto.downPaymentValue());
-        proposal.setFinancedValue(dto.financedValue());
-        proposal.setTermMonths(dto.termMonths());
-        proposal.setVehicle0km(Boolean.TRUE.equals(dto.vehicle0km()));
-        proposal.setNotes(dto.notes());
-        proposal.setMaritalStatus(dto.maritalStatus());
-        proposal.setCep(dto.cep());
-        proposal.setAddress(dto.address());
-        proposal.setAddressNumber(dto.addressNumber());
-        proposal.setAddressComplement(dto.addressComplement());
-        proposal.setNeighborhood(dto.neighborhood());
-        proposal.setUf(dto.uf());
-        proposal.setCity(dto.city());
-        proposal.setIncome(dto.income());
-        proposal.setOtherIncomes(dto.otherIncomes());
-        proposal.setMetadata(dto.metadata());
+    /**
+     * O CPF é gravado como veio do formulário; a busca tenta o valor informado, só os dígitos e a forma pontuada.
+     */
+    private static Set<String> cpfVariants(String customerCpf) {
+        if (customerCpf == null || customerCpf.isBlank()) {
+            return Set.of();
+        }
+        Set<String> variants = new HashSet<>();
+        variants.add(customerCpf.trim());
+        String digits = customerCpf.replaceAll("\\D", "");
+        if (!digits.isEmpty()) {
+            variants.add(digits);
+        }
+        if (digits.length() == 11) {
+            variants.add(digits.substring(0, 3) + "." + digits.substring(3, 6) + "."
+                    + digits.substring(6, 9) + "-" + digits.substring(9));
+        }
+        return variants;
     }
 
     private ProposalResponseDTO toResponse(Proposal proposal) {
@@ -265,8 +378,23 @@ public class ProposalService {
         );
     }
 
-    private ProposalEventResponseDTO toEventResponse(ProposalEvent event) {
-        return proposalEventFactory.toResponse(event);
+    private ProposalEventResponseDTO toEventResponse(ProposalEvent event, Map<String, String> metadata) {
+        ProposalEventResponseDTO response = proposalEventFactory.toResponse(event);
+        if (event.getMetadataHash() == null) {
+            return response;
+        }
+        String payload = eventMetadataService.inflate(event.getPayload(), metadata.get(event.getMetadataHash()));
+        return new ProposalEventResponseDTO(
+                response.id(),
+                response.proposalId(),
+                response.type(),
+                response.statusFrom(),
+                response.statusTo(),
+                response.note(),
+                response.actor(),
+                payload,
+                response.createdAt()
+        );
     }
 
     private void appendEvent(
@@ -276,7 +404,8 @@ public class ProposalService {
             ProposalStatus statusTo,
             String actor,
             String note,
-            String payload
+            String payload,
+            String metadataHash
     ) {
         ProposalEvent event = proposalEventFactory.create(
                 proposal,
@@ -287,6 +416,7 @@ public class ProposalService {
                 note,
                 payload
         );
+        event.setMetadataHash(metadataHash);
         proposalEventRepository.save(event);
     }
 
@@ -302,11 +432,8 @@ public class ProposalService {
         realtimeBridgeClient.publish(event, payload, REALTIME_CHANNEL, REALTIME_SENDER);
     }
 
-    private String buildPayload(String metadata, String ip, String actor) {
+    private String buildPayload(String ip, String actor) {
         Map<String, Object> map = new HashMap<>();
-        if (metadata != null && !metadata.isBlank()) {
-            map.put("metadata", metadata);
-        }
         if (ip != null && !ip.isBlank()) {
             map.put("ip", ip);
         }
@@ -316,6 +443,10 @@ public class ProposalService {
         if (map.isEmpty()) {
             return null;
         }
+        return toJson(map);
+    }
+
+    private String toJson(Map<String, Object> map) {
         try {
             return objectMapper.writeValueAsString(map);
         } catch (JsonProcessingException e) {
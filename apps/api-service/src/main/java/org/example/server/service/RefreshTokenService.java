@@ -1,92 +1,116 @@
 package org.example.server.service;
 
+import org.example.server.dto.auth.IssuedRefreshToken;
 import org.example.server.exception.auth.InvalidRefreshTokenException;
 import org.example.server.exception.auth.RefreshTokenExpiredException;
 import org.example.server.exception.auth.RefreshTokenRevokedException;
 import org.example.server.exception.generic.RecordNotFoundException;
+import org.example.server.infra.security.RevokedRefreshTokenCache;
 import org.example.server.model.RefreshToken;
 import org.example.server.model.User;
 import org.example.server.repository.RefreshTokenRepository;
 import org.example.server.repository.UserRepository;
+import org.example.server.util.RefreshTokenHasher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @Transactional
 public class RefreshTokenService {
 
+    private static final int DEVICE_MAX_LENGTH = 255;
+
     @Value("${jwt.refresh-token.expiration}")
     private Long refreshTokenDurationMs;
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
-
-    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository) {
+    private final RefreshTokenHasher refreshTokenHasher;
+    private final RevokedRefreshTokenCache revokedCache;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            RefreshTokenHasher refreshTokenHasher,
+            RevokedRefreshTokenCache revokedCache
+    ) {
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
+        this.refreshTokenHasher = refreshTokenHasher;
+        this.revokedCache = revokedCache;
     }
 
-    public RefreshToken createRefreshToken(Long userId){
+    /**
+     * Abre uma nova sessão para o usuário. Cada dispositivo recebe o seu próprio token,
+     * então logins simultâneos não invalidam uns aos outros.
+     */
+    public IssuedRefreshToken createRefreshToken(Long userId, String device) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RecordNotFoundException(userId));
+        return issue(user, device);
+    }
 
-        Optional<RefreshToken> existingToken = refreshTokenRepository.findByUser(user);
-
-        RefreshToken refreshToken;
-        if (existingToken.isPresent()) {
-            refreshToken = existingToken.get();
-            refreshToken.setTokenHash(UUID.randomUUID().toString());
-            refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
-            refreshToken.setRevoked(false);
-        } else {
-            refreshToken = new RefreshToken();
-            refreshToken.setUser(user);
-            refreshToken.setTokenHash(UUID.randomUUID().toString());
-            refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
-            refreshToken.setRevoked(false);
+    /**
+     * Troca o refresh token apresentado por um novo. O token antigo é revogado na mesma transação
+     * e só pode ser usado uma vez, mesmo com requisições concorrentes.
+     */
+    public IssuedRefreshToken rotate(String rawToken, String device) {
+        String tokenHash = refreshTokenHasher.hash(rawToken);
+        if (revokedCache.contains(tokenHash)) {
+            throw new RefreshTokenRevokedException("Refresh token revogado.");
         }
 
-        return refreshTokenRepository.save(refreshToken);
+        RefreshToken current = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido."));
+        verifyExpiration(current);
+
+        if (refreshTokenRepository.revokeIfActive(current.getId()) == 0) {
+            revokedCache.put(tokenHash, current.getExpiryDate());
+            throw new RefreshTokenRevokedException("Refresh token revogado.");
+        }
+        IssuedRefreshToken rotated = issue(current.getUser(), device != null ? device : current.getDevice());
+        revokedCache.put(tokenHash, current.getExpiryDate());
+        return rotated;
     }
 
     public RefreshToken verifyExpiration(RefreshToken refreshToken){
         if (refreshToken.getExpiryDate().compareTo(Instant.now()) < 0){
-            refreshTokenRepository.delete(refreshToken);
             throw new RefreshTokenExpiredException("Refresh token expirado. Faça login novamente.");
         }
         if (refreshToken.isRevoked()){
+            revokedCache.put(refreshToken.getTokenHash(), refreshToken.getExpiryDate());
             throw new RefreshTokenRevokedException("Refresh token revogado.");
         }
         return refreshToken;
     }
 
-    @Transactional
-    public String refreshAccessToken(String refreshAccessTokenValue, JwtService jwtService){
-        RefreshToken refreshToken = findByToken(refreshAccessTokenValue)
-                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido."));
+    public void revokeRefreshToken(String rawToken){
+        String tokenHash = refreshTokenHasher.hash(rawToken);
+        refreshTokenRepository.findByTokenHash(tokenHash)
+                .ifPresent(token -> {
+                    refreshTokenRepository.revokeIfActive(token.getId());
+                    revokedCache.put(tokenHash, token.getExpiryDate());
+                });
+    }
 
-        verifyExpiration(refreshToken);
+    private IssuedRefreshToken issue(User user, String device) {
+        String rawToken = refreshTokenHasher.generate();
+        Instant expiresAt = Instant.now().plusMillis(refreshTokenDurationMs);
 
-        User user = refreshToken.getUser();
-        return jwtService.generateToken(user);
-    }
+        RefreshToken refreshToken = new RefreshToken(refreshTokenHasher.hash(rawToken), user, expiresAt);
+        refreshToken.setDevice(truncate(device));
+        refreshTokenRepository.save(refreshToken);
 
-    @Transactional
-    public void revokeRefreshToken(String refreshToken){
-        refreshTokenRepository.findByTokenHash(refreshToken)
-                .ifPresent(token -> {
-                    token.setRevoked(true);
-                    refreshTokenRepository.save(token);
-                });
+        return new IssuedRefreshToken(rawToken, expiresAt, user);
     }
 
-    public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByTokenHash(token);
+    private String truncate(String device) {
+        if (device == null || device.isBlank()) {
+            return null;
+        }
+        return device.length() > DEVICE_MAX_LENGTH ? device.substring(0, DEVICE_MAX_LENGTH) : device;
     }
 }
-
@@ -34,6 +34,7 @@ public class SellerService {
     private final ProposalRepository proposalRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final SellerUserFactory sellerUserFactory;
+    private final UserDealerResolver userDealerResolver;
 
     public SellerService(
             SellerRepository sellerRepository,
@@ -44,7 +45,8 @@ public class SellerService {
             DealerRepository dealerRepository,
             ProposalRepository proposalRepository,
             RefreshTokenRepository refreshTokenRepository,
-            SellerUserFactory sellerUserFactory
+            SellerUserFactory sellerUserFactory,
+            UserDealerResolver userDealerResolver
     ) {
         this.sellerRepository = sellerRepository;
         this.userRepository = userRepository;
@@ -55,6 +57,7 @@ public class SellerService {
         this.proposalRepository = proposalRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.sellerUserFactory = sellerUserFactory;
+        this.userDealerResolver = userDealerResolver;
     }
 
     @Transactional
@@ -64,7 +67,7 @@ public class SellerService {
             throw new AccessDeniedException("Apenas ADMIN pode cadastrar vendedor.");
         }
 
-        if (userRepository.existsByEmail(sellerRequestDTO.email())) {
+        if (userRepository.isEmailTaken(sellerRequestDTO.email())) {
             throw new DataAlreadyExistsException("Email ja existe.");
         }
 
@@ -74,7 +77,7 @@ public class SellerService {
 
         Dealer dealer = null;
         if (sellerRequestDTO.dealerId() != null) {
-            dealer = dealerRepository.findById(sellerRequestDTO.dealerId())
+            dealer = dealerRepository.findActiveById(sellerRequestDTO.dealerId())
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
         }
 
@@ -133,7 +136,7 @@ public class SellerService {
                 .orElseThrow(() -> new RecordNotFoundException(sellerId));
 
         if (dealerId != null) {
-            Dealer dealer = dealerRepository.findById(dealerId)
+            Dealer dealer = dealerRepository.findActiveById(dealerId)
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
             seller.setDealer(dealer);
         } else {
@@ -141,6 +144,7 @@ public class SellerService {
         }
 
         sellerRepository.save(seller);
+        userDealerResolver.evict(seller.getUser().getId());
         return sellerMapper.toDTO(seller);
     }
 
@@ -151,7 +155,7 @@ public class SellerService {
         User user = seller.getUser();
         Dealer dealer = seller.getDealer();
         if (sellerRequestDTO.dealerId() != null) {
-            dealer = dealerRepository.findById(sellerRequestDTO.dealerId())
+            dealer = dealerRepository.findActiveById(sellerRequestDTO.dealerId())
                     .orElseThrow(() -> new RecordNotFoundException("Lojista nao encontrado."));
         }
 
@@ -169,6 +173,7 @@ public class SellerService {
 
         userRepository.save(user);
         sellerRepository.save(seller);
+        userDealerResolver.evict(seller.getUser().getId());
 
         return sellerMapper.toDTO(seller);
     }
@@ -185,6 +190,7 @@ public class SellerService {
             refreshTokenRepository.deleteByUser(sellerUser);
         }
         proposalRepository.detachSellerFromProposals(sellerId);
+        userDealerResolver.evict(seller.getUser().getId());
         sellerRepository.delete(seller);
     }
 }
@@ -0,0 +1,104 @@
+package org.example.server.service;
+
+import org.example.server.infra.storage.DocumentStorage;
+import org.example.server.model.StoredObject;
+import org.example.server.repository.StoredObjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Contagem de referências dos objetos no armazenamento, indexados pela chave do conteúdo. Para documentos a
+ * chave é o SHA-256 do conteúdo restrito ao lojista ({@link DocumentService#contentKey}), então só se
+ * reaproveitam envios do mesmo lojista.
+ * Todas as operações travam a linha do objeto e devem rodar dentro da transação de quem chama.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class StoredObjectService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StoredObjectService.class);
+
+    private final StoredObjectRepository storedObjectRepository;
+    private final DocumentStorage documentStorage;
+
+    public StoredObjectService(StoredObjectRepository storedObjectRepository, DocumentStorage documentStorage) {
+        this.storedObjectRepository = storedObjectRepository;
+        this.documentStorage = documentStorage;
+    }
+
+    /**
+     * Registra mais uma referência ao conteúdo. Se ele ainda não existe, cria o registro
+     * e {@code created} indica que quem chamou é responsável pelo upload.
+     */
+    public Acquisition acquire(String contentHash, long sizeBytes) {
+        return storedObjectRepository.findByContentHashForUpdate(contentHash)
+                .map(existing -> {
+                    existing.setRefCount(existing.getRefCount() + 1);
+                    return new Acquisition(existing, false);
+                })
+                .orElseGet(() -> new Acquisition(
+                        storedObjectRepository.saveAndFlush(new StoredObject(contentHash, sizeBytes)), true));
+    }
+
+    public void markStored(String contentHash, String storageKey, String thumbnailKey, long storedSizeBytes, String storedContentType) {
+        storedObjectRepository.findByContentHashForUpdate(contentHash).ifPresent(object -> {
+            object.setStorageKey(storageKey);
+            object.setThumbnailKey(thumbnailKey);
+            object.setStoredSizeBytes(storedSizeBytes);
+            object.setStoredContentType(storedContentType);
+        });
+    }
+
+    /**
+     * Descarta o registro de um conteúdo cujo upload falhou de vez, para que um novo envio tente de novo.
+     */
+    public void abandon(String contentHash) {
+        storedObjectRepository.findByContentHashForUpdate(contentHash)
+                .filter(object -> !object.isStored())
+                .ifPresent(storedObjectRepository::delete);
+    }
+
+    /**
+     * Remove uma referência. Quando não sobra nenhuma, apaga o registro e, após o commit, o objeto no armazenamento.
+     */
+    public void release(String contentHash) {
+        if (contentHash == null) {
+            return;
+        }
+        storedObjectRepository.findByContentHashForUpdate(contentHash).ifPresent(object -> {
+            int remaining = object.getRefCount() - 1;
+            if (remaining > 0) {
+                object.setRefCount(remaining);
+                return;
+            }
+            storedObjectRepository.delete(object);
+            if (object.isStored()) {
+                deleteAfterCommit(object.getStorageKey());
+            }
+            if (object.getThumbnailKey() != null) {
+                deleteAfterCommit(object.getThumbnailKey());
+            }
+        });
+    }
+
+    private void deleteAfterCommit(String storageKey) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    documentStorage.delete(storageKey);
+                } catch (Exception e) {
+                    LOGGER.warn("Falha ao remover {} do armazenamento: {}", storageKey, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public record Acquisition(StoredObject object, boolean created) {
+    }
+}
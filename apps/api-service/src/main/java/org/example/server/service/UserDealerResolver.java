@@ -0,0 +1,129 @@
+package org.example.server.service;
+
+import org.example.server.infra.cache.CacheInvalidationChannel;
+import org.example.server.infra.persistence.AfterCommit;
+import org.example.server.repository.DealerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolve o lojista de qualquer usuário (o próprio lojista, vendedor, gerente ou operador) com uma única
+ * consulta UNION, guardando o mapeamento usuário → lojista num cache LRU em memória. Só vínculos encontrados
+ * entram no cache; quem troca o lojista de um vendedor, gerente ou operador chama {@link #evict(Long)}, que
+ * também avisa as outras réplicas pelo {@link CacheInvalidationChannel}. {@code max-age} limita quanto tempo
+ * um vínculo sobrevive a um aviso perdido ou a uma escrita que não passa por aqui.
+ */
+@Component
+public class UserDealerResolver {
+
+    static final String TOPIC = "user-dealer";
+
+    private final DealerRepository dealerRepository;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final Map<Long, Entry> dealerIdsByUser;
+
+    public UserDealerResolver(
+            DealerRepository dealerRepository,
+            CacheInvalidationChannel invalidationChannel,
+            @Value("${app.dealers.resolver.cache-size:10000}") int maxEntries,
+            @Value("${app.dealers.resolver.max-age-seconds:300}") long maxAgeSeconds
+    ) {
+        this.dealerRepository = dealerRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.maxEntries = maxEntries;
+        this.maxAgeNanos = Duration.ofSeconds(maxAgeSeconds).toNanos();
+        this.dealerIdsByUser = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > UserDealerResolver.this.maxEntries;
+            }
+        };
+
+        invalidationChannel.subscribe(TOPIC, new CacheInvalidationChannel.Subscriber() {
+            @Override
+            public void onMessage(String message) {
+                applyRemote(message);
+            }
+
+            @Override
+            public void onReconnect() {
+                clear();
+            }
+        });
+    }
+
+    public Optional<Long> resolveDealerId(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            Entry cached = dealerIdsByUser.get(userId);
+            if (cached != null) {
+                if (System.nanoTime() - cached.cachedAt() < maxAgeNanos) {
+                    return Optional.of(cached.dealerId());
+                }
+                dealerIdsByUser.remove(userId);
+            }
+        }
+        Optional<Long> dealerId = dealerRepository.findDealerIdForUser(userId);
+        dealerId.ifPresent(id -> {
+            synchronized (this) {
+                dealerIdsByUser.put(userId, new Entry(id, System.nanoTime()));
+            }
+        });
+        return dealerId;
+    }
+
+    /**
+     * Remove o vínculo do usuário agora e de novo após o commit, para uma leitura concorrente
+     * não recolocar o lojista antigo no cache.
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        AfterCommit.invalidateNowAndAfterCommit(() -> remove(userId));
+        invalidationChannel.publish(TOPIC, "user " + userId);
+    }
+
+    public void evictDealer(Long dealerId) {
+        AfterCommit.invalidateNowAndAfterCommit(() -> removeDealer(dealerId));
+        invalidationChannel.publish(TOPIC, "dealer " + dealerId);
+    }
+
+    void applyRemote(String message) {
+        String[] parts = message.split(" ");
+        if (parts.length != 2) {
+            return;
+        }
+        Long id = Long.valueOf(parts[1]);
+        switch (parts[0]) {
+            case "user" -> remove(id);
+            case "dealer" -> removeDealer(id);
+            default -> {
+            }
+        }
+    }
+
+    private synchronized void remove(Long userId) {
+        dealerIdsByUser.remove(userId);
+    }
+
+    private synchronized void removeDealer(Long dealerId) {
+        dealerIdsByUser.values().removeIf(entry -> entry.dealerId().equals(dealerId));
+    }
+
+    private synchronized void clear() {
+        dealerIdsByUser.clear();
+    }
+
+    private record Entry(Long dealerId, long cachedAt) {
+    }
+}
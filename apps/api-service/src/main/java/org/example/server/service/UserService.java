@@ -17,6 +17,7 @@ import org.example.server.exception.user.UserNotVerifiedException;
 import org.example.server.model.User;
 import org.example.server.repository.DealerRepository;
 import org.example.server.repository.UserRepository;
+import org.example.server.util.LoginKeyNormalizer;
 import org.example.server.util.VerificationCodeGenerator;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 @Service
@@ -46,6 +48,7 @@ public class UserService {
     private final EmailService emailService;
     private final UserMapper userMapper;
     private final VerificationCodeGenerator codeGenerator;
+    private final DealerDirectoryService dealerDirectoryService;
 
     public UserService(
             UserRepository userRepository,
@@ -56,7 +59,8 @@ public class UserService {
             AuthenticationManager manager,
             EmailService emailService,
             UserMapper userMapper,
-            VerificationCodeGenerator codeGenerator
+            VerificationCodeGenerator codeGenerator,
+            DealerDirectoryService dealerDirectoryService
     ) {
         this.userRepository = userRepository;
         this.dealerRepository = dealerRepository;
@@ -67,6 +71,7 @@ public class UserService {
         this.emailService = emailService;
         this.userMapper = userMapper;
         this.codeGenerator = codeGenerator;
+        this.dealerDirectoryService = dealerDirectoryService;
     }
 
     public UserResponseDTO create(UserRequestDTO userRequestDTO) {
@@ -75,7 +80,7 @@ public class UserService {
 
     @Transactional
     public UserResponseDTO create(UserRequestDTO userRequestDTO, boolean sendVerification) {
-        if (userRepository.existsByEmail(userRequestDTO.email())) {
+        if (userRepository.isEmailTaken(userRequestDTO.email())) {
             throw new DataAlreadyExistsException("E-mail já cadastrado");
         }
 
@@ -152,6 +157,9 @@ public class UserService {
 
         user.markAsVerified();
         userRepository.save(user);
+        if (user.getRole() == UserRole.LOJISTA) {
+            dealerDirectoryService.invalidate();
+        }
     }
 
     @Transactional
@@ -225,8 +233,9 @@ public class UserService {
 
         if (dto.email() != null && !dto.email().isBlank()) {
             String normalizedEmail = dto.email().trim();
-            if (!normalizedEmail.equalsIgnoreCase(user.getEmail())
-                    && userRepository.existsByEmail(normalizedEmail)) {
+            if (!normalizedEmail.equals(user.getEmail())
+                    && !Objects.equals(LoginKeyNormalizer.normalize(normalizedEmail), user.getLoginKey())
+                    && userRepository.isEmailTaken(normalizedEmail)) {
                 throw new DataAlreadyExistsException("E-mail já cadastrado");
             }
             user.setEmail(normalizedEmail);
@@ -234,6 +243,9 @@ public class UserService {
 
         if (dto.fullName() != null && !dto.fullName().isBlank()) {
             user.setFullName(dto.fullName().trim());
+            if (user.getRole() == UserRole.LOJISTA) {
+                dealerDirectoryService.invalidate();
+            }
         }
 
         return userMapper.toDto(userRepository.save(user));
@@ -249,7 +261,7 @@ public class UserService {
         }
 
         if (dealerId != null && dealerId > 0) {
-            var dealer = dealerRepository.findById(dealerId)
+            var dealer = dealerRepository.findActiveById(dealerId)
                     .orElseThrow(() -> new RecordNotFoundException("Lojista não encontrado"));
             user.setDealer(dealer);
         } else {
@@ -261,9 +273,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String identifier) {
-        return userRepository.findByEmail(identifier)
-                .or(() -> dealerRepository.findByEnterpriseIgnoreCase(identifier)
-                        .map(dealer -> (User) dealer.getUser()))
+        return userRepository.findForLogin(identifier)
                 .orElseThrow(() ->
                         new RecordNotFoundException("Usuário não encontrado com identificador: " + identifier)
                 );
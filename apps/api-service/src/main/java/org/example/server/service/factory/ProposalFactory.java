@@ -0,0 +1,45 @@
+package org.example.server.service.factory;
+
+import org.example.server.dto.proposal.ProposalRequestDTO;
+import org.example.server.model.Proposal;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProposalFactory {
+
+    /**
+     * Copia os dados do cliente, do veículo e do financiamento. Lojista e vendedor ficam a cargo de quem chama.
+     */
+    public void copyRequestData(Proposal proposal, ProposalRequestDTO dto) {
+        proposal.setCustomerName(dto.customerName());
+        proposal.setCustomerCpf(dto.customerCpf());
+        proposal.setCustomerBirthDate(dto.customerBirthDate());
+
+        proposal.setCustomerEmail(dto.customerEmail());
+        proposal.setCustomerPhone(dto.customerPhone());
+        proposal.setCnhCategory(dto.cnhCategory());
+        proposal.setHasCnh(dto.hasCnh());
+        proposal.setVehiclePlate(dto.vehiclePlate());
+        proposal.setFipeCode(dto.fipeCode());
+        proposal.setFipeValue(dto.fipeValue());
+        proposal.setVehicleBrand(dto.vehicleBrand());
+        proposal.setVehicleModel(dto.vehicleModel());
+        proposal.setVehicleYear(dto.vehicleYear());
+        proposal.setDownPaymentValue(dto.downPaymentValue());
+        proposal.setFinancedValue(dto.financedValue());
+        proposal.setTermMonths(dto.termMonths());
+        proposal.setVehicle0km(Boolean.TRUE.equals(dto.vehicle0km()));
+        proposal.setNotes(dto.notes());
+        proposal.setMaritalStatus(dto.maritalStatus());
+        proposal.setCep(dto.cep());
+        proposal.setAddress(dto.address());
+        proposal.setAddressNumber(dto.addressNumber());
+        proposal.setAddressComplement(dto.addressComplement());
+        proposal.setNeighborhood(dto.neighborhood());
+        proposal.setUf(dto.uf());
+        proposal.setCity(dto.city());
+        proposal.setIncome(dto.income());
+        proposal.setOtherIncomes(dto.otherIncomes());
+        proposal.setMetadata(dto.metadata());
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.server.service.job;
+
+import org.example.server.service.BillingCampaignService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BillingCampaignJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BillingCampaignJob.class);
+
+    private final BillingCampaignService billingCampaignService;
+    private final boolean enabled;
+
+    public BillingCampaignJob(
+            BillingCampaignService billingCampaignService,
+            @Value("${app.billing.campaign.enabled:true}") boolean enabled
+    ) {
+        this.billingCampaignService = billingCampaignService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(cron = "${app.billing.campaign.cron:0 0 9 * * *}", zone = "${app.billing.campaign.zone:America/Sao_Paulo}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            billingCampaignService.run();
+        } catch (Exception e) {
+            LOGGER.error("Falha na campanha de cobrança: {}", e.getMessage(), e);
+        }
+    }
+}
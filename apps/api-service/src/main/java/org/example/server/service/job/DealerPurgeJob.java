@@ -0,0 +1,109 @@
+package org.example.server.service.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.server.enums.DealerPurgeStage;
+import org.example.server.model.DealerPurge;
+import org.example.server.repository.DealerPurgeBatchRepository.DeletedDocument;
+import org.example.server.repository.DealerPurgeRepository;
+import org.example.server.service.DocumentUrlService;
+import org.example.server.service.StoredObjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Apaga de vez os lojistas excluídos logicamente. Cada lote é um DELETE limitado por tabela numa transação
+ * curta, que também grava a etapa e o total removido em {@code tb_dealer_purge}; após uma queda o job
+ * continua da etapa registrada, e repetir uma etapa já esvaziada só apaga zero linhas. Os DELETEs em tabelas
+ * com cache de segundo nível já avisam as réplicas pelo próprio {@code JdbcTemplate}.
+ */
+@Component
+public class DealerPurgeJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DealerPurgeJob.class);
+
+    private final DealerPurgeRepository dealerPurgeRepository;
+    private final StoredObjectService storedObjectService;
+    private final DocumentUrlService documentUrlService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int maxDealersPerRun;
+
+    public DealerPurgeJob(
+            DealerPurgeRepository dealerPurgeRepository,
+            StoredObjectService storedObjectService,
+            DocumentUrlService documentUrlService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.dealers.purge.chunk-size:500}") int chunkSize,
+            @Value("${app.dealers.purge.max-dealers:5}") int maxDealersPerRun
+    ) {
+        this.dealerPurgeRepository = dealerPurgeRepository;
+        this.storedObjectService = storedObjectService;
+        this.documentUrlService = documentUrlService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.maxDealersPerRun = maxDealersPerRun;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.dealers.purge.initial-delay-ms:30000}",
+            fixedDelayString = "${app.dealers.purge.interval-ms:30000}"
+    )
+    public void run() {
+        List<Long> dealerIds = dealerPurgeRepository.findPendingDealerIds(PageRequest.of(0, maxDealersPerRun));
+        for (Long dealerId : dealerIds) {
+            try {
+                purge(dealerId);
+            } catch (Exception ex) {
+                LOGGER.warn("Falha ao remover o lojista {}; nova tentativa na próxima execução: {}", dealerId, ex.getMessage());
+            }
+        }
+    }
+
+    public void purge(Long dealerId) {
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeChunk(dealerId)))) {
+            // cada volta é um lote numa transação própria
+        }
+    }
+
+    /**
+     * Apaga um lote da etapa atual e avança a etapa quando a tabela se esgota.
+     * Devolve se ainda há trabalho para o lojista.
+     */
+    private boolean purgeChunk(Long dealerId) {
+        DealerPurge purge = dealerPurgeRepository.findForUpdate(dealerId).orElse(null);
+        if (purge == null || purge.isCompleted()) {
+            return false;
+        }
+        DealerPurgeStage stage = purge.getStage();
+        int deleted;
+        if (stage == DealerPurgeStage.DOCUMENTS) {
+            List<DeletedDocument> documents = dealerPurgeRepository.deleteDocumentChunk(dealerId, chunkSize);
+            documents.stream().map(DeletedDocument::contentHash).filter(Objects::nonNull).forEach(storedObjectService::release);
+            documentUrlService.evict(documents.stream().map(DeletedDocument::id).toList());
+            deleted = documents.size();
+        } else {
+            deleted = dealerPurgeRepository.deleteChunk(stage, dealerId, chunkSize);
+        }
+
+        boolean exhausted = stage == DealerPurgeStage.DEALER || deleted < chunkSize;
+        purge.recordProgress(deleted, exhausted ? stage.next() : stage);
+        meterRegistry.counter("dealers.purge.rows", "stage", stage.name().toLowerCase(Locale.ROOT)).increment(deleted);
+
+        if (exhausted) {
+            LOGGER.info("Remoção do lojista {}: etapa {} concluída ({} linhas até agora)", dealerId, stage, purge.getDeletedRows());
+        }
+        return !purge.isCompleted();
+    }
+}
@@ -0,0 +1,342 @@
+package org.example.server.service.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.server.dto.document.DocumentUploadProgressDTO;
+import org.example.server.enums.DocumentStorageStatus;
+import org.example.server.infra.image.ImageNormalizer;
+import org.example.server.infra.image.NormalizedImage;
+import org.example.server.infra.storage.DocumentStagingArea;
+import org.example.server.infra.storage.DocumentStorage;
+import org.example.server.model.Document;
+import org.example.server.repository.DocumentRepository;
+import org.example.server.service.NotificationStreamService;
+import org.example.server.service.StoredObjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envia ao {@link DocumentStorage} os documentos que estão na área de staging ({@code PENDING_UPLOAD}).
+ * Cada upload roda fora de transação; o banco só é tocado para ler o documento e gravar o resultado.
+ * Falhas são reagendadas com backoff exponencial até {@code max-attempts}, e o progresso é publicado
+ * via SSE no alvo {@code DOCUMENT_UPLOAD} com o id do lojista.
+ */
+@Component
+public class DocumentIngestionWorker {
+
+    public static final String SSE_TARGET_TYPE = "DOCUMENT_UPLOAD";
+    private static final String SSE_EVENT = "document-upload";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentIngestionWorker.class);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    private final DocumentRepository documentRepository;
+    private final DocumentStorage documentStorage;
+    private final DocumentStagingArea stagingArea;
+    private final NotificationStreamService notificationStreamService;
+    private final StoredObjectService storedObjectService;
+    private final ImageNormalizer imageNormalizer;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+
+    private final Timer uploadTimer;
+    private final Counter completedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    @Value("${cloudinary.documents-folder:documents}")
+    private String documentsFolder;
+
+    public DocumentIngestionWorker(
+            DocumentRepository documentRepository,
+            DocumentStorage documentStorage,
+            DocumentStagingArea stagingArea,
+            NotificationStreamService notificationStreamService,
+            StoredObjectService storedObjectService,
+            ImageNormalizer imageNormalizer,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.documents.ingestion.workers:4}") int workerCount,
+            @Value("${app.documents.ingestion.max-attempts:5}") int maxAttempts,
+            @Value("${app.documents.ingestion.base-backoff-ms:10000}") long baseBackoffMs
+    ) {
+        this.documentRepository = documentRepository;
+        this.documentStorage = documentStorage;
+        this.stagingArea = stagingArea;
+        this.notificationStreamService = notificationStreamService;
+        this.storedObjectService = storedObjectService;
+        this.imageNormalizer = imageNormalizer;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "document-ingestion-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.uploadTimer = Timer.builder("documents.ingestion.upload")
+                .description("Duração do envio de um documento da área de staging para o armazenamento")
+                .register(meterRegistry);
+        this.completedCounter = meterRegistry.counter("documents.ingestion.completed");
+        this.retriedCounter = meterRegistry.counter("documents.ingestion.retried");
+        this.failedCounter = meterRegistry.counter("documents.ingestion.failed");
+        meterRegistry.gauge("documents.ingestion.in-flight", inFlight, Set::size);
+    }
+
+    /**
+     * Agenda o envio imediato de um documento recém-gravado.
+     */
+    public void submit(Long documentId) {
+        if (inFlight.add(documentId)) {
+            try {
+                workers.execute(() -> process(documentId));
+            } catch (RuntimeException e) {
+                inFlight.remove(documentId);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Retoma retentativas agendadas e documentos deixados para trás por um restart.
+     */
+    @Scheduled(
+            initialDelayString = "${app.documents.ingestion.initial-delay-ms:15000}",
+            fixedDelayString = "${app.documents.ingestion.poll-interval-ms:5000}"
+    )
+    public void pollPending() {
+        try {
+            documentRepository.findIdsReadyForUpload(DocumentStorageStatus.PENDING_UPLOAD, Instant.now(), PageRequest.of(0, 100))
+                    .forEach(this::submit);
+        } catch (Exception e) {
+            LOGGER.warn("Falha ao buscar documentos pendentes de envio: {}", e.getMessage());
+        }
+    }
+
+    private void process(Long documentId) {
+        try {
+            Document document = documentRepository.findById(documentId).orElse(null);
+            if (document == null || document.getStorageStatus() != DocumentStorageStatus.PENDING_UPLOAD) {
+                return;
+            }
+            if (!stagingArea.exists(document.getStagedFile())) {
+                // arquivo em staging de outra instância ou perdido; outra réplica (ou o operador) resolve
+                return;
+            }
+            upload(document);
+        } catch (Exception e) {
+            LOGGER.warn("Falha inesperada ao processar o documento {}: {}", documentId, e.getMessage());
+        } finally {
+            inFlight.remove(documentId);
+        }
+    }
+
+    private void upload(Document document) {
+        Long dealerId = document.getDealer().getId();
+        int attempt = document.getUploadAttempts() + 1;
+        ProgressPublisher progress = new ProgressPublisher(document.getId(), dealerId, attempt);
+
+        Timer.Sample sample = Timer.start();
+        try {
+            StoredContent stored = store(document, progress);
+            sample.stop(uploadTimer);
+            List<Document> completed = markAvailable(document, stored);
+            stagingArea.discard(document.getStagedFile());
+            completedCounter.increment();
+            completed.forEach(doc -> publish(doc.getDealer().getId(),
+                    new DocumentUploadProgressDTO(doc.getId(), DocumentStorageStatus.AVAILABLE, 100, attempt, null)));
+        } catch (Exception e) {
+            sample.stop(uploadTimer);
+            handleFailure(document, dealerId, attempt, e);
+        }
+    }
+
+    /**
+     * Envia o arquivo em staging; imagens passam antes pelo {@link ImageNormalizer} e ganham uma miniatura.
+     */
+    private StoredContent store(Document document, ProgressPublisher progress) throws IOException {
+        String stagedFile = document.getStagedFile();
+        long originalSize = document.getSizeBytes() != null ? document.getSizeBytes() : -1;
+
+        NormalizedImage image = null;
+        if (imageNormalizer.supports(document.getContentType())) {
+            image = imageNormalizer.normalize(stagingArea.path(stagedFile), document.getContentType(), ImageNormalizer.Profile.DOCUMENT)
+                    .orElse(null);
+        }
+
+        if (image == null) {
+            try (InputStream content = stagingArea.open(stagedFile)) {
+                String key = documentStorage.store(documentsFolder, stagedFile, content, originalSize, document.getContentType(), progress);
+                return new StoredContent(key, null, originalSize, document.getContentType());
+            }
+        }
+
+        String key = documentStorage.store(documentsFolder, stagedFile, new ByteArrayInputStream(image.content()),
+                image.normalizedBytes(), image.contentType(), progress);
+        String thumbnailKey = null;
+        if (image.thumbnail() != null) {
+            thumbnailKey = documentStorage.store(documentsFolder, stagedFile + "-thumb", new ByteArrayInputStream(image.thumbnail()),
+                    image.thumbnail().length, image.thumbnailContentType());
+        }
+        LOGGER.debug("Documento {} normalizado: {} -> {} bytes", document.getId(), image.originalBytes(), image.normalizedBytes());
+        return new StoredContent(key, thumbnailKey, image.normalizedBytes(), image.contentType());
+    }
+
+    /**
+     * Marca como disponível o documento enviado e os que aguardavam o mesmo conteúdo.
+     */
+    private List<Document> markAvailable(Document uploaded, StoredContent stored) {
+        List<Document> completed = transactionTemplate.execute(status -> {
+            List<Document> documents = new ArrayList<>();
+            documentRepository.findById(uploaded.getId()).ifPresent(doc -> {
+                doc.setUploadAttempts(doc.getUploadAttempts() + 1);
+                documents.add(doc);
+            });
+            String contentHash = uploaded.getContentHash();
+            if (contentHash != null) {
+                storedObjectService.markStored(contentHash, stored.key(), stored.thumbnailKey(), stored.sizeBytes(), stored.contentType());
+                documentRepository.findByContentHashAndStorageStatus(contentHash, DocumentStorageStatus.PENDING_UPLOAD)
+                        .stream()
+                        .filter(doc -> !doc.getId().equals(uploaded.getId()))
+                        .forEach(documents::add);
+            }
+            documents.forEach(doc -> {
+                doc.setS3Key(stored.key());
+                doc.setThumbnailKey(stored.thumbnailKey());
+                if (stored.sizeBytes() >= 0) {
+                    doc.setOriginalSizeBytes(doc.getSizeBytes());
+                    doc.setSizeBytes(stored.sizeBytes());
+                }
+                doc.setContentType(stored.contentType());
+                doc.setStorageStatus(DocumentStorageStatus.AVAILABLE);
+                doc.setStagedFile(null);
+                doc.setNextUploadAt(null);
+                doc.setUploadError(null);
+            });
+            return documents;
+        });
+        return completed != null ? completed : List.of();
+    }
+
+    private void handleFailure(Document document, Long dealerId, int attempt, Exception error) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        String truncated = message.length() > 500 ? message.substring(0, 500) : message;
+        boolean exhausted = attempt >= maxAttempts;
+
+        List<Document> affected = transactionTemplate.execute(status -> {
+            List<Document> documents = new ArrayList<>();
+            documentRepository.findById(document.getId()).ifPresent(doc -> {
+                doc.setUploadAttempts(attempt);
+                doc.setUploadError(truncated);
+                if (!exhausted) {
+                    doc.setNextUploadAt(Instant.now().plus(backoff(attempt)));
+                }
+                documents.add(doc);
+            });
+            if (exhausted) {
+                String contentHash = document.getContentHash();
+                if (contentHash != null) {
+                    storedObjectService.abandon(contentHash);
+                    documentRepository.findByContentHashAndStorageStatus(contentHash, DocumentStorageStatus.PENDING_UPLOAD)
+                            .stream()
+                            .filter(doc -> !doc.getId().equals(document.getId()))
+                            .forEach(documents::add);
+                }
+                documents.forEach(doc -> {
+                    doc.setStorageStatus(DocumentStorageStatus.FAILED);
+                    // a referência ao conteúdo foi descartada junto com o StoredObject
+                    doc.setContentHash(null);
+                    doc.setUploadError(truncated);
+                    doc.setNextUploadAt(null);
+                    doc.setStagedFile(null);
+                });
+            }
+            return documents;
+        });
+
+        if (exhausted) {
+            stagingArea.discard(document.getStagedFile());
+            failedCounter.increment();
+            LOGGER.warn("Documento {} descartado após {} tentativas de envio: {}", document.getId(), attempt, truncated);
+            if (affected != null) {
+                affected.forEach(doc -> publish(doc.getDealer().getId(),
+                        new DocumentUploadProgressDTO(doc.getId(), DocumentStorageStatus.FAILED, 0, attempt, truncated)));
+            }
+        } else {
+            retriedCounter.increment();
+            publish(dealerId, new DocumentUploadProgressDTO(document.getId(), DocumentStorageStatus.PENDING_UPLOAD, 0, attempt, truncated));
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempt - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void publish(Long dealerId, DocumentUploadProgressDTO progress) {
+        notificationStreamService.publish(SSE_TARGET_TYPE, dealerId, SSE_EVENT, progress);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private record StoredContent(String key, String thumbnailKey, long sizeBytes, String contentType) {
+    }
+
+    /**
+     * Publica o progresso a cada 10% para não inundar o SSE com um evento por bloco.
+     */
+    private class ProgressPublisher implements DocumentStorage.ProgressListener {
+
+        private final Long documentId;
+        private final Long dealerId;
+        private final int attempt;
+        private int lastPercent = -1;
+
+        ProgressPublisher(Long documentId, Long dealerId, int attempt) {
+            this.documentId = documentId;
+            this.dealerId = dealerId;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public void onProgress(long bytesTransferred, long totalBytes) {
+            if (totalBytes <= 0) {
+                return;
+            }
+            int percent = (int) Math.min(99, bytesTransferred * 100 / totalBytes);
+            if (percent >= lastPercent + 10) {
+                lastPercent = percent;
+                publish(dealerId, new DocumentUploadProgressDTO(documentId, DocumentStorageStatus.PENDING_UPLOAD, percent, attempt, null));
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.server.service.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.server.enums.EmailOutboxStatus;
+import org.example.server.model.EmailOutbox;
+import org.example.server.repository.EmailOutboxRepository;
+import org.example.server.service.EmailOutboxSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Esvazia a tabela de saída de e-mails. A cada ciclo reserva um lote de mensagens prontas,
+ * divide entre os workers (uma conexão SMTP por fatia) e grava o resultado: enviado,
+ * reagendado com backoff exponencial ou falho após o número máximo de tentativas.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    private static final Duration STALE_CLAIM = Duration.ofMinutes(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxSender emailOutboxSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int messagesPerConnection;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final int maxPerMinute;
+    private Instant quotaWindowStart = Instant.EPOCH;
+    private int sentInWindow;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer sendLatency;
+    private final Timer batchDuration;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailOutboxSender emailOutboxSender,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.mail.outbox.workers:2}") int workerCount,
+            @Value("${app.mail.outbox.batch-size:100}") int batchSize,
+            @Value("${app.mail.outbox.messages-per-connection:25}") int messagesPerConnection,
+            @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.mail.outbox.base-backoff-ms:30000}") long baseBackoffMs,
+            @Value("${app.mail.outbox.max-per-minute:0}") int maxPerMinute
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailOutboxSender = emailOutboxSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.messagesPerConnection = messagesPerConnection;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxPerMinute = maxPerMinute;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("email.outbox.queue.depth", queueDepth);
+        this.sendLatency = Timer.builder("email.outbox.send.latency")
+                .description("Tempo entre o enfileiramento e o envio do e-mail")
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("email.outbox.batch.duration")
+                .description("Duração do envio de um lote por conexão SMTP")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("email.outbox.sent");
+        this.failedCounter = meterRegistry.counter("email.outbox.failed");
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.mail.outbox.initial-delay-ms:10000}",
+            fixedDelayString = "${app.mail.outbox.poll-interval-ms:2000}"
+    )
+    public void dispatch() {
+        try {
+            int limit = availableQuota();
+            if (limit <= 0) {
+                return;
+            }
+            List<EmailOutbox> claimed = claim(limit);
+            if (!claimed.isEmpty()) {
+                sentInWindow += claimed.size();
+                sendAll(claimed);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Falha ao processar a fila de e-mails: {}", e.getMessage());
+        } finally {
+            queueDepth.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        }
+    }
+
+    /**
+     * Quantas mensagens ainda cabem na cota do provedor SMTP no minuto corrente
+     * ({@code app.mail.outbox.max-per-minute}, 0 = sem limite).
+     */
+    private int availableQuota() {
+        if (maxPerMinute <= 0) {
+            return batchSize;
+        }
+        Instant now = Instant.now();
+        if (Duration.between(quotaWindowStart, now).compareTo(Duration.ofMinutes(1)) >= 0) {
+            quotaWindowStart = now;
+            sentInWindow = 0;
+        }
+        return Math.min(batchSize, maxPerMinute - sentInWindow);
+    }
+
+    private List<EmailOutbox> claim(int limit) {
+        List<EmailOutbox> claimed = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            emailOutboxRepository.releaseStaleClaims(now.minus(STALE_CLAIM));
+            List<EmailOutbox> ready = emailOutboxRepository.findReadyForUpdate(
+                    EmailOutboxStatus.PENDING, now, PageRequest.of(0, limit));
+            ready.forEach(entry -> {
+                entry.setStatus(EmailOutboxStatus.SENDING);
+                entry.setClaimedAt(now);
+            });
+            return ready;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void sendAll(List<EmailOutbox> claimed) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += messagesPerConnection) {
+            List<EmailOutbox> slice = claimed.subList(from, Math.min(from + messagesPerConnection, claimed.size()));
+            futures.add(CompletableFuture.runAsync(() -> sendSlice(slice), workers));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void sendSlice(List<EmailOutbox> slice) {
+        Map<Long, String> failures = batchDuration.record(() -> emailOutboxSender.send(slice));
+        Instant now = Instant.now();
+
+        for (EmailOutbox entry : slice) {
+            String error = failures != null ? failures.get(entry.getId()) : null;
+            if (error == null) {
+                entry.setStatus(EmailOutboxStatus.SENT);
+                entry.setSentAt(now);
+                entry.setLastError(null);
+                // as variáveis podem conter senhas provisórias; não ficam guardadas após o envio
+                entry.setVariables(null);
+                sendLatency.record(Duration.between(entry.getCreatedAt(), now));
+                sentCounter.increment();
+            } else {
+                int attempts = entry.getAttempts() + 1;
+                entry.setAttempts(attempts);
+                entry.setLastError(error);
+                if (attempts >= maxAttempts) {
+                    entry.setStatus(EmailOutboxStatus.FAILED);
+                    failedCounter.increment();
+                    LOGGER.warn("E-mail {} descartado após {} tentativas: {}", entry.getId(), attempts, error);
+                } else {
+                    entry.setStatus(EmailOutboxStatus.PENDING);
+                    entry.setNextAttemptAt(now.plus(backoff(attempts)));
+                }
+            }
+            entry.setClaimedAt(null);
+        }
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(slice));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.server.service.job;
+
+import org.example.server.model.Dealer;
+import org.example.server.model.User;
+import org.example.server.repository.DealerRepository;
+import org.example.server.repository.UserRepository;
+import org.example.server.util.LoginKeyNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Preenche {@code login_key} de usuários e lojistas cadastrados antes da coluna existir.
+ * Percorre as tabelas por id em lotes curtos, cada um na sua própria transação.
+ * <p>
+ * Cadastros cuja chave normalizada colide com a de outro (e-mails que só diferem em maiúsculas ou
+ * acentos, por exemplo) ficam sem chave e são registrados em log para ajuste manual; o resto do lote segue.
+ * Enquanto não tiverem chave, entram pela busca antiga de {@link UserRepository#findForLogin}, que vale
+ * sempre que o identificador digitado não é exatamente o do cadastro achado pela chave.
+ */
+@Component
+public class LoginKeyBackfillJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginKeyBackfillJob.class);
+
+    private final UserRepository userRepository;
+    private final DealerRepository dealerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public LoginKeyBackfillJob(
+            UserRepository userRepository,
+            DealerRepository dealerRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.login-key.backfill.enabled:true}") boolean enabled,
+            @Value("${app.login-key.backfill.batch-size:500}") int batchSize
+    ) {
+        this.userRepository = userRepository;
+        this.dealerRepository = dealerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int users = backfillUsers();
+            int dealers = backfillDealers();
+            if (users > 0 || dealers > 0) {
+                LOGGER.info("login_key preenchido para {} usuários e {} lojistas", users, dealers);
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("Falha ao preencher login_key: {}", ex.getMessage());
+        }
+    }
+
+    public int backfillUsers() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            final long cursor = lastId;
+            int[] filled = new int[1];
+            List<User> batch = transactionTemplate.execute(status -> {
+                List<User> users = userRepository.findByLoginKeyIsNullAndEmailIsNotNullAndIdGreaterThanOrderByIdAsc(
+                        cursor, PageRequest.of(0, batchSize));
+                List<User> assignable = withoutCollisions(users, user -> LoginKeyNormalizer.normalize(user.getEmail()),
+                        userRepository::findExistingLoginKeys, User::getId, "usuário");
+                assignable.forEach(User::assignLoginKey);
+                filled[0] = assignable.size();
+                return users;
+            });
+            if (batch == null || batch.isEmpty()) {
+                return total;
+            }
+            total += filled[0];
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    public int backfillDealers() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            final long cursor = lastId;
+            int[] filled = new int[1];
+            List<Dealer> batch = transactionTemplate.execute(status -> {
+                List<Dealer> dealers = dealerRepository.findByLoginKeyIsNullAndIdGreaterThanOrderByIdAsc(
+                        cursor, PageRequest.of(0, batchSize));
+                List<Dealer> assignable = withoutCollisions(dealers, dealer -> LoginKeyNormalizer.normalize(dealer.getEnterprise()),
+                        dealerRepository::findExistingLoginKeys, Dealer::getId, "lojista");
+                assignable.forEach(Dealer::assignLoginKey);
+                filled[0] = assignable.size();
+                return dealers;
+            });
+            if (batch == null || batch.isEmpty()) {
+                return total;
+            }
+            total += filled[0];
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    /**
+     * Linhas do lote que podem receber a chave: sem chave nula, sem colisão com chaves já gravadas nem
+     * com outra linha do mesmo lote (nesse caso nenhuma das duas recebe).
+     */
+    static <T> List<T> withoutCollisions(
+            List<T> rows,
+            Function<T, String> keyOf,
+            Function<Collection<String>, Set<String>> existingKeys,
+            Function<T, Long> idOf,
+            String kind
+    ) {
+        Set<String> seen = new HashSet<>();
+        Set<String> repeated = new HashSet<>();
+        for (T row : rows) {
+            String key = keyOf.apply(row);
+            if (key != null && !seen.add(key)) {
+                repeated.add(key);
+            }
+        }
+        Set<String> taken = seen.isEmpty() ? Set.of() : existingKeys.apply(seen);
+        List<T> assignable = new ArrayList<>();
+        for (T row : rows) {
+            String key = keyOf.apply(row);
+            if (key == null) {
+                continue;
+            }
+            if (repeated.contains(key) || taken.contains(key)) {
+                LOGGER.warn("login_key de {} {} colide com outro cadastro; mantido sem chave", kind, idOf.apply(row));
+                continue;
+            }
+            assignable.add(row);
+        }
+        return assignable;
+    }
+}
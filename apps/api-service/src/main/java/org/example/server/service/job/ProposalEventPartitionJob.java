@@ -0,0 +1,109 @@
+package org.example.server.service.job;
+
+import org.example.server.repository.ProposalEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+
+/**
+ * Mantém {@code tb_proposal_event} particionada por mês: garante as partições dos próximos meses e arquiva
+ * as que passaram da retenção (a partição é desanexada e movida para um schema de arquivo, saindo das
+ * consultas da linha do tempo sem perder os dados).
+ * <p>
+ * A conversão da tabela comum não é automática: ela copia todos os eventos sob ACCESS EXCLUSIVE, bloqueando
+ * leituras e escritas da linha do tempo até terminar. O operador a dispara numa janela de manutenção por
+ * {@code POST /proposals/events/partitioning}; até lá a manutenção não faz nada.
+ */
+@Component
+public class ProposalEventPartitionJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProposalEventPartitionJob.class);
+
+    private final ProposalEventRepository proposalEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public ProposalEventPartitionJob(
+            ProposalEventRepository proposalEventRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.proposals.events.partitioning.enabled:true}") boolean enabled,
+            @Value("${app.proposals.events.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${app.proposals.events.retention-months:24}") int retentionMonths,
+            @Value("${app.proposals.events.archive-schema:proposal_event_archive}") String archiveSchema
+    ) {
+        this.proposalEventRepository = proposalEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * Converte a tabela comum para particionada e cria as partições seguintes. Devolve {@code false} quando
+     * ela já estava particionada. Falhas (inclusive não obter o lock a tempo) desfazem a conversão inteira.
+     */
+    public boolean convertToPartitioned() {
+        if (!enabled) {
+            throw new IllegalStateException("Particionamento de tb_proposal_event desabilitado.");
+        }
+        YearMonth until = YearMonth.now().plusMonths(monthsAhead);
+        Boolean converted = transactionTemplate.execute(status -> proposalEventRepository.convertToPartitioned(until));
+        if (!Boolean.TRUE.equals(converted)) {
+            return false;
+        }
+        LOGGER.info("tb_proposal_event convertida para particionamento mensal");
+        maintain();
+        return true;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.proposals.events.partitioning.initial-delay-ms:3600000}",
+            fixedDelayString = "${app.proposals.events.partitioning.interval-ms:86400000}"
+    )
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!proposalEventRepository.isPartitioned()) {
+                return;
+            }
+            YearMonth current = YearMonth.now();
+            for (int offset = 0; offset <= monthsAhead; offset++) {
+                YearMonth month = current.plusMonths(offset);
+                transactionTemplate.executeWithoutResult(status -> proposalEventRepository.createPartition(month));
+            }
+            if (retentionMonths <= 0) {
+                return;
+            }
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (YearMonth month : proposalEventRepository.findPartitionMonths()) {
+                if (!month.isBefore(oldestKept)) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> proposalEventRepository.archivePartition(month, archiveSchema));
+                LOGGER.info("Partição de eventos de propostas de {} arquivada em {}", month, archiveSchema);
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("Falha na manutenção das partições de eventos de propostas: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.server.service.job;
+
+import org.example.server.dto.analytics.ProposalTransitionDTO;
+import org.example.server.model.ProposalFunnelDaily;
+import org.example.server.repository.ProposalEventRepository;
+import org.example.server.repository.ProposalFunnelDailyRepository;
+import org.example.server.repository.ProposalFunnelRollupRepository.Delta;
+import org.example.server.repository.ProposalFunnelRollupRepository.State;
+import org.example.server.repository.ProposalFunnelRollupRepository.Watermark;
+import org.example.server.util.DurationHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Consome {@code tb_proposal_event} na ordem {@code (created_at, id)} a partir do watermark e soma as
+ * transições nos rollups diários do funil. Rollups, estado por proposta e watermark são gravados na mesma
+ * transação, então cada evento entra uma única vez mesmo com queda no meio do lote.
+ * <p>
+ * Os ids vêm de sequências pooled-lo, reservados em blocos por instância, e não seguem a ordem de
+ * confirmação; {@code created_at} segue, a menos do tempo entre gravar o evento e confirmar a transação e
+ * da diferença de relógio entre instâncias. Por isso só são lidos eventos mais velhos que
+ * {@code safety-lag}: uma transação que fique aberta por mais tempo que isso depois de gravar o evento
+ * tem o evento ignorado pelo funil.
+ */
+@Component
+public class ProposalFunnelProjectorJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProposalFunnelProjectorJob.class);
+    public static final String WATERMARK = "proposal-funnel";
+    private static final Set<String> TRANSITION_TYPES = Set.of("CREATED", "STATUS_UPDATED");
+
+    private final ProposalEventRepository proposalEventRepository;
+    private final ProposalFunnelDailyRepository funnelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration safetyLag;
+
+    public ProposalFunnelProjectorJob(
+            ProposalEventRepository proposalEventRepository,
+            ProposalFunnelDailyRepository funnelRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.analytics.funnel.batch-size:1000}") int batchSize,
+            @Value("${app.analytics.funnel.max-batches:50}") int maxBatchesPerRun,
+            @Value("${app.analytics.funnel.safety-lag-seconds:60}") long safetyLagSeconds
+    ) {
+        this.proposalEventRepository = proposalEventRepository;
+        this.funnelRepository = funnelRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.safetyLag = Duration.ofSeconds(safetyLagSeconds);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.analytics.funnel.initial-delay-ms:60000}",
+            fixedDelayString = "${app.analytics.funnel.interval-ms:60000}"
+    )
+    public void run() {
+        int projected = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer consumed = transactionTemplate.execute(status -> projectBatch());
+                if (consumed == null || consumed == 0) {
+                    break;
+                }
+                projected += consumed;
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("Falha ao projetar eventos de propostas no funil: {}", ex.getMessage());
+        }
+        if (projected > 0) {
+            LOGGER.info("Eventos de propostas projetados no funil: {}", projected);
+        }
+    }
+
+    private int projectBatch() {
+        Watermark watermark = funnelRepository.lockWatermark(WATERMARK);
+        List<ProposalTransitionDTO> batch = proposalEventRepository.findTransitionsAfter(
+                watermark.createdAt(), watermark.eventId(), LocalDateTime.now().minus(safetyLag), PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, State> states = funnelRepository.findStates(batch.stream().map(ProposalTransitionDTO::proposalId).distinct().toList());
+        Map<Long, State> changed = new LinkedHashMap<>();
+        Map<DeltaKey, DeltaAccumulator> deltas = aggregate(batch, states, changed);
+
+        funnelRepository.addRollups(deltas.entrySet().stream().map(entry -> entry.getValue().toDelta(entry.getKey())).toList());
+        funnelRepository.saveStates(changed.values());
+        ProposalTransitionDTO last = batch.get(batch.size() - 1);
+        funnelRepository.saveWatermark(WATERMARK, new Watermark(last.createdAt(), last.eventId()));
+        return batch.size();
+    }
+
+    /**
+     * Converte os eventos em deltas de rollup. {@code states} é atualizado conforme as transições, e as
+     * propostas alteradas são registradas em {@code changed}.
+     */
+    static Map<DeltaKey, DeltaAccumulator> aggregate(List<ProposalTransitionDTO> events, Map<Long, State> states, Map<Long, State> changed) {
+        Map<DeltaKey, DeltaAccumulator> deltas = new HashMap<>();
+        for (ProposalTransitionDTO event : events) {
+            if (!TRANSITION_TYPES.contains(event.type()) || event.statusTo() == null
+                    || Objects.equals(event.statusFrom(), event.statusTo())) {
+                continue;
+            }
+            long dealerId = event.dealerId() != null ? event.dealerId() : ProposalFunnelDaily.NONE;
+            long sellerId = event.sellerId() != null ? event.sellerId() : ProposalFunnelDaily.NONE;
+            State previous = states.get(event.proposalId());
+
+            String from = event.statusFrom() != null ? event.statusFrom().name() : ProposalFunnelDaily.CREATION;
+            Long seconds = null;
+            if (previous != null && event.statusFrom() != null) {
+                seconds = Math.max(0, Duration.between(previous.enteredAt(), event.createdAt()).getSeconds());
+            }
+
+            DeltaKey key = new DeltaKey(event.createdAt().toLocalDate(), dealerId, sellerId, from, event.statusTo().name());
+            deltas.computeIfAbsent(key, k -> new DeltaAccumulator()).add(seconds);
+
+            State next = new State(event.proposalId(), dealerId, sellerId, event.statusTo().name(), event.createdAt());
+            states.put(event.proposalId(), next);
+            changed.put(event.proposalId(), next);
+        }
+        return deltas;
+    }
+
+    record DeltaKey(LocalDate day, long dealerId, long sellerId, String statusFrom, String statusTo) {
+    }
+
+    static final class DeltaAccumulator {
+
+        private long transitions;
+        private long totalSeconds;
+        private final long[] buckets = new long[DurationHistogram.LABELS.size()];
+
+        void add(Long seconds) {
+            transitions++;
+            // sem estado anterior (evento antigo ou criação) conta a transição, mas não a duração
+            if (seconds != null) {
+                totalSeconds += seconds;
+                buckets[DurationHistogram.bucketOf(seconds)]++;
+            }
+        }
+
+        long transitions() {
+            return transitions;
+        }
+
+        long[] buckets() {
+            return buckets;
+        }
+
+        Delta toDelta(DeltaKey key) {
+            return new Delta(key.day(), key.dealerId(), key.sellerId(), key.statusFrom(), key.statusTo(),
+                    transitions, totalSeconds, buckets.clone());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.server.service.job;
+
+import org.example.server.model.Proposal;
+import org.example.server.repository.ProposalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Preenche as colunas {@code search_*} de propostas gravadas antes delas existirem.
+ * Percorre a tabela por id em lotes curtos, cada um na sua própria transação.
+ */
+@Component
+public class ProposalSearchBackfillJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProposalSearchBackfillJob.class);
+
+    private final ProposalRepository proposalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ProposalSearchBackfillJob(
+            ProposalRepository proposalRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.proposals.search.backfill.enabled:true}") boolean enabled,
+            @Value("${app.proposals.search.backfill.batch-size:500}") int batchSize
+    ) {
+        this.proposalRepository = proposalRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int proposals = backfill();
+            if (proposals > 0) {
+                LOGGER.info("Colunas de busca preenchidas para {} propostas", proposals);
+            }
+        } catch (Exception ex) {
+            LOGGER.warn("Falha ao preencher colunas de busca de propostas: {}", ex.getMessage());
+        }
+    }
+
+    public int backfill() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            final long cursor = lastId;
+            List<Proposal> batch = transactionTemplate.execute(status -> {
+                List<Proposal> proposals = proposalRepository.findBySearchNameIsNullAndIdGreaterThanOrderByIdAsc(
+                        cursor, PageRequest.of(0, batchSize));
+                proposals.forEach(Proposal::refreshSearchColumns);
+                return proposals;
+            });
+            if (batch == null || batch.isEmpty()) {
+                return total;
+            }
+            total += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+}
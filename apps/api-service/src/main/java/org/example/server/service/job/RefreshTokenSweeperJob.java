@@ -0,0 +1,59 @@
+package org.example.server.service.job;
+
+import org.example.server.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Remove periodicamente refresh tokens expirados ou revogados.
+ * Apaga em lotes limitados, cada um na sua transação, para não segurar locks na tabela.
+ */
+@Component
+public class RefreshTokenSweeperJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenSweeperJob.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public RefreshTokenSweeperJob(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${app.security.refresh-token.sweeper.batch-size:500}") int batchSize,
+            @Value("${app.security.refresh-token.sweeper.max-batches:20}") int maxBatchesPerRun
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.security.refresh-token.sweeper.initial-delay-ms:60000}",
+            fixedDelayString = "${app.security.refresh-token.sweeper.interval-ms:900000}"
+    )
+    public void sweep() {
+        Instant now = Instant.now();
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = refreshTokenRepository.findSweepableIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            refreshTokenRepository.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            LOGGER.info("Refresh tokens removidos: {}", deleted);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.server.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV (RFC 4180) registro a registro, sem carregar o arquivo inteiro. Aceita campos entre aspas
+ * com quebras de linha e aspas duplicadas. O separador é deduzido da primeira linha: planilhas exportadas
+ * em português costumam usar ponto e vírgula.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int SNIFF_LIMIT = 8192;
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private int line = 1;
+    private int recordLine;
+    private boolean firstRecord = true;
+
+    private CsvReader(BufferedReader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    public static CsvReader open(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        reader.mark(SNIFF_LIMIT);
+        char[] head = new char[SNIFF_LIMIT];
+        int read = reader.read(head);
+        reader.reset();
+        return new CsvReader(reader, detectDelimiter(head, Math.max(read, 0)));
+    }
+
+    static char detectDelimiter(char[] head, int length) {
+        int semicolons = 0;
+        int commas = 0;
+        boolean quoted = false;
+        for (int i = 0; i < length; i++) {
+            char c = head[i];
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted && (c == '\n' || c == '\r')) {
+                break;
+            } else if (!quoted && c == ';') {
+                semicolons++;
+            } else if (!quoted && c == ',') {
+                commas++;
+            }
+        }
+        return semicolons > commas ? ';' : ',';
+    }
+
+    /**
+     * Próximo registro, ou nulo no fim do arquivo. Linhas em branco são ignoradas.
+     */
+    public List<String> next() throws IOException {
+        while (true) {
+            List<String> record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() > 1 || !record.get(0).isEmpty()) {
+                return record;
+            }
+        }
+    }
+
+    /**
+     * Linha do arquivo em que começou o último registro devolvido por {@link #next()}.
+     */
+    public int recordLine() {
+        return recordLine;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        if (firstRecord) {
+            firstRecord = false;
+            // BOM que o Excel grava no início de arquivos UTF-8
+            if (c == '\uFEFF') {
+                c = reader.read();
+                if (c == -1) {
+                    return null;
+                }
+            }
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                line++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
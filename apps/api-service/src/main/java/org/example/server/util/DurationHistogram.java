@@ -0,0 +1,34 @@
+package org.example.server.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Faixas fixas do histograma de duração usado nos rollups do funil (colunas {@code bucket_*}).
+ */
+public final class DurationHistogram {
+
+    public static final List<String> LABELS = List.of("1h", "6h", "1d", "3d", "7d", "+7d");
+    private static final long[] UPPER_BOUNDS_SECONDS = {3_600, 21_600, 86_400, 259_200, 604_800};
+
+    private DurationHistogram() {
+    }
+
+    public static int bucketOf(long seconds) {
+        for (int i = 0; i < UPPER_BOUNDS_SECONDS.length; i++) {
+            if (seconds <= UPPER_BOUNDS_SECONDS[i]) {
+                return i;
+            }
+        }
+        return UPPER_BOUNDS_SECONDS.length;
+    }
+
+    public static Map<String, Long> toMap(long[] buckets) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < LABELS.size(); i++) {
+            histogram.put(LABELS.get(i), buckets[i]);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.server.util;
+
+import org.example.server.exception.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco de paginação por chave: o valor da coluna de ordenação e o id do último item da página.
+ * Vai para o cliente em Base64 URL-safe e volta na próxima requisição.
+ */
+public record KeysetCursor(String value, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidPageCursorException();
+            }
+            return new KeysetCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageCursorException();
+        }
+    }
+}
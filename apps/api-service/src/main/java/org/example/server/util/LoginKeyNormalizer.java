@@ -0,0 +1,29 @@
+package org.example.server.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Gera a chave de login persistida em {@code login_key} (e-mail do usuário ou nome da empresa do lojista):
+ * sem espaços nas bordas, em minúsculas e sem acentos, para que o login seja uma busca por igualdade indexada.
+ */
+public final class LoginKeyNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private LoginKeyNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(trimmed, Normalizer.Form.NFD)).replaceAll("");
+        return folded.toLowerCase(Locale.ROOT);
+    }
+}
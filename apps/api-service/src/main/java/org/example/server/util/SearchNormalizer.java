@@ -0,0 +1,46 @@
+package org.example.server.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Formas normalizadas usadas na busca de propostas: CPF só com dígitos, placa em maiúsculas sem
+ * separadores e nome em minúsculas, sem acentos e com espaços simples. As mesmas regras valem para
+ * as colunas {@code search_*} e para o texto digitado na busca.
+ */
+public final class SearchNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^A-Z0-9]");
+    private static final Pattern NAME_SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private SearchNormalizer() {
+    }
+
+    public static String digits(String value) {
+        if (value == null) {
+            return null;
+        }
+        String digits = NON_DIGITS.matcher(value).replaceAll("");
+        return digits.isEmpty() ? null : digits;
+    }
+
+    public static String plate(String value) {
+        if (value == null) {
+            return null;
+        }
+        String plate = NON_ALPHANUMERIC.matcher(value.toUpperCase(Locale.ROOT)).replaceAll("");
+        return plate.isEmpty() ? null : plate;
+    }
+
+    public static String name(String value) {
+        if (value == null) {
+            return null;
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        String name = NAME_SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        return name.isEmpty() ? null : name;
+    }
+}
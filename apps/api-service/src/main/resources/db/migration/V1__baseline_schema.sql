@@ -0,0 +1,505 @@
+-- Esquema base, equivalente ao que o Hibernate gerava com ddl-auto=update. Tudo é IF NOT EXISTS para
+-- que bancos já criados pelo Hibernate recebam só o que falta.
+
+CREATE SEQUENCE IF NOT EXISTS refresh_token_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_billing_contract_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_billing_installment_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_billing_occurrence_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_dealer_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_document_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_email_outbox_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_manager_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_notification_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_operator_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_partner_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_proposal_event_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_proposal_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_seller_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_stored_object_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_user_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_vehicle_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_user (
+    id bigint NOT NULL DEFAULT nextval('tb_user_seq'),
+    full_name varchar(255),
+    email varchar(150) UNIQUE,
+    login_key varchar(150),
+    password varchar(255) NOT NULL,
+    role varchar(255) CHECK (role IN ('ADMIN', 'LOJISTA', 'VENDEDOR', 'GESTOR', 'OPERADOR')),
+    status varchar(255) CHECK (status IN ('ATIVO', 'INATIVO', 'PENDENTE')),
+    verification_code varchar(255),
+    code_expiration timestamp(6),
+    reset_code varchar(255),
+    reset_code_expiration timestamp(6),
+    created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_login_key UNIQUE (login_key)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id bigint NOT NULL DEFAULT nextval('refresh_token_seq'),
+    user_id bigint NOT NULL,
+    token_hash varchar(64) NOT NULL,
+    device varchar(255),
+    revoked boolean NOT NULL,
+    expiry_date timestamp(6) with time zone NOT NULL,
+    created_at timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash)
+);
+
+CREATE TABLE IF NOT EXISTS tb_dealer (
+    id bigint NOT NULL DEFAULT nextval('tb_dealer_seq'),
+    user_id bigint NOT NULL UNIQUE,
+    enterprise varchar(150) NOT NULL UNIQUE,
+    full_name_enterprise varchar(255),
+    phone varchar(50) NOT NULL UNIQUE,
+    cnpj varchar(255),
+    birth_data date,
+    reference_code varchar(30) UNIQUE,
+    login_key varchar(150),
+    logo_url varchar(500),
+    logo_public_id varchar(255),
+    observation varchar(255),
+    street varchar(255),
+    number varchar(255),
+    complement varchar(255),
+    neighborhood varchar(255),
+    city varchar(255),
+    state varchar(255),
+    zip_code varchar(255),
+    deleted_at timestamp(6) with time zone,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_dealer_login_key UNIQUE (login_key)
+);
+
+CREATE TABLE IF NOT EXISTS tb_dealer_purge (
+    dealer_id bigint NOT NULL,
+    stage varchar(30) NOT NULL CHECK (stage IN ('PROPOSAL_EVENTS', 'PROPOSALS', 'VEHICLES', 'DOCUMENTS', 'PARTNERS',
+                                                'SELLERS', 'MANAGERS', 'OPERATORS', 'DEALER', 'COMPLETED')),
+    deleted_rows bigint NOT NULL,
+    requested_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone,
+    completed_at timestamp(6) with time zone,
+    PRIMARY KEY (dealer_id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_seller (
+    id bigint NOT NULL DEFAULT nextval('tb_seller_seq'),
+    user_id bigint NOT NULL UNIQUE,
+    dealer_id bigint,
+    cpf varchar(20) NOT NULL UNIQUE,
+    phone varchar(50) NOT NULL UNIQUE,
+    birth_data date,
+    street varchar(255),
+    number varchar(255),
+    complement varchar(255),
+    neighborhood varchar(255),
+    city varchar(255),
+    state varchar(255),
+    zip_code varchar(255),
+    can_view boolean DEFAULT true NOT NULL,
+    can_create boolean DEFAULT true NOT NULL,
+    can_update boolean DEFAULT true NOT NULL,
+    can_delete boolean DEFAULT true NOT NULL,
+    created_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_manager (
+    id bigint NOT NULL DEFAULT nextval('tb_manager_seq'),
+    user_id bigint NOT NULL UNIQUE,
+    dealer_id bigint,
+    cpf varchar(20) NOT NULL UNIQUE,
+    phone varchar(50) NOT NULL UNIQUE,
+    birth_data date,
+    street varchar(255),
+    number varchar(255),
+    complement varchar(255),
+    neighborhood varchar(255),
+    city varchar(255),
+    state varchar(255),
+    zip_code varchar(255),
+    can_view boolean DEFAULT true NOT NULL,
+    can_create boolean DEFAULT true NOT NULL,
+    can_update boolean DEFAULT true NOT NULL,
+    can_delete boolean DEFAULT true NOT NULL,
+    created_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_operator (
+    id bigint NOT NULL DEFAULT nextval('tb_operator_seq'),
+    user_id bigint NOT NULL UNIQUE,
+    dealer_id bigint,
+    cpf varchar(20) NOT NULL UNIQUE,
+    phone varchar(50) NOT NULL UNIQUE,
+    birth_data date,
+    street varchar(255),
+    number varchar(255),
+    complement varchar(255),
+    neighborhood varchar(255),
+    city varchar(255),
+    state varchar(255),
+    zip_code varchar(255),
+    can_view boolean DEFAULT true NOT NULL,
+    can_create boolean DEFAULT true NOT NULL,
+    can_update boolean DEFAULT true NOT NULL,
+    can_delete boolean DEFAULT true NOT NULL,
+    created_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_partner (
+    id bigint NOT NULL DEFAULT nextval('tb_partner_seq'),
+    dealer_id bigint NOT NULL,
+    cpf varchar(11) NOT NULL,
+    name varchar(150) NOT NULL,
+    type varchar(20) NOT NULL CHECK (type IN ('SOCIO', 'PROCURADOR')),
+    signatory boolean NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_vehicle (
+    id bigint NOT NULL DEFAULT nextval('tb_vehicle_seq'),
+    dealer_id bigint,
+    name varchar(255) NOT NULL,
+    color varchar(255) NOT NULL,
+    plate varchar(8) NOT NULL UNIQUE,
+    model_year date NOT NULL,
+    km integer NOT NULL,
+    price numeric(38,2) NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('DISPONIVEL', 'INDISPONIVEL')),
+    vehicle_condition varchar(255) NOT NULL CHECK (vehicle_condition IN ('NOVO', 'SEMINOVO', 'USADO')),
+    vehicle_transmission varchar(255) NOT NULL CHECK (vehicle_transmission IN ('MANUAL', 'AUTOMATIC')),
+    created_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_stored_object (
+    id bigint NOT NULL DEFAULT nextval('tb_stored_object_seq'),
+    content_hash varchar(64) NOT NULL,
+    storage_key varchar(1024),
+    thumbnail_key varchar(1024),
+    stored_content_type varchar(100),
+    size_bytes bigint,
+    stored_size_bytes bigint,
+    ref_count integer NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_stored_object_content_hash UNIQUE (content_hash)
+);
+
+CREATE TABLE IF NOT EXISTS tb_document (
+    id bigint NOT NULL DEFAULT nextval('tb_document_seq'),
+    dealer_id bigint NOT NULL,
+    document_type varchar(255) NOT NULL CHECK (document_type IN ('RG_FRENTE', 'RG_VERSO', 'CPF', 'CNH', 'EXTRATO_BANCARIO',
+                                                                 'HOLERITE', 'CONTRATO_SOCIAL', 'ULTIMA_ALTERACAO_CONTRATUAL',
+                                                                 'COMPROVANTE_DE_ENDERECO', 'DADOS_BANCARIOS')),
+    document_name varchar(255),
+    content_type varchar(255),
+    s3key varchar(1024) NOT NULL,
+    thumbnail_key varchar(1024),
+    content_hash varchar(64),
+    size_bytes bigint,
+    original_size_bytes bigint,
+    storage_status varchar(20) CHECK (storage_status IN ('PENDING_UPLOAD', 'AVAILABLE', 'FAILED')),
+    staged_file varchar(120),
+    upload_attempts integer,
+    next_upload_at timestamp(6) with time zone,
+    upload_error varchar(500),
+    review_status varchar(255) NOT NULL CHECK (review_status IN ('PENDENTE', 'APROVADO', 'REPROVADO')),
+    review_comment varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_email_outbox (
+    id bigint NOT NULL DEFAULT nextval('tb_email_outbox_seq'),
+    dedup_key varchar(64) NOT NULL,
+    template_name varchar(80) NOT NULL,
+    recipient varchar(180) NOT NULL,
+    subject varchar(255) NOT NULL,
+    variables text,
+    status varchar(20) NOT NULL CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED')),
+    attempts integer NOT NULL,
+    last_error varchar(500),
+    next_attempt_at timestamp(6) with time zone NOT NULL,
+    claimed_at timestamp(6) with time zone,
+    sent_at timestamp(6) with time zone,
+    created_at timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_email_outbox_dedup_key UNIQUE (dedup_key)
+);
+
+CREATE TABLE IF NOT EXISTS tb_notification (
+    id bigint NOT NULL DEFAULT nextval('tb_notification_seq'),
+    title varchar(120) NOT NULL,
+    description varchar(255),
+    actor varchar(60),
+    target_type varchar(60),
+    target_id bigint,
+    href varchar(160),
+    read_flag boolean NOT NULL,
+    created_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_proposal (
+    id bigint NOT NULL DEFAULT nextval('tb_proposal_seq'),
+    dealer_id bigint,
+    seller_id bigint,
+    customer_name varchar(120) NOT NULL,
+    customer_cpf varchar(20) NOT NULL,
+    customer_birth_date date,
+    customer_email varchar(140),
+    customer_phone varchar(30),
+    cnh_category varchar(5),
+    has_cnh boolean NOT NULL,
+    vehicle_plate varchar(10),
+    fipe_code varchar(40),
+    fipe_value numeric(38,2),
+    vehicle_brand varchar(80),
+    vehicle_model varchar(80),
+    vehicle_year integer,
+    vehicle0km boolean,
+    down_payment_value numeric(38,2),
+    financed_value numeric(38,2),
+    term_months integer,
+    marital_status varchar(40),
+    income numeric(38,2),
+    other_incomes numeric(38,2),
+    cep varchar(12),
+    address varchar(160),
+    address_number varchar(20),
+    address_complement varchar(120),
+    neighborhood varchar(120),
+    city varchar(120),
+    uf varchar(4),
+    status varchar(255) CHECK (status IN ('SUBMITTED', 'PENDING', 'APPROVED', 'REJECTED', 'PAID')),
+    notes text,
+    metadata text,
+    search_name varchar(120),
+    search_cpf varchar(20),
+    search_plate varchar(10),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+-- tabela comum; a conversão para particionada por mês é feita por ProposalEventPartitionJob
+CREATE TABLE IF NOT EXISTS tb_proposal_event (
+    id bigint NOT NULL DEFAULT nextval('tb_proposal_event_seq'),
+    proposal_id bigint NOT NULL,
+    type varchar(60) NOT NULL,
+    status_from varchar(255) CHECK (status_from IN ('SUBMITTED', 'PENDING', 'APPROVED', 'REJECTED', 'PAID')),
+    status_to varchar(255) CHECK (status_to IN ('SUBMITTED', 'PENDING', 'APPROVED', 'REJECTED', 'PAID')),
+    actor varchar(180),
+    note text,
+    payload text,
+    metadata_hash varchar(64),
+    created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_proposal_event_metadata (
+    hash varchar(64) NOT NULL,
+    content text NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (hash)
+);
+
+CREATE TABLE IF NOT EXISTS tb_proposal_funnel_daily (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    day date NOT NULL,
+    dealer_id bigint NOT NULL,
+    seller_id bigint NOT NULL,
+    status_from varchar(20) NOT NULL,
+    status_to varchar(20) NOT NULL,
+    transitions bigint NOT NULL,
+    total_seconds bigint NOT NULL,
+    bucket_le_1h bigint NOT NULL,
+    bucket_le_6h bigint NOT NULL,
+    bucket_le_1d bigint NOT NULL,
+    bucket_le_3d bigint NOT NULL,
+    bucket_le_7d bigint NOT NULL,
+    bucket_gt_7d bigint NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_proposal_funnel_daily_key UNIQUE (day, dealer_id, seller_id, status_from, status_to)
+);
+
+CREATE TABLE IF NOT EXISTS tb_proposal_funnel_state (
+    proposal_id bigint NOT NULL,
+    dealer_id bigint NOT NULL,
+    seller_id bigint NOT NULL,
+    status varchar(20) NOT NULL,
+    entered_at timestamp(6) NOT NULL,
+    PRIMARY KEY (proposal_id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_analytics_watermark (
+    name varchar(60) NOT NULL,
+    last_event_id bigint NOT NULL,
+    updated_at timestamp(6) with time zone,
+    PRIMARY KEY (name)
+);
+
+CREATE TABLE IF NOT EXISTS tb_billing_contract (
+    id bigint NOT NULL DEFAULT nextval('tb_billing_contract_seq'),
+    contract_number varchar(50) NOT NULL UNIQUE,
+    proposal_id bigint,
+    status varchar(255) CHECK (status IN ('PAGO', 'EM_ABERTO', 'EM_ATRASO')),
+    paid_at date,
+    start_date date,
+    financed_value numeric(38,2),
+    installment_value numeric(38,2),
+    installments_total integer,
+    customer_name varchar(120) NOT NULL,
+    customer_document varchar(20) NOT NULL,
+    customer_birth_date date,
+    customer_email varchar(140),
+    customer_phone varchar(30),
+    customer_address varchar(160),
+    customer_city varchar(120),
+    customer_state varchar(4),
+    professional_enterprise varchar(120),
+    professional_function varchar(80),
+    professional_admission_date date,
+    professional_income numeric(38,2),
+    professional_other_incomes numeric(38,2),
+    professional_marital_status varchar(40),
+    vehicle_brand varchar(80),
+    vehicle_model varchar(80),
+    vehicle_year integer,
+    vehicle_plate varchar(12),
+    vehicle_renavam varchar(20),
+    dut_issued boolean,
+    dut_paid boolean,
+    dut_paid_date date,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_billing_installment (
+    id bigint NOT NULL DEFAULT nextval('tb_billing_installment_seq'),
+    contract_id bigint,
+    number integer,
+    due_date date,
+    amount numeric(38,2),
+    paid boolean NOT NULL,
+    paid_at date,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_billing_occurrence (
+    id bigint NOT NULL DEFAULT nextval('tb_billing_occurrence_seq'),
+    contract_id bigint,
+    date date,
+    contact varchar(80),
+    note text,
+    created_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+-- colunas acrescentadas a tabelas que já existiam no esquema gerado pelo Hibernate, onde o CREATE TABLE
+-- acima não faz nada
+ALTER TABLE tb_user ADD COLUMN IF NOT EXISTS login_key varchar(150);
+
+ALTER TABLE refresh_token ADD COLUMN IF NOT EXISTS device varchar(255);
+
+ALTER TABLE tb_dealer ADD COLUMN IF NOT EXISTS login_key varchar(150);
+ALTER TABLE tb_dealer ADD COLUMN IF NOT EXISTS deleted_at timestamp(6) with time zone;
+
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS thumbnail_key varchar(1024);
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS content_hash varchar(64);
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS original_size_bytes bigint;
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS storage_status varchar(20);
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS staged_file varchar(120);
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS upload_attempts integer;
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS next_upload_at timestamp(6) with time zone;
+ALTER TABLE tb_document ADD COLUMN IF NOT EXISTS upload_error varchar(500);
+
+-- preenchidas por ProposalSearchBackfillJob
+ALTER TABLE tb_proposal ADD COLUMN IF NOT EXISTS search_name varchar(120);
+ALTER TABLE tb_proposal ADD COLUMN IF NOT EXISTS search_cpf varchar(20);
+ALTER TABLE tb_proposal ADD COLUMN IF NOT EXISTS search_plate varchar(10);
+
+ALTER TABLE tb_proposal_event ADD COLUMN IF NOT EXISTS metadata_hash varchar(64);
+UPDATE tb_proposal_event e
+SET created_at = COALESCE(p.created_at, now())
+FROM tb_proposal p
+WHERE e.created_at IS NULL AND p.id = e.proposal_id;
+ALTER TABLE tb_proposal_event ALTER COLUMN created_at SET NOT NULL;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_user_login_key') THEN
+        ALTER TABLE tb_user ADD CONSTRAINT uk_user_login_key UNIQUE (login_key);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_dealer_login_key') THEN
+        ALTER TABLE tb_dealer ADD CONSTRAINT uk_dealer_login_key UNIQUE (login_key);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'tb_document_storage_status_check') THEN
+        ALTER TABLE tb_document ADD CONSTRAINT tb_document_storage_status_check
+            CHECK (storage_status IN ('PENDING_UPLOAD', 'AVAILABLE', 'FAILED'));
+    END IF;
+END $$;
+
+-- chaves estrangeiras; os nomes gerados pelo Hibernate variam, então a checagem é pela coluna
+DO $$
+DECLARE
+    fk text[];
+BEGIN
+    FOREACH fk SLICE 1 IN ARRAY ARRAY[
+        ['refresh_token', 'user_id', 'tb_user'],
+        ['tb_dealer', 'user_id', 'tb_user'],
+        ['tb_seller', 'user_id', 'tb_user'],
+        ['tb_seller', 'dealer_id', 'tb_dealer'],
+        ['tb_manager', 'user_id', 'tb_user'],
+        ['tb_manager', 'dealer_id', 'tb_dealer'],
+        ['tb_operator', 'user_id', 'tb_user'],
+        ['tb_operator', 'dealer_id', 'tb_dealer'],
+        ['tb_partner', 'dealer_id', 'tb_dealer'],
+        ['tb_vehicle', 'dealer_id', 'tb_dealer'],
+        ['tb_document', 'dealer_id', 'tb_dealer'],
+        ['tb_proposal', 'dealer_id', 'tb_dealer'],
+        ['tb_proposal', 'seller_id', 'tb_seller'],
+        ['tb_proposal_event', 'proposal_id', 'tb_proposal'],
+        ['tb_billing_installment', 'contract_id', 'tb_billing_contract'],
+        ['tb_billing_occurrence', 'contract_id', 'tb_billing_contract']
+    ] LOOP
+        IF NOT EXISTS (
+            SELECT 1 FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+            WHERE c.contype = 'f'
+              AND c.conrelid = to_regclass(fk[1])
+              AND c.confrelid = to_regclass(fk[3])
+              AND a.attname = fk[2]
+        ) THEN
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I',
+                    fk[1], 'fk_' || fk[1] || '_' || fk[2], fk[2], fk[3]);
+        END IF;
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user ON refresh_token (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expiry ON refresh_token (expiry_date);
+CREATE INDEX IF NOT EXISTS idx_billing_installment_paid_due_date ON tb_billing_installment (paid, due_date);
+CREATE INDEX IF NOT EXISTS idx_billing_installment_contract ON tb_billing_installment (contract_id);
+CREATE INDEX IF NOT EXISTS idx_billing_occurrence_contract ON tb_billing_occurrence (contract_id);
+CREATE INDEX IF NOT EXISTS idx_dealer_purge_pending ON tb_dealer_purge (completed_at, requested_at);
+CREATE INDEX IF NOT EXISTS idx_document_storage_status_next_upload ON tb_document (storage_status, next_upload_at);
+CREATE INDEX IF NOT EXISTS idx_document_content_hash ON tb_document (content_hash);
+CREATE INDEX IF NOT EXISTS idx_document_review_queue ON tb_document (review_status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_document_dealer_review_queue ON tb_document (dealer_id, review_status, created_at);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt ON tb_email_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_proposal_dealer_status_created ON tb_proposal (dealer_id, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_proposal_status_created ON tb_proposal (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_proposal_customer_cpf ON tb_proposal (customer_cpf);
+CREATE INDEX IF NOT EXISTS idx_proposal_search_cpf ON tb_proposal (search_cpf);
+CREATE INDEX IF NOT EXISTS idx_proposal_search_plate ON tb_proposal (search_plate);
+CREATE INDEX IF NOT EXISTS idx_proposal_funnel_daily_day ON tb_proposal_funnel_daily (day);
@@ -0,0 +1,35 @@
+-- Chaves IDENTITY (criadas pelo Hibernate antes das sequências pooled-lo) passam a usar a sequência da
+-- tabela como default, para que os INSERTs via JDBC que omitem o id continuem funcionando. A sequência é
+-- adiantada para depois do maior id existente, sem nunca voltar. Único lugar dessa conversão: qualquer
+-- erro aborta a migração e, com ela, a subida, em vez de deixar ids que possam colidir.
+DO $$
+DECLARE
+    t text;
+    seq text;
+    max_id bigint;
+    next_id bigint;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'tb_billing_contract', 'tb_billing_installment', 'tb_billing_occurrence', 'tb_dealer', 'tb_document',
+        'tb_email_outbox', 'tb_manager', 'tb_notification', 'tb_operator', 'tb_partner', 'tb_proposal',
+        'tb_proposal_event', 'refresh_token', 'tb_seller', 'tb_stored_object', 'tb_user', 'tb_vehicle'
+    ] LOOP
+        seq := t || '_seq';
+        EXECUTE format('LOCK TABLE %I IN SHARE ROW EXCLUSIVE MODE', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, seq);
+        -- o pooled-lo do Hibernate usa os 50 ids seguintes a cada nextval; com outro incremento colidiriam
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', seq);
+
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', t) INTO max_id;
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM %I', seq) INTO next_id;
+        IF next_id <= max_id THEN
+            PERFORM setval(seq, max_id + 1, false);
+        END IF;
+
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM %I', seq) INTO next_id;
+        IF next_id <= max_id THEN
+            RAISE EXCEPTION 'Sequência % ainda gera ids até % já usados em %', seq, max_id, t;
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,4 @@
+-- Extensão de trigramas da busca de propostas por nome (PostgresProposalSearchIndex) e do índice GIN de
+-- V4. Sem permissão para instalá-la a migração falha: peça ao administrador do banco que crie a extensão
+-- (CREATE EXTENSION pg_trgm) ou use app.proposals.search.engine=memory.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
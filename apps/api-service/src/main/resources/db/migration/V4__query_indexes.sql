@@ -0,0 +1,52 @@
+-- @concurrent
+-- Índices compostos para as consultas dos repositórios. Cada índice cobre o filtro e, quando há, a
+-- ordenação da consulta, para que o Postgres não precise ordenar o resultado. Criados com CONCURRENTLY,
+-- depois da subida, para não travar escritas em tabelas grandes (ver SchemaMigrator).
+
+-- BillingContractRepository.findByCustomerDocumentAndContractNumberNot
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_billing_contract_document_number ON tb_billing_contract (customer_document, contract_number);
+-- BillingContractRepository.findByProposalId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_billing_contract_proposal ON tb_billing_contract (proposal_id);
+
+-- BillingInstallmentRepository.findByContractOrderByNumberAsc e findByContractAndNumber; substitui o
+-- índice só por contract_id, que é prefixo deste
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_billing_installment_contract_number ON tb_billing_installment (contract_id, number);
+DROP INDEX CONCURRENTLY IF EXISTS idx_billing_installment_contract;
+
+-- BillingOccurrenceRepository.findByContractOrderByDateDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_billing_occurrence_contract_date ON tb_billing_occurrence (contract_id, date DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_billing_occurrence_contract;
+
+-- NotificationRepository.findByTargetTypeAndTargetIdOrderByCreatedAtDesc e findByTargetTypeOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notification_target_created ON tb_notification (target_type, target_id, created_at DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notification_type_created ON tb_notification (target_type, created_at DESC);
+
+-- ProposalEventRepository.findTimeline e deleteAllByProposal; a conversão para tabela particionada já cria
+-- este índice
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposal_event_proposal_created ON tb_proposal_event (proposal_id, created_at);
+
+-- ProposalSummaryRepository (filtro por vendedor) e ProposalRepository.detachSellerFromProposals
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposal_seller_created ON tb_proposal (seller_id, created_at);
+
+-- DocumentRepository.existsByDealerIdAndDocumentType, findDocumentTypesByDealerId, findByDealer_UserId
+-- (tb_dealer.user_id já é único) e deleteByDealerId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_document_dealer_type ON tb_document (dealer_id, document_type);
+
+-- findByDealerId de vendedores, gerentes, operadores, sócios e veículos, e os DELETEs em lote da remoção
+-- de lojista
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_seller_dealer ON tb_seller (dealer_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_manager_dealer ON tb_manager (dealer_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_operator_dealer ON tb_operator (dealer_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_partner_dealer ON tb_partner (dealer_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_dealer ON tb_vehicle (dealer_id);
+
+-- UserRepository.findByRole
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_role ON tb_user (role);
+
+-- EmailOutboxRepository.releaseStaleClaims
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_email_outbox_status_claimed ON tb_email_outbox (status, claimed_at);
+
+-- Busca de propostas (PostgresProposalSearchIndex): prefixo de CPF e placa, trigramas do nome
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposal_search_cpf_prefix ON tb_proposal (search_cpf text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposal_search_plate_prefix ON tb_proposal (search_plate text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposal_search_name_trgm ON tb_proposal USING gin (search_name gin_trgm_ops);
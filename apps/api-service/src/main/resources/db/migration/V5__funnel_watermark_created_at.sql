@@ -0,0 +1,11 @@
+-- O projetor do funil passa a consumir eventos na ordem (created_at, id): ids pooled-lo não seguem a
+-- ordem de confirmação. A posição atual é traduzida pelo created_at do último evento consumido; se ele já
+-- foi arquivado, pelo evento mais recente de id menor, para não projetar de novo o que já está nos rollups.
+ALTER TABLE tb_analytics_watermark ADD COLUMN IF NOT EXISTS last_created_at timestamp(6);
+
+UPDATE tb_analytics_watermark w
+SET last_created_at = COALESCE(
+        (SELECT e.created_at FROM tb_proposal_event e WHERE e.id = w.last_event_id),
+        (SELECT MAX(e.created_at) FROM tb_proposal_event e WHERE e.id < w.last_event_id),
+        now())
+WHERE w.last_created_at IS NULL AND w.last_event_id > 0;
@@ -0,0 +1,3 @@
+-- @concurrent
+-- ProposalEventRepository.findTransitionsAfter: leitura do projetor do funil na ordem (created_at, id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposal_event_created ON tb_proposal_event (created_at, id);
@@ -0,0 +1,33 @@
+-- Um refresh token por sessão de dispositivo: remove a unicidade de user_id herdada do antigo
+-- @OneToOne @JoinColumn(unique = true), que fazia o login num segundo dispositivo falhar com chave
+-- duplicada. O nome gerado varia, então a busca é pela coluna.
+DO $$
+DECLARE
+    legacy record;
+BEGIN
+    FOR legacy IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = to_regclass('refresh_token')
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'user_id'
+    LOOP
+        EXECUTE format('ALTER TABLE refresh_token DROP CONSTRAINT %I', legacy.conname);
+    END LOOP;
+
+    FOR legacy IN
+        SELECT i.indexrelid::regclass::text AS name
+        FROM pg_index i
+        JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+        WHERE i.indrelid = to_regclass('refresh_token')
+          AND i.indisunique
+          AND NOT i.indisprimary
+          AND i.indnatts = 1
+          AND a.attname = 'user_id'
+          AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)
+    LOOP
+        EXECUTE format('DROP INDEX %s', legacy.name);
+    END LOOP;
+END $$;
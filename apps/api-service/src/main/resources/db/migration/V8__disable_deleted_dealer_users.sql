@@ -0,0 +1,14 @@
+-- Lojistas excluídos antes de a exclusão desativar os usuários: o lojista e sua equipe ainda entravam
+-- até o expurgo apagar as linhas.
+UPDATE tb_user u
+SET status = 'INATIVO'
+WHERE u.status IS DISTINCT FROM 'INATIVO'
+  AND u.id IN (
+        SELECT d.user_id FROM tb_dealer d WHERE d.deleted_at IS NOT NULL
+        UNION ALL
+        SELECT s.user_id FROM tb_seller s JOIN tb_dealer d ON d.id = s.dealer_id WHERE d.deleted_at IS NOT NULL
+        UNION ALL
+        SELECT m.user_id FROM tb_manager m JOIN tb_dealer d ON d.id = m.dealer_id WHERE d.deleted_at IS NOT NULL
+        UNION ALL
+        SELECT o.user_id FROM tb_operator o JOIN tb_dealer d ON d.id = o.dealer_id WHERE d.deleted_at IS NOT NULL
+  );
@@ -0,0 +1,86 @@
+package org.example.server.benchmark;
+
+import org.example.server.service.EmailTemplateRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o render direto do Thymeleaf (caminho antigo do EmailService) com o {@link EmailTemplateRenderer}.
+ * <p>
+ * Não roda com os testes do Maven; execute o {@code main} após {@code mvn test-compile},
+ * com o classpath de teste.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderBenchmark {
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+    private Map<String, String> verification;
+    private Map<String, String> review;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine);
+
+        verification = Map.of("code", "482913");
+        review = Map.of("documentType", "RG_FRENTE", "reviewStatus", "REPROVADO", "reviewComment", "Foto desfocada");
+    }
+
+    @Benchmark
+    public String thymeleafVerification() {
+        Context ctx = new Context();
+        verification.forEach(ctx::setVariable);
+        return templateEngine.process("verification-email", ctx);
+    }
+
+    @Benchmark
+    public String prerenderedVerification() {
+        return renderer.render("verification-email", verification);
+    }
+
+    @Benchmark
+    public String thymeleafDocumentReview() {
+        Context ctx = new Context();
+        review.forEach(ctx::setVariable);
+        return templateEngine.process("document-review", ctx);
+    }
+
+    @Benchmark
+    public String prerenderedDocumentReview() {
+        return renderer.render("document-review", review);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailRenderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.server.infra.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedStorageAccessTests {
+
+    @Test
+    void evictsLeastRecentlyUsedEntryOverLimit() {
+        BoundedStorageAccess storage = new BoundedStorageAccess(new CacheRegions.Settings(2, Duration.ZERO));
+        storage.putIntoCache(1L, "a", null);
+        storage.putIntoCache(2L, "b", null);
+        storage.getFromCache(1L, null);
+        storage.putIntoCache(3L, "c", null);
+
+        assertTrue(storage.contains(1L));
+        assertFalse(storage.contains(2L));
+        assertTrue(storage.contains(3L));
+        assertEquals(1, storage.evictions());
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() throws InterruptedException {
+        BoundedStorageAccess storage = new BoundedStorageAccess(new CacheRegions.Settings(0, Duration.ofMillis(20)));
+        storage.putIntoCache(1L, "a", null);
+        assertEquals("a", storage.getFromCache(1L, null));
+
+        Thread.sleep(40);
+
+        assertNull(storage.getFromCache(1L, null));
+        assertEquals(1, storage.hits());
+        assertEquals(1, storage.misses());
+        assertEquals(0, storage.size());
+    }
+}
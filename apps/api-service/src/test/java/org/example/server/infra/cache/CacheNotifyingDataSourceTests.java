@@ -0,0 +1,61 @@
+package org.example.server.infra.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheNotifyingDataSourceTests {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final CacheInvalidationChannel channel = mock(CacheInvalidationChannel.class);
+
+    @SuppressWarnings("unchecked")
+    private CacheNotifyingDataSource dataSource() throws Exception {
+        ObjectProvider<CacheInvalidationChannel> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(channel);
+        when(target.getConnection()).thenReturn(connection);
+        when(channel.isCachedTable(anyString())).thenAnswer(invocation -> "tb_user".equals(invocation.getArgument(0)));
+        return new CacheNotifyingDataSource(target, provider);
+    }
+
+    @Test
+    void broadcastsOnWritesToCachedTables() throws Exception {
+        Connection proxy = dataSource().getConnection();
+
+        proxy.prepareStatement("DELETE FROM tb_user WHERE dealer_id = ?");
+
+        verify(channel).broadcastEvictAll();
+    }
+
+    @Test
+    void ignoresWritesToOtherTablesAndReads() throws Exception {
+        Connection proxy = dataSource().getConnection();
+
+        proxy.prepareStatement("INSERT INTO tb_email_outbox (recipient) VALUES (?)");
+        proxy.prepareStatement("SELECT id FROM tb_user WHERE email = ?");
+
+        verify(channel, never()).broadcastEvictAll();
+    }
+
+    @Test
+    void inspectsStatementsCreatedByTheConnection() throws Exception {
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        Statement statement = dataSource().getConnection().createStatement();
+
+        statement.executeUpdate("update tb_user set enabled = false");
+        statement.addBatch("INSERT INTO tb_email_outbox (recipient) VALUES ('a')");
+
+        verify(channel, times(1)).broadcastEvictAll();
+    }
+}
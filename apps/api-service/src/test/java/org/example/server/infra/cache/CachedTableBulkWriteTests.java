@@ -0,0 +1,91 @@
+package org.example.server.infra.cache;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UPDATE/DELETE em massa pelo Hibernate não passa pelo {@link CacheNotifyingDataSource} e não avisa as outras
+ * réplicas; para tabelas com cache de segundo nível a escrita deve ir pelo {@code JdbcTemplate}.
+ */
+class CachedTableBulkWriteTests {
+
+    private static final Pattern BULK_TARGET = Pattern.compile(
+            "\\b(?:UPDATE|DELETE\\s+(?:FROM\\s+)?)([A-Za-z_][A-Za-z0-9_.\"]*)", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    void modifyingQueriesDoNotTargetCachedEntities() throws Exception {
+        Set<String> cached = cachedNames();
+        assertTrue(cached.contains("user"));
+        assertTrue(cached.contains("tb_user"));
+
+        List<String> offenders = new ArrayList<>();
+        for (BeanDefinition definition : repositoryScanner().findCandidateComponents("org.example.server.repository")) {
+            Class<?> repository = Class.forName(definition.getBeanClassName());
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query == null || !method.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                Matcher matcher = BULK_TARGET.matcher(query.value());
+                while (matcher.find()) {
+                    if (cached.contains(CacheInvalidationChannel.tableName(matcher.group(1)))) {
+                        offenders.add(repository.getSimpleName() + "." + method.getName());
+                    }
+                }
+            }
+        }
+
+        assertTrue(offenders.isEmpty(), () -> "Escrita em massa em entidade com cache (use o JdbcTemplate): " + offenders);
+    }
+
+    private static Set<String> cachedNames() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Cache.class));
+        Set<String> names = new HashSet<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents("org.example.server.model")) {
+            Class<?> type = Class.forName(definition.getBeanClassName());
+            names.add(type.getSimpleName().toLowerCase(Locale.ROOT));
+            Entity entity = type.getAnnotation(Entity.class);
+            if (entity != null && !entity.name().isEmpty()) {
+                names.add(entity.name().toLowerCase(Locale.ROOT));
+            }
+            Table table = type.getAnnotation(Table.class);
+            if (table != null && !table.name().isEmpty()) {
+                names.add(CacheInvalidationChannel.tableName(table.name()));
+            }
+        }
+        return names;
+    }
+
+    private static ClassPathScanningCandidateComponentProvider repositoryScanner() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+        return scanner;
+    }
+}
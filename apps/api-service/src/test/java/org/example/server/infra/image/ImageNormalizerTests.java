@@ -0,0 +1,111 @@
+package org.example.server.infra.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageNormalizerTests {
+
+    private final ImageNormalizer normalizer = new ImageNormalizer(new SimpleMeterRegistry(), 2, 4, 1000, 200, 100, 0.8f, 0.7f, 1_000_000);
+
+    @AfterEach
+    void tearDown() {
+        normalizer.shutdown();
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void downscalesJpegAndProducesThumbnail() throws Exception {
+        byte[] source = encode(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), "jpeg");
+        Path staged = Files.write(tempDir.resolve("foto.jpg"), source);
+
+        NormalizedImage image = normalizer.normalize(staged, "image/jpeg", ImageNormalizer.Profile.DOCUMENT)
+                .orElseThrow();
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image.content()));
+        assertEquals(1000, decoded.getWidth());
+        assertEquals(750, decoded.getHeight());
+        assertEquals("image/jpeg", image.contentType());
+        assertEquals(source.length, image.originalBytes());
+
+        assertNotNull(image.thumbnail());
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(image.thumbnail()));
+        assertEquals(100, thumbnail.getWidth());
+    }
+
+    @Test
+    void keepsTransparentPngAsPngWithoutThumbnailForLogos() throws Exception {
+        BufferedImage logo = new BufferedImage(600, 300, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = logo.createGraphics();
+        graphics.setColor(new Color(255, 0, 0, 128));
+        graphics.fillRect(0, 0, 300, 300);
+        graphics.dispose();
+
+        byte[] source = encode(logo, "png");
+        NormalizedImage image = normalizer.normalize(new ByteArrayInputStream(source), source.length, "image/png", ImageNormalizer.Profile.LOGO)
+                .orElseThrow();
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image.content()));
+        assertEquals("image/png", image.contentType());
+        assertEquals(200, decoded.getWidth());
+        assertTrue(decoded.getColorModel().hasAlpha());
+        assertNull(image.thumbnail());
+    }
+
+    @Test
+    void leavesUnsupportedContentUntouched() throws Exception {
+        byte[] pdf = "%PDF-1.4".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(normalizer.normalize(new ByteArrayInputStream(pdf), pdf.length, "application/pdf", ImageNormalizer.Profile.DOCUMENT).isEmpty());
+        assertTrue(normalizer.normalize(new ByteArrayInputStream(pdf), pdf.length, "image/jpeg", ImageNormalizer.Profile.DOCUMENT).isEmpty());
+    }
+
+    @Test
+    void leavesFilesAboveSourceLimitUntouchedWithoutReadingThem() throws Exception {
+        Path staged = Files.write(tempDir.resolve("grande.jpg"), new byte[1_000_001]);
+
+        assertTrue(normalizer.normalize(staged, "image/jpeg", ImageNormalizer.Profile.DOCUMENT).isEmpty());
+    }
+
+    @Test
+    void readsOrientationFromExifAndRotatesDimensions() {
+        ByteBuffer exif = ByteBuffer.allocate(6 + 8 + 2 + 12).order(ByteOrder.LITTLE_ENDIAN);
+        exif.put("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        exif.put((byte) 'I').put((byte) 'I').putShort((short) 42).putInt(8);
+        exif.putShort((short) 1);
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) 6).putShort((short) 0);
+
+        int orientation = ExifOrientation.parse(exif.array());
+        assertEquals(6, orientation);
+
+        BufferedImage rotated = ImageNormalizer.scale(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), orientation, 1000);
+        assertEquals(200, rotated.getWidth());
+        assertEquals(400, rotated.getHeight());
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.server.infra.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.server.infra.persistence.ReadReplicaRoutingDataSource.Target;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTests {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final AtomicReference<String> user = new AtomicReference<>("lojista@grota.com");
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        routing = new ReadReplicaRoutingDataSource(primary, replica, lagMonitor, user::get, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResource);
+    }
+
+    @Test
+    void sendsReadOnlyTransactionsToReplicaAndTheRestToPrimary() throws Exception {
+        assertSame(primaryConnection, routing.getConnection());
+
+        beginTransaction(true);
+        assertSame(replicaConnection, routing.getConnection());
+        TransactionSynchronizationManager.clear();
+
+        beginTransaction(false);
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLags() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        beginTransaction(true);
+
+        assertEquals(Target.PRIMARY, routing.route());
+    }
+
+    @Test
+    void keepsUserOnPrimaryShortlyAfterTheirWrite() {
+        beginTransaction(false);
+        assertEquals(Target.PRIMARY, routing.route());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+
+        beginTransaction(true);
+        assertEquals(Target.PRIMARY, routing.route());
+
+        user.set("outro@grota.com");
+        assertEquals(Target.REPLICA, routing.route());
+    }
+
+    @Test
+    void replicaSessionReadsL2CacheWithoutPopulatingIt() {
+        EntityManagerFactory emf = mock(EntityManagerFactory.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        Session session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        when(session.isOpen()).thenReturn(true);
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(entityManager));
+
+        beginTransaction(true);
+        assertEquals(Target.REPLICA, routing.route());
+        verify(session).setCacheMode(CacheMode.GET);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
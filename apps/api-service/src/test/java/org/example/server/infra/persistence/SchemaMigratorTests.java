@@ -0,0 +1,152 @@
+package org.example.server.infra.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchemaMigratorTests {
+
+    private static final Pattern CREATE_TABLE =
+            Pattern.compile("(?i)create table (?:if not exists )?(\\w+) \\((.*?)\\n\\);", Pattern.DOTALL);
+    private static final Pattern COLUMN = Pattern.compile("^\\s*(\\w+) ");
+    private static final Set<String> NOT_COLUMNS = Set.of("primary", "constraint", "unique", "check", "foreign");
+
+    @Test
+    void loadsShippedMigrationsInVersionOrderWithoutGaps() throws Exception {
+        List<SchemaMigrator.Migration> migrations =
+                SchemaMigrator.load(new PathMatchingResourcePatternResolver().getResources(SchemaMigrator.LOCATION));
+
+        for (int i = 0; i < migrations.size(); i++) {
+            assertEquals(i + 1, migrations.get(i).version());
+        }
+        assertEquals("baseline schema", migrations.get(0).description());
+    }
+
+    @Test
+    void baselineAddsEveryNewColumnToTablesThatAlreadyExisted() throws Exception {
+        Map<String, Set<String>> existing = columnsByTable(read(new ClassPathResource("db/hibernate_baseline_schema.sql")));
+        String baseline = SchemaMigrator.load(new PathMatchingResourcePatternResolver().getResources(SchemaMigrator.LOCATION))
+                .get(0).script();
+
+        List<String> missing = new ArrayList<>();
+        columnsByTable(baseline).forEach((table, columns) -> {
+            Set<String> before = existing.get(table);
+            if (before == null) {
+                return;
+            }
+            for (String column : columns) {
+                String addColumn = "ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS " + column + " ";
+                if (!before.contains(column) && !baseline.contains(addColumn)) {
+                    missing.add(table + "." + column);
+                }
+            }
+        });
+        assertTrue(missing.isEmpty(), "colunas sem ADD COLUMN IF NOT EXISTS em V1: " + missing);
+    }
+
+    @Test
+    void splitsConcurrentMigrationIntoStatements() throws Exception {
+        SchemaMigrator.Migration indexes = SchemaMigrator.load(new PathMatchingResourcePatternResolver().getResources(SchemaMigrator.LOCATION))
+                .stream().filter(SchemaMigrator.Migration::concurrent).findFirst().orElseThrow();
+
+        List<String> statements = SchemaMigrator.statements(indexes.script());
+
+        assertTrue(statements.stream().allMatch(statement -> statement.contains(" CONCURRENTLY ")), statements.toString());
+        assertEquals(List.of("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_a ON tb_a (x, y)", "DROP INDEX CONCURRENTLY IF EXISTS idx_b"),
+                SchemaMigrator.statements("-- @concurrent\n-- índice\nCREATE INDEX CONCURRENTLY IF NOT EXISTS idx_a\n    ON tb_a (x, y);\n\nDROP INDEX CONCURRENTLY IF EXISTS idx_b;\n"));
+    }
+
+    @Test
+    void rebuildsIndexLeftInvalidAndSkipsValidOne() {
+        JdbcTemplate session = mock(JdbcTemplate.class);
+        String createA = "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_a ON tb_a (x)";
+        String createB = "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_b ON tb_b (x)";
+        when(session.queryForList(anyString(), eq(Boolean.class), eq("idx_a"))).thenReturn(List.of(false));
+        when(session.queryForList(anyString(), eq(Boolean.class), eq("idx_b"))).thenReturn(List.of(true));
+
+        SchemaMigrator.executeConcurrently(session, createA);
+        SchemaMigrator.executeConcurrently(session, createB);
+
+        verify(session).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_a");
+        verify(session).execute(createA);
+        verify(session, never()).execute(createB);
+    }
+
+    @Test
+    void buildsIndexOfPartitionedTablePartitionByPartition() {
+        JdbcTemplate session = mock(JdbcTemplate.class);
+        when(session.queryForList(anyString(), eq(Boolean.class), eq("tb_event"))).thenReturn(List.of(true));
+        when(session.queryForList(anyString(), eq(String.class), eq("tb_event"))).thenReturn(List.of("tb_event_y2026m01", "tb_event_y2026m02"));
+        when(session.queryForObject(anyString(), eq(Integer.class), eq("idx_event_created"), eq("tb_event_y2026m01"))).thenReturn(1);
+        when(session.queryForObject(anyString(), eq(Integer.class), eq("idx_event_created"), eq("tb_event_y2026m02"))).thenReturn(0);
+
+        SchemaMigrator.executeConcurrently(session,
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_created ON tb_event (created_at, id)");
+
+        verify(session).execute("CREATE INDEX IF NOT EXISTS idx_event_created ON ONLY tb_event (created_at, id)");
+        verify(session).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS tb_event_y2026m02_idx_event_created ON tb_event_y2026m02 (created_at, id)");
+        verify(session).execute("ALTER INDEX idx_event_created ATTACH PARTITION tb_event_y2026m02_idx_event_created");
+        verify(session, never()).execute("ALTER INDEX idx_event_created ATTACH PARTITION tb_event_y2026m01_idx_event_created");
+    }
+
+    @Test
+    void rejectsDuplicateVersions() {
+        Resource[] resources = {migration("V2__first.sql"), migration("V2__second.sql")};
+
+        assertThrows(IllegalStateException.class, () -> SchemaMigrator.load(resources));
+    }
+
+    private static Resource migration(String fileName) {
+        return new ByteArrayResource("SELECT 1;".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        };
+    }
+
+    private static Map<String, Set<String>> columnsByTable(String ddl) {
+        Map<String, Set<String>> tables = new HashMap<>();
+        Matcher table = CREATE_TABLE.matcher(ddl);
+        while (table.find()) {
+            Set<String> columns = new LinkedHashSet<>();
+            for (String line : table.group(2).split("\\n")) {
+                Matcher column = COLUMN.matcher(line);
+                if (column.find() && !NOT_COLUMNS.contains(column.group(1).toLowerCase())) {
+                    columns.add(column.group(1));
+                }
+            }
+            tables.put(table.group(1), columns);
+        }
+        return tables;
+    }
+
+    private static String read(Resource resource) throws Exception {
+        try (var in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
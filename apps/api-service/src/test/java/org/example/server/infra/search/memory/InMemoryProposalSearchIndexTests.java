@@ -0,0 +1,73 @@
+package org.example.server.infra.search.memory;
+
+import org.example.server.infra.search.ProposalSearchEntry;
+import org.example.server.infra.search.ProposalSearchQuery;
+import org.example.server.repository.ProposalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class InMemoryProposalSearchIndexTests {
+
+    private InMemoryProposalSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryProposalSearchIndex(mock(ProposalRepository.class), 100);
+        index.put(new ProposalSearchEntry(1L, "João da Silva", "123.456.789-09", "abc-1d23"));
+        index.put(new ProposalSearchEntry(2L, "Maria Joana Souza", "98765432100", "XYZ9876"));
+        index.put(new ProposalSearchEntry(3L, "Joao Pedro", "12399988877", null));
+    }
+
+    @Test
+    void findsCpfByPrefixRankingExactMatchFirst() {
+        List<Long> ids = index.search(ProposalSearchQuery.parse("123.456.789-09"), 0, 10);
+        assertEquals(List.of(1L), ids);
+
+        assertEquals(List.of(3L, 1L), index.search(ProposalSearchQuery.parse("123"), 0, 10));
+    }
+
+    @Test
+    void findsPlateIgnoringCaseAndSeparators() {
+        assertEquals(List.of(1L), index.search(ProposalSearchQuery.parse("ABC1D23"), 0, 10));
+        assertEquals(List.of(2L), index.search(ProposalSearchQuery.parse("xyz-98"), 0, 10));
+    }
+
+    @Test
+    void findsNameWithoutAccentsAndRanksPrefixAboveContains() {
+        List<Long> ids = index.search(ProposalSearchQuery.parse("joão"), 0, 10);
+        assertEquals(List.of(3L, 1L), ids);
+
+        assertEquals(List.of(1L), index.search(ProposalSearchQuery.parse("silva"), 0, 10));
+    }
+
+    @Test
+    void dropsRemovedAndReplacesUpdatedProposals() {
+        index.delete(1L);
+        assertTrue(index.search(ProposalSearchQuery.parse("silva"), 0, 10).isEmpty());
+
+        index.put(new ProposalSearchEntry(2L, "Maria Souza", "98765432100", "QWE1234"));
+        assertTrue(index.search(ProposalSearchQuery.parse("XYZ9876"), 0, 10).isEmpty());
+        assertEquals(List.of(2L), index.search(ProposalSearchQuery.parse("qwe1234"), 0, 10));
+    }
+
+    @Test
+    void parsesQueryIntoApplicableTerms() {
+        ProposalSearchQuery cpf = ProposalSearchQuery.parse("123.456");
+        assertEquals("123456", cpf.cpf());
+        assertNull(cpf.name());
+
+        ProposalSearchQuery name = ProposalSearchQuery.parse("  José  da Silva ");
+        assertNull(name.cpf());
+        assertNull(name.plate());
+        assertEquals("jose da silva", name.name());
+
+        assertTrue(ProposalSearchQuery.parse("a").isEmpty());
+    }
+}
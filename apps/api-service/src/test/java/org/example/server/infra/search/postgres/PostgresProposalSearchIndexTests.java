@@ -0,0 +1,48 @@
+package org.example.server.infra.search.postgres;
+
+import org.example.server.infra.search.ProposalSearchQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgresProposalSearchIndexTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PostgresProposalSearchIndex index = new PostgresProposalSearchIndex(jdbcTemplate);
+
+    @Test
+    void usesTrigramPredicatesWhenExtensionIsInstalled() {
+        assertTrue(nameSearchSql(true).contains("similarity("));
+    }
+
+    @Test
+    void searchesNameWithLikeOnlyWithoutTrigramExtension() {
+        String sql = nameSearchSql(false);
+
+        assertFalse(sql.contains("similarity("), sql);
+        assertFalse(sql.contains("% ?"), sql);
+        assertTrue(sql.contains("p.search_name LIKE ?"), sql);
+    }
+
+    private String nameSearchSql(boolean trigramAvailable) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(trigramAvailable);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of());
+
+        index.search(ProposalSearchQuery.parse("maria souza"), 0, 20);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForList(sql.capture(), eq(Long.class), any(Object[].class));
+        return sql.getValue();
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.server.infra.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SignedUrlCacheTests {
+
+    @Test
+    void dropsEntriesCloseToExpiryAndKeepsScopesApart() throws Exception {
+        SignedUrlCache cache = new SignedUrlCache(10, 60);
+        SignedUrl fresh = new SignedUrl(new URL("https://cdn.example/doc-1"), Instant.now().plusSeconds(600));
+        SignedUrl expiring = new SignedUrl(new URL("https://cdn.example/doc-2"), Instant.now().plusSeconds(30));
+
+        cache.put(new SignedUrlCache.Key(1L, "USER:7", false), fresh);
+        cache.put(new SignedUrlCache.Key(2L, "USER:7", false), expiring);
+
+        assertEquals(fresh, cache.get(new SignedUrlCache.Key(1L, "USER:7", false)));
+        assertNull(cache.get(new SignedUrlCache.Key(1L, "USER:8", false)));
+        assertNull(cache.get(new SignedUrlCache.Key(2L, "USER:7", false)));
+        assertEquals(1, cache.size());
+
+        cache.evictDocuments(List.of(1L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondCapacity() throws Exception {
+        SignedUrlCache cache = new SignedUrlCache(2, 0);
+        SignedUrl url = new SignedUrl(new URL("https://cdn.example/doc"), Instant.now().plusSeconds(600));
+
+        cache.put(new SignedUrlCache.Key(1L, "ADMIN", false), url);
+        cache.put(new SignedUrlCache.Key(2L, "ADMIN", false), url);
+        cache.get(new SignedUrlCache.Key(1L, "ADMIN", false));
+        cache.put(new SignedUrlCache.Key(3L, "ADMIN", false), url);
+
+        assertEquals(url, cache.get(new SignedUrlCache.Key(1L, "ADMIN", false)));
+        assertNull(cache.get(new SignedUrlCache.Key(2L, "ADMIN", false)));
+    }
+}
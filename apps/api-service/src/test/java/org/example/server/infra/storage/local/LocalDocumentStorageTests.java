@@ -0,0 +1,43 @@
+package org.example.server.infra.storage.local;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalDocumentStorageTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void storesContentLargerThanChunkAndDeletesIt() throws Exception {
+        LocalDocumentStorage storage = new LocalDocumentStorage(root.toString(), 1024);
+        byte[] content = new byte[10_000];
+        new Random(42).nextBytes(content);
+
+        String key = storage.store("documents", "user-1-document", new ByteArrayInputStream(content), content.length, "image/png");
+
+        assertEquals("documents/user-1-document", key);
+        assertArrayEquals(content, Files.readAllBytes(storage.resolve(key)));
+        assertFalse(Files.exists(root.resolve("documents/user-1-document.part")));
+
+        storage.delete(key);
+        assertFalse(Files.exists(storage.resolve(key)));
+    }
+
+    @Test
+    void rejectsKeysOutsideRoot() throws Exception {
+        LocalDocumentStorage storage = new LocalDocumentStorage(root.toString(), 1024);
+
+        assertThrows(IllegalArgumentException.class, () -> storage.resolve("../fora"));
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.server.repository;
+
+import org.example.server.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRepositoryTests {
+
+    private final UserRepository repository = mock(UserRepository.class);
+    private final User keyed = new User("bia@grota.com", "senha");
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findForLogin(anyString())).thenCallRealMethod();
+        when(repository.findByLoginIdentifier(anyString())).thenCallRealMethod();
+        when(repository.findAllByLoginIdentifier("bia@grota.com")).thenReturn(List.of(keyed));
+    }
+
+    @Test
+    void collidedRowLogsInWithItsOwnSpelling() {
+        User legacy = collidedRow();
+        when(repository.findAllByLegacyLoginIdentifier("Bia@grota.com")).thenReturn(List.of(legacy));
+
+        assertSame(legacy, repository.findForLogin(" Bia@grota.com ").orElseThrow());
+        assertSame(keyed, repository.findForLogin("bia@grota.com").orElseThrow());
+        verify(repository, never()).findAllByLegacyLoginIdentifier("bia@grota.com");
+    }
+
+    @Test
+    void otherSpellingsStillFindTheKeyedRow() {
+        when(repository.findAllByLegacyLoginIdentifier("BIA@grota.com")).thenReturn(List.of());
+
+        assertSame(keyed, repository.findForLogin("BIA@grota.com").orElseThrow());
+    }
+
+    @Test
+    void collidedRowKeepsNoKeyWhenUpdated() {
+        User legacy = collidedRow();
+
+        legacy.setEmail("Bia@grota.com");
+        assertNull(legacy.getLoginKey());
+
+        legacy.setEmail("beatriz@grota.com");
+        assertEquals("beatriz@grota.com", legacy.getLoginKey());
+    }
+
+    /**
+     * Cadastro antigo cuja chave colide com a de "bia@grota.com": o backfill o deixou sem {@code login_key}.
+     */
+    private static User collidedRow() {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "email", "Bia@grota.com");
+        return user;
+    }
+}
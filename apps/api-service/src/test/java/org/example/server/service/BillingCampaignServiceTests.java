@@ -0,0 +1,92 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.dto.billing.BillingDunningTargetDTO;
+import org.example.server.model.BillingOccurrence;
+import org.example.server.model.EmailOutbox;
+import org.example.server.repository.BillingContractRepository;
+import org.example.server.repository.BillingInstallmentRepository;
+import org.example.server.repository.BillingOccurrenceRepository;
+import org.example.server.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BillingCampaignServiceTests {
+
+    private static final LocalDate DUE_DATE = LocalDate.of(2026, 3, 10);
+
+    private final BillingInstallmentRepository installmentRepository = mock(BillingInstallmentRepository.class);
+    private final BillingOccurrenceRepository occurrenceRepository = mock(BillingOccurrenceRepository.class);
+    private final EmailOutboxRepository emailOutboxRepository = mock(EmailOutboxRepository.class);
+    private final Set<String> storedKeys = new HashSet<>();
+    private final List<EmailOutbox> sent = new ArrayList<>();
+    private final List<BillingOccurrence> occurrences = new ArrayList<>();
+    private BillingCampaignService service;
+
+    @BeforeEach
+    void setUp() {
+        BillingDunningTargetDTO target = new BillingDunningTargetDTO(
+                10L, 1L, "CT-1", 2, DUE_DATE, new BigDecimal("350.00"), "Maria Souza", "maria@grota.com");
+        when(installmentRepository.findDunningTargets(any(), any(), anyLong(), any())).thenReturn(List.of());
+        when(installmentRepository.findDunningTargets(eq(DUE_DATE), eq(DUE_DATE), eq(0L), any())).thenReturn(List.of(target));
+
+        when(emailOutboxRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<EmailOutbox> emails = invocation.getArgument(0);
+            List<EmailOutbox> inserted = emails.stream().filter(email -> storedKeys.add(email.getDedupKey())).toList();
+            sent.addAll(inserted);
+            return inserted;
+        });
+        doAnswer(invocation -> occurrences.addAll(invocation.getArgument(0)))
+                .when(occurrenceRepository).insertAll(anyList());
+
+        service = new BillingCampaignService(
+                installmentRepository,
+                mock(BillingContractRepository.class),
+                occurrenceRepository,
+                new EmailOutboxService(emailOutboxRepository, new ObjectMapper()),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new int[]{3},
+                new int[]{1, 7, 15},
+                100
+        );
+    }
+
+    @Test
+    void sendsOneNoticePerStageForTheSameInstallment() {
+        service.run(DUE_DATE.minusDays(3));
+        service.run(DUE_DATE.plusDays(1));
+        service.run(DUE_DATE.plusDays(7));
+        service.run(DUE_DATE.plusDays(15));
+
+        assertEquals(List.of("billing-reminder", "billing-overdue", "billing-overdue", "billing-overdue"),
+                sent.stream().map(EmailOutbox::getTemplateName).toList());
+        assertEquals(4, occurrences.size());
+    }
+
+    @Test
+    void doesNotRepeatAStageWhenTheCampaignRunsTwice() {
+        service.run(DUE_DATE.plusDays(7));
+        service.run(DUE_DATE.plusDays(7));
+
+        assertEquals(1, sent.size());
+        assertEquals(1, occurrences.size());
+    }
+}
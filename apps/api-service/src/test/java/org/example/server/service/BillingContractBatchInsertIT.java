@@ -0,0 +1,82 @@
+package org.example.server.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.server.model.Proposal;
+import org.example.server.repository.BillingContractRepository;
+import org.example.server.repository.ProposalRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Confere que o contrato de 60 parcelas sai em poucos statements (INSERTs em batch), e não um por parcela.
+ * Precisa de um Postgres descartável: IT_DATABASE_URL, IT_DATABASE_USERNAME e IT_DATABASE_PASSWORD.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.storage.type=local"
+})
+@EnabledIfEnvironmentVariable(named = "IT_DATABASE_URL", matches = ".+")
+class BillingContractBatchInsertIT {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("IT_DATABASE_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv("IT_DATABASE_USERNAME"));
+        registry.add("spring.datasource.password", () -> System.getenv("IT_DATABASE_PASSWORD"));
+    }
+
+    @Autowired
+    private BillingService billingService;
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Autowired
+    private BillingContractRepository contractRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Proposal proposal;
+
+    @AfterEach
+    void tearDown() {
+        if (proposal != null) {
+            contractRepository.findByProposalId(proposal.getId()).ifPresent(contractRepository::delete);
+            proposalRepository.deleteById(proposal.getId());
+        }
+    }
+
+    @Test
+    void createsSixtyInstallmentContractWithBatchedInserts() {
+        Proposal paid = new Proposal();
+        paid.setCustomerName("Cliente Batch");
+        paid.setCustomerCpf("52998224725");
+        paid.setFinancedValue(new BigDecimal("60000.00"));
+        paid.setTermMonths(60);
+        proposal = proposalRepository.save(paid);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        billingService.createFromPaidProposal(proposal);
+
+        assertEquals(61, statistics.getEntityInsertCount());
+        // consulta do contrato existente, checagem do número gerado, sequências (1 do contrato, 2 blocos
+        // de 50 das parcelas) e os INSERTs em batch; com IDENTITY seriam 61 INSERTs isolados
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= 8, "statements preparados: " + statements);
+    }
+}
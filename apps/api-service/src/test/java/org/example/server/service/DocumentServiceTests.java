@@ -0,0 +1,158 @@
+package org.example.server.service;
+
+import org.example.server.dto.document.DocumentBatchUploadResponseDTO;
+import org.example.server.dto.document.DocumentMapper;
+import org.example.server.dto.document.DocumentUploadRequestDTO;
+import org.example.server.enums.DocumentType;
+import org.example.server.enums.UserRole;
+import org.example.server.exception.DocumentUploadException;
+import org.example.server.infra.storage.DocumentStagingArea;
+import org.example.server.infra.storage.StagedFile;
+import org.example.server.model.Dealer;
+import org.example.server.model.Document;
+import org.example.server.model.StoredObject;
+import org.example.server.model.User;
+import org.example.server.repository.DealerRepository;
+import org.example.server.repository.DocumentRepository;
+import org.example.server.service.factory.DocumentFactory;
+import org.example.server.service.job.DocumentIngestionWorker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DocumentServiceTests {
+
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final DocumentFactory documentFactory = mock(DocumentFactory.class);
+    private final DocumentStagingArea stagingArea = mock(DocumentStagingArea.class);
+    private final DocumentIngestionWorker ingestionWorker = mock(DocumentIngestionWorker.class);
+    private final StoredObjectService storedObjectService = mock(StoredObjectService.class);
+    private final User user = new User("lojista@grota.com", "senha");
+    private DocumentService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DocumentService(documentRepository, mock(DealerRepository.class), mock(EmailService.class),
+                documentFactory, mock(DocumentMapper.class), stagingArea, ingestionWorker, storedObjectService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(DocumentReviewQueueService.class),
+                mock(DocumentUrlService.class), 2);
+        user.setRole(UserRole.LOJISTA);
+        user.setDealer(new Dealer());
+        when(documentFactory.create(any(), any(), anyString())).thenAnswer(invocation -> new Document());
+        when(storedObjectService.acquire(anyString(), anyLong()))
+                .thenAnswer(invocation -> new StoredObjectService.Acquisition(new StoredObject(invocation.getArgument(0), 1L), true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void reportsAcceptedAndRejectedItemsOfTheSameBatch() throws Exception {
+        when(documentRepository.findDocumentTypesByDealerId(any())).thenReturn(Set.of(DocumentType.RG_FRENTE));
+        when(stagingArea.stage(anyString(), any())).thenAnswer(invocation -> {
+            String content = read(invocation.getArgument(1));
+            if (content.equals("falha")) {
+                throw new IOException("conexão encerrada");
+            }
+            return new StagedFile(content, 1, "hash-" + content);
+        });
+
+        DocumentBatchUploadResponseDTO response = service.uploadDocuments(List.of(
+                request(DocumentType.RG_FRENTE, "rg"),
+                request(DocumentType.CPF, "falha"),
+                request(DocumentType.CNH, "cnh")), user, null);
+
+        assertEquals(1, response.accepted());
+        assertEquals(2, response.rejected());
+        assertNotNull(response.items().get(0).error());
+        assertNotNull(response.items().get(1).error());
+        assertNull(response.items().get(2).error());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Document>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(documentRepository).insertAll(inserted.capture());
+        assertEquals(1, inserted.getValue().size());
+        assertEquals("cnh", inserted.getValue().get(0).getStagedFile());
+        assertEquals(DocumentService.contentKey(null, "hash-cnh"), inserted.getValue().get(0).getContentHash());
+    }
+
+    @Test
+    void scopesContentDeduplicationByDealer() {
+        assertEquals(DocumentService.contentKey(1L, "abc"), DocumentService.contentKey(1L, "abc"));
+        assertNotEquals(DocumentService.contentKey(1L, "abc"), DocumentService.contentKey(2L, "abc"));
+    }
+
+    @Test
+    void discardsFilesStagedAfterTheRequestWasInterrupted() throws Exception {
+        when(documentRepository.findDocumentTypesByDealerId(any())).thenReturn(Set.of());
+        Thread requestThread = Thread.currentThread();
+        CountDownLatch quickStaged = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(stagingArea.stage(anyString(), any())).thenAnswer(invocation -> {
+            String content = read(invocation.getArgument(1));
+            if (content.equals("lento")) {
+                awaitUninterruptibly(quickStaged);
+                requestThread.interrupt();
+                awaitUninterruptibly(release);
+            } else {
+                quickStaged.countDown();
+            }
+            return new StagedFile(content, 1, "hash-" + content);
+        });
+
+        assertThrows(DocumentUploadException.class, () -> service.uploadDocuments(List.of(
+                request(DocumentType.RG_FRENTE, "lento"),
+                request(DocumentType.CPF, "rapido")), user, null));
+        Thread.interrupted();
+        release.countDown();
+
+        verify(stagingArea, timeout(2_000)).discard("rapido");
+        verify(stagingArea, timeout(2_000)).discard("lento");
+    }
+
+    private static DocumentUploadRequestDTO request(DocumentType type, String content) {
+        return new DocumentUploadRequestDTO(type,
+                new MockMultipartFile("file", content + ".png", "image/png", content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String read(InputStream content) throws IOException {
+        return new String(content.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        // a cópia real termina mesmo com a requisição cancelada
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // espera de novo
+            }
+        }
+    }
+}
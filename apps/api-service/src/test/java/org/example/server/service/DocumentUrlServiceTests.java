@@ -0,0 +1,54 @@
+package org.example.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.server.infra.cache.CacheInvalidationChannel;
+import org.example.server.infra.storage.DocumentStorage;
+import org.example.server.infra.storage.SignedUrl;
+import org.example.server.infra.storage.SignedUrlCache;
+import org.example.server.repository.DocumentRepository;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DocumentUrlServiceTests {
+
+    private final SignedUrlCache cache = new SignedUrlCache(10, 0);
+    private final CacheInvalidationChannel channel = mock(CacheInvalidationChannel.class);
+    private final DocumentUrlService service = new DocumentUrlService(mock(DocumentRepository.class),
+            mock(DocumentStorage.class), cache, channel, new SimpleMeterRegistry(), 900);
+
+    @Test
+    void publishesEvictionsAndAppliesThoseOfOtherReplicas() throws Exception {
+        SignedUrl url = new SignedUrl(new URL("https://cdn.example/doc"), Instant.now().plusSeconds(600));
+        cache.put(new SignedUrlCache.Key(1L, "ADMIN", false), url);
+        cache.put(new SignedUrlCache.Key(2L, "ADMIN", false), url);
+        cache.put(new SignedUrlCache.Key(3L, "ADMIN", false), url);
+
+        service.evict(List.of(1L));
+        verify(channel).publish(DocumentUrlService.TOPIC, "1");
+
+        service.applyRemote("2 9");
+        assertNull(cache.get(new SignedUrlCache.Key(2L, "ADMIN", false)));
+        assertNotNull(cache.get(new SignedUrlCache.Key(3L, "ADMIN", false)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void splitsLargeEvictionsIntoSeveralMessages() {
+        service.evict(LongStream.rangeClosed(1, 450).boxed().toList());
+
+        verify(channel, times(3)).publish(eq(DocumentUrlService.TOPIC), anyString());
+    }
+}
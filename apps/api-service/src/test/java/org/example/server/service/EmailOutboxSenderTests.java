@@ -0,0 +1,68 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.example.server.model.EmailOutbox;
+import org.example.server.service.factory.EmailMessageFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailOutboxSenderTests {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void sendsWholeBatchAndReportsOnlyFailedEntries() throws Exception {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.getSmtp().getPort());
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        EmailOutboxSender sender = new EmailOutboxSender(
+                mailSender,
+                new EmailTemplateRenderer(templateEngine),
+                new EmailMessageFactory(mailSender),
+                new ObjectMapper(),
+                "remetente@teste.local"
+        );
+
+        List<EmailOutbox> batch = List.of(
+                entry(1L, "a@teste.local", "verification-email", "{\"code\":\"123456\"}"),
+                entry(2L, "b@teste.local", "password-seller", "{\"password\":\"s3nha\"}"),
+                entry(3L, "c@teste.local", "template-inexistente", "{}")
+        );
+
+        Map<Long, String> failures = sender.send(batch);
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.containsKey(3L));
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("a@teste.local", received[0].getAllRecipients()[0].toString());
+    }
+
+    private EmailOutbox entry(Long id, String to, String template, String variables) {
+        EmailOutbox entry = new EmailOutbox(template + id, to, "Assunto", template, variables);
+        ReflectionTestUtils.setField(entry, "id", id);
+        return entry;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.model.EmailOutbox;
+import org.example.server.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EmailOutboxServiceTests {
+
+    private final EmailOutboxRepository emailOutboxRepository = mock(EmailOutboxRepository.class);
+    private final EmailOutboxService service = new EmailOutboxService(emailOutboxRepository, new ObjectMapper());
+
+    @Test
+    void keysSameEmailByOriginatingEvent() {
+        Map<String, String> variables = Map.of("reviewStatus", "REJEITADO");
+        service.enqueue("documento:7:2026-10-01T10:00", "lojista@grota.com", "Status", "document-review", variables);
+        service.enqueue("documento:7:2026-10-01T10:00", "lojista@grota.com", "Status", "document-review", variables);
+        service.enqueue("documento:7:2026-10-02T09:30", "lojista@grota.com", "Status", "document-review", variables);
+
+        ArgumentCaptor<EmailOutbox> inserted = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository, times(3)).insertIfAbsent(inserted.capture());
+        assertEquals(inserted.getAllValues().get(0).getDedupKey(), inserted.getAllValues().get(1).getDedupKey());
+        assertNotEquals(inserted.getAllValues().get(0).getDedupKey(), inserted.getAllValues().get(2).getDedupKey());
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.server.service;
+
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmailTemplateRendererTests {
+
+    private final SpringTemplateEngine templateEngine = templateEngine();
+    private final EmailTemplateRenderer renderer = new EmailTemplateRenderer(templateEngine);
+
+    @Test
+    void matchesThymeleafOutputForEmailTemplates() {
+        assertSameOutput("verification-email", Map.of("code", "123456"));
+        assertSameOutput("password-reset-email", Map.of("code", "654321"));
+        assertSameOutput("password-seller", Map.of("password", "<senha&\"forte\">"));
+        assertSameOutput("document-review", Map.of("documentType", "RG_FRENTE", "reviewStatus", "APROVADO"));
+
+        Map<String, String> withComment = new HashMap<>();
+        withComment.put("documentType", "CNH_FRENTE");
+        withComment.put("reviewStatus", "REPROVADO");
+        withComment.put("reviewComment", "Documento ilegível");
+        assertSameOutput("document-review", withComment);
+    }
+
+    @Test
+    void reusesPrerenderedTemplateForSameShape() {
+        renderer.render("verification-email", Map.of("code", "111111"));
+        renderer.render("verification-email", Map.of("code", "222222"));
+
+        assertEquals(1, renderer.cachedTemplates());
+    }
+
+    private void assertSameOutput(String template, Map<String, String> variables) {
+        Context ctx = new Context(Locale.getDefault());
+        variables.forEach(ctx::setVariable);
+
+        assertEquals(templateEngine.process(template, ctx), renderer.render(template, variables));
+    }
+
+    static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.server.dto.proposal.ProposalDuplicateKeyDTO;
+import org.example.server.enums.ProposalStatus;
+import org.example.server.infra.cache.CacheInvalidationChannel;
+import org.example.server.model.Proposal;
+import org.example.server.repository.ProposalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProposalDuplicateDetectorTests {
+
+    private ProposalRepository proposalRepository;
+    private ProposalDuplicateDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        proposalRepository = mock(ProposalRepository.class);
+        when(proposalRepository.findIdsByIdInAndStatusIn(any(), any()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(0)));
+        detector = new ProposalDuplicateDetector(proposalRepository, mock(CacheInvalidationChannel.class), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(), true, ProposalDuplicateDetector.Mode.FLAG, 30, 1000, 0.01);
+    }
+
+    @Test
+    void findsOpenProposalsWithinWindowAfterRebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        when(proposalRepository.streamDuplicateKeys(any(), any())).thenReturn(Stream.of(
+                new ProposalDuplicateKeyDTO(1L, 10L, "123.456.789-09", "ABC-1D23", ProposalStatus.SUBMITTED, now.minusDays(2)),
+                new ProposalDuplicateKeyDTO(2L, 11L, "98765432100", null, ProposalStatus.PENDING, now.minusDays(1))
+        ));
+        detector.rebuild();
+
+        assertEquals(List.of(1L), detector.findDuplicates("12345678909", "abc1d23"));
+        assertEquals(List.of(2L), detector.findDuplicates("987.654.321-00", null));
+        assertTrue(detector.findDuplicates("12345678909", "XYZ9999").isEmpty());
+        assertTrue(detector.findDuplicates(null, "ABC1D23").isEmpty());
+    }
+
+    @Test
+    void tracksNewProposalsAndForgetsClosedOnes() {
+        when(proposalRepository.streamDuplicateKeys(any(), any())).thenReturn(Stream.empty());
+        detector.rebuild();
+
+        Proposal proposal = proposal(5L, ProposalStatus.SUBMITTED);
+        detector.track(proposal);
+        assertEquals(List.of(5L), detector.findDuplicates("12345678909", "ABC1D23"));
+
+        proposal.setStatus(ProposalStatus.REJECTED);
+        detector.track(proposal);
+        assertTrue(detector.findDuplicates("12345678909", "ABC1D23").isEmpty());
+    }
+
+    @Test
+    void appliesChangesFromOtherReplicasAndDropsHitsClosedInTheDatabase() {
+        when(proposalRepository.streamDuplicateKeys(any(), any())).thenReturn(Stream.empty());
+        detector.rebuild();
+
+        detector.applyRemote("put 12345678909:ABC1D23 7 10 " + LocalDateTime.now().minusHours(1));
+        detector.applyRemote("put 12345678909:ABC1D23 8 null " + LocalDateTime.now());
+        assertEquals(List.of(7L, 8L), detector.findDuplicates("12345678909", "ABC1D23"));
+
+        detector.applyRemote("remove 12345678909:ABC1D23 7");
+        assertEquals(List.of(8L), detector.findDuplicates("12345678909", "ABC1D23"));
+
+        doReturn(List.of()).when(proposalRepository).findIdsByIdInAndStatusIn(any(), any());
+        assertTrue(detector.findDuplicates("12345678909", "ABC1D23").isEmpty());
+    }
+
+    @Test
+    void staysSilentUntilWarm() {
+        detector.track(proposal(5L, ProposalStatus.SUBMITTED));
+        assertTrue(detector.findDuplicates("12345678909", "ABC1D23").isEmpty());
+    }
+
+    private static Proposal proposal(Long id, ProposalStatus status) {
+        Proposal proposal = new Proposal();
+        ReflectionTestUtils.setField(proposal, "id", id);
+        proposal.setCustomerCpf("123.456.789-09");
+        proposal.setVehiclePlate("ABC1D23");
+        proposal.setStatus(status);
+        return proposal;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.server.repository.ProposalEventMetadataRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ProposalEventMetadataServiceTests {
+
+    private final ProposalEventMetadataRepository repository = mock(ProposalEventMetadataRepository.class);
+    private final ProposalEventMetadataService service = new ProposalEventMetadataService(repository, new ObjectMapper());
+
+    @Test
+    void storesSameMetadataUnderSameHash() {
+        String first = service.store("{\"origem\":\"app\"}");
+        String second = service.store("{\"origem\":\"app\"}");
+
+        assertEquals(64, first.length());
+        assertEquals(first, second);
+        verify(repository, times(2)).insertIfAbsent(first, "{\"origem\":\"app\"}");
+    }
+
+    @Test
+    void ignoresBlankMetadata() {
+        assertNull(service.store("  "));
+        verify(repository, never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    void inflatesPayloadWithMetadataAsBeforeDeduplication() {
+        String payload = service.inflate("{\"ip\":\"10.0.0.1\"}", "{\"origem\":\"app\"}");
+
+        assertEquals("{\"metadata\":\"{\\\"origem\\\":\\\"app\\\"}\",\"ip\":\"10.0.0.1\"}", payload);
+        assertEquals("{\"metadata\":\"x\"}", service.inflate(null, "x"));
+        assertEquals("{\"ip\":\"1\"}", service.inflate("{\"ip\":\"1\"}", null));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.example.server.exception.InvalidImportFileException;
+import org.example.server.util.CsvReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProposalImportServiceTests {
+
+    private final ProposalImportService service = new ProposalImportService(
+            null, null, null, null, null, null, null, null, null, null, null,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 500, 10000);
+
+    @Test
+    void readsSemicolonSeparatedSpreadsheetWithQuotedFields() throws Exception {
+        String csv = "\uFEFFCustomer Name;customer_cpf;Observações\r\n"
+                + "\"Silva; Maria\";123.456.789-09;\"linha 1\nlinha 2\"\r\n"
+                + "\r\n"
+                + "João \"Zé\";987.654.321-00;\n";
+        try (CsvReader reader = CsvReader.open(new StringReader(csv))) {
+            assertEquals(List.of("Customer Name", "customer_cpf", "Observações"), reader.next());
+            assertEquals(List.of("Silva; Maria", "123.456.789-09", "linha 1\nlinha 2"), reader.next());
+            assertEquals(2, reader.recordLine());
+            assertEquals(List.of("João \"Zé\"", "987.654.321-00", ""), reader.next());
+            assertEquals(5, reader.recordLine());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void mapsBrazilianFormatsAndReportsInvalidCells() {
+        Map<String, Integer> columns = ProposalImportService.resolveColumns(
+                List.of("customerName", "customerCpf", "financed_value", "customerBirthDate", "hasCnh", "termMonths"));
+
+        var valid = service.parseRow(columns, List.of("Maria", "12345678909", "R$ 45.000,50", "02/03/1990", "Sim", "48"));
+        assertTrue(valid.errors().isEmpty());
+        assertEquals(new BigDecimal("45000.50"), valid.dto().financedValue());
+        assertEquals(LocalDate.of(1990, 3, 2), valid.dto().customerBirthDate());
+        assertTrue(valid.dto().hasCnh());
+        assertEquals(48, valid.dto().termMonths());
+
+        var invalid = service.parseRow(columns, List.of("", "12345678909", "abc", "1990-13-01", "talvez", "x"));
+        assertEquals(5, invalid.errors().size());
+        assertFalse(invalid.errors().contains(null));
+    }
+
+    @Test
+    void readsDotsAsThousandsSeparatorsAndRejectsAmbiguousValues() {
+        Map<String, Integer> columns = ProposalImportService.resolveColumns(
+                List.of("customerName", "customerCpf", "financed_value"));
+
+        assertEquals(new BigDecimal("45000"), service.parseRow(columns, List.of("Maria", "12345678909", "45.000")).dto().financedValue());
+        assertEquals(new BigDecimal("1234567"), service.parseRow(columns, List.of("Maria", "12345678909", "1.234.567")).dto().financedValue());
+        assertEquals(new BigDecimal("45000.5"), service.parseRow(columns, List.of("Maria", "12345678909", "45000,5")).dto().financedValue());
+        assertEquals(new BigDecimal("45000.50"), service.parseRow(columns, List.of("Maria", "12345678909", "45000.50")).dto().financedValue());
+
+        assertEquals(1, service.parseRow(columns, List.of("Maria", "12345678909", "1.2345")).errors().size());
+        assertEquals(1, service.parseRow(columns, List.of("Maria", "12345678909", "1.23,45")).errors().size());
+    }
+
+    @Test
+    void requiresCustomerColumnsInHeader() {
+        assertThrows(InvalidImportFileException.class, () -> ProposalImportService.resolveColumns(List.of("nome", "cpf")));
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.server.service;
+
+import org.example.server.infra.cache.CacheInvalidationChannel;
+import org.example.server.repository.DealerRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDealerResolverTests {
+
+    private final DealerRepository dealerRepository = mock(DealerRepository.class);
+    private final CacheInvalidationChannel channel = mock(CacheInvalidationChannel.class);
+
+    @Test
+    void evictsLocallyAndOnOtherReplicas() {
+        UserDealerResolver resolver = new UserDealerResolver(dealerRepository, channel, 100, 300);
+        when(dealerRepository.findDealerIdForUser(7L)).thenReturn(Optional.of(1L));
+        resolver.resolveDealerId(7L);
+        resolver.resolveDealerId(7L);
+        verify(dealerRepository, times(1)).findDealerIdForUser(7L);
+
+        resolver.evict(7L);
+        verify(channel).publish(UserDealerResolver.TOPIC, "user 7");
+
+        when(dealerRepository.findDealerIdForUser(7L)).thenReturn(Optional.of(2L));
+        assertEquals(Optional.of(2L), resolver.resolveDealerId(7L));
+
+        resolver.applyRemote("dealer 2");
+        resolver.resolveDealerId(7L);
+        verify(dealerRepository, times(3)).findDealerIdForUser(7L);
+    }
+
+    @Test
+    void expiresEntriesAfterMaxAge() {
+        UserDealerResolver resolver = new UserDealerResolver(dealerRepository, channel, 100, 0);
+        when(dealerRepository.findDealerIdForUser(7L)).thenReturn(Optional.of(1L));
+
+        resolver.resolveDealerId(7L);
+        resolver.resolveDealerId(7L);
+
+        verify(dealerRepository, times(2)).findDealerIdForUser(7L);
+    }
+}
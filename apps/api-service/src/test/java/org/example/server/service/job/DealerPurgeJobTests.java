@@ -0,0 +1,73 @@
+package org.example.server.service.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.server.enums.DealerPurgeStage;
+import org.example.server.model.DealerPurge;
+import org.example.server.repository.DealerPurgeBatchRepository.DeletedDocument;
+import org.example.server.repository.DealerPurgeRepository;
+import org.example.server.service.DocumentUrlService;
+import org.example.server.service.StoredObjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DealerPurgeJobTests {
+
+    private final DealerPurgeRepository repository = mock(DealerPurgeRepository.class);
+    private final StoredObjectService storedObjectService = mock(StoredObjectService.class);
+    private final DocumentUrlService documentUrlService = mock(DocumentUrlService.class);
+
+    private final DealerPurgeJob job = new DealerPurgeJob(repository, storedObjectService, documentUrlService,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry(), 2, 5);
+
+    @Test
+    void advancesStageWhenChunkComesBackShortAndStopsAfterDealer() {
+        DealerPurge purge = new DealerPurge(9L);
+        when(repository.findForUpdate(9L)).thenReturn(Optional.of(purge));
+        when(repository.deleteChunk(any(), anyLong(), anyInt())).thenReturn(0);
+        when(repository.deleteChunk(DealerPurgeStage.PROPOSAL_EVENTS, 9L, 2)).thenReturn(2, 1);
+        when(repository.deleteChunk(DealerPurgeStage.DEALER, 9L, 2)).thenReturn(1);
+        when(repository.deleteDocumentChunk(9L, 2)).thenReturn(List.of(new DeletedDocument(30L, "hash")));
+
+        job.purge(9L);
+
+        assertTrue(purge.isCompleted());
+        assertEquals(5, purge.getDeletedRows());
+        verify(repository, times(2)).deleteChunk(DealerPurgeStage.PROPOSAL_EVENTS, 9L, 2);
+        verify(repository, times(1)).deleteChunk(DealerPurgeStage.PROPOSALS, 9L, 2);
+        verify(repository, never()).deleteChunk(eq(DealerPurgeStage.DOCUMENTS), anyLong(), anyInt());
+        verify(repository, never()).deleteChunk(eq(DealerPurgeStage.COMPLETED), anyLong(), anyInt());
+        verify(storedObjectService).release("hash");
+        verify(documentUrlService).evict(List.of(30L));
+    }
+
+    @Test
+    void resumesFromRecordedStage() {
+        DealerPurge purge = new DealerPurge(9L);
+        purge.recordProgress(0, DealerPurgeStage.MANAGERS);
+        when(repository.findForUpdate(9L)).thenReturn(Optional.of(purge));
+        when(repository.deleteChunk(any(), anyLong(), anyInt())).thenReturn(0);
+
+        job.purge(9L);
+
+        assertTrue(purge.isCompleted());
+        verify(repository, never()).deleteChunk(eq(DealerPurgeStage.SELLERS), anyLong(), anyInt());
+        verify(repository).deleteChunk(DealerPurgeStage.MANAGERS, 9L, 2);
+        verify(repository).deleteChunk(DealerPurgeStage.DEALER, 9L, 2);
+    }
+}
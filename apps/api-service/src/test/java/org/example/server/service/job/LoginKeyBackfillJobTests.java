@@ -0,0 +1,34 @@
+package org.example.server.service.job;
+
+import org.example.server.util.LoginKeyNormalizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoginKeyBackfillJobTests {
+
+    private record Row(long id, String email) {
+    }
+
+    @Test
+    void skipsRowsCollidingWithinTheBatchOrWithStoredKeys() {
+        List<Row> rows = List.of(
+                new Row(1, "Ana@grota.com"),
+                new Row(2, "ana@grota.com"),
+                new Row(3, "bia@grota.com"),
+                new Row(4, "Caio@grota.com"),
+                new Row(5, "  "));
+
+        List<Row> assignable = LoginKeyBackfillJob.withoutCollisions(
+                rows,
+                row -> LoginKeyNormalizer.normalize(row.email()),
+                keys -> Set.of("bia@grota.com"),
+                Row::id,
+                "usuário");
+
+        assertEquals(List.of(rows.get(3)), assignable);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.server.service.job;
+
+import org.example.server.dto.analytics.ProposalTransitionDTO;
+import org.example.server.enums.ProposalStatus;
+import org.example.server.model.ProposalFunnelDaily;
+import org.example.server.repository.ProposalEventRepository;
+import org.example.server.repository.ProposalFunnelDailyRepository;
+import org.example.server.repository.ProposalFunnelRollupRepository.State;
+import org.example.server.repository.ProposalFunnelRollupRepository.Watermark;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProposalFunnelProjectorJobTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Test
+    void aggregatesTransitionsWithTimeSpentInPreviousStatus() {
+        List<ProposalTransitionDTO> events = List.of(
+                event(1L, 10L, "CREATED", null, ProposalStatus.SUBMITTED, START),
+                event(2L, 10L, "STATUS_UPDATED", ProposalStatus.SUBMITTED, ProposalStatus.APPROVED, START.plusMinutes(30)),
+                event(3L, 10L, "STATUS_UPDATED", ProposalStatus.APPROVED, ProposalStatus.APPROVED, START.plusMinutes(40)),
+                event(4L, 10L, "DUPLICATE_SUSPECTED", null, null, START.plusMinutes(50)),
+                event(5L, 10L, "STATUS_UPDATED", ProposalStatus.APPROVED, ProposalStatus.PAID, START.plusDays(2))
+        );
+        Map<Long, State> changed = new LinkedHashMap<>();
+
+        var deltas = ProposalFunnelProjectorJob.aggregate(events, new HashMap<>(), changed);
+
+        assertEquals(3, deltas.size());
+        var created = deltas.get(new ProposalFunnelProjectorJob.DeltaKey(START.toLocalDate(), 7L, 3L,
+                ProposalFunnelDaily.CREATION, "SUBMITTED"));
+        assertEquals(1, created.transitions());
+        assertEquals(0, sum(created.buckets()));
+
+        var approved = deltas.get(new ProposalFunnelProjectorJob.DeltaKey(START.toLocalDate(), 7L, 3L, "SUBMITTED", "APPROVED"));
+        assertEquals(1, approved.buckets()[0]);
+
+        var paid = deltas.get(new ProposalFunnelProjectorJob.DeltaKey(LocalDate.of(2026, 3, 4), 7L, 3L, "APPROVED", "PAID"));
+        assertEquals(1, paid.buckets()[3]);
+        assertEquals("PAID", changed.get(10L).status());
+    }
+
+    @Test
+    void countsTransitionWithoutDurationWhenPreviousStateIsUnknown() {
+        Map<Long, State> changed = new LinkedHashMap<>();
+        var deltas = ProposalFunnelProjectorJob.aggregate(
+                List.of(event(9L, 20L, "STATUS_UPDATED", ProposalStatus.PENDING, ProposalStatus.REJECTED, START)),
+                new HashMap<>(), changed);
+
+        var rejected = deltas.values().iterator().next();
+        assertEquals(1, rejected.transitions());
+        assertEquals(0, sum(rejected.buckets()));
+        assertTrue(changed.containsKey(20L));
+        assertFalse(changed.containsKey(10L));
+    }
+
+    @Test
+    void resumesFromCreatedAtAndIdAndAdvancesWatermarkToLastEvent() {
+        ProposalEventRepository eventRepository = mock(ProposalEventRepository.class);
+        ProposalFunnelDailyRepository funnelRepository = mock(ProposalFunnelDailyRepository.class);
+        Watermark watermark = new Watermark(START, 900L);
+        // id menor que o do watermark, mas criado depois: pooled-lo não segue a ordem de confirmação
+        ProposalTransitionDTO late = event(850L, 10L, "CREATED", null, ProposalStatus.SUBMITTED, START.plusSeconds(5));
+        when(eventRepository.findTransitionsAfter(eq(START), eq(900L), any(), any())).thenReturn(List.of(late));
+        when(eventRepository.findTransitionsAfter(eq(START.plusSeconds(5)), anyLong(), any(), any())).thenReturn(List.of());
+        when(funnelRepository.lockWatermark(ProposalFunnelProjectorJob.WATERMARK))
+                .thenReturn(watermark, new Watermark(START.plusSeconds(5), 850L));
+
+        new ProposalFunnelProjectorJob(eventRepository, funnelRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 100, 5, 60).run();
+
+        verify(funnelRepository).saveWatermark(ProposalFunnelProjectorJob.WATERMARK, new Watermark(START.plusSeconds(5), 850L));
+    }
+
+    private static ProposalTransitionDTO event(Long id, Long proposalId, String type, ProposalStatus from,
+                                               ProposalStatus to, LocalDateTime at) {
+        return new ProposalTransitionDTO(id, proposalId, 7L, 3L, type, from, to, at);
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.server.util;
+
+import org.example.server.exception.InvalidPageCursorException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTests {
+
+    @Test
+    void roundTripsValueAndId() {
+        KeysetCursor cursor = new KeysetCursor("2025-03-01T10:15:30.123456", 42L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        assertThrows(InvalidPageCursorException.class, () -> KeysetCursor.decode("não é base64"));
+        assertThrows(InvalidPageCursorException.class, () -> KeysetCursor.decode("c2VtLXNlcGFyYWRvcg"));
+    }
+}
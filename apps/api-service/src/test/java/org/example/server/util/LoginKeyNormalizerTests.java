@@ -0,0 +1,21 @@
+package org.example.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LoginKeyNormalizerTests {
+
+    @Test
+    void trimsLowercasesAndFoldsAccents() {
+        assertEquals("joao@grota.com", LoginKeyNormalizer.normalize("  João@Grota.COM "));
+        assertEquals("auto pecas sao jose", LoginKeyNormalizer.normalize("Auto Peças São José"));
+    }
+
+    @Test
+    void mapsNullAndBlankToNull() {
+        assertNull(LoginKeyNormalizer.normalize(null));
+        assertNull(LoginKeyNormalizer.normalize("   "));
+    }
+}
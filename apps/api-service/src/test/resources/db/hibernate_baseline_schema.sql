@@ -0,0 +1,330 @@
+-- DDL que o Hibernate gerava antes das migrações versionadas (ddl-auto=update); é o esquema dos bancos já
+-- existentes, contra o qual V1 precisa acrescentar as colunas novas
+create table refresh_token (
+    revoked boolean not null,
+    created_at timestamp(6) with time zone,
+    expiry_date timestamp(6) with time zone not null,
+    id bigint generated by default as identity,
+    user_id bigint not null unique,
+    token_hash varchar(255) not null unique,
+    primary key (id)
+);
+create table tb_billing_contract (
+    customer_birth_date date,
+    customer_state varchar(4),
+    dut_issued boolean,
+    dut_paid boolean,
+    dut_paid_date date,
+    financed_value numeric(38,2),
+    installment_value numeric(38,2),
+    installments_total integer,
+    paid_at date,
+    professional_admission_date date,
+    professional_income numeric(38,2),
+    professional_other_incomes numeric(38,2),
+    start_date date,
+    vehicle_year integer,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    proposal_id bigint,
+    updated_at timestamp(6),
+    vehicle_plate varchar(12),
+    customer_document varchar(20) not null,
+    vehicle_renavam varchar(20),
+    customer_phone varchar(30),
+    professional_marital_status varchar(40),
+    contract_number varchar(50) not null unique,
+    professional_function varchar(80),
+    vehicle_brand varchar(80),
+    vehicle_model varchar(80),
+    customer_city varchar(120),
+    customer_name varchar(120) not null,
+    professional_enterprise varchar(120),
+    customer_email varchar(140),
+    customer_address varchar(160),
+    status varchar(255) check (status in ('PAGO','EM_ABERTO','EM_ATRASO')),
+    primary key (id)
+);
+create table tb_billing_installment (
+    amount numeric(38,2),
+    due_date date,
+    number integer,
+    paid boolean not null,
+    paid_at date,
+    contract_id bigint,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    primary key (id)
+);
+create table tb_billing_occurrence (
+    date date,
+    contract_id bigint,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    contact varchar(80),
+    note TEXT,
+    primary key (id)
+);
+create table tb_dealer (
+    birth_data date,
+    id bigint generated by default as identity,
+    user_id bigint not null unique,
+    reference_code varchar(30) unique,
+    phone varchar(50) not null unique,
+    enterprise varchar(150) not null unique,
+    logo_url varchar(500),
+    city varchar(255),
+    cnpj varchar(255),
+    complement varchar(255),
+    full_name_enterprise varchar(255),
+    logo_public_id varchar(255),
+    neighborhood varchar(255),
+    number varchar(255),
+    observation varchar(255),
+    state varchar(255),
+    street varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+);
+create table tb_document (
+    created_at timestamp(6),
+    dealer_id bigint not null,
+    id bigint generated by default as identity,
+    size_bytes bigint,
+    updated_at timestamp(6),
+    s3key varchar(1024) not null,
+    content_type varchar(255),
+    document_name varchar(255),
+    document_type varchar(255) not null check (document_type in ('RG_FRENTE','RG_VERSO','CPF','CNH','EXTRATO_BANCARIO','HOLERITE','CONTRATO_SOCIAL','ULTIMA_ALTERACAO_CONTRATUAL','COMPROVANTE_DE_ENDERECO','DADOS_BANCARIOS')),
+    review_comment varchar(255),
+    review_status varchar(255) not null check (review_status in ('PENDENTE','APROVADO','REPROVADO')),
+    primary key (id)
+);
+create table tb_manager (
+    birth_data date,
+    can_create boolean default true not null,
+    can_delete boolean default true not null,
+    can_update boolean default true not null,
+    can_view boolean default true not null,
+    created_at timestamp(6),
+    dealer_id bigint,
+    id bigint generated by default as identity,
+    user_id bigint not null unique,
+    cpf varchar(20) not null unique,
+    phone varchar(50) not null unique,
+    city varchar(255),
+    complement varchar(255),
+    neighborhood varchar(255),
+    number varchar(255),
+    state varchar(255),
+    street varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+);
+create table tb_notification (
+    read_flag boolean not null,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    target_id bigint,
+    actor varchar(60),
+    target_type varchar(60),
+    title varchar(120) not null,
+    href varchar(160),
+    description varchar(255),
+    primary key (id)
+);
+create table tb_operator (
+    birth_data date,
+    can_create boolean default true not null,
+    can_delete boolean default true not null,
+    can_update boolean default true not null,
+    can_view boolean default true not null,
+    created_at timestamp(6),
+    dealer_id bigint,
+    id bigint generated by default as identity,
+    user_id bigint not null unique,
+    cpf varchar(20) not null unique,
+    phone varchar(50) not null unique,
+    city varchar(255),
+    complement varchar(255),
+    neighborhood varchar(255),
+    number varchar(255),
+    state varchar(255),
+    street varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+);
+create table tb_partner (
+    signatory boolean not null,
+    dealer_id bigint not null,
+    id bigint generated by default as identity,
+    cpf varchar(11) not null,
+    type varchar(20) not null check (type in ('SOCIO','PROCURADOR')),
+    name varchar(150) not null,
+    primary key (id)
+);
+create table tb_proposal (
+    customer_birth_date date,
+    down_payment_value numeric(38,2),
+    financed_value numeric(38,2),
+    fipe_value numeric(38,2),
+    has_cnh boolean not null,
+    income numeric(38,2),
+    other_incomes numeric(38,2),
+    term_months integer,
+    uf varchar(4),
+    vehicle0km boolean,
+    vehicle_year integer,
+    cnh_category varchar(5),
+    created_at timestamp(6),
+    dealer_id bigint,
+    id bigint generated by default as identity,
+    seller_id bigint,
+    updated_at timestamp(6),
+    vehicle_plate varchar(10),
+    cep varchar(12),
+    address_number varchar(20),
+    customer_cpf varchar(20) not null,
+    customer_phone varchar(30),
+    fipe_code varchar(40),
+    marital_status varchar(40),
+    vehicle_brand varchar(80),
+    vehicle_model varchar(80),
+    address_complement varchar(120),
+    city varchar(120),
+    customer_name varchar(120) not null,
+    neighborhood varchar(120),
+    customer_email varchar(140),
+    address varchar(160),
+    metadata TEXT,
+    notes TEXT,
+    status varchar(255) check (status in ('SUBMITTED','PENDING','APPROVED','REJECTED','PAID')),
+    primary key (id)
+);
+create table tb_proposal_event (
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    proposal_id bigint not null,
+    type varchar(60) not null,
+    actor varchar(180),
+    note TEXT,
+    payload TEXT,
+    status_from varchar(255) check (status_from in ('SUBMITTED','PENDING','APPROVED','REJECTED','PAID')),
+    status_to varchar(255) check (status_to in ('SUBMITTED','PENDING','APPROVED','REJECTED','PAID')),
+    primary key (id)
+);
+create table tb_seller (
+    birth_data date,
+    can_create boolean default true not null,
+    can_delete boolean default true not null,
+    can_update boolean default true not null,
+    can_view boolean default true not null,
+    created_at timestamp(6),
+    dealer_id bigint,
+    id bigint generated by default as identity,
+    user_id bigint not null unique,
+    cpf varchar(20) not null unique,
+    phone varchar(50) not null unique,
+    city varchar(255),
+    complement varchar(255),
+    neighborhood varchar(255),
+    number varchar(255),
+    state varchar(255),
+    street varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+);
+create table tb_user (
+    code_expiration timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    reset_code_expiration timestamp(6),
+    email varchar(150) unique,
+    full_name varchar(255),
+    password varchar(255) not null,
+    reset_code varchar(255),
+    role varchar(255) check (role in ('ADMIN','LOJISTA','VENDEDOR','GESTOR','OPERADOR')),
+    status varchar(255) check (status in ('ATIVO','INATIVO','PENDENTE')),
+    verification_code varchar(255),
+    primary key (id)
+);
+create table tb_vehicle (
+    km integer not null,
+    model_year date not null,
+    price numeric(38,2) not null,
+    created_at timestamp(6),
+    dealer_id bigint,
+    id bigint generated by default as identity,
+    plate varchar(8) not null unique,
+    color varchar(255) not null,
+    name varchar(255) not null,
+    status varchar(255) not null check (status in ('DISPONIVEL','INDISPONIVEL')),
+    vehicle_condition varchar(255) not null check (vehicle_condition in ('NOVO','SEMINOVO','USADO')),
+    vehicle_transmission varchar(255) not null check (vehicle_transmission in ('MANUAL','AUTOMATIC')),
+    primary key (id)
+);
+alter table if exists refresh_token 
+   add constraint FK6bves7e4cicuoyrvwm641o8sk 
+   foreign key (user_id) 
+   references tb_user;
+alter table if exists tb_billing_installment 
+   add constraint FKpvorsptdkvkji4ixl2h7fy1f4 
+   foreign key (contract_id) 
+   references tb_billing_contract;
+alter table if exists tb_billing_occurrence 
+   add constraint FKn0a13q8co61pqci5638bi49f 
+   foreign key (contract_id) 
+   references tb_billing_contract;
+alter table if exists tb_dealer 
+   add constraint FK4q4t6asw71nt5fysyq8ginuby 
+   foreign key (user_id) 
+   references tb_user;
+alter table if exists tb_document 
+   add constraint FKl230y1bneua80vw583smjmfb1 
+   foreign key (dealer_id) 
+   references tb_dealer;
+alter table if exists tb_manager 
+   add constraint FKc5xiqgo44i318wm3c4l4y3imh 
+   foreign key (dealer_id) 
+   references tb_dealer;
+alter table if exists tb_manager 
+   add constraint FK58blosnom7t3x46eypvkvjntf 
+   foreign key (user_id) 
+   references tb_user;
+alter table if exists tb_operator 
+   add constraint FK2m6cwmnmrn5jxtt2ghbqxdbsa 
+   foreign key (dealer_id) 
+   references tb_dealer;
+alter table if exists tb_operator 
+   add constraint FKc6pucnoee18uln7bfv0j65p48 
+   foreign key (user_id) 
+   references tb_user;
+alter table if exists tb_partner 
+   add constraint FKr9jg1ho8tciftxl598x280n8t 
+   foreign key (dealer_id) 
+   references tb_dealer;
+alter table if exists tb_proposal 
+   add constraint FKjxcc25fx0gupgk5bxaaea1eno 
+   foreign key (dealer_id) 
+   references tb_dealer;
+alter table if exists tb_proposal 
+   add constraint FK8kvib5xu7p7y02teqm8p5te8l 
+   foreign key (seller_id) 
+   references tb_seller;
+alter table if exists tb_proposal_event 
+   add constraint FKllivpagatr2xkrw9reicg2bv7 
+   foreign key (proposal_id) 
+   references tb_proposal;
+alter table if exists tb_seller 
+   add constraint FKq4di0u63dvxwbg6mab2eh8mvg 
+   foreign key (dealer_id) 
+   references tb_dealer;
+alter table if exists tb_seller 
+   add constraint FKd8wvdhr4xl9ignl1h2h87jvc8 
+   foreign key (user_id) 
+   references tb_user;
+alter table if exists tb_vehicle 
+   add constraint FK40cd6bhx4xxk12iamwrq5wd5l 
+   foreign key (dealer_id) 
+   references tb_dealer;